@@ -0,0 +1,56 @@
+package benchmarks;
+
+import com.knighten.ai.genetic.nqueens.NQueensConflictCounter;
+import com.knighten.ai.genetic.nqueens.NQueensIndividual;
+import com.knighten.ai.genetic.nqueens.NQueensProblem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures scoring a single n queens board with AbstractNQueensProblem.conflictScore(), which tallies rows and
+ * diagonals in O(n), against comparing every pair of queens in O(n^2) with NQueensConflictCounter.countPairwise().
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ConflictScoreBenchmarks {
+
+    @Param({"8", "64", "512", "2048"})
+    private int n;
+
+    private NQueensProblem problem;
+
+    private NQueensIndividual board;
+
+    @Setup
+    public void setup() {
+        problem = new NQueensProblem(n, new Random(123));
+        board = problem.generateInitialPopulation(1).get(0);
+    }
+
+    @Benchmark
+    public int conflictScore() {
+        return problem.conflictScore(board);
+    }
+
+    @Benchmark
+    public int pairwise() {
+        return NQueensConflictCounter.countPairwise(board.getGenes());
+    }
+
+}
@@ -0,0 +1,159 @@
+package benchmarks;
+
+import com.knighten.ai.genetic.GeneticOptimization;
+import com.knighten.ai.genetic.GeneticOptimizationParams;
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.ParallelGeneticOptimization;
+import com.knighten.ai.genetic.function.realvalue.MinimizeOneVar;
+import com.knighten.ai.genetic.interfaces.IGenOptimizeProblem;
+import com.knighten.ai.genetic.nqueens.NQueensProblem;
+import com.knighten.ai.genetic.stringmatch.RandomTextHelper;
+import com.knighten.ai.genetic.stringmatch.StringMatchProblem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Measures whole generations. generation() creates one generation from the previous one, including selection,
+ * crossover, mutation, fitness calculation and elitism. optimize() runs a complete optimization of OPTIMIZE_GENERATIONS
+ * generations from a new initial population. One thread uses GeneticOptimization, more threads use
+ * ParallelGeneticOptimization on a ForkJoinPool of that many threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class GenerationBenchmarks {
+
+    private static final int OPTIMIZE_GENERATIONS = 10;
+
+    private static final String VALID_CHARS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz ";
+
+    @Param({"nqueens", "stringmatch", "onevar"})
+    private String problemName;
+
+    @Param({"1000", "10000"})
+    private int populationSize;
+
+    @Param({"1", "4"})
+    private int threads;
+
+    private ForkJoinPool pool;
+
+    private UnaryOperator<List<Individual>> step;
+
+    private GeneticOptimization optimizer;
+
+    private List<Individual> population;
+
+    @Setup
+    public void setup() {
+        pool = new ForkJoinPool(threads);
+
+        GeneticOptimizationParams params = new GeneticOptimizationParams(populationSize, OPTIMIZE_GENERATIONS, .5, .01);
+        params.setElitismCount(2);
+
+        if (threads == 1) {
+            SequentialStepper stepper = new SequentialStepper(createProblem(), params);
+            population = stepper.start();
+            step = stepper::step;
+        } else {
+            ParallelStepper stepper = new ParallelStepper(createProblem(), params, pool);
+            population = stepper.start();
+            step = stepper::step;
+        }
+
+        optimizer = threads == 1
+                ? new GeneticOptimization(createProblem(), params)
+                : new ParallelGeneticOptimization(createProblem(), params, pool);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<Individual> generation() {
+        population = step.apply(population);
+        return population;
+    }
+
+    @Benchmark
+    public List<Individual> optimize() {
+        return optimizer.optimize();
+    }
+
+    /**
+     * Creates the problem named by the problemName parameter, with a fixed seed.
+     *
+     * @return a new problem
+     */
+    private IGenOptimizeProblem createProblem() {
+        switch (problemName) {
+            case "nqueens":
+                return new NQueensProblem(32, new Random(123));
+            case "stringmatch":
+                RandomTextHelper textHelper = new RandomTextHelper(new Random(123), VALID_CHARS);
+                return new StringMatchProblem(textHelper.generateString(64), new Random(123), textHelper);
+            default:
+                return new MinimizeOneVar(-10.0, 10.0, (x) -> x * x, new Random(123));
+        }
+    }
+
+    /**
+     * Exposes the single generation step of GeneticOptimization.
+     */
+    private static class SequentialStepper extends GeneticOptimization {
+
+        private SequentialStepper(IGenOptimizeProblem problem, GeneticOptimizationParams params) {
+            super(problem, params);
+        }
+
+        private List<Individual> start() {
+            prepareRun();
+            return initialPopulation();
+        }
+
+        private List<Individual> step(List<Individual> population) {
+            return nextGeneration(population);
+        }
+    }
+
+    /**
+     * Exposes the single generation step of ParallelGeneticOptimization.
+     */
+    private static class ParallelStepper extends ParallelGeneticOptimization {
+
+        private ParallelStepper(IGenOptimizeProblem problem, GeneticOptimizationParams params, ForkJoinPool pool) {
+            super(problem, params, pool);
+        }
+
+        private List<Individual> start() {
+            prepareRun();
+            return initialPopulation();
+        }
+
+        private List<Individual> step(List<Individual> population) {
+            return nextGeneration(population);
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package benchmarks;
+
+import com.knighten.ai.genetic.nqueens.AbstractNQueensProblem;
+import com.knighten.ai.genetic.nqueens.NQueensIndividual;
+import com.knighten.ai.genetic.nqueens.NQueensProblem;
+import com.knighten.ai.genetic.nqueens.ParaNQueensProblem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each generation phase of NQueensProblem and ParaNQueensProblem. ParaNQueensProblem runs its parallel
+ * streams on the common ForkJoinPool. The fitness benchmark marks every board out of date first, since problems skip
+ * boards whose fitness is still valid.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class NQueensBenchmarks {
+
+    @Param({"8", "64", "256"})
+    private int n;
+
+    @Param({"1000", "10000"})
+    private int populationSize;
+
+    @Param({"sequential", "parallel"})
+    private String problemType;
+
+    private AbstractNQueensProblem problem;
+
+    private List<NQueensIndividual> population;
+
+    private List<NQueensIndividual> selectedPopulation;
+
+    @Setup
+    public void setup() {
+        problem = "parallel".equals(problemType)
+                ? new ParaNQueensProblem(n, new Random(123))
+                : new NQueensProblem(n, new Random(123));
+        population = problem.generateInitialPopulation(populationSize);
+        problem.calculateFitness(population);
+        selectedPopulation = problem.selection(population, .5);
+    }
+
+    @Benchmark
+    public List<NQueensIndividual> calculateFitness() {
+        for (NQueensIndividual individual : population)
+            individual.invalidateFitness();
+
+        problem.calculateFitness(population);
+        return population;
+    }
+
+    @Benchmark
+    public List<NQueensIndividual> selection() {
+        return problem.selection(population, .5);
+    }
+
+    @Benchmark
+    public List<NQueensIndividual> crossover() {
+        return problem.crossover(selectedPopulation, populationSize);
+    }
+
+    @Benchmark
+    public List<NQueensIndividual> mutate() {
+        problem.mutate(population, .01);
+        return population;
+    }
+
+    @Benchmark
+    public NQueensIndividual getBestIndividual() {
+        return problem.getBestIndividual(population);
+    }
+
+}
@@ -0,0 +1,80 @@
+package benchmarks;
+
+import com.knighten.ai.genetic.function.realvalue.MinimizeOneVar;
+import com.knighten.ai.genetic.function.realvalue.OneVarIndividual;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each generation phase of MinimizeOneVar on x squared. The fitness benchmark marks every individual out of
+ * date first, since the problem skips individuals whose fitness is still valid.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class OneVarBenchmarks {
+
+    @Param({"1000", "10000", "100000"})
+    private int populationSize;
+
+    private MinimizeOneVar problem;
+
+    private List<OneVarIndividual> population;
+
+    private List<OneVarIndividual> selectedPopulation;
+
+    @Setup
+    public void setup() {
+        problem = new MinimizeOneVar(-10.0, 10.0, (x) -> x * x, new Random(123));
+        population = problem.generateInitialPopulation(populationSize);
+        problem.calculateFitness(population);
+        selectedPopulation = problem.selection(population, .5);
+    }
+
+    @Benchmark
+    public List<OneVarIndividual> calculateFitness() {
+        for (OneVarIndividual individual : population)
+            individual.invalidateFitness();
+
+        problem.calculateFitness(population);
+        return population;
+    }
+
+    @Benchmark
+    public List<OneVarIndividual> selection() {
+        return problem.selection(population, .5);
+    }
+
+    @Benchmark
+    public List<OneVarIndividual> crossover() {
+        return problem.crossover(selectedPopulation, populationSize);
+    }
+
+    @Benchmark
+    public List<OneVarIndividual> mutate() {
+        problem.mutate(population, .01);
+        return population;
+    }
+
+    @Benchmark
+    public OneVarIndividual getBestIndividual() {
+        return problem.getBestIndividual(population);
+    }
+
+}
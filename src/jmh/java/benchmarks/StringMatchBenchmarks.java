@@ -0,0 +1,87 @@
+package benchmarks;
+
+import com.knighten.ai.genetic.stringmatch.RandomTextHelper;
+import com.knighten.ai.genetic.stringmatch.StringIndividual;
+import com.knighten.ai.genetic.stringmatch.StringMatchProblem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each generation phase of StringMatchProblem for targets of different lengths. The fitness benchmark marks
+ * every string out of date first, since the problem skips strings whose fitness is still valid.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class StringMatchBenchmarks {
+
+    private static final String VALID_CHARS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz ";
+
+    @Param({"16", "256", "4096"})
+    private int length;
+
+    @Param({"1000", "10000"})
+    private int populationSize;
+
+    private StringMatchProblem problem;
+
+    private List<StringIndividual> population;
+
+    private List<StringIndividual> selectedPopulation;
+
+    @Setup
+    public void setup() {
+        RandomTextHelper textHelper = new RandomTextHelper(new Random(123), VALID_CHARS);
+        problem = new StringMatchProblem(textHelper.generateString(length), new Random(123), textHelper);
+        population = problem.generateInitialPopulation(populationSize);
+        problem.calculateFitness(population);
+        selectedPopulation = problem.selection(population, .5);
+    }
+
+    @Benchmark
+    public List<StringIndividual> calculateFitness() {
+        for (StringIndividual individual : population)
+            individual.invalidateFitness();
+
+        problem.calculateFitness(population);
+        return population;
+    }
+
+    @Benchmark
+    public List<StringIndividual> selection() {
+        return problem.selection(population, .5);
+    }
+
+    @Benchmark
+    public List<StringIndividual> crossover() {
+        return problem.crossover(selectedPopulation, populationSize);
+    }
+
+    @Benchmark
+    public List<StringIndividual> mutate() {
+        problem.mutate(population, .01);
+        return population;
+    }
+
+    @Benchmark
+    public StringIndividual getBestIndividual() {
+        return problem.getBestIndividual(population);
+    }
+
+}
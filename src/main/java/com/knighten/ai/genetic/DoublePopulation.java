@@ -0,0 +1,115 @@
+package com.knighten.ai.genetic;
+
+import java.util.Arrays;
+
+/**
+ * A PrimitivePopulation whose genes are doubles. Suits real valued genes, such as the x values of one variable
+ * functions.
+ */
+public class DoublePopulation extends PrimitivePopulation<double[]> {
+
+    /**
+     * The genes of every individual, back to back.
+     */
+    private double[] genes;
+
+    /**
+     * Creates a population of the supplied size whose genes are all zero and whose fitness scores are not valid.
+     *
+     * @param size         the number of individuals
+     * @param genomeLength the number of genes of every individual
+     */
+    public DoublePopulation(int size, int genomeLength) {
+        super(size, genomeLength);
+        this.genes = new double[size * genomeLength];
+    }
+
+    /**
+     * Returns the array holding the genes of every individual back to back.
+     *
+     * @return the gene array
+     */
+    @Override
+    public double[] getGenes() {
+        return genes;
+    }
+
+    /**
+     * Returns a single gene of an individual.
+     *
+     * @param index the index of the individual
+     * @param gene  the position of the gene
+     * @return the gene's value
+     */
+    public double getGene(int index, int gene) {
+        return genes[offset(index) + checkGene(gene)];
+    }
+
+    /**
+     * Changes a single gene of an individual and marks its fitness score out of date.
+     *
+     * @param index the index of the individual
+     * @param gene  the position of the gene
+     * @param value the gene's new value
+     */
+    public void setGene(int index, int gene, double value) {
+        genes[offset(index) + checkGene(gene)] = value;
+        invalidateFitness(index);
+    }
+
+    /**
+     * Returns a copy of an individual's genes.
+     *
+     * @param index the index of the individual
+     * @return a new array holding the individual's genes
+     */
+    public double[] getGenes(int index) {
+        int offset = offset(index);
+
+        return Arrays.copyOfRange(genes, offset, offset + getGenomeLength());
+    }
+
+    /**
+     * Replaces an individual's genes with a copy of the supplied genes and marks its fitness score out of date.
+     *
+     * @param index the index of the individual
+     * @param genes the individual's new genes
+     */
+    public void setGenes(int index, double[] genes) {
+
+        if (genes == null || genes.length != getGenomeLength())
+            throw new IllegalArgumentException("Genes Must Have The Population's Genome Length");
+
+        System.arraycopy(genes, 0, this.genes, offset(index), genes.length);
+        invalidateFitness(index);
+    }
+
+    /**
+     * Creates an Individual holding a copy of an individual's genes, and its fitness score if the score is valid.
+     * Changes to the Individual do not change the population.
+     *
+     * @param index the index of the individual
+     * @return a new Individual equal to the individual
+     */
+    public Individual<double[]> toIndividual(int index) {
+        Individual<double[]> individual = new Individual<>();
+        individual.setGenes(getGenes(index));
+
+        return withFitness(index, individual);
+    }
+
+    /**
+     * Checks that a gene position is inside the genome.
+     *
+     * @param gene the position of the gene
+     * @return the position
+     */
+    private int checkGene(int gene) {
+
+        if (gene < 0 || gene >= getGenomeLength())
+            throw new IndexOutOfBoundsException("Gene: " + gene + ", Genome Length: " + getGenomeLength());
+
+        return gene;
+    }
+
+}
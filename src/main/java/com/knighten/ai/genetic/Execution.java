@@ -0,0 +1,26 @@
+package com.knighten.ai.genetic;
+
+/**
+ * The ways OperatorGenOptimizeProblem can run an operator over a population.
+ */
+public enum Execution {
+
+    /**
+     * Runs the operator on one individual after another on the calling thread.
+     */
+    SEQUENTIAL,
+
+    /**
+     * Runs the operator on chunks of the population in parallel on the common ForkJoinPool, or on the pool the call is
+     * made from.
+     */
+    PARALLEL,
+
+    /**
+     * Copies the genes of the population into a block of primitive genes and scores the block with an
+     * IBatchFitnessFunction, in batches of IBatchFitnessFunction.BATCH_SIZE genomes that run in parallel. Only the
+     * fitness function can be batched.
+     */
+    BATCHED
+
+}
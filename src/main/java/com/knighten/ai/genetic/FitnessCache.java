@@ -0,0 +1,176 @@
+package com.knighten.ai.genetic;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of fitness scores keyed by genome, used by problems to skip calculating the fitness of genomes they
+ * have already seen. Duplicate genomes are common: crossover can pick the same parent twice, a crossing point at
+ * either end of a genome reproduces a parent, and elite individuals survive unchanged between generations. When the
+ * fitness function is expensive, such as a simulation, skipping these evaluations is a large saving.
+ * <p>
+ * Keys must implement equals() and hashCode() over the whole genome, and must not change once they are put in the
+ * cache. Problems whose genes are mutable arrays put a copy of the genes in the cache. Once the cache holds maxSize
+ * entries, the least recently used entry is evicted for each new one.
+ * <p>
+ * The cache is thread-safe, so a problem and its forks can share one cache. Every lookup takes a lock, so caching is
+ * only worthwhile when calculating a fitness score costs more than a hash table lookup.
+ *
+ * @param <K> the type of key representing a genome
+ */
+public class FitnessCache<K> {
+
+    /**
+     * The max number of fitness scores kept.
+     */
+    private int maxSize;
+
+    /**
+     * The cached fitness scores, ordered from least to most recently used.
+     */
+    private LinkedHashMap<K, Double> entries;
+
+    /**
+     * The number of lookups that found a fitness score.
+     */
+    private long hits;
+
+    /**
+     * The number of lookups that did not find a fitness score.
+     */
+    private long misses;
+
+    /**
+     * The number of entries removed to keep the cache within its max size.
+     */
+    private long evictions;
+
+    /**
+     * Creates an empty FitnessCache that holds up to the supplied number of fitness scores.
+     *
+     * @param maxSize the max number of fitness scores kept
+     */
+    @SuppressWarnings("serial")
+    public FitnessCache(int maxSize) {
+
+        if (maxSize < 1)
+            throw new IllegalArgumentException("Max Size Must Be Greater Than Zero");
+
+        this.maxSize = maxSize;
+
+        // The Map Is Never Serialized, So It Needs No serialVersionUID
+        this.entries = new LinkedHashMap<K, Double>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Double> eldest) {
+                if (size() <= FitnessCache.this.maxSize)
+                    return false;
+
+                evictions++;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached fitness score of the genome and marks it as recently used.
+     *
+     * @param key the key of the genome
+     * @return the genome's fitness score, or null if it is not cached
+     */
+    public synchronized Double get(K key) {
+
+        if (key == null)
+            throw new IllegalArgumentException("Key Cannot Be Null");
+
+        Double fitness = entries.get(key);
+        if (fitness == null)
+            misses++;
+        else
+            hits++;
+
+        return fitness;
+    }
+
+    /**
+     * Caches the fitness score of the genome, evicting the least recently used entry if the cache is full.
+     *
+     * @param key     the key of the genome, which must not change afterwards
+     * @param fitness the genome's fitness score
+     */
+    public synchronized void put(K key, double fitness) {
+
+        if (key == null)
+            throw new IllegalArgumentException("Key Cannot Be Null");
+
+        entries.put(key, fitness);
+    }
+
+    /**
+     * Removes every entry. The hit, miss and eviction counts are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of fitness scores cached.
+     *
+     * @return the number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the max number of fitness scores kept.
+     *
+     * @return the max size of the cache
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the number of lookups that found a fitness score.
+     *
+     * @return the number of hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that did not find a fitness score.
+     *
+     * @return the number of misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries removed to keep the cache within its max size.
+     *
+     * @return the number of evictions
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the fraction of lookups that found a fitness score.
+     *
+     * @return the hit rate, or 0 if there have been no lookups
+     */
+    public synchronized double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "Fitness Cache: Size " + entries.size() + "/" + maxSize + " Hits " + hits + " Misses " + misses
+                + " Evictions " + evictions;
+    }
+
+}
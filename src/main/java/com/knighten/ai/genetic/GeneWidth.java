@@ -0,0 +1,42 @@
+package com.knighten.ai.genetic;
+
+/**
+ * The number of bytes PopulationStore uses to hold each gene. Genes are read and written as ints whatever their width,
+ * so a narrower width only limits the range of values a gene can hold.
+ */
+public enum GeneWidth {
+
+    /**
+     * One signed byte per gene, values -128 to 127. Suits n queens boards up to 127 queens and ASCII strings.
+     */
+    BYTE(1),
+
+    /**
+     * Two bytes per gene, values -32768 to 32767. Suits large n queens boards and strings of any char.
+     */
+    SHORT(2),
+
+    /**
+     * Four bytes per gene, any int value.
+     */
+    INT(4);
+
+    /**
+     * The number of bytes per gene.
+     */
+    private int bytes;
+
+    GeneWidth(int bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Returns the number of bytes per gene.
+     *
+     * @return the gene width in bytes
+     */
+    public int getBytes() {
+        return bytes;
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.knighten.ai.genetic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A summary of a single generation created during optimization. Contains the generation's index, its best individual
+ * and statistics about the fitness scores and genes of its population.
+ */
+public class GenerationSummary {
+
+    /**
+     * The index of the generation, the initial population is generation 0.
+     */
+    private int generation;
+
+    /**
+     * The best individual in the generation.
+     */
+    private Individual bestIndividual;
+
+    /**
+     * Statistics about the fitness scores and genes of the generation's population.
+     */
+    private PopulationStatistics statistics;
+
+    /**
+     * Creates a GenerationSummary using already calculated statistics. The variance, median and diversity of the
+     * generation are not known and are NaN.
+     *
+     * @param generation     the index of the generation
+     * @param bestIndividual the best individual in the generation
+     * @param populationSize the number of individuals in the generation
+     * @param minFitness     the smallest fitness score in the generation
+     * @param maxFitness     the largest fitness score in the generation
+     * @param meanFitness    the mean fitness score of the generation
+     */
+    public GenerationSummary(int generation, Individual bestIndividual, int populationSize, double minFitness,
+                             double maxFitness, double meanFitness) {
+        this(generation, bestIndividual, new PopulationStatistics(populationSize, minFitness, maxFitness, meanFitness,
+                Double.NaN, Double.NaN, Double.NaN));
+    }
+
+    /**
+     * Creates a GenerationSummary using already calculated population statistics.
+     *
+     * @param generation     the index of the generation
+     * @param bestIndividual the best individual in the generation
+     * @param statistics     the statistics of the generation's population
+     */
+    public GenerationSummary(int generation, Individual bestIndividual, PopulationStatistics statistics) {
+
+        if (generation < 0)
+            throw new IllegalArgumentException("Generation Cannot Be Negative");
+
+        if (bestIndividual == null)
+            throw new IllegalArgumentException("Best Individual Cannot Be Null");
+
+        if (statistics == null)
+            throw new IllegalArgumentException("Statistics Cannot Be Null");
+
+        this.generation = generation;
+        this.bestIndividual = bestIndividual;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Creates a GenerationSummary by calculating statistics over the fitness scores of the supplied population with
+     * PopulationStatistics.of(). The diversity is not estimated and is NaN.
+     *
+     * @param generation     the index of the generation
+     * @param bestIndividual the best individual in the generation
+     * @param population     the generation's population, with fitness scores assigned
+     * @return the summary of the generation
+     */
+    public static GenerationSummary of(int generation, Individual bestIndividual, List<Individual> population) {
+        return of(generation, bestIndividual, population, false);
+    }
+
+    /**
+     * Creates a GenerationSummary by calculating statistics over the fitness scores of the supplied population with
+     * PopulationStatistics.of(), and over its genes if the diversity is wanted.
+     *
+     * @param generation     the index of the generation
+     * @param bestIndividual the best individual in the generation
+     * @param population     the generation's population, with fitness scores assigned
+     * @param diversity      true to estimate the diversity of the population
+     * @return the summary of the generation
+     */
+    public static GenerationSummary of(int generation, Individual bestIndividual, List<Individual> population,
+                                       boolean diversity) {
+        return new GenerationSummary(generation, bestIndividual, PopulationStatistics.of(population, diversity));
+    }
+
+    /**
+     * Combines the summaries of several populations that make up one generation, such as the islands of
+     * IslandGeneticOptimization, into a single summary.
+     *
+     * @param generation     the index of the generation
+     * @param bestIndividual the best individual across all of the populations
+     * @param summaries      the summaries of each population
+     * @return the summary of the whole generation
+     */
+    public static GenerationSummary combine(int generation, Individual bestIndividual,
+                                            List<GenerationSummary> summaries) {
+
+        if (summaries == null || summaries.isEmpty())
+            throw new IllegalArgumentException("Summaries Cannot Be Null Or Empty");
+
+        List<PopulationStatistics> statistics = new ArrayList<>(summaries.size());
+        for (GenerationSummary summary : summaries)
+            statistics.add(summary.getStatistics());
+
+        return new GenerationSummary(generation, bestIndividual, PopulationStatistics.combine(statistics));
+    }
+
+    /**
+     * Returns the index of the generation, the initial population is generation 0.
+     *
+     * @return the index of the generation
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the best individual in the generation.
+     *
+     * @return the best individual in the generation
+     */
+    public Individual getBestIndividual() {
+        return bestIndividual;
+    }
+
+    /**
+     * Returns the fitness score of the best individual in the generation.
+     *
+     * @return the best fitness score in the generation
+     */
+    public double getBestFitness() {
+        return bestIndividual.getFitness();
+    }
+
+    /**
+     * Returns the number of individuals in the generation.
+     *
+     * @return the number of individuals in the generation
+     */
+    public int getPopulationSize() {
+        return statistics.getCount();
+    }
+
+    /**
+     * Returns the smallest fitness score in the generation.
+     *
+     * @return the smallest fitness score in the generation
+     */
+    public double getMinFitness() {
+        return statistics.getMinFitness();
+    }
+
+    /**
+     * Returns the largest fitness score in the generation.
+     *
+     * @return the largest fitness score in the generation
+     */
+    public double getMaxFitness() {
+        return statistics.getMaxFitness();
+    }
+
+    /**
+     * Returns the mean fitness score of the generation.
+     *
+     * @return the mean fitness score of the generation
+     */
+    public double getMeanFitness() {
+        return statistics.getMeanFitness();
+    }
+
+    /**
+     * Returns statistics about the fitness scores and genes of the generation's population, including the variance,
+     * median and diversity that the other getters do not cover.
+     *
+     * @return the statistics of the generation's population
+     */
+    public PopulationStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Converts the summary into a single line of text.
+     *
+     * @return string representation of the summary
+     */
+    @Override
+    public String toString() {
+        return "Generation " + generation + ": Best " + getBestFitness() + " Min " + getMinFitness() + " Max "
+                + getMaxFitness() + " Mean " + getMeanFitness() + " Population " + getPopulationSize();
+    }
+
+}
@@ -1,13 +1,54 @@
 package com.knighten.ai.genetic;
 
+import com.knighten.ai.genetic.checkpoint.Checkpoint;
+import com.knighten.ai.genetic.checkpoint.CheckpointFile;
+import com.knighten.ai.genetic.interfaces.ICheckpointableGenOptimizeProblem;
 import com.knighten.ai.genetic.interfaces.IGenOptimizeProblem;
+import com.knighten.ai.genetic.interfaces.IGenerationListener;
+import com.knighten.ai.genetic.interfaces.IRecyclingGenOptimizeProblem;
+import com.knighten.ai.genetic.interfaces.ITerminationCondition;
+import com.knighten.ai.genetic.metrics.FlightRecorderEvents;
+import com.knighten.ai.genetic.metrics.OptimizationMetrics;
+import com.knighten.ai.genetic.metrics.Phase;
+import com.knighten.ai.genetic.metrics.PhaseTiming;
+import com.knighten.ai.genetic.selection.TopK;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 /**
  * Performs genetic optimization on a given problems. Problems must implement IGenOptimizeProblem and use individuals
  * that extend the Individual abstract class.
+ * <p>
+ * Problems that implement IRecyclingGenOptimizeProblem have each new generation written into the individuals of the
+ * generation before the current one, so after the first generation no new populations are created. The best
+ * individual of each generation is copied since the individuals it came from are reused.
+ * <p>
+ * Registered IGenerationListeners are called with a GenerationSummary as each generation is completed. Combined with
+ * a bounded history size, see GeneticOptimizationParams.setHistorySize(), this lets long runs stream their progress
+ * without keeping every generation's best individual in memory.
+ * <p>
+ * A termination condition set in the parameters is checked after every generation, letting runs stop once they
+ * stagnate or use up a time or evaluation budget.
+ * <p>
+ * Problems that implement ICheckpointableGenOptimizeProblem can have their optimization written to a checkpoint file
+ * every few generations, see setCheckpointing(), and continued from the file later using resume().
+ * <p>
+ * optimizeAsync() runs the optimization on another thread and returns an OptimizationHandle, which can cancel the
+ * optimization and be read for the best individual found so far. An optimizer runs one optimization at a time.
+ * <p>
+ * Optimizers given an OptimizationMetrics with setMetrics() time every phase of every generation and count
+ * generations and fitness calculations. Without metrics no timing is done. While a Java Flight Recorder recording has
+ * them enabled, generations and phases are also emitted as flight recorder events, see FlightRecorderEvents.
  */
 public class GeneticOptimization {
 
@@ -21,6 +62,52 @@ public class GeneticOptimization {
      */
     private GeneticOptimizationParams params;
 
+    /**
+     * The population that the next generation is written into when the problem recycles individuals. Holds the
+     * generation before the current one.
+     */
+    private List<Individual> sparePopulation;
+
+    /**
+     * Listeners called each time a generation is completed.
+     */
+    private List<IGenerationListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The handle of the asynchronous optimization currently running, null when running synchronously.
+     */
+    private volatile OptimizationHandle activeHandle;
+
+    /**
+     * The value of System.nanoTime() when the current optimization started.
+     */
+    private long startNanos;
+
+    /**
+     * The index of the latest generation completed by the current or most recent optimization.
+     */
+    private volatile int generationCount;
+
+    /**
+     * The number of fitness calculations performed by the current or most recent optimization.
+     */
+    private volatile long evaluationCount;
+
+    /**
+     * The file checkpoints are written to, null if checkpoints are not written.
+     */
+    private CheckpointFile checkpointFile;
+
+    /**
+     * The number of generations between checkpoints.
+     */
+    private int checkpointInterval;
+
+    /**
+     * Records phase latencies and throughput, null if metrics are not recorded.
+     */
+    private volatile OptimizationMetrics metrics;
+
     /**
      * Creates and instance of GeneticOptimization solving the supplied problems using the supplied parameters.
      *
@@ -35,37 +122,576 @@ public class GeneticOptimization {
         if (params == null)
             throw new IllegalArgumentException("Optimization Parameters Cannot Be null");
 
-        this.problem = problem;
+        // Problems Are Passed Raw, Every Individual They Create Is An Individual
+        @SuppressWarnings("unchecked")
+        IGenOptimizeProblem<Individual> typedProblem = problem;
+
+        this.problem = typedProblem;
         this.params = params;
     }
 
     /**
-     * Starts the optimization process and returns a list of best individuals created.
+     * Starts the optimization process and returns a list of best individuals created. The list holds at most the
+     * history size's most recent generations.
      *
      * @return a list of each top individual in each generation
      */
     public List<Individual> optimize() {
-        List<Individual> bestInGenerations = new ArrayList<>();
+        prepareRun();
+
+        List<Individual> population = initialPopulation();
+        addEvaluations(population.size());
+
+        return run(population, 0);
+    }
+
+    /**
+     * Continues an optimization from a checkpoint file written by an earlier run and returns a list of best
+     * individuals created. The list starts with the best individual of the checkpoint's generation. The problem's
+     * random number generators are restored from the checkpoint, so a resumed optimization creates the same
+     * generations the original run would have created. Termination conditions and elapsed time start over.
+     *
+     * @param file the checkpoint file to continue from
+     * @return a list of each top individual in each generation after the checkpoint
+     */
+    public List<Individual> resume(Path file) {
+
+        if (file == null)
+            throw new IllegalArgumentException("Checkpoint File Cannot Be Null");
+
+        ICheckpointableGenOptimizeProblem<Individual> checkpointable = checkpointableProblem();
+
+        Checkpoint<Individual> checkpoint;
+        try {
+            checkpoint = new CheckpointFile(file).load(checkpointable.getGenomeCodec());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (checkpoint.getPopulation().size() != params.getPopulationSize())
+            throw new IllegalArgumentException("Checkpoint Population Size Does Not Match The Parameters");
+
+        checkpointable.setRandomState(checkpoint.getRandomState());
+        prepareRun();
+        addEvaluations(checkpoint.getEvaluations());
+
+        return run(checkpoint.getPopulation(), checkpoint.getGeneration());
+    }
+
+    /**
+     * Writes a checkpoint of the optimization to the supplied file every checkpointInterval generations. Each
+     * checkpoint replaces the one before it. The problem must implement ICheckpointableGenOptimizeProblem.
+     *
+     * @param file               the file checkpoints are written to, null to stop writing checkpoints
+     * @param checkpointInterval the number of generations between checkpoints
+     */
+    public void setCheckpointing(Path file, int checkpointInterval) {
+
+        if (checkpointInterval < 1)
+            throw new IllegalArgumentException("Checkpoint Interval Must Be Greater Than Zero");
+
+        if (file != null)
+            checkpointableProblem();
+
+        this.checkpointFile = file == null ? null : new CheckpointFile(file);
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Creates generations starting from the supplied population until the optimization stops.
+     *
+     * @param population the population of the starting generation, with fitness scores assigned
+     * @param generation the index of the starting generation
+     * @return a list of each top individual in each generation
+     */
+    private List<Individual> run(List<Individual> population, int generation) {
+        Deque<Individual> bestInGenerations = new ArrayDeque<>();
+        Individual best = recordGeneration(generation, population, bestInGenerations);
+
+        // Start Generations
+        while (generation < params.getMaxGenerations() && !isStopRequested()
+                && !isTerminated(generation, best)) {
+            population = nextGeneration(population);
+            addEvaluations(population.size() - eliteCount());
+            best = recordGeneration(++generation, population, bestInGenerations);
+
+            if (checkpointFile != null && generation % checkpointInterval == 0)
+                writeCheckpoint(population, generation);
+
+            if (best.getFitness() == params.getTargetValue())
+                break;
+        }
+
+        return new ArrayList<>(bestInGenerations);
+    }
+
+    /**
+     * Prepares the optimizer for a new run. Resets the generation and evaluation counts, records the start time and
+     * resets the termination condition. Called by optimize() and resume() before the first generation is created.
+     */
+    protected void prepareRun() {
+        sparePopulation = null;
+        generationCount = 0;
+        evaluationCount = 0;
+        startNanos = System.nanoTime();
+
+        OptimizationMetrics currentMetrics = metrics;
+        if (currentMetrics != null)
+            currentMetrics.runStarted(params.getPopulationSize());
+
+        if (params.getTerminationCondition() != null)
+            params.getTerminationCondition().reset();
+    }
+
+    /**
+     * Returns whether the optimizer can write checkpoints and resume from them. Optimizers that replace optimize()
+     * with their own loop return false.
+     *
+     * @return true if checkpoints are supported
+     */
+    protected boolean supportsCheckpoints() {
+        return true;
+    }
+
+    /**
+     * Returns the problem as an ICheckpointableGenOptimizeProblem, checking that checkpoints can be used.
+     *
+     * @return the problem being optimized
+     */
+    private ICheckpointableGenOptimizeProblem<Individual> checkpointableProblem() {
+
+        if (!supportsCheckpoints())
+            throw new UnsupportedOperationException(getClass().getSimpleName() + " Does Not Support Checkpoints");
+
+        if (!(problem instanceof ICheckpointableGenOptimizeProblem))
+            throw new IllegalStateException("The Problem Must Implement ICheckpointableGenOptimizeProblem");
+
+        return (ICheckpointableGenOptimizeProblem<Individual>) problem;
+    }
+
+    /**
+     * Writes a checkpoint of the supplied generation to the checkpoint file.
+     *
+     * @param population the generation's population, with fitness scores assigned
+     * @param generation the index of the generation
+     */
+    private void writeCheckpoint(List<Individual> population, int generation) {
+        ICheckpointableGenOptimizeProblem<Individual> checkpointable = checkpointableProblem();
+
+        try {
+            checkpointFile.save(new Checkpoint<>(generation, evaluationCount, checkpointable.getRandomState(), population),
+                    checkpointable.getGenomeCodec());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Starts the optimization process on a new daemon thread and returns a handle to it.
+     *
+     * @return a handle to the running optimization
+     */
+    public OptimizationHandle optimizeAsync() {
+        return optimizeAsync((task) -> {
+            Thread thread = new Thread(task, "genetic-optimization");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    /**
+     * Starts the optimization process using the supplied executor and returns a handle to it. The handle's result
+     * completes with the list optimize() would return, or exceptionally if the optimization fails.
+     *
+     * @param executor the executor that runs the optimization
+     * @return a handle to the running optimization
+     */
+    public OptimizationHandle optimizeAsync(Executor executor) {
+
+        if (executor == null)
+            throw new IllegalArgumentException("Executor Cannot Be Null");
+
+        OptimizationHandle handle = new OptimizationHandle();
+        CompletableFuture<List<Individual>> result = handle.getResult();
+
+        executor.execute(() -> {
+            if (result.isDone())
+                return;
+
+            activeHandle = handle;
+            try {
+                result.complete(optimize());
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            } finally {
+                activeHandle = null;
+            }
+        });
+
+        return handle;
+    }
+
+    /**
+     * Sets the metrics that record phase latencies, generation and evaluation counts and throughput. Metrics set
+     * during an optimization take effect from its next phase. Null stops recording metrics.
+     *
+     * @param metrics the metrics to record into, or null
+     */
+    public void setMetrics(OptimizationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the metrics recorded by the optimizer.
+     *
+     * @return the metrics, or null if metrics are not recorded
+     */
+    public OptimizationMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the index of the latest generation completed by the current or most recent optimization. The initial
+     * population is generation 0.
+     *
+     * @return the latest completed generation
+     */
+    public int getGenerationCount() {
+        return generationCount;
+    }
+
+    /**
+     * Returns the number of fitness calculations performed by the current or most recent optimization, one per
+     * individual scored.
+     *
+     * @return the number of fitness calculations
+     */
+    public long getEvaluationCount() {
+        return evaluationCount;
+    }
+
+    /**
+     * Registers a listener that is called each time a generation is completed.
+     *
+     * @param listener the listener to register
+     */
+    public void addGenerationListener(IGenerationListener listener) {
+
+        if (listener == null)
+            throw new IllegalArgumentException("Generation Listener Cannot Be Null");
+
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered generation listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeGenerationListener(IGenerationListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Records a completed generation. Its best individual is added to the history and, if any listeners are
+     * registered, a summary of the generation is sent to them.
+     *
+     * @param generation the index of the generation
+     * @param population the generation's population, with fitness scores assigned
+     * @param history    the best individuals of the previous generations
+     * @return the best individual of the generation
+     */
+    private Individual recordGeneration(int generation, List<Individual> population, Deque<Individual> history) {
+        PhaseTiming start = phaseStart();
+        Individual best = keep(problem.getBestIndividual(population));
+        phaseEnd(Phase.BEST_INDIVIDUAL, start);
+
+        recordBest(history, generation, best);
+
+        if (hasGenerationListeners()) {
+            notifyGenerationListeners(GenerationSummary.of(generation, best, population,
+                    params.isDiversityTracked()));
+        }
+
+        return best;
+    }
+
+    /**
+     * Records a generation's best individual. It is added to the history, dropping the oldest individual when the
+     * history is larger than the history size, and published to the handle of a running asynchronous optimization.
+     *
+     * @param history    the best individuals of the previous generations
+     * @param generation the index of the generation
+     * @param best       the best individual of the generation
+     */
+    protected void recordBest(Deque<Individual> history, int generation, Individual best) {
+        history.addLast(best);
+        generationCount = generation;
+
+        OptimizationMetrics currentMetrics = metrics;
+        if (currentMetrics != null)
+            currentMetrics.generationCompleted(generation);
+
+        if (history.size() > params.getHistorySize())
+            history.removeFirst();
+
+        OptimizationHandle handle = activeHandle;
+        if (handle != null)
+            handle.publish(generation, best);
+    }
+
+    /**
+     * Adds to the number of fitness calculations performed by the current optimization.
+     *
+     * @param evaluations the number of individuals whose fitness was just calculated
+     */
+    protected void addEvaluations(long evaluations) {
+        evaluationCount += evaluations;
+
+        OptimizationMetrics currentMetrics = metrics;
+        if (currentMetrics != null)
+            currentMetrics.addEvaluations(evaluations);
+    }
+
+    /**
+     * Starts timing a phase, and begins its flight recorder event if phase events are being recorded. Returns
+     * PhaseTiming.UNTIMED without reading the clock or allocating when neither is needed.
+     *
+     * @return the timing to hand to phaseEnd() when the phase is done
+     */
+    protected PhaseTiming phaseStart() {
+        Object event = FlightRecorderEvents.isRecording() ? FlightRecorderEvents.beginPhase() : null;
+        long start = metrics == null ? 0 : System.nanoTime();
+
+        return event == null && start == 0 ? PhaseTiming.UNTIMED : new PhaseTiming(start, event);
+    }
+
+    /**
+     * Records the latency of a phase started with phaseStart() and commits its flight recorder event. Latencies are
+     * not recorded when metrics are not recorded or were not recorded when the phase started.
+     *
+     * @param phase  the phase that was run
+     * @param timing the value returned by phaseStart()
+     */
+    protected void phaseEnd(Phase phase, PhaseTiming timing) {
+        if (timing.getEvent() != null)
+            FlightRecorderEvents.endPhase(timing.getEvent(), phase);
+
+        OptimizationMetrics currentMetrics = metrics;
+        if (currentMetrics != null && timing.getStartNanos() != 0)
+            currentMetrics.recordPhase(phase, System.nanoTime() - timing.getStartNanos());
+    }
+
+    /**
+     * Checks if the running optimization has been cancelled through its OptimizationHandle. Optimizers stop creating
+     * generations once this returns true.
+     *
+     * @return true if the optimization should stop
+     */
+    protected boolean isStopRequested() {
+        OptimizationHandle handle = activeHandle;
+        return handle != null && handle.isCancelled();
+    }
+
+    /**
+     * Checks the termination condition against the state of the optimization after a generation.
+     *
+     * @param generation the index of the latest generation
+     * @param best       the best individual of the latest generation
+     * @return true if the termination condition is met, false if it is not met or there is no condition
+     */
+    protected boolean isTerminated(int generation, Individual best) {
+        ITerminationCondition condition = params.getTerminationCondition();
+        if (condition == null)
+            return false;
+
+        return condition.isTerminated(new OptimizationState(generation, best.getFitness(), evaluationCount,
+                System.nanoTime() - startNanos, problem.isMinimization()));
+    }
+
+    /**
+     * Checks if any generation listeners are registered or a running flight recording has the generation event
+     * enabled. Used to skip calculating generation summaries nobody reads.
+     *
+     * @return true if at least one listener is registered or generation events are being recorded
+     */
+    protected boolean hasGenerationListeners() {
+        return !listeners.isEmpty() || FlightRecorderEvents.isGenerationEnabled();
+    }
+
+    /**
+     * Sends the summary of a completed generation to every registered listener, and to the flight recorder if a
+     * recording has the generation event enabled.
+     *
+     * @param summary the summary of the completed generation
+     */
+    protected void notifyGenerationListeners(GenerationSummary summary) {
+        if (FlightRecorderEvents.isGenerationEnabled())
+            FlightRecorderEvents.commitGeneration(summary);
+
+        for (IGenerationListener listener : listeners)
+            listener.onGeneration(summary);
+    }
 
+    /**
+     * Creates the initial population and calculates the fitness of its individuals.
+     *
+     * @return the initial population with fitness scores assigned
+     */
+    protected List<Individual> initialPopulation() {
         List<Individual> population = problem.generateInitialPopulation(params.getPopulationSize());
+
+        PhaseTiming start = phaseStart();
         problem.calculateFitness(population);
-        bestInGenerations.add(problem.getBestIndividual(population));
+        phaseEnd(Phase.FITNESS, start);
 
-        // Start Generations
-        while (bestInGenerations.size() - 1 != params.getMaxGenerations()) {
-            List<Individual> selectedPopulation = problem.selection(population, params.getSelectionPercent());
-            List<Individual> crossedPopulation = problem.crossover(selectedPopulation, params.getPopulationSize());
-            problem.mutate(crossedPopulation, params.getMutationProb());
-            problem.calculateFitness(crossedPopulation);
-            bestInGenerations.add(problem.getBestIndividual(crossedPopulation));
+        return population;
+    }
+
+    /**
+     * Creates the next generation's population from the current population. Performs selection, crossover, mutation
+     * and fitness calculation. The population's elites are carried into the next generation unchanged, after the
+     * offspring.
+     *
+     * @param population the current population, with fitness scores assigned
+     * @return the next generation's population with fitness scores assigned
+     */
+    protected List<Individual> nextGeneration(List<Individual> population) {
+        PhaseTiming start = phaseStart();
+        List<Individual> selectedPopulation = problem.selection(population, params.getSelectionPercent());
+        phaseEnd(Phase.SELECTION, start);
+
+        List<Individual> elites = keepAll(elites(population));
+        int offspringCount = params.getPopulationSize() - elites.size();
 
-            population = crossedPopulation;
+        List<Individual> crossedPopulation;
+        if (recyclesIndividuals() && sparePopulation != null) {
+            IRecyclingGenOptimizeProblem<Individual> recycling = (IRecyclingGenOptimizeProblem<Individual>) problem;
+            List<Individual> offspring = elites.isEmpty()
+                    ? sparePopulation
+                    : sparePopulation.subList(0, offspringCount);
 
-            if (bestInGenerations.get(bestInGenerations.size() - 1).getFitness() == params.getTargetValue())
-                return bestInGenerations;
+            start = phaseStart();
+            recycling.crossoverInto(selectedPopulation, offspring);
+            phaseEnd(Phase.CROSSOVER, start);
+
+            start = phaseStart();
+            problem.mutate(offspring, params.getMutationProb());
+            phaseEnd(Phase.MUTATION, start);
+
+            for (int i = 0; i < elites.size(); i++)
+                sparePopulation.set(offspringCount + i, elites.get(i));
+
+            crossedPopulation = sparePopulation;
+        } else {
+            start = phaseStart();
+            crossedPopulation = problem.crossover(selectedPopulation, offspringCount);
+            phaseEnd(Phase.CROSSOVER, start);
+
+            start = phaseStart();
+            problem.mutate(crossedPopulation, params.getMutationProb());
+            phaseEnd(Phase.MUTATION, start);
+
+            if (!elites.isEmpty()) {
+                crossedPopulation = new ArrayList<>(crossedPopulation);
+                crossedPopulation.addAll(elites);
+            }
         }
 
-        return bestInGenerations;
+        start = phaseStart();
+        problem.calculateFitness(crossedPopulation);
+        phaseEnd(Phase.FITNESS, start);
+
+        // The Current Population Is Overwritten When Creating The Generation After This One
+        if (recyclesIndividuals())
+            sparePopulation = population;
+
+        return crossedPopulation;
+    }
+
+    /**
+     * Returns the number of elites carried into each generation, the elitism count limited to the population size.
+     *
+     * @return the number of elites per generation
+     */
+    protected int eliteCount() {
+        return Math.min(params.getElitismCount(), params.getPopulationSize());
+    }
+
+    /**
+     * Finds the population's elites, its eliteCount() best individuals. Elites keep their genes and fitness scores, so
+     * problems that skip individuals whose fitness is still valid do not evaluate them again.
+     *
+     * @param population the current population, with fitness scores assigned
+     * @return the elites, best first, or an empty list if elitism is off
+     */
+    protected List<Individual> elites(List<Individual> population) {
+        int count = Math.min(eliteCount(), population.size());
+        if (count == 0)
+            return Collections.emptyList();
+
+        return TopK.select(population, count, problem.isMinimization());
+    }
+
+    /**
+     * Returns whether new generations are written into the individuals of older generations. True when the problem
+     * implements IRecyclingGenOptimizeProblem.
+     *
+     * @return true if individuals are recycled between generations
+     */
+    protected boolean recyclesIndividuals() {
+        return problem instanceof IRecyclingGenOptimizeProblem;
+    }
+
+    /**
+     * Prepares an individual to be kept after its generation is gone. Recycled individuals are copied, all other
+     * individuals are returned as is.
+     *
+     * @param individual the individual to keep
+     * @return an individual that will not be changed by later generations
+     */
+    protected Individual keep(Individual individual) {
+        if (recyclesIndividuals())
+            return ((IRecyclingGenOptimizeProblem<Individual>) problem).copy(individual);
+
+        return individual;
+    }
+
+    /**
+     * Prepares the elites to be carried into the next generation. Recycled elites are copied before any offspring is
+     * written, since an elite carried over earlier can be an individual of the spare population that the offspring are
+     * written into.
+     *
+     * @param elites the current population's elites
+     * @return elites that will not be changed by writing the next generation
+     */
+    private List<Individual> keepAll(List<Individual> elites) {
+        if (elites.isEmpty() || !recyclesIndividuals())
+            return elites;
+
+        List<Individual> kept = new ArrayList<>(elites.size());
+        for (Individual elite : elites)
+            kept.add(keep(elite));
+
+        return kept;
+    }
+
+    /**
+     * Returns the problem being optimized.
+     *
+     * @return the problem being optimized
+     */
+    protected IGenOptimizeProblem<Individual> getProblem() {
+        return problem;
+    }
+
+    /**
+     * Returns the parameters used by the optimizer.
+     *
+     * @return optimization parameters
+     */
+    protected GeneticOptimizationParams getParams() {
+        return params;
     }
 
 }
@@ -1,5 +1,7 @@
 package com.knighten.ai.genetic;
 
+import com.knighten.ai.genetic.interfaces.ITerminationCondition;
+
 /**
  * Contains the parameters used by GeneticOptimization.
  */
@@ -32,6 +34,49 @@ public class GeneticOptimizationParams {
      */
     private double targetValue = Double.MAX_VALUE;
 
+    /**
+     * The number of sub-populations(islands) evolved at the same time by IslandGeneticOptimization. Each island holds
+     * populationSize individuals.
+     */
+    private int islandCount = 4;
+
+    /**
+     * The number of generations each island evolves between migrations.
+     */
+    private int migrationInterval = 25;
+
+    /**
+     * The number of best individuals each island sends to other islands during a migration.
+     */
+    private int migrationSize = 1;
+
+    /**
+     * The number of offspring created during each step of SteadyStateGeneticOptimization. Offspring replace the worst
+     * individuals of the population.
+     */
+    private int replacementSize = 2;
+
+    /**
+     * The number of best individuals, one per generation, returned by optimize(). Only the most recent generations
+     * are kept, by default every generation is kept.
+     */
+    private int historySize = Integer.MAX_VALUE;
+
+    /**
+     * An extra condition that stops the optimization before the max number of generations, null if there is none.
+     */
+    private ITerminationCondition terminationCondition;
+
+    /**
+     * The number of best individuals copied unchanged into the next generation, none by default.
+     */
+    private int elitismCount = 0;
+
+    /**
+     * Whether generation summaries estimate the diversity of each population, off by default.
+     */
+    private boolean diversityTracked = false;
+
     /**
      * Creates an instance of GeneticOptimizationParams using the supplied optimization parameters.
      *
@@ -119,4 +164,184 @@ public class GeneticOptimizationParams {
         this.targetValue = targetValue;
     }
 
+    /**
+     * Returns the number of islands evolved at the same time by IslandGeneticOptimization.
+     *
+     * @return the number of islands
+     */
+    public int getIslandCount() {
+        return islandCount;
+    }
+
+    /**
+     * Sets the number of islands evolved at the same time by IslandGeneticOptimization.
+     *
+     * @param islandCount the number of islands
+     */
+    public void setIslandCount(int islandCount) {
+
+        if (islandCount < 1)
+            throw new IllegalArgumentException("Island Count Must Be Greater Than Zero");
+
+        this.islandCount = islandCount;
+    }
+
+    /**
+     * Returns the number of generations each island evolves between migrations.
+     *
+     * @return the number of generations between migrations
+     */
+    public int getMigrationInterval() {
+        return migrationInterval;
+    }
+
+    /**
+     * Sets the number of generations each island evolves between migrations.
+     *
+     * @param migrationInterval the number of generations between migrations
+     */
+    public void setMigrationInterval(int migrationInterval) {
+
+        if (migrationInterval < 1)
+            throw new IllegalArgumentException("Migration Interval Must Be Greater Than Zero");
+
+        this.migrationInterval = migrationInterval;
+    }
+
+    /**
+     * Returns the number of best individuals each island sends to other islands during a migration.
+     *
+     * @return the number of individuals migrated from each island
+     */
+    public int getMigrationSize() {
+        return migrationSize;
+    }
+
+    /**
+     * Sets the number of best individuals each island sends to other islands during a migration. Must be smaller than
+     * the population size.
+     *
+     * @param migrationSize the number of individuals migrated from each island
+     */
+    public void setMigrationSize(int migrationSize) {
+
+        if (migrationSize < 0 || migrationSize >= populationSize)
+            throw new IllegalArgumentException("Migration Size Must Be Between Zero And The Population Size");
+
+        this.migrationSize = migrationSize;
+    }
+
+    /**
+     * Returns the number of offspring created during each step of SteadyStateGeneticOptimization.
+     *
+     * @return the number of offspring created each step
+     */
+    public int getReplacementSize() {
+        return replacementSize;
+    }
+
+    /**
+     * Sets the number of offspring created during each step of SteadyStateGeneticOptimization. Must not be larger
+     * than the population size.
+     *
+     * @param replacementSize the number of offspring created each step
+     */
+    public void setReplacementSize(int replacementSize) {
+
+        if (replacementSize < 1 || replacementSize > populationSize)
+            throw new IllegalArgumentException("Replacement Size Must Be Between One And The Population Size");
+
+        this.replacementSize = replacementSize;
+    }
+
+    /**
+     * Returns the number of most recent generations whose best individual is returned by optimize().
+     *
+     * @return the number of generations kept in the history
+     */
+    public int getHistorySize() {
+        return historySize;
+    }
+
+    /**
+     * Sets the number of most recent generations whose best individual is returned by optimize(). Older best
+     * individuals are dropped as the optimization runs, so memory use stays constant no matter how many generations
+     * are created. Use an IGenerationListener to see every generation.
+     *
+     * @param historySize the number of generations kept in the history
+     */
+    public void setHistorySize(int historySize) {
+
+        if (historySize < 1)
+            throw new IllegalArgumentException("History Size Must Be Greater Than Zero");
+
+        this.historySize = historySize;
+    }
+
+    /**
+     * Returns the extra condition that stops the optimization before the max number of generations.
+     *
+     * @return the termination condition, null if there is none
+     */
+    public ITerminationCondition getTerminationCondition() {
+        return terminationCondition;
+    }
+
+    /**
+     * Sets an extra condition that stops the optimization before the max number of generations. The optimization
+     * still stops at the max number of generations and when the target value is reached. Combine several conditions
+     * using CompositeTermination.
+     *
+     * @param terminationCondition the termination condition, null to remove the current condition
+     */
+    public void setTerminationCondition(ITerminationCondition terminationCondition) {
+        this.terminationCondition = terminationCondition;
+    }
+
+    /**
+     * Returns the number of best individuals copied unchanged into the next generation.
+     *
+     * @return the number of elites kept each generation
+     */
+    public int getElitismCount() {
+        return elitismCount;
+    }
+
+    /**
+     * Sets the number of best individuals copied unchanged into the next generation. Elites are not mutated and keep
+     * their fitness scores, so they are not evaluated again, and the best fitness score never gets worse from one
+     * generation to the next. The rest of the generation is created by crossover as usual. Must not be larger than
+     * the population size. SteadyStateGeneticOptimization ignores this, since it only ever replaces its worst
+     * individuals.
+     *
+     * @param elitismCount the number of elites kept each generation
+     */
+    public void setElitismCount(int elitismCount) {
+
+        if (elitismCount < 0 || elitismCount > populationSize)
+            throw new IllegalArgumentException("Elitism Count Must Be Between Zero And The Population Size");
+
+        this.elitismCount = elitismCount;
+    }
+
+    /**
+     * Returns whether generation summaries estimate the diversity of each population.
+     *
+     * @return true if the diversity is estimated
+     */
+    public boolean isDiversityTracked() {
+        return diversityTracked;
+    }
+
+    /**
+     * Sets whether the GenerationSummary sent to generation listeners estimates the diversity of each population.
+     * Estimating it compares the genes of every pair of a sample of individuals each generation, so it is off by
+     * default and PopulationStatistics.getDiversity() is NaN.
+     *
+     * @param diversityTracked true to estimate the diversity
+     */
+    public void setDiversityTracked(boolean diversityTracked) {
+        this.diversityTracked = diversityTracked;
+    }
+
 }
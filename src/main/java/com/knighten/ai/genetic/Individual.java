@@ -17,6 +17,11 @@ public class Individual<V> implements Comparable<Individual> {
      */
     private V genes;
 
+    /**
+     * Whether the fitness score was assigned after the genes last changed.
+     */
+    private boolean fitnessValid;
+
     /**
      * Gets the assigned fitness score for the individual.
      *
@@ -38,6 +43,25 @@ public class Individual<V> implements Comparable<Individual> {
             throw new IllegalArgumentException("Fitness Cannot Be NaN or Infinite: " + genes + " was found");
 
         this.fitness = fitness;
+        this.fitnessValid = true;
+    }
+
+    /**
+     * Returns whether the fitness score was assigned after the genes last changed. Problems skip calculating the
+     * fitness of individuals whose fitness score is still valid, such as elites carried into the next generation.
+     *
+     * @return true if the fitness score matches the current genes
+     */
+    public boolean isFitnessValid() {
+        return this.fitnessValid;
+    }
+
+    /**
+     * Marks the fitness score as out of date. setGenes() does this automatically; problems that change genes in place
+     * without calling setGenes() must call this instead.
+     */
+    public void invalidateFitness() {
+        this.fitnessValid = false;
     }
 
     /**
@@ -51,7 +75,7 @@ public class Individual<V> implements Comparable<Individual> {
     }
 
     /**
-     * Assigns a value to the individual's genes.
+     * Assigns a value to the individual's genes. The fitness score is no longer valid until it is assigned again.
      *
      * @param genes the individual's genes
      */
@@ -61,6 +85,7 @@ public class Individual<V> implements Comparable<Individual> {
             throw new IllegalArgumentException("Genes Cannot Be Null");
 
         this.genes = genes;
+        this.fitnessValid = false;
     }
 
     /**
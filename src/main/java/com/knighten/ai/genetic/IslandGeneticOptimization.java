@@ -0,0 +1,494 @@
+package com.knighten.ai.genetic;
+
+import com.knighten.ai.genetic.interfaces.IForkableGenOptimizeProblem;
+import com.knighten.ai.genetic.interfaces.IGenOptimizeProblem;
+import com.knighten.ai.genetic.metrics.Phase;
+import com.knighten.ai.genetic.metrics.PhaseTiming;
+import com.knighten.ai.genetic.selection.TopK;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Performs genetic optimization using the island model. Several populations(islands) are evolved independently, each
+ * on its own thread. Every migrationInterval generations the islands stop and their migrationSize best individuals are
+ * sent to other islands, where they replace the worst individuals. Which islands receive an island's individuals is
+ * determined by the MigrationTopology.
+ * <p>
+ * Islands only wait on each other during a migration, so there is no global barrier between generations. Each island
+ * gets its own fork of problems that implement IForkableGenOptimizeProblem. Any other problem is shared by the
+ * islands, which then take turns on a single thread.
+ * <p>
+ * The termination condition is checked for each generation once the epoch containing it has finished, so time and
+ * evaluation budgets can be exceeded by up to one epoch.
+ * <p>
+ * Generation listeners are called once per generation with a summary combining every island, after the epoch that
+ * contains the generation has finished.
+ */
+public class IslandGeneticOptimization extends GeneticOptimization {
+
+    /**
+     * Determines which islands receive each island's migrants.
+     */
+    private MigrationTopology topology;
+
+    /**
+     * Used to pick destinations when using the RANDOM topology. Null until the first run when it is derived from the
+     * problem.
+     */
+    private Random random;
+
+    /**
+     * Creates an instance of IslandGeneticOptimization that migrates individuals using a ring topology.
+     *
+     * @param problem the problem to be optimized
+     * @param params  optimization parameters, including island count, migration interval and migration size
+     */
+    public IslandGeneticOptimization(IGenOptimizeProblem problem, GeneticOptimizationParams params) {
+        this(problem, params, MigrationTopology.RING);
+    }
+
+    /**
+     * Creates an instance of IslandGeneticOptimization that migrates individuals using the supplied topology. The
+     * Random object used by the RANDOM topology is seeded by the problem's nextSeed() when the first run starts, so a
+     * seeded problem gives seeded migrations. The RANDOM topology therefore needs a problem that implements
+     * IForkableGenOptimizeProblem, the other topologies do not pick destinations at random.
+     *
+     * @param problem  the problem to be optimized
+     * @param params   optimization parameters, including island count, migration interval and migration size
+     * @param topology determines which islands receive each island's migrants
+     */
+    public IslandGeneticOptimization(IGenOptimizeProblem problem, GeneticOptimizationParams params,
+                                     MigrationTopology topology) {
+        super(problem, params);
+
+        if (topology == null)
+            throw new IllegalArgumentException("Migration Topology Cannot Be Null");
+
+        if (topology == MigrationTopology.RANDOM && !(problem instanceof IForkableGenOptimizeProblem))
+            throw new IllegalArgumentException("Random Topology Needs A Random Object Or A Forkable Problem");
+
+        this.topology = topology;
+    }
+
+    /**
+     * Creates an instance of IslandGeneticOptimization that migrates individuals using the supplied topology.
+     *
+     * @param problem  the problem to be optimized
+     * @param params   optimization parameters, including island count, migration interval and migration size
+     * @param topology determines which islands receive each island's migrants
+     * @param random   object used to pick destinations when using the RANDOM topology
+     */
+    public IslandGeneticOptimization(IGenOptimizeProblem problem, GeneticOptimizationParams params,
+                                     MigrationTopology topology, Random random) {
+        super(problem, params);
+
+        if (topology == null)
+            throw new IllegalArgumentException("Migration Topology Cannot Be Null");
+
+        if (random == null)
+            throw new IllegalArgumentException("Random Object Cannot Be Null");
+
+        this.topology = topology;
+        this.random = random;
+    }
+
+    /**
+     * Starts the optimization process and returns a list of best individuals created. The best individual of a
+     * generation is the best individual found on any island in that generation. The list holds at most the history
+     * size's most recent generations.
+     *
+     * @return a list of each top individual in each generation
+     */
+    @Override
+    public List<Individual> optimize() {
+        GeneticOptimizationParams params = getParams();
+        Comparator<Individual> bestFirst = bestFirst();
+
+        if (random == null && getProblem() instanceof IForkableGenOptimizeProblem)
+            random = new Random(((IForkableGenOptimizeProblem<Individual>) getProblem()).nextSeed());
+
+        List<Island> islands = createIslands();
+        boolean forked = getProblem() instanceof IForkableGenOptimizeProblem;
+        ExecutorService executor = Executors.newFixedThreadPool(forked ? islands.size() : 1);
+
+        Deque<Individual> bestInGenerations = new ArrayDeque<>();
+        prepareRun();
+        try {
+            runIslands(executor, islands, Island::initialize);
+            Individual initialBest = recordGeneration(islands, 0, 0, bestFirst, bestInGenerations);
+            addEvaluations((long) islands.size() * params.getPopulationSize());
+
+            if (isTerminated(0, initialBest))
+                return new ArrayList<>(bestInGenerations);
+
+            int generation = 0;
+            while (generation < params.getMaxGenerations() && !isStopRequested()) {
+                int epoch = Math.min(params.getMigrationInterval(), params.getMaxGenerations() - generation);
+                runIslands(executor, islands, (island) -> island.evolve(epoch));
+
+                // Islands Only Stop Early When They Reach The Target Value Or The Optimization Is Cancelled
+                for (int i = 0; i < epoch; i++) {
+                    int evolved = islandsWithGeneration(islands, i);
+                    if (evolved == 0)
+                        break;
+
+                    Individual best = recordGeneration(islands, i, generation + i + 1, bestFirst, bestInGenerations);
+                    addEvaluations((long) evolved * (params.getPopulationSize() - eliteCount()));
+
+                    if (best.getFitness() == params.getTargetValue()
+                            || isTerminated(generation + i + 1, best))
+                        return new ArrayList<>(bestInGenerations);
+                }
+
+                generation += epoch;
+                if (generation < params.getMaxGenerations())
+                    migrate(islands);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return new ArrayList<>(bestInGenerations);
+    }
+
+    /**
+     * Checkpoints are not supported since this optimizer runs its own loop instead of the one in GeneticOptimization.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean supportsCheckpoints() {
+        return false;
+    }
+
+    /**
+     * Records a generation of the current epoch. The best individual across the islands is added to the history and,
+     * if any listeners are registered, the islands' summaries are combined and sent to them.
+     *
+     * @param islands    the islands
+     * @param index      the generation within the current epoch
+     * @param generation the index of the generation across the whole optimization
+     * @param bestFirst  orders individuals from best to worst
+     * @param history    the best individuals of the previous generations
+     * @return the best individual found by any island in the generation
+     */
+    private Individual recordGeneration(List<Island> islands, int index, int generation,
+                                        Comparator<Individual> bestFirst, Deque<Individual> history) {
+        Individual best = bestOfGeneration(islands, index, bestFirst);
+        recordBest(history, generation, best);
+
+        if (hasGenerationListeners()) {
+            List<GenerationSummary> summaries = new ArrayList<>(islands.size());
+            for (Island island : islands) {
+                if (island.summaries.size() > index)
+                    summaries.add(island.summaries.get(index));
+            }
+
+            // Listeners Registered Part Way Through An Epoch Start Receiving Summaries In The Next Epoch
+            if (!summaries.isEmpty())
+                notifyGenerationListeners(GenerationSummary.combine(generation, best, summaries));
+        }
+
+        return best;
+    }
+
+    /**
+     * Creates one island per island count. Each island uses a fork of the problem when the problem supports forking.
+     *
+     * @return the islands
+     */
+    private List<Island> createIslands() {
+        List<Island> islands = new ArrayList<>(getParams().getIslandCount());
+
+        for (int i = 0; i < getParams().getIslandCount(); i++) {
+            if (getProblem() instanceof IForkableGenOptimizeProblem)
+                islands.add(new Island(((IForkableGenOptimizeProblem<Individual>) getProblem()).fork()));
+            else
+                islands.add(new Island(getProblem()));
+        }
+
+        return islands;
+    }
+
+    /**
+     * Runs the supplied work on every island using the executor and waits for all islands to finish.
+     *
+     * @param executor the executor running the islands
+     * @param islands  the islands
+     * @param work     the work performed by each island
+     */
+    private void runIslands(ExecutorService executor, List<Island> islands, IslandWork work) {
+        List<Callable<Void>> tasks = new ArrayList<>(islands.size());
+        for (Island island : islands) {
+            tasks.add(() -> {
+                work.run(island);
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> result : executor.invokeAll(tasks))
+                result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Optimization Was Interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new IllegalStateException("An Island Failed During Optimization", e.getCause());
+        }
+    }
+
+    /**
+     * Counts the islands that have a best individual recorded for the supplied generation of the current epoch.
+     *
+     * @param islands    the islands
+     * @param generation the generation within the current epoch
+     * @return the number of islands that completed the generation
+     */
+    private int islandsWithGeneration(List<Island> islands, int generation) {
+        int count = 0;
+        for (Island island : islands) {
+            if (island.bests.size() > generation)
+                count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Finds the best individual across all islands for a generation of the current epoch.
+     *
+     * @param islands    the islands
+     * @param generation the generation within the current epoch
+     * @param bestFirst  orders individuals from best to worst
+     * @return the best individual found by any island in the generation
+     */
+    private Individual bestOfGeneration(List<Island> islands, int generation, Comparator<Individual> bestFirst) {
+        Individual best = null;
+        for (Island island : islands) {
+            if (island.bests.size() <= generation)
+                continue;
+
+            Individual candidate = island.bests.get(generation);
+            if (best == null || bestFirst.compare(candidate, best) < 0)
+                best = candidate;
+        }
+
+        return best;
+    }
+
+    /**
+     * Sends each island's best individuals to the islands picked by the topology. Each island keeps at most
+     * migrationSize of the best individuals it receives, which replace its worst individuals.
+     *
+     * @param islands the islands
+     */
+    private void migrate(List<Island> islands) {
+        boolean minimization = getProblem().isMinimization();
+        int migrationSize = Math.min(getParams().getMigrationSize(), getParams().getPopulationSize() - 1);
+        if (islands.size() < 2 || migrationSize < 1)
+            return;
+
+        // Pick Every Island's Migrants Before Any Population Changes
+        List<List<Individual>> migrants = new ArrayList<>(islands.size());
+        for (Island island : islands) {
+            island.population = new ArrayList<>(island.population);
+            migrants.add(TopK.select(island.population, migrationSize, minimization));
+        }
+
+        List<List<Individual>> received = new ArrayList<>(islands.size());
+        for (int i = 0; i < islands.size(); i++)
+            received.add(new ArrayList<>());
+
+        for (int source = 0; source < islands.size(); source++) {
+            for (int destination : destinations(source, islands.size()))
+                received.get(destination).addAll(migrants.get(source));
+        }
+
+        for (int i = 0; i < islands.size(); i++) {
+            List<Individual> incoming = received.get(i);
+            if (incoming.isEmpty())
+                continue;
+
+            int replaced = Math.min(migrationSize, incoming.size());
+
+            // Move The Worst Individuals To The End So They Can Be Replaced
+            List<Individual> population = islands.get(i).population;
+            TopK.partition(population, population.size() - replaced, minimization);
+            population.subList(population.size() - replaced, population.size()).clear();
+            population.addAll(TopK.select(incoming, replaced, minimization));
+        }
+    }
+
+    /**
+     * Finds the islands that receive migrants from the source island.
+     *
+     * @param source      the index of the island sending migrants
+     * @param islandCount the number of islands
+     * @return the indexes of the islands receiving the migrants
+     */
+    private int[] destinations(int source, int islandCount) {
+        switch (topology) {
+            case FULLY_CONNECTED:
+                int[] others = new int[islandCount - 1];
+                for (int i = 0, island = 0; island < islandCount; island++) {
+                    if (island != source)
+                        others[i++] = island;
+                }
+                return others;
+            case RANDOM:
+                int destination = random.nextInt(islandCount - 1);
+                return new int[]{destination >= source ? destination + 1 : destination};
+            default:
+                return new int[]{(source + 1) % islandCount};
+        }
+    }
+
+    /**
+     * Creates a comparator that orders individuals from best to worst using the problem's fitness direction.
+     *
+     * @return a comparator ordering individuals from best to worst
+     */
+    private Comparator<Individual> bestFirst() {
+        Comparator<Individual> ascending = Individual::compareTo;
+        return getProblem().isMinimization() ? ascending : ascending.reversed();
+    }
+
+    /**
+     * Work performed on a single island.
+     */
+    @FunctionalInterface
+    private interface IslandWork {
+        void run(Island island);
+    }
+
+    /**
+     * A single population evolved independently of the other islands.
+     */
+    private class Island {
+
+        /**
+         * The problem used by the island.
+         */
+        private IGenOptimizeProblem<Individual> problem;
+
+        /**
+         * The island's current population.
+         */
+        private List<Individual> population;
+
+        /**
+         * The best individual of each generation in the current epoch.
+         */
+        private List<Individual> bests = new ArrayList<>();
+
+        /**
+         * The summary of each generation in the current epoch, only kept when generation listeners are registered.
+         */
+        private List<GenerationSummary> summaries = new ArrayList<>();
+
+        /**
+         * Whether summaries are kept during the current epoch.
+         */
+        private boolean summarize;
+
+        Island(IGenOptimizeProblem<Individual> problem) {
+            this.problem = problem;
+        }
+
+        /**
+         * Creates the island's initial population and records its best individual.
+         */
+        void initialize() {
+            population = problem.generateInitialPopulation(getParams().getPopulationSize());
+
+            PhaseTiming start = phaseStart();
+            problem.calculateFitness(population);
+            phaseEnd(Phase.FITNESS, start);
+
+            bests.clear();
+            summaries.clear();
+            summarize = hasGenerationListeners();
+            record(0);
+        }
+
+        /**
+         * Evolves the island for the supplied number of generations, stopping early if the target value is reached or
+         * the optimization is cancelled.
+         *
+         * @param generations the number of generations to evolve
+         */
+        void evolve(int generations) {
+            GeneticOptimizationParams params = getParams();
+            bests.clear();
+            summaries.clear();
+            summarize = hasGenerationListeners();
+
+            for (int i = 0; i < generations && !isStopRequested(); i++) {
+                PhaseTiming start = phaseStart();
+                List<Individual> selectedPopulation = problem.selection(population, params.getSelectionPercent());
+                phaseEnd(Phase.SELECTION, start);
+
+                List<Individual> elites = elites(population);
+
+                start = phaseStart();
+                List<Individual> crossedPopulation = problem.crossover(selectedPopulation,
+                        params.getPopulationSize() - elites.size());
+                phaseEnd(Phase.CROSSOVER, start);
+
+                start = phaseStart();
+                problem.mutate(crossedPopulation, params.getMutationProb());
+                phaseEnd(Phase.MUTATION, start);
+
+                if (!elites.isEmpty()) {
+                    crossedPopulation = new ArrayList<>(crossedPopulation);
+                    crossedPopulation.addAll(elites);
+                }
+
+                start = phaseStart();
+                problem.calculateFitness(crossedPopulation);
+                phaseEnd(Phase.FITNESS, start);
+
+                population = crossedPopulation;
+                Individual best = record(i);
+
+                if (best.getFitness() == params.getTargetValue())
+                    return;
+            }
+        }
+
+        /**
+         * Records the best individual of the island's current population and, when generation listeners were
+         * registered at the start of the epoch, a summary of the population.
+         *
+         * @param index the generation within the current epoch
+         * @return the best individual of the island's current population
+         */
+        private Individual record(int index) {
+            PhaseTiming start = phaseStart();
+            Individual best = problem.getBestIndividual(population);
+            phaseEnd(Phase.BEST_INDIVIDUAL, start);
+
+            bests.add(best);
+
+            if (summarize) {
+                summaries.add(GenerationSummary.of(index, best, population,
+                        getParams().isDiversityTracked()));
+            }
+
+            return best;
+        }
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.knighten.ai.genetic;
+
+/**
+ * The ways IslandGeneticOptimization can connect its islands when migrating individuals between them.
+ */
+public enum MigrationTopology {
+
+    /**
+     * Each island sends its best individuals to the next island, the last island sends to the first.
+     */
+    RING,
+
+    /**
+     * Each island sends its best individuals to every other island.
+     */
+    FULLY_CONNECTED,
+
+    /**
+     * Each island sends its best individuals to another island picked at random during every migration.
+     */
+    RANDOM
+
+}
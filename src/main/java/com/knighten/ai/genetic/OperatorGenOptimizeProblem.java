@@ -0,0 +1,523 @@
+package com.knighten.ai.genetic;
+
+import com.knighten.ai.genetic.interfaces.IBatchFitnessFunction;
+import com.knighten.ai.genetic.interfaces.ICrossover;
+import com.knighten.ai.genetic.interfaces.IFitnessFunction;
+import com.knighten.ai.genetic.interfaces.IForkableGenOptimizeProblem;
+import com.knighten.ai.genetic.interfaces.IGeneBlockWriter;
+import com.knighten.ai.genetic.interfaces.IInitializer;
+import com.knighten.ai.genetic.interfaces.IMutator;
+import com.knighten.ai.genetic.interfaces.ISelector;
+import com.knighten.ai.genetic.selection.TopK;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A problem composed from separate operators: an initializer, a fitness function, a crossover and a mutator, plus an
+ * optional selector. The operators only deal with single individuals; this class applies them to whole populations
+ * and decides how. Each operator can be run sequentially or in parallel, set with its Execution, so one set of
+ * operators serves both small and very large populations, and operators can be shared between problems. The fitness
+ * function can also be BATCHED, scoring the population's genes as a primitive block with the IBatchFitnessFunction set
+ * by setBatchFitnessFunction().
+ * <p>
+ * Every random number comes from RandomStreams seeded by the problem's Random object. Chunks of the population draw
+ * from the same streams whether they run sequentially or in parallel, so changing an operator's Execution or the number
+ * of threads does not change the results of a seeded run.
+ *
+ * @param <T> a type of individual used to represent a population in the problem
+ */
+public class OperatorGenOptimizeProblem<T extends Individual> implements IForkableGenOptimizeProblem<T> {
+
+    /**
+     * Creates the individuals of the initial population.
+     */
+    private IInitializer<T> initializer;
+
+    /**
+     * Scores individuals.
+     */
+    private IFitnessFunction<T> fitnessFunction;
+
+    /**
+     * Crosses pairs of parents into offspring.
+     */
+    private ICrossover<T> crossover;
+
+    /**
+     * Mutates individuals.
+     */
+    private IMutator<T> mutator;
+
+    /**
+     * Scores the population as a block of primitive genes when the fitness function is BATCHED, null if not set.
+     */
+    private BatchFitness<T, ?> batchFitness;
+
+    /**
+     * Whether lower fitness scores are better.
+     */
+    private boolean minimization;
+
+    /**
+     * Used to seed the random number streams of every operator. Allows the use of a seed.
+     */
+    private Random random;
+
+    /**
+     * Picks the sub-population in selection(), null to keep the best individuals.
+     */
+    private ISelector<T> selector;
+
+    /**
+     * How the initializer is run.
+     */
+    private Execution initializerExecution = Execution.SEQUENTIAL;
+
+    /**
+     * How the fitness function is run.
+     */
+    private Execution fitnessExecution = Execution.SEQUENTIAL;
+
+    /**
+     * How the crossover is run.
+     */
+    private Execution crossoverExecution = Execution.SEQUENTIAL;
+
+    /**
+     * How the mutator is run.
+     */
+    private Execution mutatorExecution = Execution.SEQUENTIAL;
+
+    /**
+     * Creates a problem from the supplied operators. Every operator starts out running sequentially.
+     *
+     * @param initializer     creates the individuals of the initial population
+     * @param fitnessFunction scores individuals
+     * @param crossover       crosses pairs of parents into offspring
+     * @param mutator         mutates individuals
+     * @param minimization    whether lower fitness scores are better
+     * @param random          used to seed the random number streams of every operator
+     */
+    public OperatorGenOptimizeProblem(IInitializer<T> initializer, IFitnessFunction<T> fitnessFunction,
+                                      ICrossover<T> crossover, IMutator<T> mutator, boolean minimization,
+                                      Random random) {
+
+        if (initializer == null)
+            throw new IllegalArgumentException("Initializer Cannot Be Null");
+
+        if (fitnessFunction == null)
+            throw new IllegalArgumentException("Fitness Function Cannot Be Null");
+
+        if (crossover == null)
+            throw new IllegalArgumentException("Crossover Cannot Be Null");
+
+        if (mutator == null)
+            throw new IllegalArgumentException("Mutator Cannot Be Null");
+
+        if (random == null)
+            throw new IllegalArgumentException("Random Object Cannot Be Null");
+
+        this.initializer = initializer;
+        this.fitnessFunction = fitnessFunction;
+        this.crossover = crossover;
+        this.mutator = mutator;
+        this.minimization = minimization;
+        this.random = random;
+    }
+
+    /**
+     * Creates a population of random individuals using the initializer.
+     *
+     * @param populationSize the size of the population to be created
+     * @return the initial random population
+     */
+    @Override
+    public List<T> generateInitialPopulation(int populationSize) {
+        Object[] population = new Object[populationSize];
+
+        RandomStreams.from(this.random).forEachChunk(populationSize, isParallel(initializerExecution),
+                (from, to, chunkRandom) -> {
+                    for (int i = from; i < to; i++)
+                        population[i] = initializer.create(chunkRandom);
+                });
+
+        return toList(population);
+    }
+
+    /**
+     * Sets the fitness score of every individual in the population using the fitness function. Individuals are skipped
+     * as described by IGenOptimizeProblem.calculateFitness().
+     *
+     * @param population the population of individuals whose fitness scores are to be set
+     */
+    @Override
+    public void calculateFitness(List<T> population) {
+        if (fitnessExecution == Execution.BATCHED) {
+            if (batchFitness == null)
+                throw new IllegalStateException("Batched Fitness Needs A Batch Fitness Function");
+
+            batchFitness.score(population);
+            return;
+        }
+
+        (isParallel(fitnessExecution) ? population.parallelStream() : population.stream())
+                .filter(individual -> !individual.isFitnessValid())
+                .forEach(individual -> individual.setFitness(fitnessFunction.fitness(individual)));
+    }
+
+    /**
+     * Gets the best individual in the population, the one with the lowest or highest fitness score depending on the
+     * problem's fitness direction.
+     *
+     * @param population the population used to search for the best individual
+     * @return the best individual in the population
+     */
+    @Override
+    public T getBestIndividual(List<T> population) {
+        return TopK.best(population, minimization);
+    }
+
+    /**
+     * Selects the selectionPercent percent of best individuals in the population. If a selector is set, it picks the
+     * sub-population instead.
+     *
+     * @param population       the population that the sub-population is selected from
+     * @param selectionPercent the percent of best individuals to keep
+     * @return the sub-population
+     */
+    @Override
+    public List<T> selection(List<T> population, double selectionPercent) {
+        int selectionSize = TopK.selectionSize(population.size(), selectionPercent);
+        if (this.selector != null)
+            return this.selector.select(population, selectionSize, minimization, this.random);
+
+        return TopK.select(population, selectionSize, minimization);
+    }
+
+    /**
+     * Creates a new population by crossing pairs of parents picked at random from the sub-population.
+     *
+     * @param subPopulation  the sub-population used to generate the new population
+     * @param populationSize the desired population size to be returned
+     * @return the new population created from the sub-population
+     */
+    @Override
+    public List<T> crossover(List<T> subPopulation, int populationSize) {
+        Object[] offspring = new Object[populationSize];
+
+        RandomStreams.from(this.random).forEachChunk(populationSize, isParallel(crossoverExecution),
+                (from, to, chunkRandom) -> {
+                    for (int i = from; i < to; i++) {
+                        T first = subPopulation.get(chunkRandom.nextInt(subPopulation.size()));
+                        T second = subPopulation.get(chunkRandom.nextInt(subPopulation.size()));
+                        offspring[i] = crossover.cross(first, second, chunkRandom);
+                    }
+                });
+
+        return toList(offspring);
+    }
+
+    /**
+     * Mutates every individual in the population using the mutator.
+     *
+     * @param population   the population that will be mutated
+     * @param mutationProb the probability that a gene of an individual is mutated
+     */
+    @Override
+    public void mutate(List<T> population, double mutationProb) {
+        RandomStreams.from(this.random).forEachChunk(population.size(), isParallel(mutatorExecution),
+                (from, to, chunkRandom) -> {
+                    for (int i = from; i < to; i++)
+                        mutator.mutate(population.get(i), mutationProb, chunkRandom);
+                });
+    }
+
+    /**
+     * Returns whether lower fitness scores are better, as set when the problem was created.
+     *
+     * @return true if lower fitness scores are better
+     */
+    @Override
+    public boolean isMinimization() {
+        return minimization;
+    }
+
+    /**
+     * Creates a copy of the problem for use by a single worker thread. The copy shares this problem's operators,
+     * batch fitness function, selector and executions, and uses its own Random object seeded using this problem's
+     * Random object.
+     *
+     * @return a copy of the problem that is safe to use on another thread
+     */
+    @Override
+    public OperatorGenOptimizeProblem<T> fork() {
+        return fork(this.random.nextLong());
+    }
+
+    /**
+     * Creates a copy of the problem for use by a single worker thread, like fork(), whose Random object is seeded with
+     * the supplied seed.
+     *
+     * @param seed the seed of the copy's Random object
+     * @return a copy of the problem that is safe to use on another thread
+     */
+    @Override
+    public OperatorGenOptimizeProblem<T> fork(long seed) {
+        OperatorGenOptimizeProblem<T> fork = new OperatorGenOptimizeProblem<>(initializer, fitnessFunction, crossover,
+                mutator, minimization, new Random(seed));
+        fork.setSelector(this.selector);
+        fork.batchFitness = this.batchFitness;
+        fork.setInitializerExecution(this.initializerExecution);
+        fork.setFitnessExecution(this.fitnessExecution);
+        fork.setCrossoverExecution(this.crossoverExecution);
+        fork.setMutatorExecution(this.mutatorExecution);
+
+        return fork;
+    }
+
+    /**
+     * Draws the next seed from the problem's Random object.
+     *
+     * @return a seed drawn from the problem's Random object
+     */
+    @Override
+    public long nextSeed() {
+        return this.random.nextLong();
+    }
+
+    /**
+     * Sets the selector used by selection() to pick the sub-population. Forks of the problem share the selector.
+     *
+     * @param selector the selector to use, null to keep the selectionPercent percent of best individuals
+     */
+    public void setSelector(ISelector<T> selector) {
+        this.selector = selector;
+    }
+
+    /**
+     * Returns the selector used by selection() to pick the sub-population.
+     *
+     * @return the selector, or null if selection() keeps the best individuals
+     */
+    public ISelector<T> getSelector() {
+        return selector;
+    }
+
+    /**
+     * Sets the batch fitness function used when the fitness function is BATCHED. It must give the same scores as the
+     * fitness function. Forks of the problem share it.
+     *
+     * @param function the function scoring blocks of primitive genes
+     * @param writer   copies the genes of individuals into blocks the function reads
+     * @param <G>      the type of the primitive gene block
+     */
+    public <G> void setBatchFitnessFunction(IBatchFitnessFunction<G> function, IGeneBlockWriter<T, G> writer) {
+
+        if (function == null)
+            throw new IllegalArgumentException("Batch Fitness Function Cannot Be Null");
+
+        if (writer == null)
+            throw new IllegalArgumentException("Gene Block Writer Cannot Be Null");
+
+        this.batchFitness = new BatchFitness<>(function, writer);
+    }
+
+    /**
+     * Sets how the initializer is run.
+     *
+     * @param execution sequentially or in parallel
+     */
+    public void setInitializerExecution(Execution execution) {
+        this.initializerExecution = checkUnbatched(execution);
+    }
+
+    /**
+     * Returns how the initializer is run.
+     *
+     * @return the initializer's execution
+     */
+    public Execution getInitializerExecution() {
+        return initializerExecution;
+    }
+
+    /**
+     * Sets how the fitness function is run. BATCHED needs a batch fitness function to be set before the population is
+     * scored.
+     *
+     * @param execution sequentially, in parallel or batched
+     */
+    public void setFitnessExecution(Execution execution) {
+        this.fitnessExecution = checkExecution(execution);
+    }
+
+    /**
+     * Returns how the fitness function is run.
+     *
+     * @return the fitness function's execution
+     */
+    public Execution getFitnessExecution() {
+        return fitnessExecution;
+    }
+
+    /**
+     * Sets how the crossover is run.
+     *
+     * @param execution sequentially or in parallel
+     */
+    public void setCrossoverExecution(Execution execution) {
+        this.crossoverExecution = checkUnbatched(execution);
+    }
+
+    /**
+     * Returns how the crossover is run.
+     *
+     * @return the crossover's execution
+     */
+    public Execution getCrossoverExecution() {
+        return crossoverExecution;
+    }
+
+    /**
+     * Sets how the mutator is run.
+     *
+     * @param execution sequentially or in parallel
+     */
+    public void setMutatorExecution(Execution execution) {
+        this.mutatorExecution = checkUnbatched(execution);
+    }
+
+    /**
+     * Returns how the mutator is run.
+     *
+     * @return the mutator's execution
+     */
+    public Execution getMutatorExecution() {
+        return mutatorExecution;
+    }
+
+    /**
+     * Sets every operator to run the same way. BATCHED batches the fitness function and runs the other operators in
+     * parallel.
+     *
+     * @param execution sequentially, in parallel or batched
+     */
+    public void setExecution(Execution execution) {
+        Execution unbatched = execution == Execution.BATCHED ? Execution.PARALLEL : execution;
+
+        setInitializerExecution(unbatched);
+        setFitnessExecution(execution);
+        setCrossoverExecution(unbatched);
+        setMutatorExecution(unbatched);
+    }
+
+    /**
+     * Checks that an execution was supplied.
+     *
+     * @param execution the execution to check
+     * @return the execution
+     */
+    private static Execution checkExecution(Execution execution) {
+
+        if (execution == null)
+            throw new IllegalArgumentException("Execution Cannot Be Null");
+
+        return execution;
+    }
+
+    /**
+     * Checks that an execution was supplied and is not BATCHED, which only the fitness function supports.
+     *
+     * @param execution the execution to check
+     * @return the execution
+     */
+    private static Execution checkUnbatched(Execution execution) {
+
+        if (checkExecution(execution) == Execution.BATCHED)
+            throw new IllegalArgumentException("Only The Fitness Function Can Be Batched");
+
+        return execution;
+    }
+
+    /**
+     * Copies individuals filled in by parallel chunks into a new list.
+     *
+     * @param individuals the individuals, all of type T
+     * @return a new list holding the individuals in the same order
+     */
+    @SuppressWarnings("unchecked")
+    private List<T> toList(Object[] individuals) {
+        List<T> list = new ArrayList<>(individuals.length);
+        for (Object individual : individuals)
+            list.add((T) individual);
+
+        return list;
+    }
+
+    /**
+     * Returns whether the supplied execution runs in parallel.
+     *
+     * @param execution the execution of an operator
+     * @return true if the operator runs in parallel
+     */
+    private static boolean isParallel(Execution execution) {
+        return execution == Execution.PARALLEL;
+    }
+
+    /**
+     * Pairs a batch fitness function with the writer that lays out genes for it, keeping the type of the gene block
+     * out of OperatorGenOptimizeProblem's fields.
+     *
+     * @param <T> a type of individual used to represent a population in the problem
+     * @param <G> the type of the primitive gene block
+     */
+    private static class BatchFitness<T extends Individual, G> {
+
+        /**
+         * Scores blocks of primitive genes.
+         */
+        private IBatchFitnessFunction<G> function;
+
+        /**
+         * Copies the genes of individuals into blocks.
+         */
+        private IGeneBlockWriter<T, G> writer;
+
+        /**
+         * Pairs the supplied function and writer.
+         *
+         * @param function scores blocks of primitive genes
+         * @param writer   copies the genes of individuals into blocks
+         */
+        BatchFitness(IBatchFitnessFunction<G> function, IGeneBlockWriter<T, G> writer) {
+            this.function = function;
+            this.writer = writer;
+        }
+
+        /**
+         * Copies the genes of every individual whose fitness is not valid into one block, scores the block in
+         * parallel batches and sets the scores.
+         *
+         * @param population the population of individuals whose fitness scores are to be set
+         */
+        void score(List<T> population) {
+            List<T> unscored = new ArrayList<>(population.size());
+            for (T individual : population) {
+                if (!individual.isFitnessValid())
+                    unscored.add(individual);
+            }
+
+            G block = writer.createBlock(unscored.size());
+            for (int i = 0; i < unscored.size(); i++)
+                writer.write(unscored.get(i), block, i);
+
+            double[] fitness = new double[unscored.size()];
+            function.scoreAll(block, unscored.size(), fitness, Execution.PARALLEL);
+
+            for (int i = 0; i < unscored.size(); i++)
+                unscored.get(i).setFitness(fitness[i]);
+        }
+    }
+
+}
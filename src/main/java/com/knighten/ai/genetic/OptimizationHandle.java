@@ -0,0 +1,109 @@
+package com.knighten.ai.genetic;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A handle to an optimization started by GeneticOptimization.optimizeAsync(). The handle gives access to the result of
+ * the optimization, can cancel it and can be read at any time for the best individual found so far.
+ * <p>
+ * The best individual and generation are published together as one OptimizationProgress by the optimizing thread after
+ * each generation completes, and are read without locking. getProgress() returns a best individual and generation that
+ * always belong to the same generation; calling getBestIndividual() and then getGeneration() may see two different
+ * generations. The published individual is never changed by later generations, so it is safe to use while the
+ * optimization is still running.
+ */
+public class OptimizationHandle {
+
+    /**
+     * Completes with the optimization's result, the same list optimize() returns.
+     */
+    private CompletableFuture<List<Individual>> result = new CompletableFuture<>();
+
+    /**
+     * The latest completed generation and its best individual, replaced as a whole after each generation.
+     */
+    private volatile OptimizationProgress progress = new OptimizationProgress(-1, null);
+
+    /**
+     * Creates a handle for an optimization that has not started yet.
+     */
+    OptimizationHandle() {
+    }
+
+    /**
+     * Returns a future that completes with the optimization's result. Cancelling the future cancels the optimization.
+     *
+     * @return the future result of the optimization
+     */
+    public CompletableFuture<List<Individual>> getResult() {
+        return result;
+    }
+
+    /**
+     * Cancels the optimization. The optimization stops at the end of the generation it is working on, and the result
+     * future completes with a CancellationException. The best individual found before the cancellation can still be
+     * read from the handle.
+     *
+     * @return true if the optimization was cancelled, false if it had already completed
+     */
+    public boolean cancel() {
+        return result.cancel(false);
+    }
+
+    /**
+     * Checks if the optimization was cancelled.
+     *
+     * @return true if the optimization was cancelled
+     */
+    public boolean isCancelled() {
+        return result.isCancelled();
+    }
+
+    /**
+     * Checks if the optimization has completed, normally, exceptionally or by being cancelled.
+     *
+     * @return true if the optimization has completed
+     */
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    /**
+     * Returns the latest completed generation together with its best individual.
+     *
+     * @return the progress of the optimization, with generation -1 if the initial population is not complete
+     */
+    public OptimizationProgress getProgress() {
+        return progress;
+    }
+
+    /**
+     * Returns the best individual of the latest completed generation.
+     *
+     * @return the best individual found so far, null if the initial population is not complete
+     */
+    public Individual getBestIndividual() {
+        return progress.getBestIndividual();
+    }
+
+    /**
+     * Returns the index of the latest completed generation, the initial population is generation 0.
+     *
+     * @return the latest completed generation, -1 if the initial population is not complete
+     */
+    public int getGeneration() {
+        return progress.getGeneration();
+    }
+
+    /**
+     * Publishes the best individual of a completed generation.
+     *
+     * @param generation     the index of the completed generation
+     * @param bestIndividual the best individual of the generation
+     */
+    void publish(int generation, Individual bestIndividual) {
+        this.progress = new OptimizationProgress(generation, bestIndividual);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.knighten.ai.genetic;
+
+/**
+ * The progress of an optimization started by GeneticOptimization.optimizeAsync(): the index of its latest completed
+ * generation together with that generation's best individual. OptimizationHandle publishes a new OptimizationProgress
+ * after each generation, so the generation and best individual read from one of them always belong together.
+ */
+public class OptimizationProgress {
+
+    /**
+     * The index of the latest completed generation, -1 until the initial population is complete.
+     */
+    private int generation;
+
+    /**
+     * The best individual of the latest completed generation, null until the initial population is complete.
+     */
+    private Individual bestIndividual;
+
+    /**
+     * Creates an OptimizationProgress describing a completed generation.
+     *
+     * @param generation     the index of the completed generation, -1 if no generation is complete
+     * @param bestIndividual the best individual of the generation, null if no generation is complete
+     */
+    public OptimizationProgress(int generation, Individual bestIndividual) {
+        this.generation = generation;
+        this.bestIndividual = bestIndividual;
+    }
+
+    /**
+     * Returns the index of the latest completed generation, the initial population is generation 0.
+     *
+     * @return the latest completed generation, -1 if the initial population is not complete
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the best individual of the latest completed generation.
+     *
+     * @return the best individual of the generation, null if the initial population is not complete
+     */
+    public Individual getBestIndividual() {
+        return bestIndividual;
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.knighten.ai.genetic;
+
+/**
+ * The state of an optimization after a generation is complete. Passed to termination conditions.
+ */
+public class OptimizationState {
+
+    /**
+     * The index of the latest generation, the initial population is generation 0.
+     */
+    private int generation;
+
+    /**
+     * The fitness score of the best individual in the latest generation.
+     */
+    private double bestFitness;
+
+    /**
+     * The number of fitness calculations performed so far.
+     */
+    private long evaluations;
+
+    /**
+     * The time since the optimization started in nanoseconds.
+     */
+    private long elapsedNanos;
+
+    /**
+     * Whether the problem being optimized is minimizing its fitness score.
+     */
+    private boolean minimization;
+
+    /**
+     * Creates an OptimizationState describing the optimization after a generation.
+     *
+     * @param generation   the index of the latest generation
+     * @param bestFitness  the fitness score of the best individual in the latest generation
+     * @param evaluations  the number of fitness calculations performed so far
+     * @param elapsedNanos the time since the optimization started in nanoseconds
+     * @param minimization whether the problem is minimizing its fitness score
+     */
+    public OptimizationState(int generation, double bestFitness, long evaluations, long elapsedNanos,
+                             boolean minimization) {
+        this.generation = generation;
+        this.bestFitness = bestFitness;
+        this.evaluations = evaluations;
+        this.elapsedNanos = elapsedNanos;
+        this.minimization = minimization;
+    }
+
+    /**
+     * Returns the index of the latest generation, the initial population is generation 0.
+     *
+     * @return the index of the latest generation
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the fitness score of the best individual in the latest generation.
+     *
+     * @return the best fitness score
+     */
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    /**
+     * Returns the number of fitness calculations performed so far, one per individual scored.
+     *
+     * @return the number of fitness calculations
+     */
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * Returns the time since the optimization started in nanoseconds.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns whether the problem being optimized is minimizing its fitness score.
+     *
+     * @return true if lower fitness scores are better
+     */
+    public boolean isMinimization() {
+        return minimization;
+    }
+
+}
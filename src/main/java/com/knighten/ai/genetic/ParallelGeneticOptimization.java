@@ -0,0 +1,260 @@
+package com.knighten.ai.genetic;
+
+import com.knighten.ai.genetic.interfaces.IForkableGenOptimizeProblem;
+import com.knighten.ai.genetic.interfaces.IGenOptimizeProblem;
+import com.knighten.ai.genetic.metrics.Phase;
+import com.knighten.ai.genetic.metrics.PhaseTiming;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+/**
+ * Performs genetic optimization using multiple threads. Each generation's crossover, mutation and fitness calculation
+ * is split into chunks which are processed at the same time by the supplied executor. Selection and finding the best
+ * individual are still performed on the calling thread.
+ * <p>
+ * Only problems that implement IForkableGenOptimizeProblem are split across threads. The offspring of a generation are
+ * split into chunks of RandomStreams.CHUNK_SIZE individuals, and each chunk is handled by its own fork of the problem
+ * seeded from the chunk's stream of a RandomStreams family, which is seeded by the problem once per generation. Chunks
+ * do not depend on the parallelism, so a seeded problem gives the same results however many threads are used. Any
+ * other problem is optimized using a single chunk, just like GeneticOptimization.
+ * <p>
+ * Crossover, mutation and fitness calculation each run over every chunk before the next one starts, so each phase's
+ * latency is recorded once per generation. After each generation the chunks are merged in order. The merged population
+ * is not sorted, since the problems in this framework find their best individuals without sorting.
+ */
+public class ParallelGeneticOptimization extends GeneticOptimization {
+
+    /**
+     * Executes the chunks of work created each generation.
+     */
+    private ExecutorService executor;
+
+    /**
+     * The number of tasks the chunks of each phase are shared between.
+     */
+    private int parallelism;
+
+    /**
+     * Creates an instance of ParallelGeneticOptimization that uses the common ForkJoinPool. The chunks of each phase
+     * are shared between the threads of the common pool.
+     *
+     * @param problem the problem to be optimized
+     * @param params  optimization parameters
+     */
+    public ParallelGeneticOptimization(IGenOptimizeProblem problem, GeneticOptimizationParams params) {
+        this(problem, params, ForkJoinPool.commonPool(), ForkJoinPool.commonPool().getParallelism());
+    }
+
+    /**
+     * Creates an instance of ParallelGeneticOptimization that uses the supplied ForkJoinPool. The chunks of each phase
+     * are shared between the threads of the pool.
+     *
+     * @param problem the problem to be optimized
+     * @param params  optimization parameters
+     * @param pool    the pool used to process each generation's chunks
+     */
+    public ParallelGeneticOptimization(IGenOptimizeProblem problem, GeneticOptimizationParams params,
+                                       ForkJoinPool pool) {
+        this(problem, params, pool, pool == null ? 1 : pool.getParallelism());
+    }
+
+    /**
+     * Creates an instance of ParallelGeneticOptimization that uses the supplied executor and shares the chunks of
+     * each phase between the supplied number of tasks.
+     *
+     * @param problem     the problem to be optimized
+     * @param params      optimization parameters
+     * @param executor    the executor used to process each generation's chunks
+     * @param parallelism the number of tasks the chunks of each phase are shared between
+     */
+    public ParallelGeneticOptimization(IGenOptimizeProblem problem, GeneticOptimizationParams params,
+                                       ExecutorService executor, int parallelism) {
+        super(problem, params);
+
+        if (executor == null)
+            throw new IllegalArgumentException("Executor Cannot Be Null");
+
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism Must Be Greater Than Zero");
+
+        this.executor = executor;
+        this.parallelism = (problem instanceof IForkableGenOptimizeProblem) ? parallelism : 1;
+    }
+
+    /**
+     * Creates the initial population by having each chunk generate its share of the population, then calculating the
+     * fitness of every chunk.
+     *
+     * @return the initial population with fitness scores assigned
+     */
+    @Override
+    protected List<Individual> initialPopulation() {
+        int populationSize = getParams().getPopulationSize();
+        List<IGenOptimizeProblem<Individual>> workers = forkWorkers(populationSize);
+
+        List<List<Individual>> chunks = runChunks(workers.size(), (chunk) ->
+                workers.get(chunk).generateInitialPopulation(chunkSize(populationSize, workers.size(), chunk)));
+
+        PhaseTiming start = phaseStart();
+        runChunks(workers.size(), (chunk) -> {
+            workers.get(chunk).calculateFitness(chunks.get(chunk));
+            return chunks.get(chunk);
+        });
+        phaseEnd(Phase.FITNESS, start);
+
+        return merge(chunks, populationSize);
+    }
+
+    /**
+     * Creates the next generation's population. Selection is performed once on the calling thread, then the chunks
+     * cross, mutate and calculate the fitness of their share of the new population, one phase at a time. The elites
+     * are added after the chunks without being evaluated again.
+     *
+     * @param population the current population, with fitness scores assigned
+     * @return the next generation's population with fitness scores assigned
+     */
+    @Override
+    protected List<Individual> nextGeneration(List<Individual> population) {
+        PhaseTiming start = phaseStart();
+        List<Individual> selectedPopulation = getProblem().selection(population, getParams().getSelectionPercent());
+        phaseEnd(Phase.SELECTION, start);
+
+        List<Individual> elites = elites(population);
+
+        int offspringCount = getParams().getPopulationSize() - elites.size();
+        List<IGenOptimizeProblem<Individual>> workers = forkWorkers(offspringCount);
+
+        start = phaseStart();
+        List<List<Individual>> chunks = runChunks(workers.size(), (chunk) ->
+                workers.get(chunk).crossover(selectedPopulation, chunkSize(offspringCount, workers.size(), chunk)));
+        phaseEnd(Phase.CROSSOVER, start);
+
+        start = phaseStart();
+        runChunks(workers.size(), (chunk) -> {
+            workers.get(chunk).mutate(chunks.get(chunk), getParams().getMutationProb());
+            return chunks.get(chunk);
+        });
+        phaseEnd(Phase.MUTATION, start);
+
+        start = phaseStart();
+        runChunks(workers.size(), (chunk) -> {
+            workers.get(chunk).calculateFitness(chunks.get(chunk));
+            return chunks.get(chunk);
+        });
+        phaseEnd(Phase.FITNESS, start);
+
+        List<Individual> nextPopulation = merge(chunks, getParams().getPopulationSize());
+        nextPopulation.addAll(elites);
+
+        return nextPopulation;
+    }
+
+    /**
+     * Returns false, each chunk creates new individuals since chunks are built by different workers.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean recyclesIndividuals() {
+        return false;
+    }
+
+    /**
+     * Creates the problems used by the chunks of a generation, one per chunk. A forkable problem seeds a RandomStreams
+     * family and is forked once per RandomStreams.CHUNK_SIZE individuals, each fork seeded by its chunk's stream. Any
+     * other problem is the only worker, handling the whole population.
+     *
+     * @param populationSize the number of individuals the chunks create
+     * @return the problem used by each chunk, in chunk order
+     */
+    private List<IGenOptimizeProblem<Individual>> forkWorkers(int populationSize) {
+        List<IGenOptimizeProblem<Individual>> workers = new ArrayList<>();
+
+        if (!(getProblem() instanceof IForkableGenOptimizeProblem)) {
+            workers.add(getProblem());
+            return workers;
+        }
+
+        IForkableGenOptimizeProblem<Individual> forkable = (IForkableGenOptimizeProblem<Individual>) getProblem();
+        RandomStreams streams = new RandomStreams(forkable.nextSeed());
+        int chunks = Math.max(1, (populationSize + RandomStreams.CHUNK_SIZE - 1) / RandomStreams.CHUNK_SIZE);
+        for (int i = 0; i < chunks; i++)
+            workers.add(forkable.fork(streams.stream(i).nextLong()));
+
+        return workers;
+    }
+
+    /**
+     * Returns the number of individuals created by a chunk when the population is split evenly between the chunks.
+     *
+     * @param populationSize the number of individuals the chunks create
+     * @param chunks         the number of chunks
+     * @param chunk          the index of the chunk
+     * @return the size of the chunk
+     */
+    private static int chunkSize(int populationSize, int chunks, int chunk) {
+        return populationSize / chunks + (chunk < populationSize % chunks ? 1 : 0);
+    }
+
+    /**
+     * Runs the supplied work for every chunk using the executor and waits for all of them to finish. The chunks are
+     * shared between at most parallelism tasks, each handling a run of consecutive chunks.
+     *
+     * @param chunks the number of chunks
+     * @param work   handles the chunk with the supplied index and returns its individuals
+     * @return each chunk's individuals, in chunk order
+     */
+    private List<List<Individual>> runChunks(int chunks, IntFunction<List<Individual>> work) {
+        int taskCount = Math.min(parallelism, chunks);
+
+        List<Callable<List<List<Individual>>>> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            int from = (int) ((long) chunks * i / taskCount);
+            int to = (int) ((long) chunks * (i + 1) / taskCount);
+            tasks.add(() -> {
+                List<List<Individual>> results = new ArrayList<>(to - from);
+                for (int chunk = from; chunk < to; chunk++)
+                    results.add(work.apply(chunk));
+                return results;
+            });
+        }
+
+        List<List<Individual>> results = new ArrayList<>(chunks);
+        try {
+            for (Future<List<List<Individual>>> result : executor.invokeAll(tasks))
+                results.addAll(result.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Optimization Was Interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new IllegalStateException("A Worker Failed During Optimization", e.getCause());
+        }
+
+        return results;
+    }
+
+    /**
+     * Merges the chunks into a single population, in chunk order.
+     *
+     * @param chunks         each chunk's individuals
+     * @param populationSize the capacity of the merged population
+     * @return the merged population
+     */
+    private static List<Individual> merge(List<List<Individual>> chunks, int populationSize) {
+        List<Individual> population = new ArrayList<>(populationSize);
+        for (List<Individual> chunk : chunks)
+            population.addAll(chunk);
+
+        return population;
+    }
+
+}
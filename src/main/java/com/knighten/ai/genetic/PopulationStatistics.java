@@ -0,0 +1,537 @@
+package com.knighten.ai.genetic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Statistics about the fitness scores and genes of a population: the count, smallest, largest and mean fitness score,
+ * the variance of the fitness scores, an estimate of the median fitness score and an estimate of the population's
+ * diversity. Watching the variance and diversity shrink shows a population converging, and converging too early
+ * suggests raising the mutation probability or lowering the selection pressure.
+ * <p>
+ * of() calculates the fitness statistics in one pass over the population, which runs in parallel on the common
+ * ForkJoinPool for populations of at least PARALLEL_THRESHOLD individuals. The median is the exact median of an evenly
+ * spaced sample of MEDIAN_SAMPLE_SIZE fitness scores, so it is exact for populations no larger than the sample.
+ * <p>
+ * The diversity is only estimated when asked for, since it compares genes instead of fitness scores. It is the mean
+ * distance between every pair of an evenly spaced sample of DIVERSITY_SAMPLE_SIZE individuals, where the distance
+ * between two individuals is the fraction of gene positions at which their genes differ. It ranges from 0, where every
+ * sampled individual has the same genes, to 1, where no two share a gene at any position. Object arrays and strings
+ * are compared position by position, other genes as a whole.
+ */
+public class PopulationStatistics {
+
+    /**
+     * The smallest population whose statistics are calculated in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 10000;
+
+    /**
+     * The number of fitness scores the median is estimated from.
+     */
+    public static final int MEDIAN_SAMPLE_SIZE = 1024;
+
+    /**
+     * The number of individuals the diversity is estimated from.
+     */
+    public static final int DIVERSITY_SAMPLE_SIZE = 32;
+
+    /**
+     * The number of individuals in the population.
+     */
+    private int count;
+
+    /**
+     * The smallest fitness score in the population.
+     */
+    private double minFitness;
+
+    /**
+     * The largest fitness score in the population.
+     */
+    private double maxFitness;
+
+    /**
+     * The mean fitness score of the population.
+     */
+    private double meanFitness;
+
+    /**
+     * The population variance of the fitness scores.
+     */
+    private double fitnessVariance;
+
+    /**
+     * The estimated median fitness score.
+     */
+    private double medianFitness;
+
+    /**
+     * The estimated mean distance between the genes of two individuals.
+     */
+    private double diversity;
+
+    /**
+     * The sorted sample of fitness scores the median was estimated from, empty if the statistics were not calculated
+     * from a population.
+     */
+    private double[] fitnessSample;
+
+    /**
+     * Creates PopulationStatistics using already calculated statistics. Statistics that were not calculated can be
+     * given as NaN.
+     *
+     * @param count           the number of individuals in the population
+     * @param minFitness      the smallest fitness score in the population
+     * @param maxFitness      the largest fitness score in the population
+     * @param meanFitness     the mean fitness score of the population
+     * @param fitnessVariance the population variance of the fitness scores
+     * @param medianFitness   the median fitness score
+     * @param diversity       the mean distance between the genes of two individuals, from 0 to 1
+     */
+    public PopulationStatistics(int count, double minFitness, double maxFitness, double meanFitness,
+                                double fitnessVariance, double medianFitness, double diversity) {
+        this(count, minFitness, maxFitness, meanFitness, fitnessVariance, medianFitness, diversity, new double[0]);
+    }
+
+    /**
+     * Creates PopulationStatistics along with the fitness sample the median was estimated from.
+     *
+     * @param count           the number of individuals in the population
+     * @param minFitness      the smallest fitness score in the population
+     * @param maxFitness      the largest fitness score in the population
+     * @param meanFitness     the mean fitness score of the population
+     * @param fitnessVariance the population variance of the fitness scores
+     * @param medianFitness   the median fitness score
+     * @param diversity       the mean distance between the genes of two individuals, from 0 to 1
+     * @param fitnessSample   the sorted sample of fitness scores
+     */
+    private PopulationStatistics(int count, double minFitness, double maxFitness, double meanFitness,
+                                 double fitnessVariance, double medianFitness, double diversity,
+                                 double[] fitnessSample) {
+
+        if (count < 1)
+            throw new IllegalArgumentException("Count Must Be Greater Than Zero");
+
+        this.count = count;
+        this.minFitness = minFitness;
+        this.maxFitness = maxFitness;
+        this.meanFitness = meanFitness;
+        this.fitnessVariance = fitnessVariance;
+        this.medianFitness = medianFitness;
+        this.diversity = diversity;
+        this.fitnessSample = fitnessSample;
+    }
+
+    /**
+     * Calculates the fitness statistics of a population whose fitness scores are assigned. The diversity is not
+     * estimated and is NaN.
+     *
+     * @param population the population
+     * @return the population's statistics
+     */
+    public static PopulationStatistics of(List<Individual> population) {
+        return of(population, false);
+    }
+
+    /**
+     * Calculates the statistics of a population whose fitness scores are assigned, and estimates its diversity if
+     * asked to.
+     *
+     * @param population the population
+     * @param diversity  true to estimate the diversity, false to leave it NaN
+     * @return the population's statistics
+     */
+    public static PopulationStatistics of(List<Individual> population, boolean diversity) {
+
+        if (population == null || population.isEmpty())
+            throw new IllegalArgumentException("Population Cannot Be Null Or Empty");
+
+        List<Individual> individuals = population instanceof RandomAccess ? population : new ArrayList<>(population);
+        int size = individuals.size();
+        int stride = (size + MEDIAN_SAMPLE_SIZE - 1) / MEDIAN_SAMPLE_SIZE;
+
+        IntStream indices = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD)
+            indices = indices.parallel();
+
+        Accumulator total = indices.collect(() -> new Accumulator(individuals, stride), Accumulator::add,
+                Accumulator::merge);
+
+        double[] sample = Arrays.copyOf(total.sample, total.sampleSize);
+        Arrays.sort(sample);
+
+        return new PopulationStatistics(size, total.min, total.max, total.mean, total.squaredDeviations / size,
+                median(sample), diversity ? diversity(individuals) : Double.NaN, sample);
+    }
+
+    /**
+     * Combines the statistics of several populations, such as the islands of IslandGeneticOptimization, into the
+     * statistics of all of their individuals. The median is estimated from the fitness samples of every population,
+     * weighted by population size. The diversity is the mean of each population's diversity weighted by population
+     * size, so it measures how diverse the populations are within themselves and not how different they are from each
+     * other.
+     *
+     * @param statistics the statistics of each population
+     * @return the statistics of all of the populations together
+     */
+    public static PopulationStatistics combine(List<PopulationStatistics> statistics) {
+
+        if (statistics == null || statistics.isEmpty())
+            throw new IllegalArgumentException("Statistics Cannot Be Null Or Empty");
+
+        int count = 0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        double mean = 0.0;
+        double squaredDeviations = 0.0;
+        double diversitySum = 0.0;
+        for (PopulationStatistics part : statistics) {
+            int combinedCount = count + part.count;
+            double delta = part.meanFitness - mean;
+            mean += delta * part.count / combinedCount;
+            squaredDeviations += part.fitnessVariance * part.count + delta * delta * count * part.count / combinedCount;
+            count = combinedCount;
+
+            min = Math.min(min, part.minFitness);
+            max = Math.max(max, part.maxFitness);
+            diversitySum += part.diversity * part.count;
+        }
+
+        return new PopulationStatistics(count, min, max, mean, squaredDeviations / count, weightedMedian(statistics),
+                diversitySum / count);
+    }
+
+    /**
+     * Returns the number of individuals in the population.
+     *
+     * @return the number of individuals
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the smallest fitness score in the population.
+     *
+     * @return the smallest fitness score
+     */
+    public double getMinFitness() {
+        return minFitness;
+    }
+
+    /**
+     * Returns the largest fitness score in the population.
+     *
+     * @return the largest fitness score
+     */
+    public double getMaxFitness() {
+        return maxFitness;
+    }
+
+    /**
+     * Returns the mean fitness score of the population.
+     *
+     * @return the mean fitness score
+     */
+    public double getMeanFitness() {
+        return meanFitness;
+    }
+
+    /**
+     * Returns the population variance of the fitness scores, NaN if it was not calculated.
+     *
+     * @return the variance of the fitness scores
+     */
+    public double getFitnessVariance() {
+        return fitnessVariance;
+    }
+
+    /**
+     * Returns the standard deviation of the fitness scores, NaN if it was not calculated.
+     *
+     * @return the standard deviation of the fitness scores
+     */
+    public double getFitnessStandardDeviation() {
+        return Math.sqrt(fitnessVariance);
+    }
+
+    /**
+     * Returns the estimated median fitness score, NaN if it was not calculated.
+     *
+     * @return the median fitness score
+     */
+    public double getMedianFitness() {
+        return medianFitness;
+    }
+
+    /**
+     * Returns the estimated mean distance between the genes of two individuals, from 0 for a population of identical
+     * individuals to 1, or NaN if it was not calculated.
+     *
+     * @return the diversity of the population
+     */
+    public double getDiversity() {
+        return diversity;
+    }
+
+    /**
+     * Converts the statistics into a single line of text.
+     *
+     * @return string representation of the statistics
+     */
+    @Override
+    public String toString() {
+        return "Count " + count + " Min " + minFitness + " Max " + maxFitness + " Mean " + meanFitness + " StdDev "
+                + getFitnessStandardDeviation() + " Median " + medianFitness + " Diversity " + diversity;
+    }
+
+    /**
+     * Returns the median of sorted values.
+     *
+     * @param sorted the values in ascending order
+     * @return the median, NaN if there are no values
+     */
+    private static double median(double[] sorted) {
+        if (sorted.length == 0)
+            return Double.NaN;
+
+        int middle = sorted.length / 2;
+
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+
+    /**
+     * Estimates the median of several populations from their fitness samples. Each sampled score stands for its
+     * population's count divided by its sample size individuals.
+     *
+     * @param statistics the statistics of each population
+     * @return the estimated median, NaN if any population has no fitness sample
+     */
+    private static double weightedMedian(List<PopulationStatistics> statistics) {
+        int sampleCount = 0;
+        for (PopulationStatistics part : statistics) {
+            if (part.fitnessSample.length == 0)
+                return Double.NaN;
+
+            sampleCount += part.fitnessSample.length;
+        }
+
+        double[][] weighted = new double[sampleCount][];
+        int index = 0;
+        double totalWeight = 0.0;
+        for (PopulationStatistics part : statistics) {
+            double weight = (double) part.count / part.fitnessSample.length;
+            for (double fitness : part.fitnessSample)
+                weighted[index++] = new double[]{fitness, weight};
+
+            totalWeight += part.count;
+        }
+        Arrays.sort(weighted, (first, second) -> Double.compare(first[0], second[0]));
+
+        double cumulative = 0.0;
+        for (double[] value : weighted) {
+            cumulative += value[1];
+            if (cumulative >= totalWeight / 2.0)
+                return value[0];
+        }
+
+        return weighted[weighted.length - 1][0];
+    }
+
+    /**
+     * Estimates the diversity of a population as the mean distance between every pair of an evenly spaced sample of
+     * its individuals.
+     *
+     * @param population the population, with fast random access
+     * @return the estimated diversity, 0 for a population of one
+     */
+    private static double diversity(List<Individual> population) {
+        int sampleSize = Math.min(DIVERSITY_SAMPLE_SIZE, population.size());
+        if (sampleSize < 2)
+            return 0.0;
+
+        Object[] genes = new Object[sampleSize];
+        for (int i = 0; i < sampleSize; i++)
+            genes[i] = population.get((int) ((long) i * population.size() / sampleSize)).getGenes();
+
+        double distanceSum = 0.0;
+        for (int i = 0; i < sampleSize; i++) {
+            for (int j = i + 1; j < sampleSize; j++)
+                distanceSum += geneDistance(genes[i], genes[j]);
+        }
+
+        return distanceSum / (sampleSize * (sampleSize - 1) / 2);
+    }
+
+    /**
+     * Returns the fraction of gene positions at which two individuals' genes differ. Object arrays, such as the
+     * Integer[] boards of n queens, and character sequences, such as the strings of string matching, are compared
+     * position by position with positionDistance(). Any other genes, such as the single Double of a one variable
+     * function, are compared as a whole.
+     *
+     * @param first  the genes of the first individual
+     * @param second the genes of the second individual
+     * @return the distance from 0 to 1
+     */
+    private static double geneDistance(Object first, Object second) {
+        if (first == second)
+            return 0.0;
+
+        if (first == null || second == null)
+            return 1.0;
+
+        if (first instanceof Object[] && second instanceof Object[]) {
+            Object[] a = (Object[]) first;
+            Object[] b = (Object[]) second;
+            return positionDistance(a.length, b.length, (i) -> !Objects.equals(a[i], b[i]));
+        }
+
+        if (first instanceof CharSequence && second instanceof CharSequence) {
+            CharSequence a = (CharSequence) first;
+            CharSequence b = (CharSequence) second;
+            return positionDistance(a.length(), b.length(), (i) -> a.charAt(i) != b.charAt(i));
+        }
+
+        return first.equals(second) ? 0.0 : 1.0;
+    }
+
+    /**
+     * Returns the fraction of positions at which two sequences differ. Positions past the end of the shorter sequence
+     * count as different.
+     *
+     * @param firstLength  the length of the first sequence
+     * @param secondLength the length of the second sequence
+     * @param differs      whether the sequences differ at a position both of them have
+     * @return the distance from 0 to 1
+     */
+    private static double positionDistance(int firstLength, int secondLength, IntPredicate differs) {
+        int shared = Math.min(firstLength, secondLength);
+        int length = Math.max(firstLength, secondLength);
+        if (length == 0)
+            return 0.0;
+
+        int different = length - shared;
+        for (int i = 0; i < shared; i++) {
+            if (differs.test(i))
+                different++;
+        }
+
+        return (double) different / length;
+    }
+
+    /**
+     * Accumulates the count, smallest, largest and mean fitness score, the sum of squared deviations from the mean and
+     * the median sample over part of a population. Partial results are merged with Chan's parallel variance formula.
+     */
+    private static class Accumulator {
+
+        /**
+         * The population whose individuals are added.
+         */
+        private List<Individual> population;
+
+        /**
+         * Every stride-th individual's fitness score is added to the median sample.
+         */
+        private int stride;
+
+        /**
+         * The number of individuals added.
+         */
+        private long count;
+
+        /**
+         * The smallest fitness score added.
+         */
+        private double min = Double.POSITIVE_INFINITY;
+
+        /**
+         * The largest fitness score added.
+         */
+        private double max = Double.NEGATIVE_INFINITY;
+
+        /**
+         * The mean of the fitness scores added.
+         */
+        private double mean;
+
+        /**
+         * The sum of the squared deviations of the fitness scores added from their mean.
+         */
+        private double squaredDeviations;
+
+        /**
+         * The sampled fitness scores, the first sampleSize are used.
+         */
+        private double[] sample = new double[16];
+
+        /**
+         * The number of sampled fitness scores.
+         */
+        private int sampleSize;
+
+        private Accumulator(List<Individual> population, int stride) {
+            this.population = population;
+            this.stride = stride;
+        }
+
+        /**
+         * Adds the fitness score of the individual at an index.
+         *
+         * @param index the index of the individual
+         */
+        private void add(int index) {
+            double fitness = population.get(index).getFitness();
+
+            count++;
+            double delta = fitness - mean;
+            mean += delta / count;
+            squaredDeviations += delta * (fitness - mean);
+            min = Math.min(min, fitness);
+            max = Math.max(max, fitness);
+
+            if (index % stride == 0)
+                addSample(fitness);
+        }
+
+        /**
+         * Merges the results of another accumulator into this one.
+         *
+         * @param other the other accumulator
+         */
+        private void merge(Accumulator other) {
+            if (other.count == 0)
+                return;
+
+            long combinedCount = count + other.count;
+            double delta = other.mean - mean;
+            mean += delta * other.count / combinedCount;
+            squaredDeviations += other.squaredDeviations + delta * delta * count * other.count / combinedCount;
+            count = combinedCount;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+
+            for (int i = 0; i < other.sampleSize; i++)
+                addSample(other.sample[i]);
+        }
+
+        /**
+         * Adds a fitness score to the median sample.
+         *
+         * @param fitness the fitness score
+         */
+        private void addSample(double fitness) {
+            if (sampleSize == sample.length)
+                sample = Arrays.copyOf(sample, sampleSize * 2);
+
+            sample[sampleSize++] = fitness;
+        }
+    }
+
+}
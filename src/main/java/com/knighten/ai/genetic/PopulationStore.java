@@ -0,0 +1,802 @@
+package com.knighten.ai.genetic;
+
+import com.knighten.ai.genetic.interfaces.IBatchFitnessFunction;
+import com.knighten.ai.genetic.interfaces.IRandomChunkTask;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * A population kept outside the Java heap, in direct ByteBuffers or in a memory-mapped file. Every individual is a
+ * fixed-stride record: its fitness score as a double followed by its genes, each gene taking the bytes of the store's
+ * GeneWidth. Records are padded to a multiple of eight bytes. Stores larger than a single ByteBuffer are split into
+ * segments holding a whole number of records each.
+ * <p>
+ * The garbage collector never sees the individuals, so populations far larger than the heap can be held, and a mapped
+ * store spills to disk through the operating system's page cache when memory runs short. Work is done chunk by chunk:
+ * score() copies a batch of genes at a time into a small int array for an IBatchFitnessFunction, tournament() and
+ * crossover() run in parallel chunks using RandomStreams, and forEachChunk() hands chunks to any other operator, such
+ * as mutation. Scratch arrays are allocated per chunk, never per individual. StoreGeneticOptimization runs whole
+ * optimizations through these steps on a pair of stores.
+ * <p>
+ * A fitness score of NaN marks a record whose fitness is not valid, since setFitness() never accepts NaN. Values are
+ * stored little-endian, so a mapped file can be reopened on another machine. Different records can be read and
+ * written from several threads at once; the same record cannot.
+ */
+public class PopulationStore implements Closeable {
+
+    /**
+     * The number of bytes at the start of every record holding its fitness score.
+     */
+    private static final int FITNESS_BYTES = Double.BYTES;
+
+    /**
+     * The number of individuals in the store.
+     */
+    private int size;
+
+    /**
+     * The number of genes of every individual.
+     */
+    private int genomeLength;
+
+    /**
+     * The number of bytes per gene.
+     */
+    private GeneWidth geneWidth;
+
+    /**
+     * The number of bytes per record, including padding.
+     */
+    private int stride;
+
+    /**
+     * The number of records held by every segment but the last.
+     */
+    private int recordsPerSegment;
+
+    /**
+     * The buffers holding the records.
+     */
+    private ByteBuffer[] segments;
+
+    /**
+     * The channel of the mapped file, or null if the store is held in direct buffers.
+     */
+    private FileChannel channel;
+
+    /**
+     * Creates a store over the supplied segments. Use allocateDirect() or map() to create a store.
+     *
+     * @param size              the number of individuals
+     * @param genomeLength      the number of genes of every individual
+     * @param geneWidth         the number of bytes per gene
+     * @param recordsPerSegment the number of records held by every segment but the last
+     * @param segments          the buffers holding the records
+     * @param channel           the channel of the mapped file, or null
+     */
+    private PopulationStore(int size, int genomeLength, GeneWidth geneWidth, int recordsPerSegment,
+                            ByteBuffer[] segments, FileChannel channel) {
+        this.size = size;
+        this.genomeLength = genomeLength;
+        this.geneWidth = geneWidth;
+        this.stride = stride(genomeLength, geneWidth);
+        this.recordsPerSegment = recordsPerSegment;
+        this.segments = segments;
+        this.channel = channel;
+    }
+
+    /**
+     * Creates a store of the supplied size in direct ByteBuffers. Every gene is zero and no fitness score is valid.
+     *
+     * @param size         the number of individuals
+     * @param genomeLength the number of genes of every individual
+     * @param geneWidth    the number of bytes per gene
+     * @return a new store outside the heap
+     */
+    public static PopulationStore allocateDirect(int size, int genomeLength, GeneWidth geneWidth) {
+        checkLayout(size, genomeLength, geneWidth);
+
+        int stride = stride(genomeLength, geneWidth);
+        int recordsPerSegment = recordsPerSegment(size, stride);
+        ByteBuffer[] segments = new ByteBuffer[segmentCount(size, recordsPerSegment)];
+        for (int segment = 0; segment < segments.length; segment++) {
+            int records = Math.min(recordsPerSegment, size - segment * recordsPerSegment);
+            segments[segment] = ByteBuffer.allocateDirect(records * stride).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        PopulationStore store = new PopulationStore(size, genomeLength, geneWidth, recordsPerSegment, segments, null);
+        store.invalidateFrom(0);
+
+        return store;
+    }
+
+    /**
+     * Creates a store of the supplied size backed by a memory-mapped file, creating the file if it does not exist.
+     * Records already held by the file are kept, so a store written with the same layout can be reopened. Records past
+     * the end of the file have zero genes and no valid fitness score. The file's contents are only guaranteed to be on
+     * disk after force() or close().
+     *
+     * @param file         the file holding the records
+     * @param size         the number of individuals
+     * @param genomeLength the number of genes of every individual
+     * @param geneWidth    the number of bytes per gene
+     * @return a new store mapped onto the file
+     * @throws IOException if the file cannot be opened, resized or mapped
+     */
+    public static PopulationStore map(Path file, int size, int genomeLength, GeneWidth geneWidth)
+            throws IOException {
+
+        if (file == null)
+            throw new IllegalArgumentException("File Cannot Be Null");
+
+        checkLayout(size, genomeLength, geneWidth);
+
+        int stride = stride(genomeLength, geneWidth);
+        int recordsPerSegment = recordsPerSegment(size, stride);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        try {
+            long existingRecords = Math.min(size, channel.size() / stride);
+            ByteBuffer[] segments = new ByteBuffer[segmentCount(size, recordsPerSegment)];
+            for (int segment = 0; segment < segments.length; segment++) {
+                int records = Math.min(recordsPerSegment, size - segment * recordsPerSegment);
+                long position = (long) segment * recordsPerSegment * stride;
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position,
+                        (long) records * stride);
+                segments[segment] = buffer.order(ByteOrder.LITTLE_ENDIAN);
+            }
+
+            PopulationStore store = new PopulationStore(size, genomeLength, geneWidth, recordsPerSegment, segments,
+                    channel);
+            store.invalidateFrom((int) existingRecords);
+
+            return store;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of individuals in the store.
+     *
+     * @return the population size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of genes of every individual.
+     *
+     * @return the genome length
+     */
+    public int getGenomeLength() {
+        return genomeLength;
+    }
+
+    /**
+     * Returns the number of bytes used to hold each gene.
+     *
+     * @return the gene width
+     */
+    public GeneWidth getGeneWidth() {
+        return geneWidth;
+    }
+
+    /**
+     * Returns the number of bytes taken by every record, including its fitness score and padding.
+     *
+     * @return the record stride in bytes
+     */
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * Returns whether the store is backed by a memory-mapped file.
+     *
+     * @return true if the store was created by map()
+     */
+    public boolean isMapped() {
+        return channel != null;
+    }
+
+    /**
+     * Returns a single gene of an individual.
+     *
+     * @param index the index of the individual
+     * @param gene  the position of the gene
+     * @return the gene's value
+     */
+    public int getGene(int index, int gene) {
+        return readGene(segment(index), geneOffset(index, checkGene(gene)));
+    }
+
+    /**
+     * Changes a single gene of an individual and marks its fitness score out of date.
+     *
+     * @param index the index of the individual
+     * @param gene  the position of the gene
+     * @param value the gene's new value, which must fit the store's gene width
+     */
+    public void setGene(int index, int gene, int value) {
+        ByteBuffer segment = segment(index);
+        writeGene(segment, geneOffset(index, checkGene(gene)), checkValue(value));
+        segment.putDouble(recordOffset(index), Double.NaN);
+    }
+
+    /**
+     * Copies an individual's genes into the supplied array.
+     *
+     * @param index  the index of the individual
+     * @param target the array the genes are copied into
+     * @param offset the position in the array of the first gene
+     */
+    public void readGenes(int index, int[] target, int offset) {
+
+        if (target == null || offset < 0 || offset > target.length - genomeLength)
+            throw new IllegalArgumentException("Target Array Cannot Hold The Genome At The Offset");
+
+        ByteBuffer segment = segment(index);
+        int position = geneOffset(index, 0);
+        int width = geneWidth.getBytes();
+        for (int gene = 0; gene < genomeLength; gene++)
+            target[offset + gene] = readGene(segment, position + gene * width);
+    }
+
+    /**
+     * Replaces an individual's genes with genes from the supplied array and marks its fitness score out of date.
+     *
+     * @param index  the index of the individual
+     * @param source the array holding the new genes
+     * @param offset the position in the array of the first gene
+     */
+    public void writeGenes(int index, int[] source, int offset) {
+
+        if (source == null || offset < 0 || offset > source.length - genomeLength)
+            throw new IllegalArgumentException("Source Array Does Not Hold A Genome At The Offset");
+
+        for (int gene = 0; gene < genomeLength; gene++)
+            checkValue(source[offset + gene]);
+
+        ByteBuffer segment = segment(index);
+        int position = geneOffset(index, 0);
+        int width = geneWidth.getBytes();
+        for (int gene = 0; gene < genomeLength; gene++)
+            writeGene(segment, position + gene * width, source[offset + gene]);
+
+        segment.putDouble(recordOffset(index), Double.NaN);
+    }
+
+    /**
+     * Returns the fitness score of an individual. The score is NaN if it is not valid.
+     *
+     * @param index the index of the individual
+     * @return the individual's fitness score
+     */
+    public double getFitness(int index) {
+        return segment(index).getDouble(recordOffset(index));
+    }
+
+    /**
+     * Assigns a fitness score to an individual.
+     *
+     * @param index   the index of the individual
+     * @param fitness the individual's calculated fitness score
+     */
+    public void setFitness(int index, double fitness) {
+
+        // Catch NaN Or Infinity
+        if (!Double.isFinite(fitness))
+            throw new IllegalArgumentException("Fitness Cannot Be NaN or Infinite: " + fitness + " was found");
+
+        segment(index).putDouble(recordOffset(index), fitness);
+    }
+
+    /**
+     * Returns whether an individual's fitness score was assigned after its genes last changed.
+     *
+     * @param index the index of the individual
+     * @return true if the fitness score matches the current genes
+     */
+    public boolean isFitnessValid(int index) {
+        return !Double.isNaN(getFitness(index));
+    }
+
+    /**
+     * Marks an individual's fitness score as out of date.
+     *
+     * @param index the index of the individual
+     */
+    public void invalidateFitness(int index) {
+        segment(index).putDouble(recordOffset(index), Double.NaN);
+    }
+
+    /**
+     * Copies a run of individuals, starting at the supplied index, into a PrimitivePopulation. The chunk's size sets
+     * the number of individuals copied. Genes and fitness scores are copied, so work can be done on the chunk with
+     * the PrimitivePopulation methods and written back with store().
+     *
+     * @param from  the index of the first individual to copy
+     * @param chunk the population the individuals are copied into
+     */
+    public void load(int from, IntPopulation chunk) {
+        checkChunk(from, chunk);
+
+        int[] genes = chunk.getGenes();
+        for (int i = 0; i < chunk.size(); i++) {
+            readGenes(from + i, genes, i * genomeLength);
+
+            double fitness = getFitness(from + i);
+            if (Double.isNaN(fitness))
+                chunk.invalidateFitness(i);
+            else
+                chunk.setFitness(i, fitness);
+        }
+    }
+
+    /**
+     * Copies every individual of a PrimitivePopulation into the store, starting at the supplied index. Genes and
+     * fitness scores are copied; individuals whose fitness is not valid in the chunk are not valid in the store.
+     *
+     * @param from  the index of the first individual to copy into
+     * @param chunk the population the individuals are copied from
+     */
+    public void store(int from, IntPopulation chunk) {
+        checkChunk(from, chunk);
+
+        int[] genes = chunk.getGenes();
+        for (int i = 0; i < chunk.size(); i++) {
+            writeGenes(from + i, genes, i * genomeLength);
+            if (chunk.isFitnessValid(i))
+                setFitness(from + i, chunk.getFitness(i));
+        }
+    }
+
+    /**
+     * Scores every individual whose fitness is not valid with the supplied batch fitness function. The store is
+     * scored in chunks of IBatchFitnessFunction.BATCH_SIZE individuals; each chunk's genes are copied into an int
+     * array, scored in one call and the scores written back. Chunks whose scores are all valid are skipped. Chunks run
+     * in parallel or one after another.
+     *
+     * @param function  the batch fitness function for int genes
+     * @param execution sequentially or in parallel
+     */
+    public void score(IBatchFitnessFunction<int[]> function, Execution execution) {
+
+        if (function == null)
+            throw new IllegalArgumentException("Fitness Function Cannot Be Null");
+
+        if (function.getGenomeLength() != genomeLength)
+            throw new IllegalArgumentException("Genome Length Does Not Match The Fitness Function");
+
+        int batchSize = IBatchFitnessFunction.BATCH_SIZE;
+        IntStream batches = IntStream.range(0, (size + batchSize - 1) / batchSize);
+        if (execution == Execution.PARALLEL)
+            batches = batches.parallel();
+
+        batches.forEach(batch -> {
+            int from = batch * batchSize;
+            int to = Math.min(size, from + batchSize);
+            int invalid = from;
+            while (invalid < to && isFitnessValid(invalid))
+                invalid++;
+
+            if (invalid == to)
+                return;
+
+            int[] genes = new int[(to - from) * genomeLength];
+            double[] fitness = new double[to - from];
+
+            for (int i = from; i < to; i++)
+                readGenes(i, genes, (i - from) * genomeLength);
+
+            function.score(genes, 0, to - from, fitness);
+
+            for (int i = from; i < to; i++) {
+                if (!isFitnessValid(i))
+                    setFitness(i, fitness[i - from]);
+            }
+        });
+    }
+
+    /**
+     * Splits the store into chunks of RandomStreams.CHUNK_SIZE individuals and runs the task on every chunk in
+     * parallel. Each chunk is given its own random number stream seeded from the supplied Random, so the results only
+     * depend on the Random and not on the number of threads.
+     *
+     * @param random used to seed the random number streams
+     * @param task   the work done on each chunk
+     */
+    public void forEachChunk(Random random, IRandomChunkTask task) {
+
+        if (random == null)
+            throw new IllegalArgumentException("Random Object Cannot Be Null");
+
+        RandomStreams.from(random).forEachChunk(size, task);
+    }
+
+    /**
+     * Picks count individuals by tournament selection and returns their indices. Each pick draws tournamentSize
+     * individuals at random, with replacement, and keeps the one with the best fitness score. Ties go to the one drawn
+     * first. Every fitness score must be valid.
+     *
+     * @param count          the number of individuals to pick
+     * @param tournamentSize the number of individuals in each tournament
+     * @param minimization   whether lower fitness scores are better
+     * @param random         used to seed the random number streams
+     * @return the indices of the winners of count tournaments
+     */
+    public int[] tournament(int count, int tournamentSize, boolean minimization, Random random) {
+
+        if (size == 0)
+            throw new IllegalArgumentException("Population Cannot Be Empty");
+
+        if (count < 0)
+            throw new IllegalArgumentException("Count Cannot Be Negative");
+
+        if (tournamentSize < 1)
+            throw new IllegalArgumentException("Tournament Size Must Be Greater Than Zero");
+
+        if (random == null)
+            throw new IllegalArgumentException("Random Object Cannot Be Null");
+
+        int[] winners = new int[count];
+        RandomStreams.from(random).forEachChunk(count, (from, to, stream) -> {
+            for (int i = from; i < to; i++) {
+                int winner = stream.nextInt(size);
+                double winnerFitness = getFitness(winner);
+
+                for (int round = 1; round < tournamentSize; round++) {
+                    int challenger = stream.nextInt(size);
+                    double fitness = getFitness(challenger);
+                    if (minimization ? fitness < winnerFitness : fitness > winnerFitness) {
+                        winner = challenger;
+                        winnerFitness = fitness;
+                    }
+                }
+
+                winners[i] = winner;
+            }
+        });
+
+        return winners;
+    }
+
+    /**
+     * Fills the offspring store by single point crossover of the supplied parents. Offspring i takes the genes before
+     * a random cross point from parent 2i and the rest from parent 2i + 1, wrapping around the parent indices. Every
+     * offspring's fitness score is marked out of date.
+     *
+     * @param parents   the indices of the parents in this store, for example from tournament()
+     * @param offspring the store the offspring are written into, with the same genome length and gene width
+     * @param random    used to seed the random number streams
+     */
+    public void crossover(int[] parents, PopulationStore offspring, Random random) {
+
+        if (parents == null || parents.length == 0)
+            throw new IllegalArgumentException("Parents Cannot Be Null Or Empty");
+
+        if (offspring == this)
+            throw new IllegalArgumentException("Offspring Store Cannot Be The Parent Store");
+
+        checkTarget(offspring);
+
+        if (random == null)
+            throw new IllegalArgumentException("Random Object Cannot Be Null");
+
+        RandomStreams.from(random).forEachChunk(offspring.size, (from, to, stream) -> {
+            for (int i = from; i < to; i++) {
+                int first = parents[(int) ((2L * i) % parents.length)];
+                int second = parents[(int) ((2L * i + 1) % parents.length)];
+                int crossPoint = stream.nextInt(genomeLength + 1);
+
+                copyGenes(first, 0, offspring, i, crossPoint);
+                copyGenes(second, crossPoint, offspring, i, genomeLength - crossPoint);
+            }
+        });
+    }
+
+    /**
+     * Finds the index of the best individual. If several individuals share the best fitness score, the first of them
+     * is returned. Individuals whose fitness is not valid are never the best.
+     *
+     * @param minimization whether lower fitness scores are better
+     * @return the index of the best individual
+     */
+    public int bestIndex(boolean minimization) {
+
+        if (size == 0)
+            throw new IllegalArgumentException("Population Cannot Be Empty");
+
+        int best = 0;
+        double bestFitness = getFitness(0);
+        for (int i = 1; i < size; i++) {
+            double fitness = getFitness(i);
+            if (Double.isNaN(bestFitness) || (minimization ? fitness < bestFitness : fitness > bestFitness)) {
+                best = i;
+                bestFitness = fitness;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Copies a run of genes of an individual into the same positions of an individual of the target store, which may
+     * be this store. The target individual's fitness score is marked out of date.
+     *
+     * @param index       the index of the individual to copy from
+     * @param fromGene    the position of the first gene to copy
+     * @param target      the store to copy into
+     * @param targetIndex the index of the individual to copy into
+     * @param length      the number of genes to copy
+     */
+    public void copyGenes(int index, int fromGene, PopulationStore target, int targetIndex, int length) {
+        checkTarget(target);
+
+        if (fromGene < 0 || length < 0 || fromGene > genomeLength - length)
+            throw new IndexOutOfBoundsException("Genes: " + fromGene + " To " + (fromGene + length)
+                    + ", Genome Length: " + genomeLength);
+
+        ByteBuffer source = segment(index);
+        ByteBuffer destination = target.segment(targetIndex);
+        int sourcePosition = geneOffset(index, fromGene);
+        int targetPosition = target.geneOffset(targetIndex, fromGene);
+        int bytes = length * geneWidth.getBytes();
+
+        int copied = 0;
+        for (; copied + Long.BYTES <= bytes; copied += Long.BYTES)
+            destination.putLong(targetPosition + copied, source.getLong(sourcePosition + copied));
+        for (; copied < bytes; copied++)
+            destination.put(targetPosition + copied, source.get(sourcePosition + copied));
+
+        destination.putDouble(target.recordOffset(targetIndex), Double.NaN);
+    }
+
+    /**
+     * Copies an individual's genes and fitness score into an individual of the target store, which may be this store.
+     * Used to carry individuals such as elites into the next generation.
+     *
+     * @param index       the index of the individual to copy from
+     * @param target      the store to copy into
+     * @param targetIndex the index of the individual to copy into
+     */
+    public void copyIndividual(int index, PopulationStore target, int targetIndex) {
+        double fitness = getFitness(index);
+        copyGenes(index, 0, target, targetIndex, genomeLength);
+        target.segment(targetIndex).putDouble(target.recordOffset(targetIndex), fitness);
+    }
+
+    /**
+     * Writes any changes to a mapped store's file to disk. Does nothing for a store in direct buffers.
+     */
+    public void force() {
+        if (channel == null)
+            return;
+
+        for (ByteBuffer segment : segments)
+            ((MappedByteBuffer) segment).force();
+    }
+
+    /**
+     * Writes a mapped store's changes to disk and closes its file. The memory of the buffers is released once the
+     * store is no longer reachable, as Java 8 has no way to release it sooner. The store must not be used afterwards.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel == null)
+            return;
+
+        force();
+        channel.close();
+    }
+
+    /**
+     * Returns the segment holding an individual's record.
+     *
+     * @param index the index of the individual
+     * @return the buffer holding the record
+     */
+    private ByteBuffer segment(int index) {
+
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+        return segments[index / recordsPerSegment];
+    }
+
+    /**
+     * Returns the position of an individual's record within its segment.
+     *
+     * @param index the index of the individual
+     * @return the offset of the record's fitness score
+     */
+    private int recordOffset(int index) {
+        return (index % recordsPerSegment) * stride;
+    }
+
+    /**
+     * Returns the position of one of an individual's genes within its segment.
+     *
+     * @param index the index of the individual
+     * @param gene  the position of the gene
+     * @return the offset of the gene
+     */
+    private int geneOffset(int index, int gene) {
+        return recordOffset(index) + FITNESS_BYTES + gene * geneWidth.getBytes();
+    }
+
+    /**
+     * Reads a gene at the supplied position of a segment.
+     *
+     * @param segment  the buffer holding the gene
+     * @param position the offset of the gene
+     * @return the gene's value
+     */
+    private int readGene(ByteBuffer segment, int position) {
+        switch (geneWidth) {
+            case BYTE:
+                return segment.get(position);
+            case SHORT:
+                return segment.getShort(position);
+            default:
+                return segment.getInt(position);
+        }
+    }
+
+    /**
+     * Writes a gene at the supplied position of a segment.
+     *
+     * @param segment  the buffer holding the gene
+     * @param position the offset of the gene
+     * @param value    the gene's value
+     */
+    private void writeGene(ByteBuffer segment, int position, int value) {
+        switch (geneWidth) {
+            case BYTE:
+                segment.put(position, (byte) value);
+                break;
+            case SHORT:
+                segment.putShort(position, (short) value);
+                break;
+            default:
+                segment.putInt(position, value);
+        }
+    }
+
+    /**
+     * Marks the fitness score of every individual from the supplied index onwards as not valid.
+     *
+     * @param from the index of the first individual
+     */
+    private void invalidateFrom(int from) {
+        for (int i = from; i < size; i++)
+            invalidateFitness(i);
+    }
+
+    /**
+     * Checks that a gene position is inside the genome.
+     *
+     * @param gene the position of the gene
+     * @return the position
+     */
+    private int checkGene(int gene) {
+
+        if (gene < 0 || gene >= genomeLength)
+            throw new IndexOutOfBoundsException("Gene: " + gene + ", Genome Length: " + genomeLength);
+
+        return gene;
+    }
+
+    /**
+     * Checks that a gene value can be held in the store's gene width.
+     *
+     * @param value the gene's value
+     * @return the value
+     */
+    private int checkValue(int value) {
+
+        if ((geneWidth == GeneWidth.BYTE && value != (byte) value)
+                || (geneWidth == GeneWidth.SHORT && value != (short) value))
+            throw new IllegalArgumentException("Gene Value Does Not Fit The Gene Width: " + value + " was found");
+
+        return value;
+    }
+
+    /**
+     * Checks that a chunk has this store's genome length and fits inside the store at the supplied index.
+     *
+     * @param from  the index of the first individual
+     * @param chunk the chunk
+     */
+    private void checkChunk(int from, IntPopulation chunk) {
+
+        if (chunk == null || chunk.getGenomeLength() != genomeLength)
+            throw new IllegalArgumentException("Chunk Must Have The Same Genome Length");
+
+        if (from < 0 || from > size - chunk.size())
+            throw new IndexOutOfBoundsException("Chunk: " + from + " To " + (from + chunk.size()) + ", Size: " + size);
+    }
+
+    /**
+     * Checks that a target store has this store's record layout.
+     *
+     * @param target the target store
+     */
+    private void checkTarget(PopulationStore target) {
+        if (target == null || target.genomeLength != genomeLength || target.geneWidth != geneWidth)
+            throw new IllegalArgumentException("Target Store Must Have The Same Genome Length And Gene Width");
+    }
+
+    /**
+     * Checks the layout of a new store.
+     *
+     * @param size         the number of individuals
+     * @param genomeLength the number of genes of every individual
+     * @param geneWidth    the number of bytes per gene
+     */
+    private static void checkLayout(int size, int genomeLength, GeneWidth geneWidth) {
+
+        if (size < 0)
+            throw new IllegalArgumentException("Population Size Cannot Be Negative");
+
+        if (genomeLength < 1)
+            throw new IllegalArgumentException("Genome Length Must Be Greater Than Zero");
+
+        if (geneWidth == null)
+            throw new IllegalArgumentException("Gene Width Cannot Be Null");
+
+        if ((long) genomeLength * geneWidth.getBytes() > Integer.MAX_VALUE - 2 * FITNESS_BYTES)
+            throw new IllegalArgumentException("Genome Is Too Large For A Single Record");
+    }
+
+    /**
+     * Returns the number of bytes per record, the fitness score and genes padded to a multiple of eight bytes.
+     *
+     * @param genomeLength the number of genes of every individual
+     * @param geneWidth    the number of bytes per gene
+     * @return the record stride in bytes
+     */
+    private static int stride(int genomeLength, GeneWidth geneWidth) {
+        long bytes = FITNESS_BYTES + (long) genomeLength * geneWidth.getBytes();
+
+        return (int) ((bytes + 7) & ~7L);
+    }
+
+    /**
+     * Returns the number of records held by each segment, as many as fit in a single ByteBuffer.
+     *
+     * @param size   the number of individuals
+     * @param stride the number of bytes per record
+     * @return the records per segment, at least one
+     */
+    private static int recordsPerSegment(int size, int stride) {
+        return Math.max(1, Math.min(size, Integer.MAX_VALUE / stride));
+    }
+
+    /**
+     * Returns the number of segments needed to hold the supplied number of records.
+     *
+     * @param size              the number of individuals
+     * @param recordsPerSegment the number of records held by each segment
+     * @return the number of segments
+     */
+    private static int segmentCount(int size, int recordsPerSegment) {
+        return (size + recordsPerSegment - 1) / recordsPerSegment;
+    }
+
+}
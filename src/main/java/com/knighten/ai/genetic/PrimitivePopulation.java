@@ -0,0 +1,259 @@
+package com.knighten.ai.genetic;
+
+import com.knighten.ai.genetic.interfaces.IBatchFitnessFunction;
+
+import java.util.Arrays;
+
+/**
+ * A population stored as columns of primitives instead of a list of Individual objects. The genes of every individual
+ * are kept back to back in one primitive array, genomeLength genes to an individual, and the fitness scores in a
+ * parallel double array. There are no object headers or references per individual, so a population takes little more
+ * memory than its genes, and passes over it read memory in order.
+ * <p>
+ * The gene array can be handed straight to an IBatchFitnessFunction. Individual objects are only created when asked
+ * for with toIndividual(), as copies.
+ *
+ * @param <G> the type of the primitive gene array, for example int[], double[] or byte[]
+ */
+public abstract class PrimitivePopulation<G> {
+
+    /**
+     * The number of individuals in the population.
+     */
+    private int size;
+
+    /**
+     * The number of genes of every individual.
+     */
+    private int genomeLength;
+
+    /**
+     * The fitness score of every individual.
+     */
+    private double[] fitness;
+
+    /**
+     * Whether the fitness score of every individual was assigned after its genes last changed.
+     */
+    private boolean[] fitnessValid;
+
+    /**
+     * Creates the fitness columns of a population of the supplied size. Subclasses create the gene array.
+     *
+     * @param size         the number of individuals
+     * @param genomeLength the number of genes of every individual
+     */
+    protected PrimitivePopulation(int size, int genomeLength) {
+
+        if (size < 0)
+            throw new IllegalArgumentException("Population Size Cannot Be Negative");
+
+        if (genomeLength < 1)
+            throw new IllegalArgumentException("Genome Length Must Be Greater Than Zero");
+
+        if ((long) size * genomeLength > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("Population Is Too Large For A Single Array");
+
+        this.size = size;
+        this.genomeLength = genomeLength;
+        this.fitness = new double[size];
+        this.fitnessValid = new boolean[size];
+    }
+
+    /**
+     * Returns the array holding the genes of every individual back to back. Changes made to the array directly do not
+     * mark fitness scores out of date.
+     *
+     * @return the gene array
+     */
+    public abstract G getGenes();
+
+    /**
+     * Returns the number of individuals in the population.
+     *
+     * @return the population size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of genes of every individual.
+     *
+     * @return the genome length
+     */
+    public int getGenomeLength() {
+        return genomeLength;
+    }
+
+    /**
+     * Returns the fitness score of an individual.
+     *
+     * @param index the index of the individual
+     * @return the individual's fitness score
+     */
+    public double getFitness(int index) {
+        return fitness[index];
+    }
+
+    /**
+     * Assigns a fitness score to an individual.
+     *
+     * @param index   the index of the individual
+     * @param fitness the individual's calculated fitness score
+     */
+    public void setFitness(int index, double fitness) {
+
+        // Catch NaN Or Infinity
+        if (!Double.isFinite(fitness))
+            throw new IllegalArgumentException("Fitness Cannot Be NaN or Infinite: " + fitness + " was found");
+
+        this.fitness[index] = fitness;
+        this.fitnessValid[index] = true;
+    }
+
+    /**
+     * Returns whether an individual's fitness score was assigned after its genes last changed.
+     *
+     * @param index the index of the individual
+     * @return true if the fitness score matches the current genes
+     */
+    public boolean isFitnessValid(int index) {
+        return fitnessValid[index];
+    }
+
+    /**
+     * Marks an individual's fitness score as out of date.
+     *
+     * @param index the index of the individual
+     */
+    public void invalidateFitness(int index) {
+        fitnessValid[index] = false;
+    }
+
+    /**
+     * Returns the array holding the fitness score of every individual. Changes made to the array directly do not mark
+     * fitness scores as valid.
+     *
+     * @return the fitness array
+     */
+    public double[] getFitnessColumn() {
+        return fitness;
+    }
+
+    /**
+     * Scores every individual with the supplied batch fitness function and marks every fitness score as valid.
+     *
+     * @param function  the batch fitness function for this population's genes
+     * @param execution sequentially or in parallel
+     */
+    public void score(IBatchFitnessFunction<G> function, Execution execution) {
+
+        if (function == null)
+            throw new IllegalArgumentException("Fitness Function Cannot Be Null");
+
+        if (function.getGenomeLength() != genomeLength)
+            throw new IllegalArgumentException("Genome Length Does Not Match The Fitness Function");
+
+        function.scoreAll(getGenes(), size, fitness, execution);
+        Arrays.fill(fitnessValid, true);
+    }
+
+    /**
+     * Finds the index of the best individual. If several individuals share the best fitness score, the first of them
+     * is returned.
+     *
+     * @param minimization whether lower fitness scores are better
+     * @return the index of the best individual
+     */
+    public int bestIndex(boolean minimization) {
+
+        if (size == 0)
+            throw new IllegalArgumentException("Population Cannot Be Empty");
+
+        int best = 0;
+        for (int i = 1; i < size; i++) {
+            if (minimization ? fitness[i] < fitness[best] : fitness[i] > fitness[best])
+                best = i;
+        }
+
+        return best;
+    }
+
+    /**
+     * Copies all genes of an individual into an individual of the target population, which may be this population.
+     * The target individual's fitness score is marked out of date.
+     *
+     * @param index       the index of the individual to copy from
+     * @param target      the population to copy into
+     * @param targetIndex the index of the individual to copy into
+     */
+    public void copyGenes(int index, PrimitivePopulation<G> target, int targetIndex) {
+        copyGenes(index, 0, target, targetIndex, genomeLength);
+    }
+
+    /**
+     * Copies a run of genes of an individual into the same positions of an individual of the target population, which
+     * may be this population. Crossover can build an offspring from two calls. The target individual's fitness score
+     * is marked out of date.
+     *
+     * @param index       the index of the individual to copy from
+     * @param fromGene    the position of the first gene to copy
+     * @param target      the population to copy into
+     * @param targetIndex the index of the individual to copy into
+     * @param length      the number of genes to copy
+     */
+    public void copyGenes(int index, int fromGene, PrimitivePopulation<G> target, int targetIndex, int length) {
+
+        if (target == null || target.genomeLength != genomeLength)
+            throw new IllegalArgumentException("Target Population Must Have The Same Genome Length");
+
+        System.arraycopy(getGenes(), offset(index) + fromGene, target.getGenes(), target.offset(targetIndex) + fromGene,
+                length);
+        target.invalidateFitness(targetIndex);
+    }
+
+    /**
+     * Copies an individual's genes and fitness score into an individual of the target population, which may be this
+     * population. Used to carry individuals such as elites into the next generation.
+     *
+     * @param index       the index of the individual to copy from
+     * @param target      the population to copy into
+     * @param targetIndex the index of the individual to copy into
+     */
+    public void copyIndividual(int index, PrimitivePopulation<G> target, int targetIndex) {
+        copyGenes(index, target, targetIndex);
+        target.fitness[targetIndex] = fitness[index];
+        target.fitnessValid[targetIndex] = fitnessValid[index];
+    }
+
+    /**
+     * Returns the position in the gene array of an individual's first gene.
+     *
+     * @param index the index of the individual
+     * @return the offset of the individual's genes
+     */
+    protected int offset(int index) {
+
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+        return index * genomeLength;
+    }
+
+    /**
+     * Copies the fitness score of an individual into a newly created Individual, if the score is valid.
+     *
+     * @param index      the index of the individual
+     * @param individual the new Individual holding a copy of the individual's genes
+     * @param <V>        the type of the new Individual's genes
+     * @return the supplied Individual
+     */
+    protected <V> Individual<V> withFitness(int index, Individual<V> individual) {
+        if (fitnessValid[index])
+            individual.setFitness(fitness[index]);
+
+        return individual;
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.knighten.ai.genetic;
+
+import com.knighten.ai.genetic.interfaces.IRandomChunkTask;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * A family of independent random number streams derived from a single seed, used by problems that draw random numbers
+ * from parallel streams. Sharing one java.util.Random between threads makes every draw contend on the same seed and
+ * makes results depend on how the work was scheduled. Instead, each chunk of work gets its own SplittableRandom whose
+ * seed is derived from the family's seed and the chunk's index.
+ * <p>
+ * Chunks always cover the same indices no matter how many threads are used, so a parallel run draws exactly the same
+ * random numbers as a sequential one and is reproducible bit for bit.
+ */
+public class RandomStreams {
+
+    /**
+     * The number of indices in each chunk handed to forEachChunk()'s task.
+     */
+    public static final int CHUNK_SIZE = 256;
+
+    /**
+     * The increment between the seeds of consecutive streams, the same one SplittableRandom uses.
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * The seed every stream is derived from.
+     */
+    private long seed;
+
+    /**
+     * Creates a family of random number streams derived from the supplied seed.
+     *
+     * @param seed the seed every stream is derived from
+     */
+    public RandomStreams(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Creates a family of random number streams seeded by the next long of the supplied Random. Problems call this
+     * once for each parallel operation, so their own Random is the only state that has to be seeded or checkpointed.
+     *
+     * @param random the Random that seeds the family
+     * @return a new family of random number streams
+     */
+    public static RandomStreams from(Random random) {
+
+        if (random == null)
+            throw new IllegalArgumentException("Random Object Cannot Be Null");
+
+        return new RandomStreams(random.nextLong());
+    }
+
+    /**
+     * Returns the stream with the supplied index. The same seed and index always give the same stream, and streams
+     * with different indices are statistically independent.
+     *
+     * @param index the index of the stream
+     * @return a new SplittableRandom for the stream
+     */
+    public SplittableRandom stream(long index) {
+        return new SplittableRandom(mix64(seed + GOLDEN_GAMMA * (index + 1)));
+    }
+
+    /**
+     * Splits the indices 0 to size - 1 into chunks of CHUNK_SIZE and runs the task on every chunk in parallel. The
+     * chunk starting at index c * CHUNK_SIZE is given stream c.
+     *
+     * @param size the number of indices
+     * @param task the work done on each chunk
+     */
+    public void forEachChunk(int size, IRandomChunkTask task) {
+        forEachChunk(size, true, task);
+    }
+
+    /**
+     * Splits the indices 0 to size - 1 into chunks of CHUNK_SIZE and runs the task on every chunk, either in parallel
+     * or one chunk after another on the calling thread. Chunks get the same streams either way, so both give the same
+     * results.
+     *
+     * @param size     the number of indices
+     * @param parallel whether chunks are run in parallel
+     * @param task     the work done on each chunk
+     */
+    public void forEachChunk(int size, boolean parallel, IRandomChunkTask task) {
+
+        if (size < 0)
+            throw new IllegalArgumentException("Size Cannot Be Negative");
+
+        if (task == null)
+            throw new IllegalArgumentException("Task Cannot Be Null");
+
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream chunkIndices = IntStream.range(0, chunks);
+        if (parallel)
+            chunkIndices = chunkIndices.parallel();
+
+        chunkIndices.forEach(chunk -> {
+            int from = chunk * CHUNK_SIZE;
+            task.run(from, Math.min(size, from + CHUNK_SIZE), stream(chunk));
+        });
+    }
+
+    /**
+     * Scrambles the bits of a seed so that nearby seeds give unrelated streams. This is the finalizer of the
+     * SplitMix64 generator SplittableRandom is based on.
+     *
+     * @param z the value to scramble
+     * @return the scrambled value
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+}
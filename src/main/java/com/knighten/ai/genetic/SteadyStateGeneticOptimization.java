@@ -0,0 +1,181 @@
+package com.knighten.ai.genetic;
+
+import com.knighten.ai.genetic.interfaces.IGenOptimizeProblem;
+import com.knighten.ai.genetic.metrics.Phase;
+import com.knighten.ai.genetic.metrics.PhaseTiming;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Performs steady-state genetic optimization. Instead of replacing the whole population every generation, each step
+ * creates replacementSize offspring and inserts them into the population in place of the worst individuals. Only the
+ * offspring have their fitness calculated.
+ * <p>
+ * The population is kept as a binary heap with the worst individual at its root, so finding and replacing the worst
+ * individual costs O(log n) and the population is never fully sorted. Parents are picked by the problem's crossover()
+ * from the whole population; selection pressure comes from offspring only surviving if they are better than the worst
+ * individual. Each step counts as one generation when comparing against the max number of generations.
+ * <p>
+ * Generation listeners are called after every step. The summary's statistics are kept up to date as individuals are
+ * replaced, so they cost O(1) per step rather than a pass over the population.
+ */
+public class SteadyStateGeneticOptimization extends GeneticOptimization {
+
+    /**
+     * Creates an instance of SteadyStateGeneticOptimization solving the supplied problem using the supplied parameters.
+     *
+     * @param problem the problem to be optimized
+     * @param params  optimization parameters, including the replacement size
+     */
+    public SteadyStateGeneticOptimization(IGenOptimizeProblem problem, GeneticOptimizationParams params) {
+        super(problem, params);
+    }
+
+    /**
+     * Starts the optimization process and returns a list of best individuals created. The list contains the best
+     * individual of the initial population followed by the best individual in the population after each step, limited
+     * to the history size's most recent steps.
+     *
+     * @return a list of the top individual after each step
+     */
+    @Override
+    public List<Individual> optimize() {
+        IGenOptimizeProblem<Individual> problem = getProblem();
+        GeneticOptimizationParams params = getParams();
+
+        Comparator<Individual> ascending = Individual::compareTo;
+        Comparator<Individual> bestFirst = problem.isMinimization() ? ascending : ascending.reversed();
+        Comparator<Individual> worstFirst = bestFirst.reversed();
+        int replacementSize = Math.min(params.getReplacementSize(), params.getPopulationSize());
+
+        Deque<Individual> bestInGenerations = new ArrayDeque<>();
+        prepareRun();
+
+        List<Individual> population = new ArrayList<>(initialPopulation());
+        addEvaluations(population.size());
+        PhaseTiming start = phaseStart();
+        Individual best = problem.getBestIndividual(population);
+        phaseEnd(Phase.BEST_INDIVIDUAL, start);
+        recordBest(bestInGenerations, 0, best);
+
+        double fitnessSum = 0.0;
+        for (Individual individual : population)
+            fitnessSum += individual.getFitness();
+
+        heapify(population, worstFirst);
+        notifyStep(0, best, population, fitnessSum);
+
+        // Start Steps
+        int step = 0;
+        while (step != params.getMaxGenerations() && !isStopRequested() && !isTerminated(step, best)) {
+            step++;
+            start = phaseStart();
+            List<Individual> offspring = problem.crossover(population, replacementSize);
+            phaseEnd(Phase.CROSSOVER, start);
+
+            start = phaseStart();
+            problem.mutate(offspring, params.getMutationProb());
+            phaseEnd(Phase.MUTATION, start);
+
+            start = phaseStart();
+            problem.calculateFitness(offspring);
+            phaseEnd(Phase.FITNESS, start);
+            addEvaluations(offspring.size());
+
+            for (Individual child : offspring) {
+                // Root Of The Heap Is The Worst Individual
+                if (worstFirst.compare(child, population.get(0)) <= 0)
+                    continue;
+
+                fitnessSum += child.getFitness() - population.get(0).getFitness();
+                population.set(0, child);
+                siftDown(population, 0, worstFirst);
+
+                if (bestFirst.compare(child, best) < 0)
+                    best = child;
+            }
+
+            recordBest(bestInGenerations, step, best);
+            notifyStep(step, best, population, fitnessSum);
+
+            if (best.getFitness() == params.getTargetValue())
+                break;
+        }
+
+        return new ArrayList<>(bestInGenerations);
+    }
+
+    /**
+     * Checkpoints are not supported since this optimizer runs its own loop instead of the one in GeneticOptimization.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean supportsCheckpoints() {
+        return false;
+    }
+
+    /**
+     * Sends a summary of the population after a step to the generation listeners, if any are registered. The smallest
+     * and largest fitness scores are the best individual and the heap's root, in the order set by the problem's
+     * fitness direction.
+     *
+     * @param step       the index of the step
+     * @param best       the best individual in the population
+     * @param heap       the population, with the worst individual at its root
+     * @param fitnessSum the sum of the population's fitness scores
+     */
+    private void notifyStep(int step, Individual best, List<Individual> heap, double fitnessSum) {
+        if (!hasGenerationListeners())
+            return;
+
+        double worst = heap.get(0).getFitness();
+        double min = Math.min(best.getFitness(), worst);
+        double max = Math.max(best.getFitness(), worst);
+        notifyGenerationListeners(new GenerationSummary(step, best, heap.size(), min, max, fitnessSum / heap.size()));
+    }
+
+    /**
+     * Rearranges the population into a binary heap whose root is the first individual in the comparator's order.
+     *
+     * @param heap       the population to rearrange
+     * @param comparator the order of the heap
+     */
+    private static void heapify(List<Individual> heap, Comparator<Individual> comparator) {
+        for (int index = heap.size() / 2 - 1; index >= 0; index--)
+            siftDown(heap, index, comparator);
+    }
+
+    /**
+     * Moves the individual at the supplied index down the heap until both of its children come after it in the
+     * comparator's order.
+     *
+     * @param heap       the heap
+     * @param index      the index of the individual to move
+     * @param comparator the order of the heap
+     */
+    private static void siftDown(List<Individual> heap, int index, Comparator<Individual> comparator) {
+        Individual individual = heap.get(index);
+        int half = heap.size() / 2;
+
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < heap.size() && comparator.compare(heap.get(right), heap.get(child)) < 0)
+                child = right;
+
+            if (comparator.compare(individual, heap.get(child)) <= 0)
+                break;
+
+            heap.set(index, heap.get(child));
+            index = child;
+        }
+
+        heap.set(index, individual);
+    }
+
+}
@@ -0,0 +1,247 @@
+package com.knighten.ai.genetic;
+
+import com.knighten.ai.genetic.interfaces.IBatchFitnessFunction;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Performs genetic optimization on populations held in a pair of PopulationStores instead of Lists of individuals, for
+ * populations too large for the Java heap. Genomes are fixed length runs of int genes, each from 0 to geneBound - 1,
+ * such as n queens boards. Every step of a generation works through the stores chunk by chunk:
+ * <ol>
+ * <li>the population is scored with an IBatchFitnessFunction by PopulationStore.score()</li>
+ * <li>parents are picked by PopulationStore.tournament()</li>
+ * <li>offspring are written into the other store by PopulationStore.crossover()</li>
+ * <li>each gene of the offspring is replaced by a random value with a probability of the mutation probability, in
+ * chunks run by PopulationStore.forEachChunk()</li>
+ * </ol>
+ * The stores then swap roles, so no individual is ever allocated on the heap; only the best individual of each
+ * generation is copied out. Every random number comes from RandomStreams seeded by the optimizer's Random object, so a
+ * seeded run gives the same results however many threads the chunks run on.
+ * <p>
+ * The population size, max generations, mutation probability, target value and history size of the parameters are
+ * used. Selection pressure comes from the tournament size instead of the selection percentage, and elitism,
+ * termination conditions and the other parameters are not used.
+ */
+public class StoreGeneticOptimization {
+
+    /**
+     * Scores the genomes of the population.
+     */
+    private IBatchFitnessFunction<int[]> fitnessFunction;
+
+    /**
+     * Genes hold the values 0 to geneBound - 1.
+     */
+    private int geneBound;
+
+    /**
+     * Whether lower fitness scores are better.
+     */
+    private boolean minimization;
+
+    /**
+     * Parameters used by the optimizer.
+     */
+    private GeneticOptimizationParams params;
+
+    /**
+     * Used to seed the random number streams of every generation. Allows the use of a seed.
+     */
+    private Random random;
+
+    /**
+     * The number of individuals in each tournament used to pick parents.
+     */
+    private int tournamentSize = 3;
+
+    /**
+     * The store holding the last generation of the most recent run, null before the first run.
+     */
+    private PopulationStore lastPopulation;
+
+    /**
+     * Creates an instance of StoreGeneticOptimization for genomes scored by the supplied batch fitness function.
+     *
+     * @param fitnessFunction scores the genomes, its genome length must match the stores'
+     * @param geneBound       genes hold the values 0 to geneBound - 1, which must fit the stores' gene width
+     * @param minimization    whether lower fitness scores are better
+     * @param params          optimization parameters
+     * @param random          used to seed the random number streams
+     */
+    public StoreGeneticOptimization(IBatchFitnessFunction<int[]> fitnessFunction, int geneBound, boolean minimization,
+                                    GeneticOptimizationParams params, Random random) {
+
+        if (fitnessFunction == null)
+            throw new IllegalArgumentException("Fitness Function Cannot Be Null");
+
+        if (geneBound < 1)
+            throw new IllegalArgumentException("Gene Bound Must Be Greater Than Zero");
+
+        if (params == null)
+            throw new IllegalArgumentException("Optimization Parameters Cannot Be null");
+
+        if (random == null)
+            throw new IllegalArgumentException("Random Object Cannot Be Null");
+
+        this.fitnessFunction = fitnessFunction;
+        this.geneBound = geneBound;
+        this.minimization = minimization;
+        this.params = params;
+        this.random = random;
+    }
+
+    /**
+     * Runs the optimization on the supplied stores and returns the best individual of each generation, limited to the
+     * history size's most recent generations. The population store is filled with a random initial population; the
+     * stores then take turns holding the current generation. Both stores stay open and belong to the caller, and
+     * getLastPopulation() tells which one holds the last generation.
+     *
+     * @param population a store for the initial population, with a size equal to the population size
+     * @param offspring  a second store with the same size, genome length and gene width
+     * @return the best individual of each generation, holding a copy of its genes as an int[]
+     */
+    public List<Individual> optimize(PopulationStore population, PopulationStore offspring) {
+
+        if (population == null || offspring == null)
+            throw new IllegalArgumentException("Population Stores Cannot Be Null");
+
+        if (population == offspring)
+            throw new IllegalArgumentException("Offspring Store Cannot Be The Population Store");
+
+        if (population.size() != params.getPopulationSize() || offspring.size() != params.getPopulationSize())
+            throw new IllegalArgumentException("Store Sizes Must Match The Population Size");
+
+        if (population.getGenomeLength() != fitnessFunction.getGenomeLength()
+                || offspring.getGenomeLength() != fitnessFunction.getGenomeLength())
+            throw new IllegalArgumentException("Genome Length Does Not Match The Fitness Function");
+
+        Deque<Individual> bestInGenerations = new ArrayDeque<>();
+
+        randomize(population);
+        population.score(fitnessFunction, Execution.PARALLEL);
+        Individual best = record(bestInGenerations, population);
+
+        int generation = 0;
+        while (generation != params.getMaxGenerations() && best.getFitness() != params.getTargetValue()) {
+            generation++;
+
+            int[] parents = population.tournament(2 * population.size(), tournamentSize, minimization, random);
+            population.crossover(parents, offspring, random);
+            mutate(offspring);
+            offspring.score(fitnessFunction, Execution.PARALLEL);
+
+            PopulationStore swap = population;
+            population = offspring;
+            offspring = swap;
+
+            best = record(bestInGenerations, population);
+        }
+
+        lastPopulation = population;
+
+        return new ArrayList<>(bestInGenerations);
+    }
+
+    /**
+     * Fills the store with random genes from 0 to geneBound - 1 and marks every fitness score out of date.
+     *
+     * @param store the store to fill
+     */
+    private void randomize(PopulationStore store) {
+        store.forEachChunk(random, (from, to, stream) -> {
+            for (int i = from; i < to; i++) {
+                for (int gene = 0; gene < store.getGenomeLength(); gene++)
+                    store.setGene(i, gene, stream.nextInt(geneBound));
+                store.invalidateFitness(i);
+            }
+        });
+    }
+
+    /**
+     * Replaces each gene of the store with a random value from 0 to geneBound - 1 with a probability of the mutation
+     * probability. Mutated individuals have their fitness scores marked out of date.
+     *
+     * @param store the store to mutate
+     */
+    private void mutate(PopulationStore store) {
+        double mutationProb = params.getMutationProb();
+
+        store.forEachChunk(random, (from, to, stream) -> {
+            for (int i = from; i < to; i++) {
+                boolean mutated = false;
+                for (int gene = 0; gene < store.getGenomeLength(); gene++) {
+                    if (stream.nextDouble() < mutationProb) {
+                        store.setGene(i, gene, stream.nextInt(geneBound));
+                        mutated = true;
+                    }
+                }
+
+                if (mutated)
+                    store.invalidateFitness(i);
+            }
+        });
+    }
+
+    /**
+     * Copies the best individual of the scored store out of it and adds it to the history, dropping the oldest entry
+     * if the history is longer than the history size.
+     *
+     * @param history the best individuals of earlier generations
+     * @param store   the scored store
+     * @return the copied best individual
+     */
+    private Individual record(Deque<Individual> history, PopulationStore store) {
+        int index = store.bestIndex(minimization);
+
+        int[] genes = new int[store.getGenomeLength()];
+        store.readGenes(index, genes, 0);
+
+        Individual<int[]> best = new Individual<>();
+        best.setGenes(genes);
+        best.setFitness(store.getFitness(index));
+
+        history.addLast(best);
+        if (history.size() > params.getHistorySize())
+            history.removeFirst();
+
+        return best;
+    }
+
+    /**
+     * Sets the number of individuals in each tournament used to pick parents. Larger tournaments give more selection
+     * pressure.
+     *
+     * @param tournamentSize the number of individuals in each tournament
+     */
+    public void setTournamentSize(int tournamentSize) {
+
+        if (tournamentSize < 1)
+            throw new IllegalArgumentException("Tournament Size Must Be Greater Than Zero");
+
+        this.tournamentSize = tournamentSize;
+    }
+
+    /**
+     * Returns the number of individuals in each tournament used to pick parents.
+     *
+     * @return the tournament size
+     */
+    public int getTournamentSize() {
+        return tournamentSize;
+    }
+
+    /**
+     * Returns the store holding the last generation of the most recent run.
+     *
+     * @return one of the stores passed to optimize(), or null if optimize() has not run
+     */
+    public PopulationStore getLastPopulation() {
+        return lastPopulation;
+    }
+
+}
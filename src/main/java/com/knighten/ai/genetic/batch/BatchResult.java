@@ -0,0 +1,125 @@
+package com.knighten.ai.genetic.batch;
+
+/**
+ * The outcome of a single run of a batch.
+ */
+public class BatchResult {
+
+    /**
+     * The run that produced the result.
+     */
+    private BatchRun run;
+
+    /**
+     * The index of the last generation created by the run.
+     */
+    private int generations;
+
+    /**
+     * The number of fitness calculations performed by the run.
+     */
+    private long evaluations;
+
+    /**
+     * The fitness score of the best individual of the run's last generation, NaN if the run failed.
+     */
+    private double bestFitness;
+
+    /**
+     * The time the run took in nanoseconds.
+     */
+    private long elapsedNanos;
+
+    /**
+     * The exception that stopped the run, null if it completed.
+     */
+    private Throwable error;
+
+    /**
+     * Creates a BatchResult for a run.
+     *
+     * @param run          the run that produced the result
+     * @param generations  the index of the last generation created by the run
+     * @param evaluations  the number of fitness calculations performed by the run
+     * @param bestFitness  the fitness score of the best individual of the last generation, NaN if the run failed
+     * @param elapsedNanos the time the run took in nanoseconds
+     * @param error        the exception that stopped the run, null if it completed
+     */
+    public BatchResult(BatchRun run, int generations, long evaluations, double bestFitness, long elapsedNanos,
+                       Throwable error) {
+
+        if (run == null)
+            throw new IllegalArgumentException("Batch Run Cannot Be Null");
+
+        this.run = run;
+        this.generations = generations;
+        this.evaluations = evaluations;
+        this.bestFitness = bestFitness;
+        this.elapsedNanos = elapsedNanos;
+        this.error = error;
+    }
+
+    /**
+     * Returns the run that produced the result.
+     *
+     * @return the run
+     */
+    public BatchRun getRun() {
+        return run;
+    }
+
+    /**
+     * Returns the index of the last generation created by the run.
+     *
+     * @return the last generation created
+     */
+    public int getGenerations() {
+        return generations;
+    }
+
+    /**
+     * Returns the number of fitness calculations performed by the run.
+     *
+     * @return the number of fitness calculations
+     */
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * Returns the fitness score of the best individual of the run's last generation.
+     *
+     * @return the best fitness score, NaN if the run failed
+     */
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    /**
+     * Returns the time the run took in nanoseconds.
+     *
+     * @return the run's elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the exception that stopped the run.
+     *
+     * @return the exception, null if the run completed
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Checks if the run failed with an exception.
+     *
+     * @return true if the run failed
+     */
+    public boolean isFailed() {
+        return error != null;
+    }
+
+}
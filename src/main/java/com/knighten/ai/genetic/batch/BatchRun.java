@@ -0,0 +1,108 @@
+package com.knighten.ai.genetic.batch;
+
+import com.knighten.ai.genetic.GeneticOptimizationParams;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A single run of a batch: the parameters and seed used to optimize a problem once.
+ */
+public class BatchRun {
+
+    /**
+     * Identifies the run in results.
+     */
+    private String runId;
+
+    /**
+     * The run's optimization parameters.
+     */
+    private GeneticOptimizationParams params;
+
+    /**
+     * The run's seed.
+     */
+    private long seed;
+
+    /**
+     * Creates a BatchRun using the supplied parameters and seed.
+     *
+     * @param runId  identifies the run in results
+     * @param params the run's optimization parameters
+     * @param seed   the run's seed
+     */
+    public BatchRun(String runId, GeneticOptimizationParams params, long seed) {
+
+        if (runId == null || runId.isEmpty())
+            throw new IllegalArgumentException("Run Id Cannot Be Null Or Empty");
+
+        if (params == null)
+            throw new IllegalArgumentException("Optimization Parameters Cannot Be null");
+
+        this.runId = runId;
+        this.params = params;
+        this.seed = seed;
+    }
+
+    /**
+     * Creates one run for every combination of the supplied population sizes, selection percents, mutation
+     * probabilities and seeds. Runs are numbered in the order they are created.
+     *
+     * @param maxGenerations    the max number of generations of every run
+     * @param populationSizes   the population sizes to try
+     * @param selectionPercents the selection percents to try
+     * @param mutationProbs     the mutation probabilities to try
+     * @param seeds             the seeds to run each combination of parameters with
+     * @return a run for every combination
+     */
+    public static List<BatchRun> sweep(int maxGenerations, int[] populationSizes, double[] selectionPercents,
+                                       double[] mutationProbs, long[] seeds) {
+
+        if (populationSizes == null || selectionPercents == null || mutationProbs == null || seeds == null)
+            throw new IllegalArgumentException("Swept Values Cannot Be Null");
+
+        List<BatchRun> runs = new ArrayList<>();
+        for (int populationSize : populationSizes) {
+            for (double selectionPercent : selectionPercents) {
+                for (double mutationProb : mutationProbs) {
+                    for (long seed : seeds) {
+                        GeneticOptimizationParams params = new GeneticOptimizationParams(populationSize,
+                                maxGenerations, selectionPercent, mutationProb);
+                        runs.add(new BatchRun("run-" + runs.size(), params, seed));
+                    }
+                }
+            }
+        }
+
+        return runs;
+    }
+
+    /**
+     * Returns the id of the run.
+     *
+     * @return the run's id
+     */
+    public String getRunId() {
+        return runId;
+    }
+
+    /**
+     * Returns the run's optimization parameters.
+     *
+     * @return the run's parameters
+     */
+    public GeneticOptimizationParams getParams() {
+        return params;
+    }
+
+    /**
+     * Returns the run's seed.
+     *
+     * @return the run's seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.knighten.ai.genetic.batch;
+
+import com.knighten.ai.genetic.GeneticOptimization;
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.interfaces.IBatchResultSink;
+import com.knighten.ai.genetic.interfaces.IOptimizerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs batches of optimizations, such as parameter sweeps and multi-seed experiments, on a shared thread pool. Every
+ * run gets its own optimizer from an IOptimizerFactory. Results are handed to an IBatchResultSink on the calling
+ * thread as soon as each run completes, so a long batch can be watched while it runs.
+ * <p>
+ * A run that throws an exception does not stop the batch. Its result records the exception instead.
+ */
+public class BatchRunner implements AutoCloseable {
+
+    /**
+     * Runs the optimizations.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Whether the executor was created by the runner and is shut down by close().
+     */
+    private boolean ownsExecutor;
+
+    /**
+     * Creates a BatchRunner that runs up to the supplied number of optimizations at the same time on its own thread
+     * pool. The pool is shut down by close().
+     *
+     * @param threads the number of optimizations run at the same time
+     */
+    public BatchRunner(int threads) {
+
+        if (threads < 1)
+            throw new IllegalArgumentException("Threads Must Be Greater Than Zero");
+
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.ownsExecutor = true;
+    }
+
+    /**
+     * Creates a BatchRunner that runs optimizations using the supplied executor. The executor is not shut down by
+     * close().
+     *
+     * @param executor the executor that runs the optimizations
+     */
+    public BatchRunner(ExecutorService executor) {
+
+        if (executor == null)
+            throw new IllegalArgumentException("Executor Cannot Be Null");
+
+        this.executor = executor;
+        this.ownsExecutor = false;
+    }
+
+    /**
+     * Runs every run in the batch and waits for all of them to complete.
+     *
+     * @param runs    the runs in the batch
+     * @param factory creates the optimizer for each run
+     * @param sink    receives each run's result as soon as it completes, may be null
+     * @return the results of the batch and its throughput
+     */
+    public BatchSummary run(List<BatchRun> runs, IOptimizerFactory factory, IBatchResultSink sink) {
+
+        if (runs == null)
+            throw new IllegalArgumentException("Runs Cannot Be Null");
+
+        if (factory == null)
+            throw new IllegalArgumentException("Optimizer Factory Cannot Be Null");
+
+        long start = System.nanoTime();
+
+        CompletionService<BatchResult> completion = new ExecutorCompletionService<>(executor);
+        List<Future<BatchResult>> pending = new ArrayList<>(runs.size());
+        for (BatchRun run : runs)
+            pending.add(completion.submit(() -> execute(run, factory)));
+
+        List<BatchResult> results = new ArrayList<>(runs.size());
+        try {
+            while (results.size() < runs.size()) {
+                BatchResult result = completion.take().get();
+                results.add(result);
+
+                if (sink != null)
+                    sink.accept(result);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch Was Interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A Batch Run Failed Unexpectedly", e.getCause());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            // Only Runs Left Behind By A Failure Are Still Pending
+            for (Future<BatchResult> future : pending)
+                future.cancel(true);
+        }
+
+        return new BatchSummary(results, System.nanoTime() - start);
+    }
+
+    /**
+     * Shuts down the thread pool if it was created by the runner.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor)
+            executor.shutdown();
+    }
+
+    /**
+     * Creates the run's optimizer, runs it and records the outcome.
+     *
+     * @param run     the run
+     * @param factory creates the run's optimizer
+     * @return the result of the run
+     */
+    private static BatchResult execute(BatchRun run, IOptimizerFactory factory) {
+        long start = System.nanoTime();
+        GeneticOptimization optimizer = null;
+
+        try {
+            optimizer = factory.create(run.getParams(), run.getSeed());
+            List<Individual> bestInGenerations = optimizer.optimize();
+            Individual best = bestInGenerations.get(bestInGenerations.size() - 1);
+
+            return new BatchResult(run, optimizer.getGenerationCount(), optimizer.getEvaluationCount(),
+                    best.getFitness(), System.nanoTime() - start, null);
+        } catch (RuntimeException e) {
+            int generations = optimizer == null ? 0 : optimizer.getGenerationCount();
+            long evaluations = optimizer == null ? 0 : optimizer.getEvaluationCount();
+
+            return new BatchResult(run, generations, evaluations, Double.NaN, System.nanoTime() - start, e);
+        }
+    }
+
+}
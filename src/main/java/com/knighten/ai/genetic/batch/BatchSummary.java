@@ -0,0 +1,160 @@
+package com.knighten.ai.genetic.batch;
+
+import java.util.List;
+
+/**
+ * The results of a batch together with its aggregate throughput.
+ */
+public class BatchSummary {
+
+    /**
+     * The result of every run, in the order the runs completed.
+     */
+    private List<BatchResult> results;
+
+    /**
+     * The time the whole batch took in nanoseconds.
+     */
+    private long elapsedNanos;
+
+    /**
+     * The total number of generations created by all runs.
+     */
+    private long generations;
+
+    /**
+     * The total number of fitness calculations performed by all runs.
+     */
+    private long evaluations;
+
+    /**
+     * The number of runs that failed.
+     */
+    private int failedRuns;
+
+    /**
+     * Creates a BatchSummary from the results of a batch.
+     *
+     * @param results      the result of every run
+     * @param elapsedNanos the time the whole batch took in nanoseconds
+     */
+    public BatchSummary(List<BatchResult> results, long elapsedNanos) {
+
+        if (results == null)
+            throw new IllegalArgumentException("Results Cannot Be Null");
+
+        this.results = results;
+        this.elapsedNanos = elapsedNanos;
+
+        for (BatchResult result : results) {
+            generations += result.getGenerations();
+            evaluations += result.getEvaluations();
+            if (result.isFailed())
+                failedRuns++;
+        }
+    }
+
+    /**
+     * Returns the result of every run, in the order the runs completed.
+     *
+     * @return the results of the runs
+     */
+    public List<BatchResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Returns the number of runs in the batch.
+     *
+     * @return the number of runs
+     */
+    public int getRunCount() {
+        return results.size();
+    }
+
+    /**
+     * Returns the number of runs that failed.
+     *
+     * @return the number of failed runs
+     */
+    public int getFailedRunCount() {
+        return failedRuns;
+    }
+
+    /**
+     * Returns the total number of generations created by all runs.
+     *
+     * @return the total number of generations
+     */
+    public long getGenerations() {
+        return generations;
+    }
+
+    /**
+     * Returns the total number of fitness calculations performed by all runs.
+     *
+     * @return the total number of fitness calculations
+     */
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * Returns the time the whole batch took in nanoseconds.
+     *
+     * @return the batch's elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of runs completed per second of batch time.
+     *
+     * @return runs per second
+     */
+    public double getRunsPerSecond() {
+        return perSecond(results.size());
+    }
+
+    /**
+     * Returns the number of generations created per second of batch time, across all runs.
+     *
+     * @return generations per second
+     */
+    public double getGenerationsPerSecond() {
+        return perSecond(generations);
+    }
+
+    /**
+     * Returns the number of fitness calculations performed per second of batch time, across all runs.
+     *
+     * @return fitness calculations per second
+     */
+    public double getEvaluationsPerSecond() {
+        return perSecond(evaluations);
+    }
+
+    /**
+     * Converts a count into a rate using the batch's elapsed time.
+     *
+     * @param count the count
+     * @return the count per second
+     */
+    private double perSecond(long count) {
+        return elapsedNanos == 0 ? 0.0 : count * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Converts the summary into a single line of text.
+     *
+     * @return string representation of the summary
+     */
+    @Override
+    public String toString() {
+        return String.format("%d Runs (%d Failed) In %.3fs: %.2f Runs/s, %.2f Generations/s, %.2f Evaluations/s",
+                getRunCount(), failedRuns, elapsedNanos / 1e9, getRunsPerSecond(), getGenerationsPerSecond(),
+                getEvaluationsPerSecond());
+    }
+
+}
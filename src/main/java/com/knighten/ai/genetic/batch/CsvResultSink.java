@@ -0,0 +1,98 @@
+package com.knighten.ai.genetic.batch;
+
+import com.knighten.ai.genetic.GeneticOptimizationParams;
+import com.knighten.ai.genetic.interfaces.IBatchResultSink;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes batch results as CSV, one line per run after a header line. Each line is flushed as soon as it is written.
+ */
+public class CsvResultSink implements IBatchResultSink, Closeable {
+
+    /**
+     * The names of the columns written.
+     */
+    private static final String HEADER = "run_id,seed,population_size,max_generations,selection_percent,mutation_prob,"
+            + "generations,evaluations,best_fitness,elapsed_ms,error";
+
+    /**
+     * The writer results are written to.
+     */
+    private Writer writer;
+
+    /**
+     * Whether the header line has been written.
+     */
+    private boolean headerWritten;
+
+    /**
+     * Creates a CsvResultSink that writes to the supplied writer.
+     *
+     * @param writer the writer results are written to, closed by close()
+     */
+    public CsvResultSink(Writer writer) {
+
+        if (writer == null)
+            throw new IllegalArgumentException("Writer Cannot Be Null");
+
+        this.writer = writer;
+    }
+
+    /**
+     * Writes the result as one CSV line, preceded by the header line if this is the first result. Failed runs leave the
+     * best fitness empty and fill in the error. The writer is flushed after the line.
+     *
+     * @param result the result of a finished run
+     * @throws IOException if the line cannot be written
+     */
+    @Override
+    public void accept(BatchResult result) throws IOException {
+        if (!headerWritten) {
+            writer.write(HEADER);
+            writer.write('\n');
+            headerWritten = true;
+        }
+
+        GeneticOptimizationParams params = result.getRun().getParams();
+        writer.write(escape(result.getRun().getRunId()) + ','
+                + result.getRun().getSeed() + ','
+                + params.getPopulationSize() + ','
+                + params.getMaxGenerations() + ','
+                + params.getSelectionPercent() + ','
+                + params.getMutationProb() + ','
+                + result.getGenerations() + ','
+                + result.getEvaluations() + ','
+                + (result.isFailed() ? "" : Double.toString(result.getBestFitness())) + ','
+                + result.getElapsedNanos() / 1000000 + ','
+                + (result.isFailed() ? escape(String.valueOf(result.getError())) : ""));
+        writer.write('\n');
+        writer.flush();
+    }
+
+    /**
+     * Closes the writer.
+     *
+     * @throws IOException if the writer cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Quotes a value if it contains a comma, quote or line break.
+     *
+     * @param value the value to escape
+     * @return the value in a form safe to write as a CSV field
+     */
+    private static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+            return value;
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.knighten.ai.genetic.batch;
+
+import com.knighten.ai.genetic.GeneticOptimizationParams;
+import com.knighten.ai.genetic.interfaces.IBatchResultSink;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes batch results as JSON Lines, one JSON object per run. Each line is flushed as soon as it is written.
+ */
+public class JsonLinesResultSink implements IBatchResultSink, Closeable {
+
+    /**
+     * The writer results are written to.
+     */
+    private Writer writer;
+
+    /**
+     * Creates a JsonLinesResultSink that writes to the supplied writer.
+     *
+     * @param writer the writer results are written to, closed by close()
+     */
+    public JsonLinesResultSink(Writer writer) {
+
+        if (writer == null)
+            throw new IllegalArgumentException("Writer Cannot Be Null");
+
+        this.writer = writer;
+    }
+
+    /**
+     * Writes the result as one JSON object on its own line. Failed runs have a null best fitness and a quoted error.
+     * The writer is flushed after the line.
+     *
+     * @param result the result of a finished run
+     * @throws IOException if the line cannot be written
+     */
+    @Override
+    public void accept(BatchResult result) throws IOException {
+        GeneticOptimizationParams params = result.getRun().getParams();
+
+        writer.write("{\"runId\":" + quote(result.getRun().getRunId())
+                + ",\"seed\":" + result.getRun().getSeed()
+                + ",\"populationSize\":" + params.getPopulationSize()
+                + ",\"maxGenerations\":" + params.getMaxGenerations()
+                + ",\"selectionPercent\":" + params.getSelectionPercent()
+                + ",\"mutationProb\":" + params.getMutationProb()
+                + ",\"generations\":" + result.getGenerations()
+                + ",\"evaluations\":" + result.getEvaluations()
+                + ",\"bestFitness\":" + (result.isFailed() ? "null" : Double.toString(result.getBestFitness()))
+                + ",\"elapsedMs\":" + result.getElapsedNanos() / 1000000
+                + ",\"error\":" + (result.isFailed() ? quote(String.valueOf(result.getError())) : "null")
+                + "}");
+        writer.write('\n');
+        writer.flush();
+    }
+
+    /**
+     * Closes the writer.
+     *
+     * @throws IOException if the writer cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Converts a value into a JSON string, escaping quotes, backslashes and control characters.
+     *
+     * @param value the value to convert
+     * @return the value as a quoted JSON string
+     */
+    private static String quote(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\')
+                sb.append('\\').append(c);
+            else if (c == '\n')
+                sb.append("\\n");
+            else if (c < 0x20)
+                sb.append(String.format("\\u%04x", (int) c));
+            else
+                sb.append(c);
+        }
+
+        return sb.append('"').toString();
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.knighten.ai.genetic.checkpoint;
+
+import com.knighten.ai.genetic.Individual;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * The state of an optimization at the end of a generation. Holds everything needed to continue the optimization: the
+ * population with its fitness scores, the state of the problem's random number generators, the generation counter and
+ * the number of fitness calculations performed.
+ *
+ * @param <T> the type of individual in the population
+ */
+public class Checkpoint<T extends Individual> {
+
+    /**
+     * The index of the generation the checkpoint was taken after.
+     */
+    private int generation;
+
+    /**
+     * The number of fitness calculations performed up to and including the generation.
+     */
+    private long evaluations;
+
+    /**
+     * The state of the problem's random number generators.
+     */
+    private Serializable randomState;
+
+    /**
+     * The generation's population, with fitness scores assigned.
+     */
+    private List<T> population;
+
+    /**
+     * Creates a Checkpoint of an optimization at the end of a generation.
+     *
+     * @param generation  the index of the generation
+     * @param evaluations the number of fitness calculations performed
+     * @param randomState the state of the problem's random number generators
+     * @param population  the generation's population, with fitness scores assigned
+     */
+    public Checkpoint(int generation, long evaluations, Serializable randomState, List<T> population) {
+
+        if (generation < 0)
+            throw new IllegalArgumentException("Generation Cannot Be Negative");
+
+        if (evaluations < 0)
+            throw new IllegalArgumentException("Evaluations Cannot Be Negative");
+
+        if (randomState == null)
+            throw new IllegalArgumentException("Random State Cannot Be Null");
+
+        if (population == null || population.isEmpty())
+            throw new IllegalArgumentException("Population Cannot Be Null Or Empty");
+
+        this.generation = generation;
+        this.evaluations = evaluations;
+        this.randomState = randomState;
+        this.population = population;
+    }
+
+    /**
+     * Returns the index of the generation the checkpoint was taken after.
+     *
+     * @return the index of the generation
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the number of fitness calculations performed up to and including the generation.
+     *
+     * @return the number of fitness calculations
+     */
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * Returns the state of the problem's random number generators.
+     *
+     * @return the state of the random number generators
+     */
+    public Serializable getRandomState() {
+        return randomState;
+    }
+
+    /**
+     * Returns the generation's population, with fitness scores assigned.
+     *
+     * @return the population
+     */
+    public List<T> getPopulation() {
+        return population;
+    }
+
+}
@@ -0,0 +1,249 @@
+package com.knighten.ai.genetic.checkpoint;
+
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.interfaces.IGenomeCodec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes checkpoints to a binary file using NIO channels. The file holds a short header, the serialized
+ * random number generator state and then each individual as its fitness score followed by its genes in the form
+ * written by the problem's IGenomeCodec.
+ * <p>
+ * Checkpoints are written through a reused direct buffer into a temporary file that is then moved over the
+ * checkpoint file, so a crash while writing never leaves a half written checkpoint behind. Checkpoints are read by
+ * mapping the file into memory, which limits checkpoint files to 2GB.
+ */
+public class CheckpointFile {
+
+    /**
+     * Marks the start of every checkpoint file.
+     */
+    private static final int MAGIC = 0x47414350;
+
+    /**
+     * The version of the file format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The size of the buffer used to write checkpoints.
+     */
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /**
+     * The location of the checkpoint file.
+     */
+    private Path path;
+
+    /**
+     * Reused to write checkpoints, grown if a single individual does not fit.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Creates a CheckpointFile that reads and writes checkpoints at the supplied location.
+     *
+     * @param path the location of the checkpoint file
+     */
+    public CheckpointFile(Path path) {
+
+        if (path == null)
+            throw new IllegalArgumentException("Checkpoint Path Cannot Be Null");
+
+        this.path = path;
+    }
+
+    /**
+     * Returns the location of the checkpoint file.
+     *
+     * @return the location of the checkpoint file
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Writes the checkpoint to the file, replacing any checkpoint already in it.
+     *
+     * @param checkpoint the checkpoint to write
+     * @param codec      encodes the genes of the checkpoint's individuals
+     * @param <T>        the type of individual in the population
+     * @throws IOException if the file cannot be written
+     */
+    public <T extends Individual> void save(Checkpoint<T> checkpoint, IGenomeCodec<T> codec) throws IOException {
+
+        if (checkpoint == null)
+            throw new IllegalArgumentException("Checkpoint Cannot Be Null");
+
+        if (codec == null)
+            throw new IllegalArgumentException("Genome Codec Cannot Be Null");
+
+        byte[] randomState = serialize(checkpoint.getRandomState());
+        List<T> population = checkpoint.getPopulation();
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (buffer == null)
+                buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.clear();
+
+            buffer.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(checkpoint.getGeneration())
+                    .putLong(checkpoint.getEvaluations())
+                    .putInt(randomState.length);
+
+            for (int offset = 0; offset < randomState.length; ) {
+                ensureRemaining(channel, 1);
+                int length = Math.min(buffer.remaining(), randomState.length - offset);
+                buffer.put(randomState, offset, length);
+                offset += length;
+            }
+
+            ensureRemaining(channel, Integer.BYTES);
+            buffer.putInt(population.size());
+
+            for (T individual : population) {
+                ensureRemaining(channel, Double.BYTES + codec.getEncodedSize(individual));
+                buffer.putDouble(individual.getFitness());
+                codec.encode(individual, buffer);
+            }
+
+            flush(channel);
+            channel.force(false);
+        }
+
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads the checkpoint in the file.
+     *
+     * @param codec decodes the genes of the checkpoint's individuals
+     * @param <T>   the type of individual in the population
+     * @return the checkpoint in the file
+     * @throws IOException if the file cannot be read or is not a checkpoint file
+     */
+    public <T extends Individual> Checkpoint<T> load(IGenomeCodec<T> codec) throws IOException {
+
+        if (codec == null)
+            throw new IllegalArgumentException("Genome Codec Cannot Be Null");
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE)
+                throw new IOException("Checkpoint Files Larger Than 2GB Are Not Supported");
+
+            MappedByteBuffer file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (file.remaining() < 2 * Integer.BYTES || file.getInt() != MAGIC)
+                throw new IOException("Not A Checkpoint File: " + path);
+
+            int version = file.getInt();
+            if (version != VERSION)
+                throw new IOException("Unsupported Checkpoint Version: " + version);
+
+            int generation = file.getInt();
+            long evaluations = file.getLong();
+
+            byte[] randomState = new byte[file.getInt()];
+            file.get(randomState);
+
+            int populationSize = file.getInt();
+            List<T> population = new ArrayList<>(populationSize);
+            for (int i = 0; i < populationSize; i++) {
+                double fitness = file.getDouble();
+                T individual = codec.decode(file);
+                individual.setFitness(fitness);
+                population.add(individual);
+            }
+
+            return new Checkpoint<>(generation, evaluations, deserialize(randomState), population);
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            throw new IOException("Checkpoint File Is Truncated Or Corrupt: " + path, e);
+        }
+    }
+
+    /**
+     * Makes room for the supplied number of bytes in the buffer, writing its contents to the channel if needed.
+     *
+     * @param channel the channel the buffer is written to
+     * @param bytes   the number of bytes about to be put in the buffer
+     * @throws IOException if the channel cannot be written
+     */
+    private void ensureRemaining(FileChannel channel, int bytes) throws IOException {
+        if (buffer.remaining() >= bytes)
+            return;
+
+        flush(channel);
+
+        if (buffer.capacity() < bytes)
+            buffer = ByteBuffer.allocateDirect(bytes);
+    }
+
+    /**
+     * Writes the contents of the buffer to the channel and clears the buffer.
+     *
+     * @param channel the channel the buffer is written to
+     * @throws IOException if the channel cannot be written
+     */
+    private void flush(FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * Serializes the random number generator state.
+     *
+     * @param state the state to serialize
+     * @return the serialized state
+     * @throws IOException if the state cannot be serialized
+     */
+    private static byte[] serialize(Serializable state) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(state);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserializes the random number generator state.
+     *
+     * @param state the serialized state
+     * @return the state
+     * @throws IOException if the state cannot be deserialized
+     */
+    private static Serializable deserialize(byte[] state) throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(state))) {
+            return (Serializable) in.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Checkpoint Random State Cannot Be Read", e);
+        }
+    }
+
+}
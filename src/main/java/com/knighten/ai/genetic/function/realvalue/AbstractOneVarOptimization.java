@@ -1,8 +1,13 @@
 package com.knighten.ai.genetic.function.realvalue;
 
-import com.knighten.ai.genetic.interfaces.IGenOptimizeProblem;
+import com.knighten.ai.genetic.FitnessCache;
+import com.knighten.ai.genetic.interfaces.ICheckpointableGenOptimizeProblem;
+import com.knighten.ai.genetic.interfaces.IForkableGenOptimizeProblem;
+import com.knighten.ai.genetic.interfaces.IRecyclingGenOptimizeProblem;
+import com.knighten.ai.genetic.interfaces.ISelector;
+import com.knighten.ai.genetic.selection.TopK;
 
-import java.util.Collections;
+import java.io.Serializable;
 import java.util.List;
 import java.util.Random;
 import java.util.stream.Collectors;
@@ -13,7 +18,8 @@ import java.util.stream.IntStream;
  * necessary methods to perform maximization or minimization. To use only getBestIndividual() and selection() need to
  * be implemented to reflect the type of optimization to perform(minimization or maximization).
  */
-public abstract class AbstractOneVarOptimization implements IGenOptimizeProblem<OneVarIndividual> {
+public abstract class AbstractOneVarOptimization implements IForkableGenOptimizeProblem<OneVarIndividual>,
+        IRecyclingGenOptimizeProblem<OneVarIndividual>, ICheckpointableGenOptimizeProblem<OneVarIndividual> {
 
     /**
      * Used to generate random numbers. Allows the use of a seed.
@@ -35,6 +41,36 @@ public abstract class AbstractOneVarOptimization implements IGenOptimizeProblem<
      */
     private IOneVariableFunction function;
 
+    /**
+     * Scores arrays of x values with the function, built once by setFunction() and reused by calculateFitness().
+     */
+    private OneVarBatchFunction batchFunction;
+
+    /**
+     * Reused by crossoverInto() to hold the random parents of each offspring.
+     */
+    private int[] crossScratch;
+
+    /**
+     * Reused by calculateFitness() to hold the x values of the individuals being scored.
+     */
+    private double[] xScratch;
+
+    /**
+     * Reused by calculateFitness() to hold the function values of the individuals being scored.
+     */
+    private double[] valueScratch;
+
+    /**
+     * Caches the function values of x values already seen, null if fitness scores are not cached.
+     */
+    private FitnessCache<Double> fitnessCache;
+
+    /**
+     * Picks the sub-population in selection(), null to keep the best individuals.
+     */
+    private ISelector<OneVarIndividual> selector;
+
     /**
      * Sets the Random object used to generate random numbers.
      *
@@ -102,6 +138,91 @@ public abstract class AbstractOneVarOptimization implements IGenOptimizeProblem<
 
 
         this.function = function;
+        this.batchFunction = new OneVarBatchFunction(function);
+    }
+
+    /**
+     * Sets the cache used to skip evaluating the function at x values that have already been evaluated. Useful when
+     * the function is expensive, since crossing an x value with itself reproduces it. Forks of the problem share the
+     * cache.
+     *
+     * @param fitnessCache the cache of function values keyed by x value, null to evaluate every x value
+     */
+    public void setFitnessCache(FitnessCache<Double> fitnessCache) {
+        this.fitnessCache = fitnessCache;
+    }
+
+    /**
+     * Gets the cache of function values keyed by x value.
+     *
+     * @return the fitness cache, or null if fitness scores are not cached
+     */
+    public FitnessCache<Double> getFitnessCache() {
+        return fitnessCache;
+    }
+
+    /**
+     * Sets the selector used by selection() to pick the sub-population. Forks of the problem share the selector.
+     *
+     * @param selector the selector to use, null to keep the selectionPercent percent of best individuals
+     */
+    public void setSelector(ISelector<OneVarIndividual> selector) {
+        this.selector = selector;
+    }
+
+    /**
+     * Returns the selector used by selection() to pick the sub-population.
+     *
+     * @return the selector, or null if selection() keeps the best individuals
+     */
+    public ISelector<OneVarIndividual> getSelector() {
+        return selector;
+    }
+
+    /**
+     * Gets the Random object used to generate random numbers.
+     *
+     * @return the Random object being used
+     */
+    protected Random getRandom() {
+        return random;
+    }
+
+    /**
+     * Draws the next seed from the problem's Random object.
+     *
+     * @return a seed drawn from the problem's Random object
+     */
+    @Override
+    public long nextSeed() {
+        return random.nextLong();
+    }
+
+    /**
+     * Gets the minimum x value considered in the search.
+     *
+     * @return the smallest x value in search
+     */
+    protected double getMinDomain() {
+        return minDomain;
+    }
+
+    /**
+     * Gets the maximum x value considered in the search.
+     *
+     * @return the largest x value in search
+     */
+    protected double getMaxDomain() {
+        return maxDomain;
+    }
+
+    /**
+     * Gets the function being optimized.
+     *
+     * @return the function being optimized
+     */
+    protected IOneVariableFunction getFunction() {
+        return function;
     }
 
     /**
@@ -142,14 +263,58 @@ public abstract class AbstractOneVarOptimization implements IGenOptimizeProblem<
     /**
      * Calculates the fitness score for every individual in the population. The fitness in this case is just the value
      * of the function using an individual's x value. Note: this will set the fitness value of all individuals in the
-     * provided population and sort the population in ascending order by fitness.
+     * provided population, skipping individuals as described by IGenOptimizeProblem.calculateFitness().
+     * <p>
+     * Without a fitness cache the x values are copied into a primitive array and the function is evaluated over the
+     * whole array with OneVarBatchFunction, in one call if the function is an IBatchOneVariableFunction.
      *
      * @param population the population of individuals whose fitness are to be set
      */
     @Override
     public void calculateFitness(List<OneVarIndividual> population) {
-        population.stream().forEach(individual -> individual.setFitness(function.getFuncValue(individual.getGenes())));
-        Collections.sort(population); // Sort Now To Make selection() More Efficient
+        if (fitnessCache != null) {
+            population.stream()
+                    .filter(individual -> !individual.isFitnessValid())
+                    .forEach(individual -> individual.setFitness(cachedFunctionValue(individual.getGenes())));
+            return;
+        }
+
+        if (this.xScratch == null || this.xScratch.length < population.size()) {
+            this.xScratch = new double[population.size()];
+            this.valueScratch = new double[population.size()];
+        }
+
+        // Gather The x Values Of Individuals That Need Scoring
+        int count = 0;
+        for (OneVarIndividual individual : population) {
+            if (!individual.isFitnessValid())
+                this.xScratch[count++] = individual.getGenes();
+        }
+
+        this.batchFunction.score(this.xScratch, 0, count, this.valueScratch);
+
+        int scored = 0;
+        for (OneVarIndividual individual : population) {
+            if (!individual.isFitnessValid())
+                individual.setFitness(this.valueScratch[scored++]);
+        }
+    }
+
+    /**
+     * Evaluates the function at the x value through the fitness cache, evaluating it only if the cache misses.
+     *
+     * @param x the x value
+     * @return the function's value at x
+     */
+    private double cachedFunctionValue(Double x) {
+        Double cached = fitnessCache.get(x);
+        if (cached != null)
+            return cached;
+
+        double value = function.getFuncValue(x);
+        fitnessCache.put(x, value);
+
+        return value;
     }
 
     /**
@@ -172,6 +337,45 @@ public abstract class AbstractOneVarOptimization implements IGenOptimizeProblem<
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Crosses random x values of the sub-population the same way crossover() does, but stores each crossed x value in
+     * an existing offspring instead of creating a new OneVarIndividual. Random numbers are drawn in the same order as
+     * crossover() into a reused array.
+     *
+     * @param subPopulation the sub-population used to generate the offspring
+     * @param offspring     the individuals whose x values are replaced by the crossed x values
+     */
+    @Override
+    public void crossoverInto(List<OneVarIndividual> subPopulation, List<OneVarIndividual> offspring) {
+        int populationSize = offspring.size();
+        if (this.crossScratch == null || this.crossScratch.length != 2 * populationSize)
+            this.crossScratch = new int[2 * populationSize];
+
+        int[] parents = this.crossScratch;
+        for (int i = 0; i < 2 * populationSize; i++)
+            parents[i] = this.random.nextInt(subPopulation.size());
+
+        for (int i = 0; i < populationSize; i++) {
+            double x1 = subPopulation.get(parents[i]).getGenes();
+            double x2 = subPopulation.get(parents[i + populationSize]).getGenes();
+            offspring.get(i).setGenes((x1 + x2) / 2);
+        }
+    }
+
+    /**
+     * Creates a new OneVarIndividual with the supplied individual's x value and fitness score.
+     *
+     * @param individual the individual to copy
+     * @return a new OneVarIndividual equal to the supplied individual
+     */
+    @Override
+    public OneVarIndividual copy(OneVarIndividual individual) {
+        OneVarIndividual copy = new OneVarIndividual(individual.getGenes());
+        copy.setFitness(individual.getFitness());
+
+        return copy;
+    }
+
     /**
      * Randomly mutate individuals in the supplied population. We select random OneVarIndividuals and change their x
      * values. Note: this will change the genes of the individuals in the supplied population.
@@ -189,4 +393,38 @@ public abstract class AbstractOneVarOptimization implements IGenOptimizeProblem<
                 .forEach(i -> population.get(i).setGenes(randomX[i]));
     }
 
+    /**
+     * Returns a codec for OneVarIndividuals.
+     *
+     * @return a codec for the problem's OneVarIndividuals
+     */
+    @Override
+    public OneVarIndividualCodec getGenomeCodec() {
+        return new OneVarIndividualCodec();
+    }
+
+    /**
+     * Returns the problem's Random object, which is serialized when a checkpoint is written.
+     *
+     * @return the problem's Random object
+     */
+    @Override
+    public Serializable getRandomState() {
+        return this.random;
+    }
+
+    /**
+     * Replaces the problem's Random object with one restored from a checkpoint.
+     *
+     * @param state a Random object previously returned by getRandomState()
+     */
+    @Override
+    public void setRandomState(Serializable state) {
+
+        if (!(state instanceof Random))
+            throw new IllegalArgumentException("Random State Must Be A Random Object");
+
+        this.setRandom((Random) state);
+    }
+
 }
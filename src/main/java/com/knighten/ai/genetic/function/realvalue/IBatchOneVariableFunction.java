@@ -0,0 +1,21 @@
+package com.knighten.ai.genetic.function.realvalue;
+
+/**
+ * A real valued function with one variable that can also be evaluated at many x values in one call. Implement this
+ * instead of IOneVariableFunction when the function can be written as a loop over a primitive array, which
+ * AbstractOneVarOptimization then uses to score a whole population at once.
+ */
+public interface IBatchOneVariableFunction extends IOneVariableFunction {
+
+    /**
+     * Finds the output of the function at the x values from (inclusive) to (exclusive) and writes them into the same
+     * indices of the values array.
+     *
+     * @param xValues the x values
+     * @param from    the index of the first x value
+     * @param to      one past the index of the last x value
+     * @param values  the array the outputs are written into
+     */
+    void getFuncValues(double[] xValues, int from, int to, double[] values);
+
+}
@@ -4,11 +4,10 @@ import com.knighten.ai.genetic.GeneticOptimization;
 import com.knighten.ai.genetic.GeneticOptimizationParams;
 import com.knighten.ai.genetic.Individual;
 import com.knighten.ai.genetic.interfaces.IGenOptimizeProblem;
+import com.knighten.ai.genetic.selection.TopK;
 
 import java.util.List;
 import java.util.Random;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * Class for maximizing a one variable real valued function when using the genetic optimization algorithm.
@@ -32,20 +31,20 @@ public class MaximizeOneVar extends AbstractOneVarOptimization {
 
     /**
      * Gets the best individual in the population based upon fitness score(highest/lowest). Since we are performing
-     * maximization we select the individual with the highest fitness. Since the population is sorted beforehand, we
-     * select the element at the end of the list.
+     * maximization we select the individual with the highest fitness, found with a single pass over the population.
      *
      * @param population the population used to search for the best individual
      * @return the best individual from the population
      */
     @Override
     public OneVarIndividual getBestIndividual(List<OneVarIndividual> population) {
-        return population.get(population.size() - 1);
+        return TopK.best(population, false);
     }
 
     /**
      * Select individuals in the population that will be used to generate next generation's population. We select the
      * the top selectionPercent percentage of OneVarIndividuals with the highest fitness(highest function value).
+     * If a selector is set, it picks the sub-population instead.
      *
      * @param population       the population that the sub-population is selected from
      * @param selectionPercent the percent of best individuals to keep
@@ -53,11 +52,48 @@ public class MaximizeOneVar extends AbstractOneVarOptimization {
      */
     @Override
     public List<OneVarIndividual> selection(List<OneVarIndividual> population, double selectionPercent) {
-        int amountToRemove = (int) Math.floor((1 - selectionPercent) * population.size());
+        int selectionSize = TopK.selectionSize(population.size(), selectionPercent);
+        if (getSelector() != null)
+            return getSelector().select(population, selectionSize, false, getRandom());
 
-        return IntStream.rangeClosed(amountToRemove, population.size() - 1)
-                .mapToObj(population::get)
-                .collect(Collectors.toList());
+        return TopK.select(population, selectionSize, false);
+    }
+
+    /**
+     * Returns false since higher function values are better when maximizing.
+     *
+     * @return false
+     */
+    @Override
+    public boolean isMinimization() {
+        return false;
+    }
+
+    /**
+     * Creates a copy of the problem for use by a single worker thread. The copy uses its own Random object which is
+     * seeded using this problem's Random object, and shares this problem's fitness cache.
+     *
+     * @return a copy of the problem that is safe to use on another thread
+     */
+    @Override
+    public MaximizeOneVar fork() {
+        return fork(getRandom().nextLong());
+    }
+
+    /**
+     * Creates a copy of the problem for use by a single worker thread, like fork(), whose Random object is seeded with
+     * the supplied seed.
+     *
+     * @param seed the seed of the copy's Random object
+     * @return a copy of the problem that is safe to use on another thread
+     */
+    @Override
+    public MaximizeOneVar fork(long seed) {
+        MaximizeOneVar fork = new MaximizeOneVar(getMinDomain(), getMaxDomain(), getFunction(), new Random(seed));
+        fork.setFitnessCache(getFitnessCache());
+        fork.setSelector(getSelector());
+
+        return fork;
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,59 @@
+package com.knighten.ai.genetic.function.realvalue;
+
+import com.knighten.ai.genetic.interfaces.IBatchFitnessFunction;
+
+/**
+ * Scores blocks of x values with a one variable function. Every genome is a single x value. Functions that implement
+ * IBatchOneVariableFunction score the whole range in one call; any other function is called once per x value, still
+ * without boxing.
+ */
+public class OneVarBatchFunction implements IBatchFitnessFunction<double[]> {
+
+    /**
+     * The function used as the fitness score.
+     */
+    private IOneVariableFunction function;
+
+    /**
+     * Creates a batch scorer using the supplied function.
+     *
+     * @param function the function whose value is the fitness score
+     */
+    public OneVarBatchFunction(IOneVariableFunction function) {
+
+        if (function == null)
+            throw new IllegalArgumentException("Function Cannot Be Null");
+
+        this.function = function;
+    }
+
+    /**
+     * Returns 1, since every genome is a single x value.
+     *
+     * @return 1
+     */
+    @Override
+    public int getGenomeLength() {
+        return 1;
+    }
+
+    /**
+     * Writes the function's value at each x value in the range into the fitness array.
+     *
+     * @param xValues the x values
+     * @param from    the index of the first x value
+     * @param to      one past the index of the last x value
+     * @param fitness the array the function values are written into
+     */
+    @Override
+    public void score(double[] xValues, int from, int to, double[] fitness) {
+        if (function instanceof IBatchOneVariableFunction) {
+            ((IBatchOneVariableFunction) function).getFuncValues(xValues, from, to, fitness);
+            return;
+        }
+
+        for (int i = from; i < to; i++)
+            fitness[i] = function.getFuncValue(xValues[i]);
+    }
+
+}
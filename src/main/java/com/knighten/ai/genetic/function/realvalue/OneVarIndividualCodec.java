@@ -0,0 +1,45 @@
+package com.knighten.ai.genetic.function.realvalue;
+
+import com.knighten.ai.genetic.interfaces.IGenomeCodec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes the x value of OneVarIndividuals as a single double.
+ */
+public class OneVarIndividualCodec implements IGenomeCodec<OneVarIndividual> {
+
+    /**
+     * Returns the number of bytes the x value takes up, the size of a double.
+     *
+     * @param individual the individual to be encoded
+     * @return the number of bytes in a double
+     */
+    @Override
+    public int getEncodedSize(OneVarIndividual individual) {
+        return Double.BYTES;
+    }
+
+    /**
+     * Writes the individual's x value as a double.
+     *
+     * @param individual the individual whose x value is written
+     * @param buffer     the buffer written to, with at least getEncodedSize() bytes remaining
+     */
+    @Override
+    public void encode(OneVarIndividual individual, ByteBuffer buffer) {
+        buffer.putDouble(individual.getGenes());
+    }
+
+    /**
+     * Reads an x value written by encode().
+     *
+     * @param buffer the buffer read from, positioned at the start of an encoded x value
+     * @return a new individual holding the decoded x value
+     */
+    @Override
+    public OneVarIndividual decode(ByteBuffer buffer) {
+        return new OneVarIndividual(buffer.getDouble());
+    }
+
+}
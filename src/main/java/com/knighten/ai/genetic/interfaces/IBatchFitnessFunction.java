@@ -0,0 +1,65 @@
+package com.knighten.ai.genetic.interfaces;
+
+import com.knighten.ai.genetic.Execution;
+
+import java.util.stream.IntStream;
+
+/**
+ * Scores many genomes at once from a contiguous block of primitive genes. Genomes have a fixed length and are stored
+ * back to back, genome i taking up indices i * getGenomeLength() to (i + 1) * getGenomeLength() - 1 of the block.
+ * Scores are written into a double array at the genome's index.
+ * <p>
+ * Scoring a primitive block in a tight loop avoids following a reference to an individual and unboxing its genes for
+ * every genome, and gives the JIT compiler simple loops it can unroll. Implementations may be called from several
+ * threads at once on different ranges, so they must not keep state that changes between calls.
+ *
+ * @param <G> the type of the primitive gene block, for example int[], double[] or char[]
+ */
+public interface IBatchFitnessFunction<G> {
+
+    /**
+     * The number of genomes scored by each task when scoreAll() runs in parallel.
+     */
+    int BATCH_SIZE = 1024;
+
+    /**
+     * Returns the number of genes in every genome.
+     *
+     * @return the length of a genome in the block
+     */
+    int getGenomeLength();
+
+    /**
+     * Scores the genomes from (inclusive) to (exclusive) of the block and writes their scores into the same indices of
+     * the fitness array.
+     *
+     * @param genes   the block of genomes stored back to back
+     * @param from    the index of the first genome to score
+     * @param to      one past the index of the last genome to score
+     * @param fitness the array the scores are written into
+     */
+    void score(G genes, int from, int to, double[] fitness);
+
+    /**
+     * Scores the first count genomes of the block, either in one call to score() or split into batches of BATCH_SIZE
+     * genomes that are scored in parallel.
+     *
+     * @param genes     the block of genomes stored back to back
+     * @param count     the number of genomes to score
+     * @param fitness   the array the scores are written into
+     * @param execution sequentially or in parallel
+     */
+    default void scoreAll(G genes, int count, double[] fitness, Execution execution) {
+
+        if (execution != Execution.PARALLEL || count <= BATCH_SIZE) {
+            score(genes, 0, count, fitness);
+            return;
+        }
+
+        IntStream.range(0, (count + BATCH_SIZE - 1) / BATCH_SIZE)
+                .parallel()
+                .forEach(batch -> score(genes, batch * BATCH_SIZE, Math.min(count, (batch + 1) * BATCH_SIZE),
+                        fitness));
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.knighten.ai.genetic.interfaces;
+
+import com.knighten.ai.genetic.batch.BatchResult;
+
+import java.io.IOException;
+
+/**
+ * Receives the result of each run in a batch as soon as the run completes. BatchRunner calls a sink from one thread at
+ * a time, so sinks do not need to be thread safe.
+ */
+@FunctionalInterface
+public interface IBatchResultSink {
+
+    /**
+     * Handles the result of a completed run.
+     *
+     * @param result the result of the run
+     * @throws IOException if the result cannot be written
+     */
+    void accept(BatchResult result) throws IOException;
+
+}
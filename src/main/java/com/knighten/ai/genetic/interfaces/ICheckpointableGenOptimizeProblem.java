@@ -0,0 +1,39 @@
+package com.knighten.ai.genetic.interfaces;
+
+import com.knighten.ai.genetic.Individual;
+
+import java.io.Serializable;
+
+/**
+ * Represents a problem whose optimization can be written to a checkpoint file and resumed later. The problem supplies
+ * a codec for its individuals and exposes the state of its random number generators, so a resumed optimization draws
+ * the same random numbers it would have drawn had it never stopped.
+ *
+ * @param <T> a type of individual used to represent a population in the problem
+ */
+public interface ICheckpointableGenOptimizeProblem<T extends Individual> extends IGenOptimizeProblem<T> {
+
+    /**
+     * Returns a codec that encodes and decodes the problem's individuals.
+     *
+     * @return a codec for the problem's individuals
+     */
+    IGenomeCodec<T> getGenomeCodec();
+
+    /**
+     * Returns the state of the problem's random number generators. The state is serialized when a checkpoint is
+     * written, so the returned object may be the problem's own generator.
+     *
+     * @return the serializable state of the problem's random number generators
+     */
+    Serializable getRandomState();
+
+    /**
+     * Replaces the state of the problem's random number generators with state previously returned by
+     * getRandomState().
+     *
+     * @param state the state of the random number generators to use
+     */
+    void setRandomState(Serializable state);
+
+}
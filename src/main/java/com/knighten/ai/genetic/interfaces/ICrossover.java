@@ -0,0 +1,27 @@
+package com.knighten.ai.genetic.interfaces;
+
+import com.knighten.ai.genetic.Individual;
+
+import java.util.SplittableRandom;
+
+/**
+ * Crosses two parents into a single new individual. Used by OperatorGenOptimizeProblem, which picks the parents from
+ * the sub-population and decides whether offspring are created sequentially or in parallel. Implementations may be
+ * called from several threads at once, so they must not keep state that changes between calls.
+ *
+ * @param <T> a type of individual used to represent a population in the problem
+ */
+@FunctionalInterface
+public interface ICrossover<T extends Individual> {
+
+    /**
+     * Creates a new individual from the genes of the two parents. The parents are not changed.
+     *
+     * @param first  the first parent
+     * @param second the second parent
+     * @param random the random number stream to draw from, only used by the calling thread
+     * @return a new individual crossed from the parents
+     */
+    T cross(T first, T second, SplittableRandom random);
+
+}
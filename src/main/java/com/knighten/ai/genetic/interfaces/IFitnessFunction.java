@@ -0,0 +1,23 @@
+package com.knighten.ai.genetic.interfaces;
+
+import com.knighten.ai.genetic.Individual;
+
+/**
+ * Calculates the fitness score of a single individual. Used by OperatorGenOptimizeProblem, which decides whether the
+ * population is scored sequentially or in parallel. Implementations may be called from several threads at once, so
+ * they must not keep state that changes between calls.
+ *
+ * @param <T> a type of individual used to represent a population in the problem
+ */
+@FunctionalInterface
+public interface IFitnessFunction<T extends Individual> {
+
+    /**
+     * Calculates the fitness score of the supplied individual without setting it.
+     *
+     * @param individual the individual to score
+     * @return the individual's fitness score
+     */
+    double fitness(T individual);
+
+}
@@ -0,0 +1,42 @@
+package com.knighten.ai.genetic.interfaces;
+
+import com.knighten.ai.genetic.Individual;
+
+/**
+ * Represents a problem that can hand a private copy of itself to each worker of a parallel optimizer. Problems that
+ * implement this interface can have their crossover, mutation and fitness calculation split across threads by
+ * ParallelGeneticOptimization.
+ *
+ * @param <T> a type of individual used to represent a population in the problem
+ */
+public interface IForkableGenOptimizeProblem<T extends Individual> extends IGenOptimizeProblem<T> {
+
+    /**
+     * Creates a copy of the problem for use by a single worker thread. The copy must have its own random number
+     * generator and its own scratch state, so it can be used at the same time as the original problem and any other
+     * copies. The copy's random number generator should be seeded from the original problem's random number generator
+     * so that a seeded problem produces seeded copies.
+     *
+     * @return a copy of the problem that is safe to use on another thread
+     */
+    IGenOptimizeProblem<T> fork();
+
+    /**
+     * Creates a copy of the problem for use by a single worker thread, just like fork(), except that the copy's random
+     * number generator is seeded with the supplied seed instead of from the original problem's random number generator.
+     *
+     * @param seed the seed of the copy's random number generator
+     * @return a copy of the problem that is safe to use on another thread
+     */
+    IGenOptimizeProblem<T> fork(long seed);
+
+    /**
+     * Draws the next seed from the problem's random number generator. Parallel optimizers seed a RandomStreams family
+     * with it and fork the problem once per chunk with a seed from the chunk's stream, so a seeded problem gives the
+     * same results however many threads the chunks run on.
+     *
+     * @return a seed drawn from the problem's random number generator
+     */
+    long nextSeed();
+
+}
@@ -20,7 +20,9 @@ public interface IGenOptimizeProblem <T extends Individual> {
 
     /**
      * Calculates the fitness score for every individual in the population. Note: this will set the
-     * fitness value of all individuals in the provided population.
+     * fitness value of all individuals in the provided population. Individuals whose isFitnessValid()
+     * is true, such as elites carried over from the previous generation, may be skipped; every problem
+     * in this library skips them, so they are not evaluated again.
      *
      * @param population the population of individuals whose fitness are to be set
      */
@@ -61,4 +63,15 @@ public interface IGenOptimizeProblem <T extends Individual> {
      */
     void mutate(List<T> population, double mutationProb);
 
+    /**
+     * Returns whether lower fitness scores are better than higher fitness scores. Optimizers use this to rank
+     * individuals without calling selection() or getBestIndividual(). Problems that maximize their fitness score must
+     * override this method.
+     *
+     * @return true if lower fitness scores are better, false if higher fitness scores are better
+     */
+    default boolean isMinimization() {
+        return true;
+    }
+
 }
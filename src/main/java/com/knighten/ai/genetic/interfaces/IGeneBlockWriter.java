@@ -0,0 +1,32 @@
+package com.knighten.ai.genetic.interfaces;
+
+import com.knighten.ai.genetic.Individual;
+
+/**
+ * Copies the genes of individuals into a block of primitive genes laid out the way IBatchFitnessFunction reads them,
+ * genome i taking up indices i * getGenomeLength() to (i + 1) * getGenomeLength() - 1 of the block. Lets
+ * OperatorGenOptimizeProblem score individuals with an IBatchFitnessFunction when its fitness is BATCHED.
+ *
+ * @param <T> a type of individual used to represent a population in the problem
+ * @param <G> the type of the primitive gene block, for example int[], double[] or char[]
+ */
+public interface IGeneBlockWriter<T extends Individual, G> {
+
+    /**
+     * Creates a block large enough to hold the supplied number of genomes.
+     *
+     * @param count the number of genomes the block holds
+     * @return a new block of primitive genes
+     */
+    G createBlock(int count);
+
+    /**
+     * Copies the individual's genes into the block as the genome at the supplied index.
+     *
+     * @param individual the individual whose genes are copied
+     * @param block      the block written to
+     * @param index      the index of the genome in the block
+     */
+    void write(T individual, G block, int index);
+
+}
@@ -0,0 +1,20 @@
+package com.knighten.ai.genetic.interfaces;
+
+import com.knighten.ai.genetic.GenerationSummary;
+
+/**
+ * Receives a summary of every generation created during optimization. Listeners are called on the thread running the
+ * optimization as soon as a generation is complete, which lets results be streamed to logs or other sinks without
+ * keeping every generation's best individual in memory.
+ */
+@FunctionalInterface
+public interface IGenerationListener {
+
+    /**
+     * Called once for the initial population and once for each generation created afterwards.
+     *
+     * @param summary the summary of the completed generation
+     */
+    void onGeneration(GenerationSummary summary);
+
+}
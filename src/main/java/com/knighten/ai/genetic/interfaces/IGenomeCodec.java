@@ -0,0 +1,40 @@
+package com.knighten.ai.genetic.interfaces;
+
+import com.knighten.ai.genetic.Individual;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts the genes of individuals to and from a compact binary form. Used to write populations to checkpoint files.
+ * Only the genes are encoded, fitness scores are written separately.
+ *
+ * @param <T> the type of individual encoded
+ */
+public interface IGenomeCodec<T extends Individual> {
+
+    /**
+     * Returns the number of bytes encode() writes for the supplied individual.
+     *
+     * @param individual the individual to be encoded
+     * @return the size of the individual's encoded genes in bytes
+     */
+    int getEncodedSize(T individual);
+
+    /**
+     * Writes the genes of the individual into the buffer at its current position. The buffer always has at least
+     * getEncodedSize() bytes remaining.
+     *
+     * @param individual the individual to encode
+     * @param buffer     the buffer written to
+     */
+    void encode(T individual, ByteBuffer buffer);
+
+    /**
+     * Reads genes written by encode() from the buffer's current position and creates an individual with them.
+     *
+     * @param buffer the buffer read from
+     * @return a new individual with the decoded genes
+     */
+    T decode(ByteBuffer buffer);
+
+}
@@ -0,0 +1,25 @@
+package com.knighten.ai.genetic.interfaces;
+
+import com.knighten.ai.genetic.Individual;
+
+import java.util.SplittableRandom;
+
+/**
+ * Creates the random individuals of an initial population, one at a time. Used by OperatorGenOptimizeProblem, which
+ * decides whether individuals are created sequentially or in parallel. Implementations may be called from several
+ * threads at once, so they must not keep state that changes between calls.
+ *
+ * @param <T> a type of individual used to represent a population in the problem
+ */
+@FunctionalInterface
+public interface IInitializer<T extends Individual> {
+
+    /**
+     * Creates a new random individual.
+     *
+     * @param random the random number stream to draw from, only used by the calling thread
+     * @return a new random individual
+     */
+    T create(SplittableRandom random);
+
+}
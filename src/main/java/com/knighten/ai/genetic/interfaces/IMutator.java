@@ -0,0 +1,27 @@
+package com.knighten.ai.genetic.interfaces;
+
+import com.knighten.ai.genetic.Individual;
+
+import java.util.SplittableRandom;
+
+/**
+ * Mutates the genes of a single individual in place. Used by OperatorGenOptimizeProblem, which decides whether the
+ * population is mutated sequentially or in parallel. Implementations may be called from several threads at once, so
+ * they must not keep state that changes between calls.
+ *
+ * @param <T> a type of individual used to represent a population in the problem
+ */
+@FunctionalInterface
+public interface IMutator<T extends Individual> {
+
+    /**
+     * Mutates the supplied individual. Each gene is changed with a probability of mutationProb. Implementations set the
+     * mutated genes with setGenes(), so the individual's fitness score is marked out of date.
+     *
+     * @param individual   the individual to mutate
+     * @param mutationProb the probability that a gene of the individual is mutated
+     * @param random       the random number stream to draw from, only used by the calling thread
+     */
+    void mutate(T individual, double mutationProb, SplittableRandom random);
+
+}
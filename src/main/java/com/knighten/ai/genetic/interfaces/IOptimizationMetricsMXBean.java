@@ -0,0 +1,94 @@
+package com.knighten.ai.genetic.interfaces;
+
+import com.knighten.ai.genetic.metrics.LatencySnapshot;
+
+/**
+ * The attributes and operations of OptimizationMetrics published through JMX. Latencies are composite values holding
+ * the count, mean, median, 90th and 99th percentiles and maximum of a phase, in milliseconds. Rates are measured from
+ * the start of the current or most recent run to its latest generation.
+ */
+public interface IOptimizationMetricsMXBean {
+
+    /**
+     * Returns the index of the latest generation completed by the current or most recent run.
+     *
+     * @return the latest completed generation
+     */
+    int getGenerationCount();
+
+    /**
+     * Returns the number of fitness calculations performed by the current or most recent run.
+     *
+     * @return the number of fitness calculations
+     */
+    long getEvaluationCount();
+
+    /**
+     * Returns the number of individuals in each generation of the current or most recent run.
+     *
+     * @return the population size
+     */
+    int getPopulationSize();
+
+    /**
+     * Returns the time between the start of the current or most recent run and its latest generation.
+     *
+     * @return the elapsed time in seconds
+     */
+    double getElapsedSeconds();
+
+    /**
+     * Returns the number of generations completed per second.
+     *
+     * @return the generation rate
+     */
+    double getGenerationsPerSecond();
+
+    /**
+     * Returns the number of fitness calculations performed per second.
+     *
+     * @return the evaluation rate
+     */
+    double getEvaluationsPerSecond();
+
+    /**
+     * Returns the latencies of the selection phase.
+     *
+     * @return a snapshot of the selection latencies
+     */
+    LatencySnapshot getSelectionLatency();
+
+    /**
+     * Returns the latencies of the crossover phase.
+     *
+     * @return a snapshot of the crossover latencies
+     */
+    LatencySnapshot getCrossoverLatency();
+
+    /**
+     * Returns the latencies of the mutation phase.
+     *
+     * @return a snapshot of the mutation latencies
+     */
+    LatencySnapshot getMutationLatency();
+
+    /**
+     * Returns the latencies of the fitness calculation phase.
+     *
+     * @return a snapshot of the fitness latencies
+     */
+    LatencySnapshot getFitnessLatency();
+
+    /**
+     * Returns the latencies of finding each generation's best individual.
+     *
+     * @return a snapshot of the best individual latencies
+     */
+    LatencySnapshot getBestIndividualLatency();
+
+    /**
+     * Removes every recorded latency and clears the counts and rates.
+     */
+    void reset();
+
+}
@@ -0,0 +1,22 @@
+package com.knighten.ai.genetic.interfaces;
+
+import com.knighten.ai.genetic.GeneticOptimization;
+import com.knighten.ai.genetic.GeneticOptimizationParams;
+
+/**
+ * Creates the optimizer for a single run of a batch. Each run gets its own optimizer and problem, so runs never share
+ * state and can be executed on different threads.
+ */
+@FunctionalInterface
+public interface IOptimizerFactory {
+
+    /**
+     * Creates an optimizer for a run using the supplied parameters and seed.
+     *
+     * @param params the run's optimization parameters
+     * @param seed   the run's seed, used to create the problem's random number generators
+     * @return a new optimizer for the run
+     */
+    GeneticOptimization create(GeneticOptimizationParams params, long seed);
+
+}
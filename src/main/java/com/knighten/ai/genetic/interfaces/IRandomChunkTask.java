@@ -0,0 +1,21 @@
+package com.knighten.ai.genetic.interfaces;
+
+import java.util.SplittableRandom;
+
+/**
+ * Work done on one chunk of a range of indices by RandomStreams.forEachChunk(). Each chunk is given its own random
+ * number stream, so chunks can run on any thread in any order and still draw the same random numbers.
+ */
+@FunctionalInterface
+public interface IRandomChunkTask {
+
+    /**
+     * Performs the work for the indices from (inclusive) to (exclusive).
+     *
+     * @param from   the first index of the chunk
+     * @param to     one past the last index of the chunk
+     * @param random the chunk's random number stream, only used by this chunk
+     */
+    void run(int from, int to, SplittableRandom random);
+
+}
@@ -0,0 +1,36 @@
+package com.knighten.ai.genetic.interfaces;
+
+import com.knighten.ai.genetic.Individual;
+
+import java.util.List;
+
+/**
+ * Represents a problem that can write offspring into existing individuals instead of creating new ones.
+ * GeneticOptimization keeps two populations for problems that implement this interface, the current generation and a
+ * spare, and writes each new generation into the individuals of the spare population. After the first generation no
+ * new individuals are created.
+ *
+ * @param <T> a type of individual used to represent a population in the problem
+ */
+public interface IRecyclingGenOptimizeProblem<T extends Individual> extends IGenOptimizeProblem<T> {
+
+    /**
+     * Crosses individuals of the sub-population and writes the results into the supplied offspring. Every offspring's
+     * genes are replaced, reusing the offspring's existing gene storage where possible. The sub-population and the
+     * offspring never share individuals.
+     *
+     * @param subPopulation the sub-population used to generate the offspring
+     * @param offspring     the individuals whose genes are replaced by the crossed genes
+     */
+    void crossoverInto(List<T> subPopulation, List<T> offspring);
+
+    /**
+     * Creates a new individual with a copy of the supplied individual's genes and fitness score. Used to keep
+     * individuals that must outlive the population they came from, since recycled individuals are overwritten.
+     *
+     * @param individual the individual to copy
+     * @return a new individual equal to the supplied individual
+     */
+    T copy(T individual);
+
+}
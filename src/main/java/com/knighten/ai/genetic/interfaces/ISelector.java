@@ -0,0 +1,29 @@
+package com.knighten.ai.genetic.interfaces;
+
+import com.knighten.ai.genetic.Individual;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Picks the sub-population that is crossed to create the next generation. Problems that accept a selector use it in
+ * selection() in place of their default truncation selection. Selectors hold no random state of their own, they draw
+ * from the Random supplied by the problem, so one selector can be shared by a problem and all of its forks.
+ *
+ * @param <T> a type of individual used to represent a population in the problem
+ */
+public interface ISelector<T extends Individual> {
+
+    /**
+     * Picks count individuals from the population. The population is not changed. Individuals may be picked more than
+     * once.
+     *
+     * @param population   the population to pick from
+     * @param count        the number of individuals to pick
+     * @param minimization whether lower fitness scores are better
+     * @param random       used to generate random numbers, seeded and owned by the problem
+     * @return a new list holding the picked individuals
+     */
+    List<T> select(List<T> population, int count, boolean minimization, Random random);
+
+}
@@ -0,0 +1,26 @@
+package com.knighten.ai.genetic.interfaces;
+
+import com.knighten.ai.genetic.OptimizationState;
+
+/**
+ * Decides when an optimization should stop before reaching the max number of generations. Optimizers check the
+ * condition once per generation, including the initial population, so checks should be cheap.
+ */
+public interface ITerminationCondition {
+
+    /**
+     * Checks if the optimization should stop after the generation described by the supplied state.
+     *
+     * @param state the state of the optimization after the latest generation
+     * @return true if the optimization should stop
+     */
+    boolean isTerminated(OptimizationState state);
+
+    /**
+     * Clears any state kept between checks. Called at the start of every optimization, so a condition can be reused
+     * by several runs.
+     */
+    default void reset() {
+    }
+
+}
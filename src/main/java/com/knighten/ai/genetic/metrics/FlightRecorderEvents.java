@@ -0,0 +1,385 @@
+package com.knighten.ai.genetic.metrics;
+
+import com.knighten.ai.genetic.GenerationSummary;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Emits Java Flight Recorder events for generations and phases, so a recording shows the optimizer's work next to GC
+ * pauses, safepoints and CPU samples. Two event types are defined:
+ * <ul>
+ * <li>com.knighten.ai.genetic.Generation - an instant event per completed generation, with its index, best fitness,
+ * mean fitness and population size</li>
+ * <li>com.knighten.ai.genetic.Phase - a duration event per call to selection, crossover, mutation, fitness calculation
+ * or best individual, with the name of the phase</li>
+ * </ul>
+ * The framework is compiled against the Java 8 platform, which has no JFR API, so the event types are created at run
+ * time through jdk.jfr.EventFactory when the JVM provides it, as Java 11 and later and 8u262 and later do. On other
+ * JVMs nothing is emitted. A listener on the flight recorder keeps track of running recordings; while none is running
+ * isRecording() is false and optimizers skip every event, so the events cost one volatile read when not recording.
+ * The event types are created when the first recording starts, so JVMs that never record do not pay for them.
+ * <p>
+ * Both event types are disabled by default and must be enabled by name, through a recording's settings or
+ * Recording.enable(), so a continuous production recording does not pick them up. Each event type is checked with
+ * EventType.isEnabled() before an event is created: a recording with the phase event disabled allocates no phase
+ * events, and one with the generation event disabled makes optimizers skip building generation summaries. Phase events
+ * are returned to the caller by beginPhase() and handed back to endPhase(), so nested or overlapping phases on one
+ * thread each keep their own event.
+ */
+public class FlightRecorderEvents {
+
+    /**
+     * The name of the generation event type.
+     */
+    public static final String GENERATION_EVENT = "com.knighten.ai.genetic.Generation";
+
+    /**
+     * The name of the phase event type.
+     */
+    public static final String PHASE_EVENT = "com.knighten.ai.genetic.Phase";
+
+    /**
+     * Whether the JVM's flight recorder can be used and running recordings are tracked.
+     */
+    private static boolean available;
+
+    /**
+     * Whether the event types were created, or creating them failed and should not be tried again.
+     */
+    private static boolean eventTypesCreated;
+
+    /**
+     * Whether at least one recording is running.
+     */
+    private static volatile boolean recording;
+
+    /**
+     * The ids of the recordings that are running.
+     */
+    private static Set<Long> runningRecordings = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Checks if the generation event is enabled, EventType.isEnabled() bound to the generation event type.
+     */
+    private static MethodHandle generationEnabled;
+
+    /**
+     * Checks if the phase event is enabled, EventType.isEnabled() bound to the phase event type.
+     */
+    private static MethodHandle phaseEnabled;
+
+    /**
+     * Creates a new generation event, EventFactory.newEvent() bound to the generation event factory.
+     */
+    private static MethodHandle newGenerationEvent;
+
+    /**
+     * Creates a new phase event, EventFactory.newEvent() bound to the phase event factory.
+     */
+    private static MethodHandle newPhaseEvent;
+
+    /**
+     * Event.set(int, Object).
+     */
+    private static MethodHandle set;
+
+    /**
+     * Event.begin().
+     */
+    private static MethodHandle begin;
+
+    /**
+     * Event.end().
+     */
+    private static MethodHandle end;
+
+    /**
+     * Event.shouldCommit().
+     */
+    private static MethodHandle shouldCommit;
+
+    /**
+     * Event.commit().
+     */
+    private static MethodHandle commit;
+
+    static {
+        try {
+            initialize();
+            available = true;
+        } catch (Throwable e) {
+            // No Usable Flight Recorder, Events Are Never Emitted
+            available = false;
+        }
+    }
+
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * Returns whether the JVM's flight recorder can be used to record events.
+     *
+     * @return true if the JVM has a usable flight recorder
+     */
+    public static boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Returns whether a flight recording is running. Events are only worth creating while this is true.
+     *
+     * @return true if at least one recording is running
+     */
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Returns whether a running recording has the generation event enabled. Optimizers only build generation
+     * summaries for the flight recorder while this is true.
+     *
+     * @return true if generation events are being recorded
+     */
+    public static boolean isGenerationEnabled() {
+        if (!recording)
+            return false;
+
+        try {
+            return (boolean) generationEnabled.invokeExact();
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * Begins a phase event if a running recording has the phase event enabled. The event is committed by endPhase().
+     *
+     * @return the begun jdk.jfr.Event, or null if phase events are not being recorded
+     */
+    public static Object beginPhase() {
+        if (!recording)
+            return null;
+
+        try {
+            if (!(boolean) phaseEnabled.invokeExact())
+                return null;
+
+            Object event = (Object) newPhaseEvent.invokeExact();
+            begin.invokeExact(event);
+            return event;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Ends a phase event begun by beginPhase() and commits it if the recording's threshold for the event is met.
+     *
+     * @param event the event returned by beginPhase()
+     * @param phase the phase that was run
+     */
+    public static void endPhase(Object event, Phase phase) {
+        try {
+            end.invokeExact(event);
+            if ((boolean) shouldCommit.invokeExact(event)) {
+                set.invokeExact(event, 0, (Object) phase.name());
+                commit.invokeExact(event);
+            }
+        } catch (Throwable e) {
+            // Events Are Best Effort And Never Fail The Optimization
+        }
+    }
+
+    /**
+     * Commits a generation event holding the summary's generation index, best fitness, mean fitness and population
+     * size, if a running recording has the generation event enabled.
+     *
+     * @param summary the summary of the completed generation
+     */
+    public static void commitGeneration(GenerationSummary summary) {
+        if (!isGenerationEnabled())
+            return;
+
+        try {
+            Object event = (Object) newGenerationEvent.invokeExact();
+            set.invokeExact(event, 0, (Object) summary.getGeneration());
+            set.invokeExact(event, 1, (Object) summary.getBestFitness());
+            set.invokeExact(event, 2, (Object) summary.getMeanFitness());
+            set.invokeExact(event, 3, (Object) summary.getPopulationSize());
+            commit.invokeExact(event);
+        } catch (Throwable e) {
+            // Events Are Best Effort And Never Fail The Optimization
+        }
+    }
+
+    /**
+     * Registers the listener that tracks running recordings.
+     *
+     * @throws Throwable if the JVM has no usable flight recorder
+     */
+    private static void initialize() throws Throwable {
+        Class<?> flightRecorder = Class.forName("jdk.jfr.FlightRecorder");
+        if (!(Boolean) flightRecorder.getMethod("isAvailable").invoke(null))
+            throw new IllegalStateException("Flight Recorder Is Not Available");
+
+        Class<?> listenerClass = Class.forName("jdk.jfr.FlightRecorderListener");
+        Object listener = Proxy.newProxyInstance(FlightRecorderEvents.class.getClassLoader(),
+                new Class<?>[]{listenerClass}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "recorderInitialized":
+                            for (Object running : (List<?>) args[0].getClass().getMethod("getRecordings")
+                                    .invoke(args[0]))
+                                recordingChanged(running);
+                            return null;
+                        case "recordingStateChanged":
+                            recordingChanged(args[0]);
+                            return null;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return FlightRecorderEvents.class.getSimpleName() + " Listener";
+                        default:
+                            return null;
+                    }
+                });
+        flightRecorder.getMethod("addListener", listenerClass).invoke(null, listener);
+    }
+
+    /**
+     * Updates the set of running recordings after a recording's state changed. The event types are created before
+     * recording is first reported as running.
+     *
+     * @param jfrRecording the jdk.jfr.Recording whose state changed
+     * @throws ReflectiveOperationException if the recording cannot be read
+     */
+    private static synchronized void recordingChanged(Object jfrRecording) throws ReflectiveOperationException {
+        Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+        long id = (Long) recordingClass.getMethod("getId").invoke(jfrRecording);
+        String state = String.valueOf(recordingClass.getMethod("getState").invoke(jfrRecording));
+
+        if ("RUNNING".equals(state))
+            runningRecordings.add(id);
+        else
+            runningRecordings.remove(id);
+
+        recording = !runningRecordings.isEmpty() && createEventTypes();
+    }
+
+    /**
+     * Creates the event types and looks up the methods used to fill in and commit events, the first time it is
+     * called.
+     *
+     * @return true if the event types can be used
+     */
+    private static boolean createEventTypes() {
+        if (eventTypesCreated)
+            return newPhaseEvent != null;
+
+        eventTypesCreated = true;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> eventClass = Class.forName("jdk.jfr.Event");
+            Class<?> eventFactory = Class.forName("jdk.jfr.EventFactory");
+            Class<?> eventType = Class.forName("jdk.jfr.EventType");
+
+            Object generationFactory = createFactory(GENERATION_EVENT, "Generation",
+                    "A generation completed by a genetic optimizer",
+                    field(int.class, "generation", "Generation"),
+                    field(double.class, "bestFitness", "Best Fitness"),
+                    field(double.class, "meanFitness", "Mean Fitness"),
+                    field(int.class, "populationSize", "Population Size"));
+            Object phaseFactory = createFactory(PHASE_EVENT, "Phase",
+                    "A phase of a generation run by a genetic optimizer",
+                    field(String.class, "phase", "Phase"));
+
+            // Handles Are Adapted To Object Types So They Can Be Called With invokeExact() Without Boxing
+            MethodType onEvent = MethodType.methodType(void.class, Object.class);
+            MethodHandle newEvent = lookup.findVirtual(eventFactory, "newEvent", MethodType.methodType(eventClass))
+                    .asType(MethodType.methodType(Object.class, eventFactory));
+            MethodHandle getEventType = lookup.findVirtual(eventFactory, "getEventType",
+                    MethodType.methodType(eventType));
+            MethodHandle isEnabled = lookup.findVirtual(eventType, "isEnabled", MethodType.methodType(boolean.class));
+            set = lookup.findVirtual(eventClass, "set", MethodType.methodType(void.class, int.class, Object.class))
+                    .asType(MethodType.methodType(void.class, Object.class, int.class, Object.class));
+            begin = lookup.findVirtual(eventClass, "begin", MethodType.methodType(void.class)).asType(onEvent);
+            end = lookup.findVirtual(eventClass, "end", MethodType.methodType(void.class)).asType(onEvent);
+            commit = lookup.findVirtual(eventClass, "commit", MethodType.methodType(void.class)).asType(onEvent);
+            shouldCommit = lookup.findVirtual(eventClass, "shouldCommit", MethodType.methodType(boolean.class))
+                    .asType(MethodType.methodType(boolean.class, Object.class));
+            generationEnabled = isEnabled.bindTo(getEventType.invoke(generationFactory));
+            phaseEnabled = isEnabled.bindTo(getEventType.invoke(phaseFactory));
+            newGenerationEvent = newEvent.bindTo(generationFactory);
+            newPhaseEvent = newEvent.bindTo(phaseFactory);
+        } catch (Throwable e) {
+            newPhaseEvent = null;
+        }
+
+        return newPhaseEvent != null;
+    }
+
+    /**
+     * Creates an EventFactory for an event type in the genetic optimization category. The event type is disabled unless
+     * a recording enables it.
+     *
+     * @param name        the event type's name
+     * @param label       the event type's label
+     * @param description the event type's description
+     * @param fields      the event type's fields, as jdk.jfr.ValueDescriptors
+     * @return the jdk.jfr.EventFactory
+     * @throws ReflectiveOperationException if the factory cannot be created
+     */
+    private static Object createFactory(String name, String label, String description, Object... fields)
+            throws ReflectiveOperationException {
+        List<Object> annotations = new ArrayList<>();
+        annotations.add(annotation("jdk.jfr.Name", name));
+        annotations.add(annotation("jdk.jfr.Label", label));
+        annotations.add(annotation("jdk.jfr.Description", description));
+        annotations.add(annotation("jdk.jfr.Category", new String[]{"Genetic Optimization"}));
+        annotations.add(annotation("jdk.jfr.Enabled", false));
+
+        return Class.forName("jdk.jfr.EventFactory").getMethod("create", List.class, List.class)
+                .invoke(null, annotations, Arrays.asList(fields));
+    }
+
+    /**
+     * Creates a jdk.jfr.ValueDescriptor for a field of an event type.
+     *
+     * @param type  the field's type
+     * @param name  the field's name
+     * @param label the field's label
+     * @return the ValueDescriptor
+     * @throws ReflectiveOperationException if the descriptor cannot be created
+     */
+    private static Object field(Class<?> type, String name, String label) throws ReflectiveOperationException {
+        return Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class, String.class, List.class)
+                .newInstance(type, name, Collections.singletonList(annotation("jdk.jfr.Label", label)));
+    }
+
+    /**
+     * Creates a jdk.jfr.AnnotationElement for one of the JFR annotations.
+     *
+     * @param annotationName the annotation's class name
+     * @param value          the annotation's value
+     * @return the AnnotationElement
+     * @throws ReflectiveOperationException if the element cannot be created
+     */
+    private static Object annotation(String annotationName, Object value) throws ReflectiveOperationException {
+        Class<?> annotationType = Class.forName(annotationName).asSubclass(Annotation.class);
+
+        return Class.forName("jdk.jfr.AnnotationElement").getConstructor(Class.class, Object.class)
+                .newInstance(annotationType, value);
+    }
+
+}
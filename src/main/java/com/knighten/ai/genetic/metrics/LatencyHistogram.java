@@ -0,0 +1,180 @@
+package com.knighten.ai.genetic.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies in nanoseconds that can be recorded to from several threads at once without locking.
+ * Latencies are counted in log-linear buckets: every power of two is split into eight buckets of equal width, so a
+ * percentile read from the histogram is never more than 12.5% above the true value. Recording a latency is a few bit
+ * operations and three atomic additions, and the histogram never allocates after it is created.
+ */
+public class LatencyHistogram {
+
+    /**
+     * The number of bits of a latency, below its highest set bit, used to pick the bucket within its power of two.
+     */
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /**
+     * The number of buckets each power of two is split into.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The number of buckets needed to cover every non-negative long.
+     */
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /**
+     * The number of latencies recorded in each bucket.
+     */
+    private AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    /**
+     * The number of latencies recorded.
+     */
+    private LongAdder count = new LongAdder();
+
+    /**
+     * The sum of the latencies recorded.
+     */
+    private LongAdder totalNanos = new LongAdder();
+
+    /**
+     * The largest latency recorded.
+     */
+    private LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a latency. Negative latencies are recorded as zero.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long latency = Math.max(0, nanos);
+
+        buckets.incrementAndGet(bucket(latency));
+        count.increment();
+        totalNanos.add(latency);
+        maxNanos.accumulate(latency);
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     *
+     * @return the latency count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of the latencies recorded.
+     *
+     * @return the total latency in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Returns the largest latency recorded, 0 if none were recorded.
+     *
+     * @return the largest latency in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the latency that the supplied fraction of the recorded latencies are at or below, rounded up to the top
+     * of its bucket and limited to the largest latency recorded. Returns 0 if no latencies were recorded.
+     *
+     * @param fraction the fraction of latencies, from 0 to 1, for example 0.99 for the 99th percentile
+     * @return the latency in nanoseconds at the fraction
+     */
+    public long getPercentileNanos(double fraction) {
+
+        if (!(fraction >= 0.0 && fraction <= 1.0))
+            throw new IllegalArgumentException("Fraction Must Be Between 0 And 1");
+
+        long total = 0;
+        long[] counts = new long[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts[bucket] = buckets.get(bucket);
+            total += counts[bucket];
+        }
+
+        if (total == 0)
+            return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank)
+                return Math.min(upperBound(bucket), getMaxNanos());
+        }
+
+        return getMaxNanos();
+    }
+
+    /**
+     * Creates a snapshot of the histogram's count, mean, median, 90th and 99th percentiles and maximum.
+     *
+     * @return a new snapshot of the histogram
+     */
+    public LatencySnapshot snapshot() {
+        long latencies = getCount();
+        double mean = latencies == 0 ? 0.0 : (double) getTotalNanos() / latencies;
+
+        return new LatencySnapshot(latencies, mean / 1e6, getPercentileNanos(0.5) / 1e6,
+                getPercentileNanos(0.9) / 1e6, getPercentileNanos(0.99) / 1e6, getMaxNanos() / 1e6);
+    }
+
+    /**
+     * Removes every recorded latency. Latencies recorded while resetting may be partly kept.
+     */
+    public void reset() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++)
+            buckets.set(bucket, 0);
+
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    /**
+     * Returns the bucket a latency is counted in. Latencies below SUB_BUCKETS have a bucket each, larger latencies
+     * share a bucket with those that have the same highest set bit and the same SUB_BUCKET_BITS bits below it.
+     *
+     * @param nanos the latency, not negative
+     * @return the index of the latency's bucket
+     */
+    private static int bucket(long nanos) {
+        if (nanos < SUB_BUCKETS)
+            return (int) nanos;
+
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((nanos >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Returns the largest latency counted in a bucket.
+     *
+     * @param bucket the index of the bucket
+     * @return the top of the bucket in nanoseconds
+     */
+    private static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS)
+            return bucket;
+
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+
+        return lowerBound + (1L << shift) - 1;
+    }
+
+}
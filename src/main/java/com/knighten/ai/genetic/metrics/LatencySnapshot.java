@@ -0,0 +1,127 @@
+package com.knighten.ai.genetic.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * The state of a LatencyHistogram at one point in time, in milliseconds. Published through JMX as a composite value
+ * so tools such as JConsole and VisualVM show each field as its own column.
+ */
+public class LatencySnapshot {
+
+    /**
+     * The number of latencies recorded.
+     */
+    private long count;
+
+    /**
+     * The mean latency.
+     */
+    private double meanMillis;
+
+    /**
+     * The median latency.
+     */
+    private double p50Millis;
+
+    /**
+     * The 90th percentile latency.
+     */
+    private double p90Millis;
+
+    /**
+     * The 99th percentile latency.
+     */
+    private double p99Millis;
+
+    /**
+     * The largest latency.
+     */
+    private double maxMillis;
+
+    /**
+     * Creates a snapshot holding the supplied values.
+     *
+     * @param count      the number of latencies recorded
+     * @param meanMillis the mean latency in milliseconds
+     * @param p50Millis  the median latency in milliseconds
+     * @param p90Millis  the 90th percentile latency in milliseconds
+     * @param p99Millis  the 99th percentile latency in milliseconds
+     * @param maxMillis  the largest latency in milliseconds
+     */
+    @ConstructorProperties({"count", "meanMillis", "p50Millis", "p90Millis", "p99Millis", "maxMillis"})
+    public LatencySnapshot(long count, double meanMillis, double p50Millis, double p90Millis, double p99Millis,
+                           double maxMillis) {
+        this.count = count;
+        this.meanMillis = meanMillis;
+        this.p50Millis = p50Millis;
+        this.p90Millis = p90Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     *
+     * @return the latency count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the mean latency.
+     *
+     * @return the mean latency in milliseconds
+     */
+    public double getMeanMillis() {
+        return meanMillis;
+    }
+
+    /**
+     * Returns the median latency.
+     *
+     * @return the median latency in milliseconds
+     */
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    /**
+     * Returns the 90th percentile latency.
+     *
+     * @return the 90th percentile latency in milliseconds
+     */
+    public double getP90Millis() {
+        return p90Millis;
+    }
+
+    /**
+     * Returns the 99th percentile latency.
+     *
+     * @return the 99th percentile latency in milliseconds
+     */
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    /**
+     * Returns the largest latency.
+     *
+     * @return the largest latency in milliseconds
+     */
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    /**
+     * Converts the snapshot into a single line of text for logging.
+     *
+     * @return the snapshot's values in milliseconds
+     */
+    @Override
+    public String toString() {
+        return String.format("count=%d mean=%.3fms p50=%.3fms p90=%.3fms p99=%.3fms max=%.3fms", count, meanMillis,
+                p50Millis, p90Millis, p99Millis, maxMillis);
+    }
+
+}
@@ -0,0 +1,313 @@
+package com.knighten.ai.genetic.metrics;
+
+import com.knighten.ai.genetic.interfaces.IOptimizationMetricsMXBean;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how long each phase of a generation takes and how fast an optimization runs. An optimizer given an instance
+ * with GeneticOptimization.setMetrics() records the latency of every call to selection(), crossover(), mutate(),
+ * calculateFitness() and getBestIndividual() in a LatencyHistogram per Phase, and counts generations and fitness
+ * calculations. Optimizers without metrics skip timing entirely, so metrics cost nothing unless they are used.
+ * <p>
+ * Phases run on worker threads, as in ParallelGeneticOptimization and IslandGeneticOptimization, record one latency
+ * per worker. Call register() to publish the metrics through JMX, where they can be read with JConsole, VisualVM or
+ * any JMX client.
+ */
+public class OptimizationMetrics implements IOptimizationMetricsMXBean {
+
+    /**
+     * The JMX domain metrics are registered under.
+     */
+    public static final String JMX_DOMAIN = "com.knighten.ai.genetic";
+
+    /**
+     * The latencies of every phase.
+     */
+    private Map<Phase, LatencyHistogram> latencies = new EnumMap<>(Phase.class);
+
+    /**
+     * The number of fitness calculations performed by the current run.
+     */
+    private LongAdder evaluationCount = new LongAdder();
+
+    /**
+     * The index of the latest generation completed by the current run.
+     */
+    private volatile int generationCount;
+
+    /**
+     * The number of individuals in each generation of the current run.
+     */
+    private volatile int populationSize;
+
+    /**
+     * The value of System.nanoTime() when the current run started.
+     */
+    private volatile long startNanos;
+
+    /**
+     * The value of System.nanoTime() when the current run last completed a generation.
+     */
+    private volatile long latestNanos;
+
+    /**
+     * The name the metrics are registered under in JMX, null if they are not registered.
+     */
+    private ObjectName objectName;
+
+    /**
+     * Creates metrics with no recorded latencies.
+     */
+    public OptimizationMetrics() {
+        for (Phase phase : Phase.values())
+            latencies.put(phase, new LatencyHistogram());
+    }
+
+    /**
+     * Records the latency of one call to a phase.
+     *
+     * @param phase the phase that was run
+     * @param nanos the time the phase took in nanoseconds
+     */
+    public void recordPhase(Phase phase, long nanos) {
+        latencies.get(phase).record(nanos);
+    }
+
+    /**
+     * Marks the start of a run. The generation and evaluation counts and the rates start again from zero, recorded
+     * latencies are kept.
+     *
+     * @param populationSize the number of individuals in each generation
+     */
+    public void runStarted(int populationSize) {
+        this.populationSize = populationSize;
+        evaluationCount.reset();
+        generationCount = 0;
+        startNanos = System.nanoTime();
+        latestNanos = startNanos;
+    }
+
+    /**
+     * Adds to the number of fitness calculations performed by the current run.
+     *
+     * @param evaluations the number of individuals whose fitness was just calculated
+     */
+    public void addEvaluations(long evaluations) {
+        evaluationCount.add(evaluations);
+    }
+
+    /**
+     * Marks a generation of the current run as completed.
+     *
+     * @param generation the index of the generation
+     */
+    public void generationCompleted(int generation) {
+        generationCount = generation;
+        latestNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns the histogram holding the latencies of a phase.
+     *
+     * @param phase the phase
+     * @return the phase's histogram
+     */
+    public LatencyHistogram getHistogram(Phase phase) {
+        return latencies.get(phase);
+    }
+
+    /**
+     * Returns the index of the latest generation completed by the current or most recent run.
+     *
+     * @return the latest completed generation
+     */
+    @Override
+    public int getGenerationCount() {
+        return generationCount;
+    }
+
+    /**
+     * Returns the number of fitness calculations performed by the current or most recent run.
+     *
+     * @return the number of fitness calculations
+     */
+    @Override
+    public long getEvaluationCount() {
+        return evaluationCount.sum();
+    }
+
+    /**
+     * Returns the number of individuals in each generation of the current or most recent run.
+     *
+     * @return the population size
+     */
+    @Override
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    /**
+     * Returns the time between the start of the current or most recent run and its latest generation.
+     *
+     * @return the elapsed time in seconds
+     */
+    @Override
+    public double getElapsedSeconds() {
+        return (latestNanos - startNanos) / 1e9;
+    }
+
+    /**
+     * Returns the number of generations completed per second, 0 before the first generation.
+     *
+     * @return the generation rate
+     */
+    @Override
+    public double getGenerationsPerSecond() {
+        return rate(generationCount);
+    }
+
+    /**
+     * Returns the number of fitness calculations performed per second, 0 before the first generation.
+     *
+     * @return the evaluation rate
+     */
+    @Override
+    public double getEvaluationsPerSecond() {
+        return rate(getEvaluationCount());
+    }
+
+    /**
+     * Returns the latencies of the selection phase.
+     *
+     * @return a snapshot of the selection latencies
+     */
+    @Override
+    public LatencySnapshot getSelectionLatency() {
+        return latencies.get(Phase.SELECTION).snapshot();
+    }
+
+    /**
+     * Returns the latencies of the crossover phase.
+     *
+     * @return a snapshot of the crossover latencies
+     */
+    @Override
+    public LatencySnapshot getCrossoverLatency() {
+        return latencies.get(Phase.CROSSOVER).snapshot();
+    }
+
+    /**
+     * Returns the latencies of the mutation phase.
+     *
+     * @return a snapshot of the mutation latencies
+     */
+    @Override
+    public LatencySnapshot getMutationLatency() {
+        return latencies.get(Phase.MUTATION).snapshot();
+    }
+
+    /**
+     * Returns the latencies of the fitness calculation phase.
+     *
+     * @return a snapshot of the fitness latencies
+     */
+    @Override
+    public LatencySnapshot getFitnessLatency() {
+        return latencies.get(Phase.FITNESS).snapshot();
+    }
+
+    /**
+     * Returns the latencies of finding each generation's best individual.
+     *
+     * @return a snapshot of the best individual latencies
+     */
+    @Override
+    public LatencySnapshot getBestIndividualLatency() {
+        return latencies.get(Phase.BEST_INDIVIDUAL).snapshot();
+    }
+
+    /**
+     * Removes every recorded latency and clears the counts and rates.
+     */
+    @Override
+    public void reset() {
+        for (LatencyHistogram histogram : latencies.values())
+            histogram.reset();
+
+        runStarted(populationSize);
+    }
+
+    /**
+     * Publishes the metrics through the platform MBean server under the name
+     * com.knighten.ai.genetic:type=OptimizationMetrics,name=[name].
+     *
+     * @param name the name that tells these metrics apart from other optimizations in the same JVM
+     * @return the name the metrics were registered under
+     */
+    public synchronized ObjectName register(String name) {
+
+        if (name == null || name.isEmpty())
+            throw new IllegalArgumentException("Name Cannot Be Null Or Empty");
+
+        if (objectName != null)
+            throw new IllegalStateException("Metrics Are Already Registered As " + objectName);
+
+        try {
+            ObjectName registeredName = new ObjectName(JMX_DOMAIN + ":type=OptimizationMetrics,name="
+                    + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, registeredName);
+            objectName = registeredName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Metrics Could Not Be Registered", e);
+        }
+
+        return objectName;
+    }
+
+    /**
+     * Removes the metrics from the platform MBean server. Does nothing if they are not registered.
+     */
+    public synchronized void unregister() {
+        if (objectName == null)
+            return;
+
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(objectName))
+                server.unregisterMBean(objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Metrics Could Not Be Unregistered", e);
+        } finally {
+            objectName = null;
+        }
+    }
+
+    /**
+     * Returns the name the metrics are registered under in JMX.
+     *
+     * @return the registered name, or null if the metrics are not registered
+     */
+    public synchronized ObjectName getObjectName() {
+        return objectName;
+    }
+
+    /**
+     * Divides a count by the elapsed time of the current run.
+     *
+     * @param count the count to divide
+     * @return the count per second
+     */
+    private double rate(long count) {
+        double seconds = getElapsedSeconds();
+
+        return seconds <= 0.0 ? 0.0 : count / seconds;
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.knighten.ai.genetic.metrics;
+
+/**
+ * The phases of a generation whose latency OptimizationMetrics records. Each phase is a call to the problem method of
+ * the same name.
+ */
+public enum Phase {
+
+    /**
+     * Picking the sub-population used for crossover, the problem's selection().
+     */
+    SELECTION,
+
+    /**
+     * Creating offspring from the sub-population, the problem's crossover() or crossoverInto().
+     */
+    CROSSOVER,
+
+    /**
+     * Mutating the offspring, the problem's mutate().
+     */
+    MUTATION,
+
+    /**
+     * Scoring a population, the problem's calculateFitness().
+     */
+    FITNESS,
+
+    /**
+     * Finding a population's best individual, the problem's getBestIndividual().
+     */
+    BEST_INDIVIDUAL
+
+}
@@ -0,0 +1,54 @@
+package com.knighten.ai.genetic.metrics;
+
+/**
+ * What GeneticOptimization.phaseStart() measured at the start of a phase, handed back to phaseEnd() by the caller so
+ * the measurement stays on the caller's stack. Nested or overlapping phases on one thread each keep their own timing.
+ * Phases that are neither timed nor recorded share UNTIMED, so unmeasured phases allocate nothing.
+ */
+public class PhaseTiming {
+
+    /**
+     * The timing of a phase that is neither timed by metrics nor recorded by the flight recorder.
+     */
+    public static final PhaseTiming UNTIMED = new PhaseTiming(0, null);
+
+    /**
+     * The value of System.nanoTime() when the phase started, 0 if the phase is not timed.
+     */
+    private long startNanos;
+
+    /**
+     * The flight recorder event begun for the phase, null if the phase is not recorded.
+     */
+    private Object event;
+
+    /**
+     * Creates the timing of a phase.
+     *
+     * @param startNanos the value of System.nanoTime() when the phase started, 0 if the phase is not timed
+     * @param event      the flight recorder event begun for the phase, null if the phase is not recorded
+     */
+    public PhaseTiming(long startNanos, Object event) {
+        this.startNanos = startNanos;
+        this.event = event;
+    }
+
+    /**
+     * Returns the value of System.nanoTime() when the phase started.
+     *
+     * @return the start of the phase, 0 if the phase is not timed
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Returns the flight recorder event begun for the phase.
+     *
+     * @return the jdk.jfr.Event, null if the phase is not recorded
+     */
+    public Object getEvent() {
+        return event;
+    }
+
+}
@@ -1,8 +1,91 @@
 package com.knighten.ai.genetic.nqueens;
 
-import com.knighten.ai.genetic.interfaces.IGenOptimizeProblem;
+import com.knighten.ai.genetic.Execution;
+import com.knighten.ai.genetic.FitnessCache;
+import com.knighten.ai.genetic.interfaces.ICheckpointableGenOptimizeProblem;
+import com.knighten.ai.genetic.interfaces.IForkableGenOptimizeProblem;
+import com.knighten.ai.genetic.interfaces.IRecyclingGenOptimizeProblem;
+import com.knighten.ai.genetic.interfaces.ISelector;
+import com.knighten.ai.genetic.selection.TopK;
 
-public abstract class AbstractNQueensProblem implements IGenOptimizeProblem<NQueensIndividual> {
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The parts of the n queens problem shared by NQueensProblem and ParaNQueensProblem, which only differ in how the steps
+ * of a generation are executed. Holds the board size and Random object, scores boards, selects the best boards and
+ * handles forking, caching and checkpointing.
+ */
+public abstract class AbstractNQueensProblem implements IForkableGenOptimizeProblem<NQueensIndividual>,
+        IRecyclingGenOptimizeProblem<NQueensIndividual>, ICheckpointableGenOptimizeProblem<NQueensIndividual> {
+
+    /**
+     * The conflict counter of each thread scoring boards. ParaNQueensProblem scores boards on several threads at once,
+     * and a counter's tallies can only be used by one of them.
+     */
+    private static final ThreadLocal<NQueensConflictCounter> CONFLICT_COUNTERS =
+            ThreadLocal.withInitial(NQueensConflictCounter::new);
+
+    /**
+     * The number of queens/board size being used; the n in the n queens problem.
+     */
+    private int n;
+
+    /**
+     * Used to generate random numbers. Allows the use of a seed.
+     */
+    private Random random;
+
+    /**
+     * Reused by drawCrossings() to hold the random parents and crossing points of each offspring.
+     */
+    private int[] crossScratch;
+
+    /**
+     * Scores blocks of boards stored as primitive ints.
+     */
+    private NQueensBatchScorer batchScorer;
+
+    /**
+     * Reused by scoreBoards() to hold the boards being scored back to back.
+     */
+    private int[] boardScratch;
+
+    /**
+     * Reused by scoreBoards() to hold the scores of the boards being scored.
+     */
+    private double[] fitnessScratch;
+
+    /**
+     * Caches the conflict scores of boards already seen, null if fitness scores are not cached.
+     */
+    private FitnessCache<List<Integer>> fitnessCache;
+
+    /**
+     * Picks the sub-population in selection(), null to keep the best individuals.
+     */
+    private ISelector<NQueensIndividual> selector;
+
+    /**
+     * Creates the shared parts of an n queens problem using the specified value of n.
+     *
+     * @param n      number of queens/board size
+     * @param random object used to generate random numbers
+     */
+    protected AbstractNQueensProblem(int n, Random random) {
+
+        if (n <= 3)
+            throw new IllegalArgumentException("N Must Be Greater Than 3");
+
+        if (random == null)
+            throw new IllegalArgumentException("Random Object Cannot Be Null");
+
+        this.n = n;
+        this.random = random;
+        this.batchScorer = new NQueensBatchScorer(n);
+    }
 
     /**
      * Returns the number of conflicts on the board.
@@ -11,28 +94,309 @@ public abstract class AbstractNQueensProblem implements IGenOptimizeProblem<NQue
      * @return the number on conflicts on the board
      */
     public int conflictScore(NQueensIndividual individual) {
-        Integer[] board = individual.getGenes();
-        int score = 0;
-
-        for (int queen = 0; queen < board.length; queen++) {
-            // Iterate Over Every Queen To The Right Of The Queen Currently Being Evaluated
-            for (int remainingQueen = queen + 1; remainingQueen < board.length; remainingQueen++) {
-
-                // Row Conflict
-                if (board[queen].compareTo(board[remainingQueen]) == 0) {
-                    score++;
-                    continue;
-                }
-
-                // Diagonal(Upper or Lower) Conflict
-                if (Math.abs(board[queen] - board[remainingQueen]) == Math.abs(queen - remainingQueen)) {
-                    score++;
-                    continue;
-                }
-            }
+        return countConflicts(individual.getGenes());
+    }
+
+    /**
+     * Returns the number of pairs of queens on the board that are in the same row or diagonal, in O(n) time using the
+     * calling thread's NQueensConflictCounter.
+     *
+     * @param board the row of the queen in each column
+     * @return the number on conflicts on the board
+     */
+    static int countConflicts(Integer[] board) {
+        return CONFLICT_COUNTERS.get().count(board);
+    }
+
+    /**
+     * Gets the NQueensIndividual with the lowest fitness score.
+     *
+     * @param population the population used to search for the best individual
+     * @return the NQueensIndividual with the lowest fitness score
+     */
+    @Override
+    public NQueensIndividual getBestIndividual(List<NQueensIndividual> population) {
+        return TopK.best(population, true);
+    }
+
+    /**
+     * Selects the selectionPercent percent of best NQueensIndividuals in the population. The best NQueensIndividuals
+     * are the ones with the lowest fitness score, which with the least amount of conflicts.
+     * If a selector is set, it picks the sub-population instead.
+     *
+     * @param population       the population that the sub-population is selected from
+     * @param selectionPercent the percent of best individuals to keep
+     * @return the sub-population of best NQueensIndividuals
+     */
+    @Override
+    public List<NQueensIndividual> selection(List<NQueensIndividual> population, double selectionPercent) {
+        int selectionSize = TopK.selectionSize(population.size(), selectionPercent);
+        if (this.selector != null)
+            return this.selector.select(population, selectionSize, true, this.random);
+
+        return TopK.select(population, selectionSize, true);
+    }
+
+    /**
+     * Draws the random numbers crossoverInto() needs into a reused array: the indices of both parents of every
+     * offspring followed by the crossing point of every offspring. They are drawn in the same order crossover() draws
+     * them, so a seeded problem crosses the same boards either way.
+     *
+     * @param subPopulationSize the number of individuals parents are picked from
+     * @param populationSize    the number of offspring
+     * @return the first parents, then the second parents, then the crossing points
+     */
+    protected int[] drawCrossings(int subPopulationSize, int populationSize) {
+        if (this.crossScratch == null || this.crossScratch.length != 3 * populationSize)
+            this.crossScratch = new int[3 * populationSize];
+
+        // Parent Pairs Followed By Crossing Points
+        int[] draws = this.crossScratch;
+        for (int i = 0; i < 2 * populationSize; i++)
+            draws[i] = this.random.nextInt(subPopulationSize);
+        for (int i = 2 * populationSize; i < 3 * populationSize; i++)
+            draws[i] = this.random.nextInt(this.n);
+
+        return draws;
+    }
+
+    /**
+     * Writes the crossing of two boards into an offspring's existing board. Columns before the crossing point come from
+     * the first board, the rest from the second.
+     *
+     * @param board1     the board the first columns are taken from
+     * @param board2     the board the remaining columns are taken from
+     * @param crossPoint the column where the boards are crossed
+     * @param child      the individual whose board is replaced
+     */
+    protected void crossInto(Integer[] board1, Integer[] board2, int crossPoint, NQueensIndividual child) {
+        Integer[] crossedBoard = child.getGenes();
+        System.arraycopy(board1, 0, crossedBoard, 0, crossPoint);
+        System.arraycopy(board2, crossPoint, crossedBoard, crossPoint, this.n - crossPoint);
+
+        child.setGenes(crossedBoard);
+    }
+
+    /**
+     * Creates a new board by crossing two boards. Columns before the crossing point come from the first board, the
+     * rest from the second.
+     *
+     * @param board1     the board the first columns are taken from
+     * @param board2     the board the remaining columns are taken from
+     * @param crossPoint the column where the boards are crossed
+     * @return the crossed board
+     */
+    static Integer[] crossBoards(Integer[] board1, Integer[] board2, int crossPoint) {
+        Integer[] crossedBoard = new Integer[board1.length];
+        for (int column = 0; column < board1.length; column++)
+            crossedBoard[column] = (column < crossPoint) ? board1[column] : board2[column];
+
+        return crossedBoard;
+    }
+
+    /**
+     * Creates a new NQueensIndividual with a copy of the supplied individual's board and fitness score.
+     *
+     * @param individual the individual to copy
+     * @return a new NQueensIndividual equal to the supplied individual
+     */
+    @Override
+    public NQueensIndividual copy(NQueensIndividual individual) {
+        NQueensIndividual copy = new NQueensIndividual(individual.getGenes().clone());
+        copy.setFitness(individual.getFitness());
+
+        return copy;
+    }
+
+    /**
+     * Sets the fitness of every individual in the population whose fitness is not valid to the number of conflicts on
+     * its board. Without a fitness cache the boards are copied back to back into a reused int array and scored by
+     * NQueensBatchScorer, in parallel batches if the execution is PARALLEL. With a fitness cache each board is looked up
+     * and scored on its own, in parallel if the execution is PARALLEL.
+     *
+     * @param population the population of individuals whose fitness are to be set
+     * @param execution  sequentially or in parallel
+     */
+    protected void scoreBoards(List<NQueensIndividual> population, Execution execution) {
+        if (this.fitnessCache != null) {
+            (execution == Execution.PARALLEL ? population.parallelStream() : population.stream())
+                    .filter(individual -> !individual.isFitnessValid())
+                    .forEach(individual -> individual.setFitness(this.cachedConflictScore(individual)));
+            return;
+        }
+
+        if (this.fitnessScratch == null || this.fitnessScratch.length < population.size()) {
+            this.boardScratch = new int[population.size() * this.n];
+            this.fitnessScratch = new double[population.size()];
         }
 
+        // Gather The Boards Of Individuals That Need Scoring
+        int count = 0;
+        for (NQueensIndividual individual : population) {
+            if (individual.isFitnessValid())
+                continue;
+
+            Integer[] board = individual.getGenes();
+            int offset = this.n * count++;
+            for (int column = 0; column < this.n; column++)
+                this.boardScratch[offset + column] = board[column];
+        }
+
+        this.batchScorer.scoreAll(this.boardScratch, count, this.fitnessScratch, execution);
+
+        int scored = 0;
+        for (NQueensIndividual individual : population) {
+            if (!individual.isFitnessValid())
+                individual.setFitness(this.fitnessScratch[scored++]);
+        }
+    }
+
+    /**
+     * Returns the number of conflicts on the board, using the fitness cache if one is set. A board missing from the
+     * cache is scored with conflictScore() and a copy of it is put in the cache.
+     *
+     * @param individual the individual whose board is to be evaluated
+     * @return the number of conflicts on the board
+     */
+    protected double cachedConflictScore(NQueensIndividual individual) {
+        if (this.fitnessCache == null)
+            return this.conflictScore(individual);
+
+        Integer[] board = individual.getGenes();
+        Double cached = this.fitnessCache.get(Arrays.asList(board));
+        if (cached != null)
+            return cached;
+
+        int score = this.conflictScore(individual);
+        this.fitnessCache.put(Arrays.asList(board.clone()), score);
+
         return score;
     }
 
+    /**
+     * Sets the cache used to skip scoring boards that have already been scored. Forks of the problem share the cache.
+     *
+     * @param fitnessCache the cache of conflict scores keyed by board, null to score every board
+     */
+    public void setFitnessCache(FitnessCache<List<Integer>> fitnessCache) {
+        this.fitnessCache = fitnessCache;
+    }
+
+    /**
+     * Returns the cache of conflict scores keyed by board.
+     *
+     * @return the fitness cache, or null if fitness scores are not cached
+     */
+    public FitnessCache<List<Integer>> getFitnessCache() {
+        return fitnessCache;
+    }
+
+    /**
+     * Sets the selector used by selection() to pick the sub-population. Forks of the problem share the selector.
+     *
+     * @param selector the selector to use, null to keep the selectionPercent percent of best individuals
+     */
+    public void setSelector(ISelector<NQueensIndividual> selector) {
+        this.selector = selector;
+    }
+
+    /**
+     * Returns the selector used by selection() to pick the sub-population.
+     *
+     * @return the selector, or null if selection() keeps the best individuals
+     */
+    public ISelector<NQueensIndividual> getSelector() {
+        return selector;
+    }
+
+    /**
+     * Creates a copy of the problem for use by a single worker thread. The copy uses its own Random object which is
+     * seeded using this problem's Random object, and shares this problem's fitness cache and selector. The copy is a
+     * sequential NQueensProblem since the worker is already running in parallel with the other workers.
+     *
+     * @return a copy of the problem that is safe to use on another thread
+     */
+    @Override
+    public NQueensProblem fork() {
+        return fork(this.random.nextLong());
+    }
+
+    /**
+     * Creates a copy of the problem for use by a single worker thread, like fork(), whose Random object is seeded with
+     * the supplied seed.
+     *
+     * @param seed the seed of the copy's Random object
+     * @return a copy of the problem that is safe to use on another thread
+     */
+    @Override
+    public NQueensProblem fork(long seed) {
+        NQueensProblem fork = new NQueensProblem(this.n, new Random(seed));
+        fork.setFitnessCache(getFitnessCache());
+        fork.setSelector(getSelector());
+
+        return fork;
+    }
+
+    /**
+     * Draws the next seed from the problem's Random object.
+     *
+     * @return a seed drawn from the problem's Random object
+     */
+    @Override
+    public long nextSeed() {
+        return this.random.nextLong();
+    }
+
+    /**
+     * Returns a codec for boards of this problem's size.
+     *
+     * @return a codec for the problem's NQueensIndividuals
+     */
+    @Override
+    public NQueensIndividualCodec getGenomeCodec() {
+        return new NQueensIndividualCodec(this.n);
+    }
+
+    /**
+     * Returns the problem's Random object, which is serialized when a checkpoint is written.
+     *
+     * @return the problem's Random object
+     */
+    @Override
+    public Serializable getRandomState() {
+        return this.random;
+    }
+
+    /**
+     * Replaces the problem's Random object with one restored from a checkpoint.
+     *
+     * @param state a Random object previously returned by getRandomState()
+     */
+    @Override
+    public void setRandomState(Serializable state) {
+
+        if (!(state instanceof Random))
+            throw new IllegalArgumentException("Random State Must Be A Random Object");
+
+        this.random = (Random) state;
+    }
+
+    /**
+     * Returns the number of queens/board size being used.
+     *
+     * @return n
+     */
+    public int getN() {
+        return n;
+    }
+
+    /**
+     * Returns the Random object used to generate random numbers.
+     *
+     * @return the problem's Random object
+     */
+    protected Random getRandom() {
+        return random;
+    }
+
 }
@@ -0,0 +1,57 @@
+package com.knighten.ai.genetic.nqueens;
+
+import com.knighten.ai.genetic.interfaces.IBatchFitnessFunction;
+
+/**
+ * Counts the conflicts of blocks of n queens boards stored as primitive ints, n ints to a board holding the row of the
+ * queen in each column. Gives the same scores as AbstractNQueensProblem.conflictScore(), counting primitive ints
+ * instead of Integers with an NQueensConflictCounter per call, so ranges can be scored on several threads at once.
+ */
+public class NQueensBatchScorer implements IBatchFitnessFunction<int[]> {
+
+    /**
+     * The number of queens/board size being used; the n in the n queens problem.
+     */
+    private int n;
+
+    /**
+     * Creates a scorer for boards of the specified size.
+     *
+     * @param n number of queens/board size
+     */
+    public NQueensBatchScorer(int n) {
+
+        if (n <= 3)
+            throw new IllegalArgumentException("N Must Be Greater Than 3");
+
+        this.n = n;
+    }
+
+    /**
+     * Returns n, the number of columns on a board.
+     *
+     * @return the number of ints in each board
+     */
+    @Override
+    public int getGenomeLength() {
+        return n;
+    }
+
+    /**
+     * Writes the number of pairs of queens in the same row or diagonal of each board in the range into the fitness
+     * array, in O(n) time per board.
+     *
+     * @param boards  the boards stored back to back
+     * @param from    the index of the first board
+     * @param to      one past the index of the last board
+     * @param fitness the array the conflict counts are written into
+     */
+    @Override
+    public void score(int[] boards, int from, int to, double[] fitness) {
+        NQueensConflictCounter counter = new NQueensConflictCounter();
+
+        for (int board = from; board < to; board++)
+            fitness[board] = counter.count(boards, board * n, n);
+    }
+
+}
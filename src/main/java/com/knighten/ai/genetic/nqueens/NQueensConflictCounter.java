@@ -0,0 +1,161 @@
+package com.knighten.ai.genetic.nqueens;
+
+/**
+ * Counts the pairs of queens on an n queens board that are in the same row or diagonal in O(n) time. Every board has
+ * one queen per column, so two queens conflict exactly when they share a row, a diagonal(row - column) or an
+ * anti-diagonal(row + column), and never share more than one of them. The counter tallies the queens on each row,
+ * diagonal and anti-diagonal as it walks the board; each queen conflicts with every queen already counted on its three
+ * lines. The tallies are kept in primitive arrays that are reused from board to board and cleared by a second walk
+ * over the board, so scoring allocates nothing.
+ * <p>
+ * Boards holding a row outside of 0 to n - 1 have no slot in the tallies and are scored by comparing every pair of
+ * queens instead, giving the same scores as before for any board. A counter is not thread safe; each thread needs its
+ * own.
+ */
+public class NQueensConflictCounter {
+
+    /**
+     * The number of queens on each row.
+     */
+    private int[] rows = new int[0];
+
+    /**
+     * The number of queens on each diagonal, indexed by row - column + n - 1.
+     */
+    private int[] diagonals = new int[0];
+
+    /**
+     * The number of queens on each anti-diagonal, indexed by row + column.
+     */
+    private int[] antiDiagonals = new int[0];
+
+    /**
+     * Returns the number of pairs of queens on the board that are in the same row or diagonal.
+     *
+     * @param board the row of the queen in each column
+     * @return the number of conflicts on the board
+     */
+    public int count(Integer[] board) {
+        int n = board.length;
+        ensureCapacity(n);
+
+        int score = 0;
+        int column = 0;
+        for (; column < n; column++) {
+            int row = board[column];
+            if (row < 0 || row >= n)
+                break;
+
+            score += rows[row]++ + diagonals[row - column + n - 1]++ + antiDiagonals[row + column]++;
+        }
+
+        for (int counted = 0; counted < column; counted++) {
+            int row = board[counted];
+            rows[row] = 0;
+            diagonals[row - counted + n - 1] = 0;
+            antiDiagonals[row + counted] = 0;
+        }
+
+        return column == n ? score : countPairwise(board);
+    }
+
+    /**
+     * Returns the number of pairs of queens in the same row or diagonal on a board stored as n primitive ints.
+     *
+     * @param boards the array holding the board
+     * @param offset the index of the board's first column
+     * @param n      the number of columns on the board
+     * @return the number of conflicts on the board
+     */
+    public int count(int[] boards, int offset, int n) {
+        ensureCapacity(n);
+
+        int score = 0;
+        int column = 0;
+        for (; column < n; column++) {
+            int row = boards[offset + column];
+            if (row < 0 || row >= n)
+                break;
+
+            score += rows[row]++ + diagonals[row - column + n - 1]++ + antiDiagonals[row + column]++;
+        }
+
+        for (int counted = 0; counted < column; counted++) {
+            int row = boards[offset + counted];
+            rows[row] = 0;
+            diagonals[row - counted + n - 1] = 0;
+            antiDiagonals[row + counted] = 0;
+        }
+
+        return column == n ? score : countPairwise(boards, offset, n);
+    }
+
+    /**
+     * Returns the number of pairs of queens on the board that are in the same row or diagonal by comparing every pair
+     * of queens, in O(n^2) time.
+     *
+     * @param board the row of the queen in each column
+     * @return the number of conflicts on the board
+     */
+    public static int countPairwise(Integer[] board) {
+        int score = 0;
+
+        for (int queen = 0; queen < board.length; queen++) {
+            int row = board[queen];
+
+            // Iterate Over Every Queen To The Right Of The Queen Currently Being Evaluated
+            for (int remainingQueen = queen + 1; remainingQueen < board.length; remainingQueen++) {
+                int distance = row - board[remainingQueen];
+
+                // Row Or Diagonal(Upper or Lower) Conflict
+                if (distance == 0 || Math.abs(distance) == remainingQueen - queen)
+                    score++;
+            }
+        }
+
+        return score;
+    }
+
+    /**
+     * Returns the number of pairs of queens in the same row or diagonal on a board stored as n primitive ints by
+     * comparing every pair of queens, in O(n^2) time.
+     *
+     * @param boards the array holding the board
+     * @param offset the index of the board's first column
+     * @param n      the number of columns on the board
+     * @return the number of conflicts on the board
+     */
+    public static int countPairwise(int[] boards, int offset, int n) {
+        int score = 0;
+
+        for (int queen = 0; queen < n; queen++) {
+            int row = boards[offset + queen];
+
+            // Iterate Over Every Queen To The Right Of The Queen Currently Being Evaluated
+            for (int remainingQueen = queen + 1; remainingQueen < n; remainingQueen++) {
+                int distance = row - boards[offset + remainingQueen];
+
+                // Row Or Diagonal(Upper or Lower) Conflict
+                if (distance == 0 || Math.abs(distance) == remainingQueen - queen)
+                    score++;
+            }
+        }
+
+        return score;
+    }
+
+    /**
+     * Grows the tallies to fit boards of n columns. Grown tallies start cleared.
+     *
+     * @param n the number of columns on the board about to be counted
+     */
+    private void ensureCapacity(int n) {
+        if (rows.length >= n)
+            return;
+
+        rows = new int[n];
+        diagonals = new int[Math.max(0, 2 * n - 1)];
+        antiDiagonals = new int[Math.max(0, 2 * n - 1)];
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.knighten.ai.genetic.nqueens;
+
+import com.knighten.ai.genetic.interfaces.IGenomeCodec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes the boards of NQueensIndividuals. Every board has the same size, so only the queens' positions are written,
+ * each using the fewest bytes that can hold a position: one byte for boards up to 256 columns, two bytes up to 65536
+ * columns and four bytes otherwise.
+ */
+public class NQueensIndividualCodec implements IGenomeCodec<NQueensIndividual> {
+
+    /**
+     * The number of queens/board size of every encoded board.
+     */
+    private int n;
+
+    /**
+     * The number of bytes used to write each queen's position.
+     */
+    private int width;
+
+    /**
+     * Creates an NQueensIndividualCodec for boards of the supplied size.
+     *
+     * @param n the number of queens/board size
+     */
+    public NQueensIndividualCodec(int n) {
+
+        if (n <= 3)
+            throw new IllegalArgumentException("N Must Be Greater Than 3");
+
+        this.n = n;
+        this.width = n <= 1 << 8 ? 1 : n <= 1 << 16 ? 2 : 4;
+    }
+
+    /**
+     * Returns the number of bytes the board takes up, the same for every board of size n.
+     *
+     * @param individual the individual to be encoded
+     * @return the number of queens times the bytes per queen
+     */
+    @Override
+    public int getEncodedSize(NQueensIndividual individual) {
+        return n * width;
+    }
+
+    /**
+     * Writes the row of the queen in each column of the board, each using the codec's width.
+     *
+     * @param individual the individual whose board is written
+     * @param buffer     the buffer written to, with at least getEncodedSize() bytes remaining
+     */
+    @Override
+    public void encode(NQueensIndividual individual, ByteBuffer buffer) {
+        Integer[] board = individual.getGenes();
+
+        if (board.length != n)
+            throw new IllegalArgumentException("Board Size Must Be " + n + ": " + board.length + " was found");
+
+        for (Integer queen : board) {
+            if (width == 1)
+                buffer.put((byte) (int) queen);
+            else if (width == 2)
+                buffer.putShort((short) (int) queen);
+            else
+                buffer.putInt(queen);
+        }
+    }
+
+    /**
+     * Reads a board of n queens written by encode().
+     *
+     * @param buffer the buffer read from, positioned at the start of an encoded board
+     * @return a new individual holding the decoded board
+     */
+    @Override
+    public NQueensIndividual decode(ByteBuffer buffer) {
+        Integer[] board = new Integer[n];
+
+        for (int column = 0; column < n; column++) {
+            if (width == 1)
+                board[column] = buffer.get() & 0xFF;
+            else if (width == 2)
+                board[column] = buffer.getShort() & 0xFFFF;
+            else
+                board[column] = buffer.getInt();
+        }
+
+        return new NQueensIndividual(board);
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.knighten.ai.genetic.nqueens;
+
+import com.knighten.ai.genetic.OperatorGenOptimizeProblem;
+import com.knighten.ai.genetic.interfaces.ICrossover;
+import com.knighten.ai.genetic.interfaces.IFitnessFunction;
+import com.knighten.ai.genetic.interfaces.IGeneBlockWriter;
+import com.knighten.ai.genetic.interfaces.IInitializer;
+import com.knighten.ai.genetic.interfaces.IMutator;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * The operators of the n queens problem working on one board at a time: random boards, conflict counting, single point
+ * crossover and per-column mutation. ParaNQueensProblem runs them in parallel chunks, and create() composes them into
+ * an OperatorGenOptimizeProblem whose execution can be chosen per operator. The operators also copy boards into blocks
+ * of primitive ints, so a BATCHED fitness is scored by NQueensBatchScorer. The operators hold no state besides n, so
+ * one instance can be shared by any number of problems and threads.
+ */
+public class NQueensOperators implements IInitializer<NQueensIndividual>, IFitnessFunction<NQueensIndividual>,
+        ICrossover<NQueensIndividual>, IMutator<NQueensIndividual>, IGeneBlockWriter<NQueensIndividual, int[]> {
+
+    /**
+     * The number of queens/board size being used; the n in the n queens problem.
+     */
+    private int n;
+
+    /**
+     * Creates the operators for boards of the specified size.
+     *
+     * @param n number of queens/board size
+     */
+    public NQueensOperators(int n) {
+
+        if (n <= 3)
+            throw new IllegalArgumentException("N Must Be Greater Than 3");
+
+        this.n = n;
+    }
+
+    /**
+     * Creates an n queens problem from these operators, with NQueensBatchScorer as its batch fitness function. Every
+     * operator starts out running sequentially.
+     *
+     * @param n      number of queens/board size
+     * @param random object used to generate random numbers
+     * @return a new n queens problem composed of operators
+     */
+    public static OperatorGenOptimizeProblem<NQueensIndividual> create(int n, Random random) {
+        NQueensOperators operators = new NQueensOperators(n);
+
+        OperatorGenOptimizeProblem<NQueensIndividual> problem = new OperatorGenOptimizeProblem<>(operators, operators,
+                operators, operators, true, random);
+        problem.setBatchFitnessFunction(new NQueensBatchScorer(n), operators);
+
+        return problem;
+    }
+
+    /**
+     * Creates an NQueensIndividual with a queen in a random row of every column.
+     *
+     * @param random the random number stream to draw from
+     * @return a new random NQueensIndividual
+     */
+    @Override
+    public NQueensIndividual create(SplittableRandom random) {
+        Integer[] board = new Integer[this.n];
+        for (int column = 0; column < this.n; column++)
+            board[column] = random.nextInt(this.n);
+
+        return new NQueensIndividual(board);
+    }
+
+    /**
+     * Returns the number of pairs of queens on the individual's board that are in the same row or diagonal.
+     *
+     * @param individual the individual to score
+     * @return the number of conflicts on the board
+     */
+    @Override
+    public double fitness(NQueensIndividual individual) {
+        return AbstractNQueensProblem.countConflicts(individual.getGenes());
+    }
+
+    /**
+     * Creates a new NQueensIndividual whose board takes the columns before a random crossing point from the first
+     * parent and the rest from the second.
+     *
+     * @param first  the first parent
+     * @param second the second parent
+     * @param random the random number stream to draw from
+     * @return a new NQueensIndividual crossed from the parents
+     */
+    @Override
+    public NQueensIndividual cross(NQueensIndividual first, NQueensIndividual second, SplittableRandom random) {
+        return new NQueensIndividual(AbstractNQueensProblem.crossBoards(first.getGenes(), second.getGenes(),
+                random.nextInt(this.n)));
+    }
+
+    /**
+     * Moves the queen of each column to a random row with a probability of mutationProb.
+     *
+     * @param individual   the individual to mutate
+     * @param mutationProb the probability that a queen is moved
+     * @param random       the random number stream to draw from
+     */
+    @Override
+    public void mutate(NQueensIndividual individual, double mutationProb, SplittableRandom random) {
+        Integer[] genes = individual.getGenes();
+
+        for (int column = 0; column < this.n; column++) {
+            if (random.nextDouble() < mutationProb)
+                genes[column] = random.nextInt(this.n);
+        }
+
+        individual.setGenes(genes);
+    }
+
+    /**
+     * Creates a block holding count boards of n primitive ints.
+     *
+     * @param count the number of boards the block holds
+     * @return a new block of count * n ints
+     */
+    @Override
+    public int[] createBlock(int count) {
+        return new int[count * this.n];
+    }
+
+    /**
+     * Copies the individual's board into the block as the board at the supplied index.
+     *
+     * @param individual the individual whose board is copied
+     * @param block      the block written to
+     * @param index      the index of the board in the block
+     */
+    @Override
+    public void write(NQueensIndividual individual, int[] block, int index) {
+        Integer[] board = individual.getGenes();
+        for (int column = 0; column < this.n; column++)
+            block[index * this.n + column] = board[column];
+    }
+
+}
@@ -1,11 +1,11 @@
 package com.knighten.ai.genetic.nqueens;
 
+import com.knighten.ai.genetic.Execution;
 import com.knighten.ai.genetic.GeneticOptimization;
 import com.knighten.ai.genetic.GeneticOptimizationParams;
 import com.knighten.ai.genetic.interfaces.IGenOptimizeProblem;
 import com.knighten.ai.genetic.Individual;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.stream.Collectors;
@@ -19,16 +19,6 @@ import static java.util.stream.Collectors.toList;
  */
 public class NQueensProblem extends AbstractNQueensProblem {
 
-    /**
-     * The number of queens/board size being used; the n in the n queens problem.
-     */
-    private int n;
-
-    /**
-     * Used to generate random numbers. Allows the use of a seed.
-     */
-    private Random random;
-
     /**
      * Creates a instance of NQueensProblem using the specified value of n.
      *
@@ -36,15 +26,7 @@ public class NQueensProblem extends AbstractNQueensProblem {
      * @param random object used to generate random numbers
      */
     public NQueensProblem(int n, Random random) {
-
-        if (n <= 3)
-            throw new IllegalArgumentException("N Must Be Greater Than 3");
-
-        if (random == null)
-            throw new IllegalArgumentException("Random Object Cannot Be Null");
-
-        this.n = n;
-        this.random = random;
+        super(n, random);
     }
 
     /**
@@ -57,7 +39,7 @@ public class NQueensProblem extends AbstractNQueensProblem {
     @Override
     public List<com.knighten.ai.genetic.nqueens.NQueensIndividual> generateInitialPopulation(int populationSize) {
         return IntStream.range(0, populationSize)
-                .mapToObj(i -> this.random.ints(n, 0, n).boxed().toArray(Integer[]::new))
+                .mapToObj(i -> getRandom().ints(getN(), 0, getN()).boxed().toArray(Integer[]::new))
                 .map(NQueensIndividual::new)
                 .collect(toList());
     }
@@ -66,45 +48,16 @@ public class NQueensProblem extends AbstractNQueensProblem {
      * Calculates fitness for each individual in the population. For the NQueensProblem fitness is calculated by finding
      * the number of conflicts that are on the genes/board contained in the NQueensIndividuals. Queens are in conflict
      * if they may take one another (ie. they are in the same row or diagonal). This uses NQueensHelper to calculate the
-     * amount of conflict.
+     * amount of conflict. Individuals are skipped as described by IGenOptimizeProblem.calculateFitness().
+     * <p>
+     * Without a fitness cache the boards are copied back to back into a reused int array and scored in one pass by
+     * NQueensBatchScorer.
      *
      * @param population the population of individuals whose fitness are to be set
      */
     @Override
     public void calculateFitness(List<NQueensIndividual> population) {
-        population.stream()
-                .forEach(individual -> individual.setFitness(this.conflictScore(individual)));
-
-        // This sort makes selection() and getBestIndividual() simpler
-        Collections.sort(population);
-    }
-
-    /**
-     * Gets the NQueensIndividual with the lowest fitness score.
-     *
-     * @param population the population used to search for the best individual
-     * @return the NQueensIndividual with the lowest fitness score
-     */
-    @Override
-    public NQueensIndividual getBestIndividual(List<NQueensIndividual> population) {
-        return population.get(0);
-    }
-
-    /**
-     * Selects the selectionPercent percent of best NQueensIndividuals in the population. The best NQueensIndividuals
-     * are the ones with the lowest fitness score, which with the least amount of conflicts.
-     *
-     * @param population       the population that the sub-population is selected from
-     * @param selectionPercent the percent of best individuals to keep
-     * @return the sub-population of best NQueensIndividuals
-     */
-    @Override
-    public List<NQueensIndividual> selection(List<NQueensIndividual> population, double selectionPercent) {
-        int amountToRemove = (int) Math.floor((1 - selectionPercent) * population.size());
-
-        return IntStream.rangeClosed(0, population.size() - amountToRemove - 1)
-                .mapToObj(population::get)
-                .collect(Collectors.toList());
+        scoreBoards(population, Execution.SEQUENTIAL);
     }
 
     /**
@@ -120,32 +73,39 @@ public class NQueensProblem extends AbstractNQueensProblem {
      */
     @Override
     public List<NQueensIndividual> crossover(List<NQueensIndividual> subPopulation, int populationSize) {
-        List<NQueensIndividual> randomPairs = this.random.ints(2 * populationSize, 0, subPopulation.size())
+        List<NQueensIndividual> randomPairs = getRandom().ints(2 * populationSize, 0, subPopulation.size())
                 .mapToObj(subPopulation::get)
                 .collect(toList());
 
-        int[] crossPoints = this.random.ints(populationSize, 0, this.n).toArray();
+        int[] crossPoints = getRandom().ints(populationSize, 0, getN()).toArray();
 
         return IntStream.range(0, populationSize)
-                .mapToObj(i -> crossIndividuals(randomPairs.get(i), randomPairs.get(i + populationSize), crossPoints[i]))
+                .mapToObj(i -> crossBoards(randomPairs.get(i).getGenes(),
+                        randomPairs.get(i + populationSize).getGenes(), crossPoints[i]))
                 .map(NQueensIndividual::new)
                 .collect(toList());
     }
 
     /**
-     * Performs the crossing mentioned above. This is called in parallel.
+     * Crosses members of the supplied sub-population the same way crossover() does, but writes each crossed board into
+     * the existing board of an offspring instead of creating a new NQueensIndividual. Random numbers are drawn in the
+     * same order as crossover() into a reused array, so a seeded problem crosses the same boards either way.
      *
-     * @param individ1   individual were first half of genes is taken from
-     * @param individ2   individual were second half of genes is taken from
-     * @param crossPoint the point which genes are crossed
-     * @return a new NQueensIndividual created by individuals in selectedPopulation
+     * @param subPopulation the sub-population used to generate the offspring
+     * @param offspring     the individuals whose boards are replaced by the crossed boards
      */
-    private Integer[] crossIndividuals(NQueensIndividual individ1, NQueensIndividual individ2, int crossPoint) {
-        Integer[] crossedBoard = new Integer[this.n];
-        for (int column = 0; column < this.n; column++)
-            crossedBoard[column] = (column < crossPoint) ? individ1.getGenes()[column] : individ2.getGenes()[column];
+    @Override
+    public void crossoverInto(List<NQueensIndividual> subPopulation, List<NQueensIndividual> offspring) {
+        int populationSize = offspring.size();
+        int[] draws = drawCrossings(subPopulation.size(), populationSize);
+
+        for (int i = 0; i < populationSize; i++) {
+            Integer[] board1 = subPopulation.get(draws[i]).getGenes();
+            Integer[] board2 = subPopulation.get(draws[i + populationSize]).getGenes();
+            int crossPoint = draws[i + 2 * populationSize];
 
-        return crossedBoard;
+            crossInto(board1, board2, crossPoint, offspring.get(i));
+        }
     }
 
     /**
@@ -159,12 +119,12 @@ public class NQueensProblem extends AbstractNQueensProblem {
     public void mutate(List<NQueensIndividual> population, double mutationProb) {
         population.stream()
                 .forEach((individual) -> {
-                    double[] mutationChance = this.random.doubles(this.n).toArray();
-                    int[] randQueenPositions = this.random.ints(this.n, 0, this.n).toArray();
+                    double[] mutationChance = getRandom().doubles(getN()).toArray();
+                    int[] randQueenPositions = getRandom().ints(getN(), 0, getN()).toArray();
 
                     Integer[] genes = individual.getGenes();
 
-                    IntStream.range(0, this.n)
+                    IntStream.range(0, getN())
                             .filter((i) -> mutationChance[i] < mutationProb)
                             .forEach((column) -> genes[column] = randQueenPositions[column]);
 
@@ -0,0 +1,139 @@
+package com.knighten.ai.genetic.selection;
+
+import com.knighten.ai.genetic.Individual;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * A Walker alias table, built with Vose's method, for drawing indices with probability proportional to a weight.
+ * Building the table takes O(n) and every draw takes O(1): one uniform column and one biased coin flip. The table is
+ * read only once built, so any number of threads can draw from it at the same time.
+ * <p>
+ * fitnessWeights() turns fitness scores into weights for fitness-proportionate selection in either fitness direction.
+ */
+public class AliasTable {
+
+    /**
+     * The probability of keeping each column's own index instead of its alias.
+     */
+    private double[] probability;
+
+    /**
+     * The index each column falls back to.
+     */
+    private int[] alias;
+
+    /**
+     * Builds an alias table for the supplied weights. Weights need not add up to one. If every weight is zero every
+     * index is equally likely.
+     *
+     * @param weights the non-negative weight of each index
+     */
+    public AliasTable(double[] weights) {
+
+        if (weights == null || weights.length == 0)
+            throw new IllegalArgumentException("Weights Cannot Be Null Or Empty");
+
+        int n = weights.length;
+        double total = 0.0;
+        for (double weight : weights) {
+            if (!(weight >= 0.0) || Double.isInfinite(weight))
+                throw new IllegalArgumentException("Weights Must Be Finite And Not Negative");
+            total += weight;
+        }
+
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        // Scale Weights So The Average Column Is Exactly Full
+        double[] scaled = new double[n];
+        for (int i = 0; i < n; i++)
+            scaled[i] = (total == 0.0) ? 1.0 : weights[i] * n / total;
+
+        // Both Work Lists Share One Array, Small From The Front And Large From The Back
+        int[] work = new int[n];
+        int small = 0;
+        int large = n;
+        for (int i = 0; i < n; i++) {
+            if (scaled[i] < 1.0)
+                work[small++] = i;
+            else
+                work[--large] = i;
+        }
+
+        while (small > 0 && large < n) {
+            int less = work[--small];
+            int more = work[large++];
+
+            this.probability[less] = scaled[less];
+            this.alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0)
+                work[small++] = more;
+            else
+                work[--large] = more;
+        }
+
+        // Whatever Is Left Is Full Up To Rounding Error
+        while (large < n)
+            this.probability[work[large++]] = 1.0;
+        while (small > 0)
+            this.probability[work[--small]] = 1.0;
+    }
+
+    /**
+     * Turns the fitness scores of a population into fitness-proportionate weights. The weight of an individual is how
+     * much better it is than the worst individual in the population, so the worst individual gets a weight of zero and
+     * the weights work for negative fitness scores and for minimization. If every individual has the same fitness
+     * score every weight is zero, which AliasTable treats as all individuals being equally likely.
+     *
+     * @param population   the population whose fitness scores are turned into weights
+     * @param minimization whether lower fitness scores are better
+     * @return the weight of each individual, in population order
+     */
+    public static double[] fitnessWeights(List<? extends Individual> population, boolean minimization) {
+
+        if (population == null || population.isEmpty())
+            throw new IllegalArgumentException("Population Cannot Be Null Or Empty");
+
+        double[] weights = new double[population.size()];
+        double worst = minimization ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        for (int i = 0; i < weights.length; i++) {
+            double fitness = population.get(i).getFitness();
+            if (!Double.isFinite(fitness))
+                throw new IllegalArgumentException("Fitness Scores Must Be Finite");
+
+            weights[i] = fitness;
+            worst = minimization ? Math.max(worst, fitness) : Math.min(worst, fitness);
+        }
+
+        for (int i = 0; i < weights.length; i++)
+            weights[i] = minimization ? worst - weights[i] : weights[i] - worst;
+
+        return weights;
+    }
+
+    /**
+     * Draws an index with probability proportional to its weight.
+     *
+     * @param random the random number stream to draw from
+     * @return the drawn index
+     */
+    public int next(SplittableRandom random) {
+        int column = random.nextInt(this.probability.length);
+
+        return (random.nextDouble() < this.probability[column]) ? column : this.alias[column];
+    }
+
+    /**
+     * Returns the number of indices in the table.
+     *
+     * @return the number of weights the table was built from
+     */
+    public int size() {
+        return probability.length;
+    }
+
+}
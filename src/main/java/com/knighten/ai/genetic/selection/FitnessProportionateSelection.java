@@ -0,0 +1,58 @@
+package com.knighten.ai.genetic.selection;
+
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.RandomStreams;
+import com.knighten.ai.genetic.interfaces.ISelector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fitness-proportionate (roulette wheel) selection. Each individual is picked with probability proportional to how
+ * much better its fitness score is than the worst individual's, see AliasTable.fitnessWeights(). An alias table is
+ * built once per call in O(n), after which every pick costs O(1) instead of a O(n) spin of the wheel.
+ * <p>
+ * Picks are made in parallel chunks using RandomStreams, so the result only depends on the supplied Random and not on
+ * the number of threads.
+ *
+ * @param <T> a type of individual used to represent a population in the problem
+ */
+public class FitnessProportionateSelection<T extends Individual> implements ISelector<T> {
+
+    /**
+     * Picks count individuals independently, each with probability proportional to its weight. The supplied Random is
+     * used once to seed the random number streams of the parallel chunks.
+     *
+     * @param population   the population to pick from
+     * @param count        the number of individuals to pick
+     * @param minimization whether lower fitness scores are better
+     * @param random       used to seed the random number streams
+     * @return a new list holding the picked individuals
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<T> select(List<T> population, int count, boolean minimization, Random random) {
+
+        if (count < 0)
+            throw new IllegalArgumentException("Count Cannot Be Negative");
+
+        if (random == null)
+            throw new IllegalArgumentException("Random Object Cannot Be Null");
+
+        AliasTable table = new AliasTable(AliasTable.fitnessWeights(population, minimization));
+
+        Object[] picked = new Object[count];
+        RandomStreams.from(random).forEachChunk(count, (from, to, stream) -> {
+            for (int i = from; i < to; i++)
+                picked[i] = population.get(table.next(stream));
+        });
+
+        List<T> selected = new ArrayList<>(count);
+        for (Object individual : picked)
+            selected.add((T) individual);
+
+        return selected;
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.knighten.ai.genetic.selection;
+
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.interfaces.ISelector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Stochastic universal sampling. Uses the same weights as FitnessProportionateSelection, but places count evenly spaced
+ * pointers on the wheel after a single random offset and spins it once. Every individual is picked either the floor or
+ * the ceiling of its expected number of times, so a lucky or unlucky run of draws cannot skew the sub-population the way
+ * it can with independent picks.
+ * <p>
+ * The pointers are in increasing order, so all picks are made in one O(n + count) pass over the cumulative weights and
+ * only one random number is drawn. Picks come out in population order; crossover picks its parents at random, so the
+ * order does not matter.
+ *
+ * @param <T> a type of individual used to represent a population in the problem
+ */
+public class StochasticUniversalSampling<T extends Individual> implements ISelector<T> {
+
+    /**
+     * Picks count individuals with evenly spaced pointers. The supplied Random is used once to place the first pointer.
+     *
+     * @param population   the population to pick from
+     * @param count        the number of individuals to pick
+     * @param minimization whether lower fitness scores are better
+     * @param random       used to place the first pointer
+     * @return a new list holding the picked individuals, in population order
+     */
+    @Override
+    public List<T> select(List<T> population, int count, boolean minimization, Random random) {
+
+        if (count < 0)
+            throw new IllegalArgumentException("Count Cannot Be Negative");
+
+        if (random == null)
+            throw new IllegalArgumentException("Random Object Cannot Be Null");
+
+        double[] weights = AliasTable.fitnessWeights(population, minimization);
+        double total = 0.0;
+        for (double weight : weights)
+            total += weight;
+
+        // Every Individual Is Equally Likely When All Fitness Scores Are The Same
+        if (total == 0.0) {
+            Arrays.fill(weights, 1.0);
+            total = weights.length;
+        }
+
+        List<T> selected = new ArrayList<>(count);
+        double spacing = total / count;
+        double offset = random.nextDouble();
+        double cumulative = weights[0];
+        int index = 0;
+        for (int i = 0; i < count; i++) {
+            // Computed From Scratch Each Time So Rounding Errors Do Not Build Up
+            double pointer = (offset + i) * spacing;
+            while (cumulative <= pointer && index < weights.length - 1)
+                cumulative += weights[++index];
+
+            selected.add(population.get(index));
+        }
+
+        return selected;
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.knighten.ai.genetic.selection;
+
+import com.knighten.ai.genetic.Individual;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Finds the best individuals of a population without sorting it. Selection only keeps a small percent of the
+ * population and finding the best individual only needs one, so sorting the whole population every generation does
+ * O(n log n) work where O(n) is enough.
+ * <p>
+ * best() is a linear scan. select() and partition() copy every fitness score into a primitive array once, then use
+ * quickselect with a three-way partition on that array. This takes O(n) on average even when many individuals share a
+ * fitness score, as they do in problems with integer fitness scores, and avoids following a reference to an individual
+ * for every comparison. Results are deterministic for a given population order.
+ * <p>
+ * Fitness scores are read through getFitness(), so individuals do not need to implement compareTo() consistently.
+ */
+public class TopK {
+
+    /**
+     * Returns the number of individuals selection() keeps from a population, the selectionPercent percent of best
+     * individuals rounded the same way the problems in this framework always have.
+     *
+     * @param populationSize   the size of the population
+     * @param selectionPercent the percent of best individuals to keep
+     * @return the number of individuals to keep
+     */
+    public static int selectionSize(int populationSize, double selectionPercent) {
+        return populationSize - (int) Math.floor((1 - selectionPercent) * populationSize);
+    }
+
+    /**
+     * Finds the best individual in the population. If several individuals share the best fitness score, the first of
+     * them is returned.
+     *
+     * @param population   the population to search
+     * @param minimization whether lower fitness scores are better
+     * @param <T>          the type of individual
+     * @return the best individual in the population
+     */
+    public static <T extends Individual> T best(List<T> population, boolean minimization) {
+
+        if (population == null || population.isEmpty())
+            throw new IllegalArgumentException("Population Cannot Be Null Or Empty");
+
+        T best = population.get(0);
+        double bestFitness = best.getFitness();
+        for (int i = 1; i < population.size(); i++) {
+            T individual = population.get(i);
+            double fitness = individual.getFitness();
+            if (minimization ? fitness < bestFitness : fitness > bestFitness) {
+                best = individual;
+                bestFitness = fitness;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Returns a new list holding the k best individuals of the population sorted from best to worst. The population is
+     * not changed. Takes O(n + k log k).
+     *
+     * @param population   the population to select from
+     * @param k            the number of individuals to select
+     * @param minimization whether lower fitness scores are better
+     * @param <T>          the type of individual
+     * @return the k best individuals, best first
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Individual> List<T> select(List<T> population, int k, boolean minimization) {
+        checkArguments(population, k);
+
+        Object[] individuals = new Object[population.size()];
+        double[] keys = new double[population.size()];
+        for (int i = 0; i < individuals.length; i++)
+            individuals[i] = population.get(i);
+
+        quickselect(individuals, keys, k, minimization);
+
+        Object[] selected = Arrays.copyOf(individuals, k);
+        Comparator<Object> ascending = Comparator.comparingDouble(individual -> ((Individual) individual).getFitness());
+        Arrays.sort(selected, minimization ? ascending : ascending.reversed());
+
+        List<T> result = new ArrayList<>(k);
+        for (Object individual : selected)
+            result.add((T) individual);
+
+        return result;
+    }
+
+    /**
+     * Rearranges the population in place so its first k individuals are its k best, in no particular order. Takes
+     * O(n).
+     *
+     * @param population   the population to rearrange
+     * @param k            the number of best individuals moved to the front
+     * @param minimization whether lower fitness scores are better
+     * @param <T>          the type of individual
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Individual> void partition(List<T> population, int k, boolean minimization) {
+        checkArguments(population, k);
+
+        Object[] individuals = population.toArray();
+        quickselect(individuals, new double[individuals.length], k, minimization);
+
+        ListIterator<T> iterator = population.listIterator();
+        for (Object individual : individuals) {
+            iterator.next();
+            iterator.set((T) individual);
+        }
+    }
+
+    /**
+     * Checks the arguments of select() and partition().
+     *
+     * @param population the population
+     * @param k          the number of best individuals
+     */
+    private static void checkArguments(List<?> population, int k) {
+
+        if (population == null)
+            throw new IllegalArgumentException("Population Cannot Be Null");
+
+        if (k < 0 || k > population.size())
+            throw new IllegalArgumentException("K Must Be Between Zero And The Population Size");
+    }
+
+    /**
+     * Rearranges the individuals so that the first k are the best. The keys array is filled with each individual's
+     * fitness score, negated when maximizing so that smaller keys are always better, and rearranged alongside the
+     * individuals.
+     *
+     * @param individuals  the individuals to rearrange
+     * @param keys         an array the same length as individuals used to hold the keys
+     * @param k            the number of individuals moved to the front
+     * @param minimization whether lower fitness scores are better
+     */
+    private static void quickselect(Object[] individuals, double[] keys, int k, boolean minimization) {
+        for (int i = 0; i < individuals.length; i++) {
+            double fitness = ((Individual) individuals[i]).getFitness();
+            keys[i] = minimization ? fitness : -fitness;
+        }
+
+        int lo = 0;
+        int hi = individuals.length - 1;
+        while (lo < hi && k > lo && k <= hi) {
+            double pivot = medianOfThree(keys[lo], keys[(lo + hi) >>> 1], keys[hi]);
+
+            // Three Way Partition: [lo, lt) Below Pivot, [lt, gt] Equal To Pivot, (gt, hi] Above Pivot
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+            while (i <= gt) {
+                if (keys[i] < pivot)
+                    swap(individuals, keys, lt++, i++);
+                else if (keys[i] > pivot)
+                    swap(individuals, keys, i, gt--);
+                else
+                    i++;
+            }
+
+            if (k < lt)
+                hi = lt - 1;
+            else if (k > gt + 1)
+                lo = gt + 1;
+            else
+                return;
+        }
+    }
+
+    /**
+     * Returns the median of three values.
+     *
+     * @param a the first value
+     * @param b the second value
+     * @param c the third value
+     * @return the value that is neither the smallest nor the largest
+     */
+    private static double medianOfThree(double a, double b, double c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    /**
+     * Swaps two individuals and their keys.
+     *
+     * @param individuals the individuals
+     * @param keys        the keys of the individuals
+     * @param i           the index of the first individual
+     * @param j           the index of the second individual
+     */
+    private static void swap(Object[] individuals, double[] keys, int i, int j) {
+        Object individual = individuals[i];
+        individuals[i] = individuals[j];
+        individuals[j] = individual;
+
+        double key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+    }
+
+}
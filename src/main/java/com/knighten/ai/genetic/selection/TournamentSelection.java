@@ -0,0 +1,112 @@
+package com.knighten.ai.genetic.selection;
+
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.RandomStreams;
+import com.knighten.ai.genetic.interfaces.ISelector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Tournament selection. Each pick draws tournamentSize individuals from the population at random, with replacement,
+ * and keeps the best of them. A pick costs O(tournamentSize) no matter how large the population is, and the population
+ * is never sorted. Larger tournaments give more selection pressure; weak individuals still win now and then, which
+ * keeps more diversity than truncation selection.
+ * <p>
+ * Picks are made in parallel chunks using RandomStreams, so the result only depends on the supplied Random and not on
+ * the number of threads. Ties between individuals with the same fitness score go to the one drawn first.
+ *
+ * @param <T> a type of individual used to represent a population in the problem
+ */
+public class TournamentSelection<T extends Individual> implements ISelector<T> {
+
+    /**
+     * The number of individuals drawn for each tournament.
+     */
+    private int tournamentSize;
+
+    /**
+     * Creates a tournament selector that draws the supplied number of individuals for each tournament.
+     *
+     * @param tournamentSize the number of individuals in each tournament
+     */
+    public TournamentSelection(int tournamentSize) {
+
+        if (tournamentSize < 1)
+            throw new IllegalArgumentException("Tournament Size Must Be Greater Than Zero");
+
+        this.tournamentSize = tournamentSize;
+    }
+
+    /**
+     * Picks count individuals, each the winner of its own tournament. The supplied Random is used once to seed the
+     * random number streams of the parallel chunks.
+     *
+     * @param population   the population to pick from
+     * @param count        the number of individuals to pick
+     * @param minimization whether lower fitness scores are better
+     * @param random       used to seed the random number streams
+     * @return a new list holding the winners of count tournaments
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<T> select(List<T> population, int count, boolean minimization, Random random) {
+
+        if (population == null || population.isEmpty())
+            throw new IllegalArgumentException("Population Cannot Be Null Or Empty");
+
+        if (count < 0)
+            throw new IllegalArgumentException("Count Cannot Be Negative");
+
+        if (random == null)
+            throw new IllegalArgumentException("Random Object Cannot Be Null");
+
+        Object[] winners = new Object[count];
+        RandomStreams.from(random).forEachChunk(count, (from, to, stream) -> {
+            for (int i = from; i < to; i++)
+                winners[i] = tournament(population, minimization, stream);
+        });
+
+        List<T> selected = new ArrayList<>(count);
+        for (Object winner : winners)
+            selected.add((T) winner);
+
+        return selected;
+    }
+
+    /**
+     * Returns the number of individuals drawn for each tournament.
+     *
+     * @return the tournament size
+     */
+    public int getTournamentSize() {
+        return tournamentSize;
+    }
+
+    /**
+     * Runs a single tournament and returns its winner.
+     *
+     * @param population   the population to draw from
+     * @param minimization whether lower fitness scores are better
+     * @param random       the random number stream of the current chunk
+     * @return the best of tournamentSize randomly drawn individuals
+     */
+    private T tournament(List<T> population, boolean minimization, SplittableRandom random) {
+        T winner = population.get(random.nextInt(population.size()));
+        double winnerFitness = winner.getFitness();
+
+        for (int round = 1; round < tournamentSize; round++) {
+            T challenger = population.get(random.nextInt(population.size()));
+            double fitness = challenger.getFitness();
+            if (minimization ? fitness < winnerFitness : fitness > winnerFitness) {
+                winner = challenger;
+                winnerFitness = fitness;
+            }
+        }
+
+        return winner;
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.knighten.ai.genetic.selection;
+
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.interfaces.ISelector;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Truncation selection, which keeps the best individuals of the population. This is what the problems in this
+ * framework do when no selector is set. It is found with TopK, so the population is not sorted.
+ *
+ * @param <T> a type of individual used to represent a population in the problem
+ */
+public class TruncationSelection<T extends Individual> implements ISelector<T> {
+
+    /**
+     * Returns the count best individuals sorted from best to worst. No random numbers are drawn.
+     *
+     * @param population   the population to pick from
+     * @param count        the number of individuals to pick
+     * @param minimization whether lower fitness scores are better
+     * @param random       not used
+     * @return a new list holding the count best individuals, best first
+     */
+    @Override
+    public List<T> select(List<T> population, int count, boolean minimization, Random random) {
+        return TopK.select(population, count, minimization);
+    }
+
+}
@@ -62,4 +62,37 @@ public class RandomTextHelper {
         return this.validChars.charAt(this.random.nextInt(this.validChars.length()));
     }
 
+    /**
+     * Creates a RandomTextHelper that generates text from the same valid characters using its own Random object. Used
+     * to give each forked problem a helper of its own.
+     *
+     * @param random object used by the new helper to generate random numbers
+     * @return a new RandomTextHelper using the same valid characters
+     */
+    public RandomTextHelper fork(Random random) {
+        return new RandomTextHelper(random, this.validChars);
+    }
+
+    /**
+     * Returns the Random object used to generate random text.
+     *
+     * @return the Random object being used
+     */
+    Random getRandom() {
+        return this.random;
+    }
+
+    /**
+     * Sets the Random object used to generate random text. Used to restore a checkpoint.
+     *
+     * @param random the Random object to use
+     */
+    void setRandom(Random random) {
+
+        if (random == null)
+            throw new IllegalArgumentException("A RandomTextHelper Random Object Cannot Be Null");
+
+        this.random = random;
+    }
+
 }
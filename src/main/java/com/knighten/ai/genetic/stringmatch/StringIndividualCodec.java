@@ -0,0 +1,54 @@
+package com.knighten.ai.genetic.stringmatch;
+
+import com.knighten.ai.genetic.interfaces.IGenomeCodec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes the strings of StringIndividuals as their length followed by their characters.
+ */
+public class StringIndividualCodec implements IGenomeCodec<StringIndividual> {
+
+    /**
+     * Returns the number of bytes the string takes up, its length plus two bytes per character.
+     *
+     * @param individual the individual to be encoded
+     * @return the number of bytes encode() writes for the individual
+     */
+    @Override
+    public int getEncodedSize(StringIndividual individual) {
+        return Integer.BYTES + Character.BYTES * individual.getGenes().length();
+    }
+
+    /**
+     * Writes the length of the individual's string followed by each of its characters.
+     *
+     * @param individual the individual whose string is written
+     * @param buffer     the buffer written to, with at least getEncodedSize() bytes remaining
+     */
+    @Override
+    public void encode(StringIndividual individual, ByteBuffer buffer) {
+        String genes = individual.getGenes();
+
+        buffer.putInt(genes.length());
+        for (int i = 0; i < genes.length(); i++)
+            buffer.putChar(genes.charAt(i));
+    }
+
+    /**
+     * Reads a string written by encode().
+     *
+     * @param buffer the buffer read from, positioned at the start of an encoded string
+     * @return a new individual holding the decoded string
+     */
+    @Override
+    public StringIndividual decode(ByteBuffer buffer) {
+        char[] genes = new char[buffer.getInt()];
+
+        for (int i = 0; i < genes.length; i++)
+            genes[i] = buffer.getChar();
+
+        return new StringIndividual(new String(genes));
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.knighten.ai.genetic.stringmatch;
+
+import com.knighten.ai.genetic.interfaces.IBatchFitnessFunction;
+
+/**
+ * Scores blocks of strings stored as primitive chars against a target string. The score of a string is the sum of the
+ * absolute differences between its characters and the target's, the same score StringMatchProblem uses.
+ */
+public class StringMatchBatchScorer implements IBatchFitnessFunction<char[]> {
+
+    /**
+     * The characters of the target string.
+     */
+    private char[] target;
+
+    /**
+     * Creates a scorer for strings matching the supplied target.
+     *
+     * @param targetString the string being matched
+     */
+    public StringMatchBatchScorer(String targetString) {
+
+        if (targetString == null || targetString.isEmpty())
+            throw new IllegalArgumentException("Target String Cannot Be Null Or Empty");
+
+        this.target = targetString.toCharArray();
+    }
+
+    /**
+     * Returns the length of the target string.
+     *
+     * @return the number of chars in each string
+     */
+    @Override
+    public int getGenomeLength() {
+        return target.length;
+    }
+
+    /**
+     * Writes the distance of each string in the range from the target into the fitness array.
+     *
+     * @param strings the strings stored back to back
+     * @param from    the index of the first string
+     * @param to      one past the index of the last string
+     * @param fitness the array the distances are written into
+     */
+    @Override
+    public void score(char[] strings, int from, int to, double[] fitness) {
+        int length = target.length;
+
+        for (int string = from; string < to; string++) {
+            int offset = string * length;
+            int score = 0;
+            for (int i = 0; i < length; i++)
+                score += Math.abs(strings[offset + i] - target[i]);
+
+            fitness[string] = score;
+        }
+    }
+
+    /**
+     * Returns the distance of a single string from the target.
+     *
+     * @param string a string as long as the target
+     * @return the sum of the absolute differences between the string's characters and the target's
+     */
+    public double score(String string) {
+        int score = 0;
+        for (int i = 0; i < target.length; i++)
+            score += Math.abs(string.charAt(i) - target[i]);
+
+        return score;
+    }
+
+}
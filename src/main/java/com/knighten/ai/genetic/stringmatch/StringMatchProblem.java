@@ -1,10 +1,17 @@
 package com.knighten.ai.genetic.stringmatch;
 
+import com.knighten.ai.genetic.FitnessCache;
 import com.knighten.ai.genetic.GeneticOptimization;
 import com.knighten.ai.genetic.GeneticOptimizationParams;
+import com.knighten.ai.genetic.interfaces.ICheckpointableGenOptimizeProblem;
+import com.knighten.ai.genetic.interfaces.IForkableGenOptimizeProblem;
 import com.knighten.ai.genetic.interfaces.IGenOptimizeProblem;
+import com.knighten.ai.genetic.interfaces.IRecyclingGenOptimizeProblem;
+import com.knighten.ai.genetic.interfaces.ISelector;
 import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.selection.TopK;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
@@ -15,7 +22,8 @@ import java.util.stream.IntStream;
  * Represents the string matching problem to be solved by genetic optimization. Starting with random strings attempt to
  * generate the target string.
  */
-public class StringMatchProblem implements IGenOptimizeProblem<StringIndividual> {
+public class StringMatchProblem implements IForkableGenOptimizeProblem<StringIndividual>,
+        IRecyclingGenOptimizeProblem<StringIndividual>, ICheckpointableGenOptimizeProblem<StringIndividual> {
 
     /**
      * The target string that the genetic algorithm is trying to generate.
@@ -32,6 +40,41 @@ public class StringMatchProblem implements IGenOptimizeProblem<StringIndividual>
      */
     private RandomTextHelper textHelper;
 
+    /**
+     * Caches the fitness scores of strings already seen, null if fitness scores are not cached.
+     */
+    private FitnessCache<String> fitnessCache;
+
+    /**
+     * Picks the sub-population in selection(), null to keep the best individuals.
+     */
+    private ISelector<StringIndividual> selector;
+
+    /**
+     * Reused by crossoverInto() to hold the random parents and split points of each offspring.
+     */
+    private int[] crossScratch;
+
+    /**
+     * Reused by crossoverInto() to build each crossed string.
+     */
+    private char[] charScratch;
+
+    /**
+     * Scores blocks of strings against the target string.
+     */
+    private StringMatchBatchScorer scorer;
+
+    /**
+     * Reused by calculateFitness() to hold the strings being scored back to back.
+     */
+    private char[] stringScratch;
+
+    /**
+     * Reused by calculateFitness() to hold the scores of the strings being scored.
+     */
+    private double[] fitnessScratch;
+
     /**
      * Creates a instance of StringMatchProblem containing the target string trying to be obtained.
      *
@@ -56,6 +99,7 @@ public class StringMatchProblem implements IGenOptimizeProblem<StringIndividual>
         this.targetString = targetString;
         this.random = random;
         this.textHelper = textHelper;
+        this.scorer = new StringMatchBatchScorer(targetString);
     }
 
     /**
@@ -79,23 +123,52 @@ public class StringMatchProblem implements IGenOptimizeProblem<StringIndividual>
      * Calculates the fitness for each individual in the population. For the StringMatchProblem fitness is calculated
      * by finding the sum of the absolute differences between the characters in the individual's string and the target
      * string. The difference is defined by the distance using the unicode integer representation of the characters.
+     * Individuals are skipped as described by IGenOptimizeProblem.calculateFitness().
+     * <p>
+     * Without a fitness cache the strings are copied back to back into a reused char array and scored in one pass by
+     * StringMatchBatchScorer.
      *
      * @param population the population of individuals whose fitness scores are to be set
      */
     @Override
     public void calculateFitness(List<StringIndividual> population) {
-        population.stream()
-                .forEach((individual) -> {
-                    // Find The Difference Between Each Character In The Current Individual and Target Gene
-                    // Sum All Differences For Final Score
-                    double score = IntStream.range(0, targetString.length())
-                            .map((i) -> Math.abs(individual.getGenes().charAt(i) - targetString.charAt(i)))
-                            .sum();
-                    individual.setFitness(score);
-                });
+        if (fitnessCache != null) {
+            population.stream()
+                    .filter((individual) -> !individual.isFitnessValid())
+                    .forEach((individual) -> {
+                        Double cached = fitnessCache.get(individual.getGenes());
+                        if (cached != null) {
+                            individual.setFitness(cached);
+                            return;
+                        }
+
+                        double score = this.scorer.score(individual.getGenes());
+                        individual.setFitness(score);
+                        fitnessCache.put(individual.getGenes(), score);
+                    });
+            return;
+        }
+
+        int length = targetString.length();
+        if (this.fitnessScratch == null || this.fitnessScratch.length < population.size()) {
+            this.stringScratch = new char[population.size() * length];
+            this.fitnessScratch = new double[population.size()];
+        }
+
+        // Gather The Strings Of Individuals That Need Scoring
+        int count = 0;
+        for (StringIndividual individual : population) {
+            if (!individual.isFitnessValid())
+                individual.getGenes().getChars(0, length, this.stringScratch, length * count++);
+        }
 
-        // This sort makes selection() and getBestIndividual() simpler
-        Collections.sort(population);
+        this.scorer.score(this.stringScratch, 0, count, this.fitnessScratch);
+
+        int scored = 0;
+        for (StringIndividual individual : population) {
+            if (!individual.isFitnessValid())
+                individual.setFitness(this.fitnessScratch[scored++]);
+        }
     }
 
     /**
@@ -107,12 +180,13 @@ public class StringMatchProblem implements IGenOptimizeProblem<StringIndividual>
      */
     @Override
     public StringIndividual getBestIndividual(List<StringIndividual> population) {
-        return population.get(0);
+        return TopK.best(population, true);
     }
 
     /**
      * Selects the selectionPercent percent of best StringIndividuals in the population. The best StringIndividuals are
      * the ones with the lowest fitness score, which are those closest to the target string.
+     * If a selector is set, it picks the sub-population instead.
      *
      * @param population       the population that is the sub-population is selected from
      * @param selectionPercent the percent of best individuals to keep
@@ -120,11 +194,11 @@ public class StringMatchProblem implements IGenOptimizeProblem<StringIndividual>
      */
     @Override
     public List<StringIndividual> selection(List<StringIndividual> population, double selectionPercent) {
-        int amountToRemove = (int) Math.floor((1 - selectionPercent) * population.size());
+        int selectionSize = TopK.selectionSize(population.size(), selectionPercent);
+        if (this.selector != null)
+            return this.selector.select(population, selectionSize, true, this.random);
 
-        return IntStream.rangeClosed(0, population.size() - amountToRemove - 1)
-                .mapToObj(population::get)
-                .collect(Collectors.toList());
+        return TopK.select(population, selectionSize, true);
     }
 
     /**
@@ -159,6 +233,55 @@ public class StringMatchProblem implements IGenOptimizeProblem<StringIndividual>
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Crosses StringIndividuals of the supplied sub-population the same way crossover() does, but stores each crossed
+     * string in an existing offspring instead of creating a new StringIndividual. Random numbers are drawn in the same
+     * order as crossover() and each crossed string is built in a reused character buffer, so only the final string is
+     * created.
+     *
+     * @param subPopulation the sub-population used to generate the offspring
+     * @param offspring     the individuals whose strings are replaced by the crossed strings
+     */
+    @Override
+    public void crossoverInto(List<StringIndividual> subPopulation, List<StringIndividual> offspring) {
+        int populationSize = offspring.size();
+        int length = targetString.length();
+        if (this.crossScratch == null || this.crossScratch.length != 3 * populationSize)
+            this.crossScratch = new int[3 * populationSize];
+        if (this.charScratch == null)
+            this.charScratch = new char[length];
+
+        // Parent Pairs Followed By Split Points
+        int[] draws = this.crossScratch;
+        for (int i = 0; i < 2 * populationSize; i++)
+            draws[i] = this.random.nextInt(subPopulation.size());
+        for (int i = 2 * populationSize; i < 3 * populationSize; i++)
+            draws[i] = this.random.nextInt(length);
+
+        for (int i = 0; i < populationSize; i++) {
+            int splitPoint = draws[i + 2 * populationSize];
+            subPopulation.get(draws[i]).getGenes().getChars(0, splitPoint, this.charScratch, 0);
+            subPopulation.get(draws[i + populationSize]).getGenes()
+                    .getChars(splitPoint, length, this.charScratch, splitPoint);
+
+            offspring.get(i).setGenes(new String(this.charScratch));
+        }
+    }
+
+    /**
+     * Creates a new StringIndividual with the supplied individual's string and fitness score.
+     *
+     * @param individual the individual to copy
+     * @return a new StringIndividual equal to the supplied individual
+     */
+    @Override
+    public StringIndividual copy(StringIndividual individual) {
+        StringIndividual copy = new StringIndividual(individual.getGenes());
+        copy.setFitness(individual.getFitness());
+
+        return copy;
+    }
+
     /**
      * Mutates the StringIndividuals in a population. There is a mutationProb percent chance that a character in a
      * StringIndividual's string will be mutated. If a character is selected for mutation then that character is
@@ -181,6 +304,137 @@ public class StringMatchProblem implements IGenOptimizeProblem<StringIndividual>
                 });
     }
 
+    /**
+     * Creates a copy of the problem for use by a single worker thread. The copy uses its own Random object and its own
+     * RandomTextHelper, both are seeded using this problem's Random object. The copy shares this problem's fitness
+     * cache.
+     *
+     * @return a copy of the problem that is safe to use on another thread
+     */
+    @Override
+    public StringMatchProblem fork() {
+        long textHelperSeed = this.random.nextLong();
+
+        return fork(textHelperSeed, this.random.nextLong());
+    }
+
+    /**
+     * Creates a copy of the problem for use by a single worker thread, like fork(), whose Random object and
+     * RandomTextHelper are seeded using the supplied seed.
+     *
+     * @param seed the seed used to seed the copy's Random object and RandomTextHelper
+     * @return a copy of the problem that is safe to use on another thread
+     */
+    @Override
+    public StringMatchProblem fork(long seed) {
+        Random seeds = new Random(seed);
+        long textHelperSeed = seeds.nextLong();
+
+        return fork(textHelperSeed, seeds.nextLong());
+    }
+
+    /**
+     * Creates a copy of the problem whose RandomTextHelper and Random object are seeded with the supplied seeds. The
+     * copy shares this problem's fitness cache and selector.
+     *
+     * @param textHelperSeed the seed of the copy's RandomTextHelper
+     * @param seed           the seed of the copy's Random object
+     * @return a copy of the problem that is safe to use on another thread
+     */
+    private StringMatchProblem fork(long textHelperSeed, long seed) {
+        RandomTextHelper forkedTextHelper = this.textHelper.fork(new Random(textHelperSeed));
+
+        StringMatchProblem fork = new StringMatchProblem(this.targetString, new Random(seed), forkedTextHelper);
+        fork.setFitnessCache(this.fitnessCache);
+        fork.setSelector(this.selector);
+
+        return fork;
+    }
+
+    /**
+     * Draws the next seed from the problem's Random object.
+     *
+     * @return a seed drawn from the problem's Random object
+     */
+    @Override
+    public long nextSeed() {
+        return this.random.nextLong();
+    }
+
+    /**
+     * Sets the cache used to skip scoring strings that have already been scored. Forks of the problem share the cache.
+     *
+     * @param fitnessCache the cache of fitness scores keyed by string, null to score every string
+     */
+    public void setFitnessCache(FitnessCache<String> fitnessCache) {
+        this.fitnessCache = fitnessCache;
+    }
+
+    /**
+     * Returns the cache of fitness scores keyed by string.
+     *
+     * @return the fitness cache, or null if fitness scores are not cached
+     */
+    public FitnessCache<String> getFitnessCache() {
+        return fitnessCache;
+    }
+
+    /**
+     * Sets the selector used by selection() to pick the sub-population. Forks of the problem share the selector.
+     *
+     * @param selector the selector to use, null to keep the selectionPercent percent of best individuals
+     */
+    public void setSelector(ISelector<StringIndividual> selector) {
+        this.selector = selector;
+    }
+
+    /**
+     * Returns the selector used by selection() to pick the sub-population.
+     *
+     * @return the selector, or null if selection() keeps the best individuals
+     */
+    public ISelector<StringIndividual> getSelector() {
+        return selector;
+    }
+
+    /**
+     * Returns a codec for StringIndividuals.
+     *
+     * @return a codec for the problem's StringIndividuals
+     */
+    @Override
+    public StringIndividualCodec getGenomeCodec() {
+        return new StringIndividualCodec();
+    }
+
+    /**
+     * Returns the problem's Random object and the RandomTextHelper's Random object, which are serialized when a
+     * checkpoint is written.
+     *
+     * @return an array holding both Random objects
+     */
+    @Override
+    public Serializable getRandomState() {
+        return new Random[]{this.random, this.textHelper.getRandom()};
+    }
+
+    /**
+     * Replaces the problem's Random object and the RandomTextHelper's Random object with ones restored from a
+     * checkpoint.
+     *
+     * @param state an array of Random objects previously returned by getRandomState()
+     */
+    @Override
+    public void setRandomState(Serializable state) {
+
+        if (!(state instanceof Random[]) || ((Random[]) state).length != 2)
+            throw new IllegalArgumentException("Random State Must Be An Array Of Two Random Objects");
+
+        Random[] randoms = (Random[]) state;
+        this.random = randoms[0];
+        this.textHelper.setRandom(randoms[1]);
+    }
+
     /**
      * A test execution of the StringMatchProblem.
      *
@@ -0,0 +1,89 @@
+package com.knighten.ai.genetic.termination;
+
+import com.knighten.ai.genetic.OptimizationState;
+import com.knighten.ai.genetic.interfaces.ITerminationCondition;
+
+/**
+ * Combines several termination conditions. anyOf() stops when at least one condition is met, allOf() stops only when
+ * every condition is met. Every condition is checked each generation, so stateful conditions such as
+ * StagnationTermination keep seeing every generation.
+ */
+public class CompositeTermination implements ITerminationCondition {
+
+    /**
+     * The combined conditions.
+     */
+    private ITerminationCondition[] conditions;
+
+    /**
+     * True if every condition must be met, false if one is enough.
+     */
+    private boolean requireAll;
+
+    /**
+     * Creates a CompositeTermination combining the supplied conditions.
+     *
+     * @param conditions the conditions to combine
+     * @param requireAll true if every condition must be met, false if one is enough
+     */
+    private CompositeTermination(ITerminationCondition[] conditions, boolean requireAll) {
+
+        if (conditions == null || conditions.length == 0)
+            throw new IllegalArgumentException("Conditions Cannot Be Null Or Empty");
+
+        for (ITerminationCondition condition : conditions) {
+            if (condition == null)
+                throw new IllegalArgumentException("Conditions Cannot Contain Null");
+        }
+
+        this.conditions = conditions.clone();
+        this.requireAll = requireAll;
+    }
+
+    /**
+     * Creates a condition that is met when at least one of the supplied conditions is met.
+     *
+     * @param conditions the conditions to combine
+     * @return the combined condition
+     */
+    public static CompositeTermination anyOf(ITerminationCondition... conditions) {
+        return new CompositeTermination(conditions, false);
+    }
+
+    /**
+     * Creates a condition that is met when all of the supplied conditions are met.
+     *
+     * @param conditions the conditions to combine
+     * @return the combined condition
+     */
+    public static CompositeTermination allOf(ITerminationCondition... conditions) {
+        return new CompositeTermination(conditions, true);
+    }
+
+    /**
+     * Checks every combined condition, so conditions that keep state see every generation, then combines the results.
+     *
+     * @param state the state of the optimization after the latest generation
+     * @return true if all of the conditions are met when combined with allOf(), or any of them with anyOf()
+     */
+    @Override
+    public boolean isTerminated(OptimizationState state) {
+        int met = 0;
+        for (ITerminationCondition condition : conditions) {
+            if (condition.isTerminated(state))
+                met++;
+        }
+
+        return requireAll ? met == conditions.length : met > 0;
+    }
+
+    /**
+     * Clears the state of every combined condition.
+     */
+    @Override
+    public void reset() {
+        for (ITerminationCondition condition : conditions)
+            condition.reset();
+    }
+
+}
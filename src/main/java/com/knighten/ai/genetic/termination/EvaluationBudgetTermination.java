@@ -0,0 +1,41 @@
+package com.knighten.ai.genetic.termination;
+
+import com.knighten.ai.genetic.OptimizationState;
+import com.knighten.ai.genetic.interfaces.ITerminationCondition;
+
+/**
+ * Stops an optimization once it has performed a number of fitness calculations. The budget is checked between
+ * generations, so a run can exceed it by up to one generation's worth of calculations.
+ */
+public class EvaluationBudgetTermination implements ITerminationCondition {
+
+    /**
+     * The number of fitness calculations an optimization may perform.
+     */
+    private long maxEvaluations;
+
+    /**
+     * Creates an EvaluationBudgetTermination allowing the supplied number of fitness calculations.
+     *
+     * @param maxEvaluations the number of fitness calculations an optimization may perform
+     */
+    public EvaluationBudgetTermination(long maxEvaluations) {
+
+        if (maxEvaluations < 1)
+            throw new IllegalArgumentException("Max Evaluations Must Be Greater Than Zero");
+
+        this.maxEvaluations = maxEvaluations;
+    }
+
+    /**
+     * Checks whether the optimization has used up its budget of fitness calculations.
+     *
+     * @param state the state of the optimization after the latest generation
+     * @return true if at least maxEvaluations fitness calculations have been performed
+     */
+    @Override
+    public boolean isTerminated(OptimizationState state) {
+        return state.getEvaluations() >= maxEvaluations;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.knighten.ai.genetic.termination;
+
+import com.knighten.ai.genetic.OptimizationState;
+import com.knighten.ai.genetic.interfaces.ITerminationCondition;
+
+/**
+ * Stops an optimization once the best fitness score is within a tolerance of a target value. Unlike the target value
+ * in GeneticOptimizationParams, which must be matched exactly, this works for problems whose fitness scores only
+ * approach their optimum.
+ */
+public class FitnessToleranceTermination implements ITerminationCondition {
+
+    /**
+     * The fitness score being searched for.
+     */
+    private double targetValue;
+
+    /**
+     * The largest distance from the target value that counts as reaching it.
+     */
+    private double tolerance;
+
+    /**
+     * Creates a FitnessToleranceTermination that stops when the best fitness score is within the tolerance of the
+     * target value.
+     *
+     * @param targetValue the fitness score being searched for
+     * @param tolerance   the largest distance from the target value that counts as reaching it
+     */
+    public FitnessToleranceTermination(double targetValue, double tolerance) {
+
+        if (Double.isNaN(targetValue) || Double.isInfinite(targetValue))
+            throw new IllegalArgumentException("Target Value Must Be A Finite Value");
+
+        if (tolerance < 0.0 || Double.isNaN(tolerance) || Double.isInfinite(tolerance))
+            throw new IllegalArgumentException("Tolerance Must Be A Finite Value Of Zero Or More");
+
+        this.targetValue = targetValue;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Checks whether the best fitness score is close enough to the target value.
+     *
+     * @param state the state of the optimization after the latest generation
+     * @return true if the best fitness score is within the tolerance of the target value
+     */
+    @Override
+    public boolean isTerminated(OptimizationState state) {
+        return Math.abs(state.getBestFitness() - targetValue) <= tolerance;
+    }
+
+}
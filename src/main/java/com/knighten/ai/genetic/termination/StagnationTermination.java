@@ -0,0 +1,96 @@
+package com.knighten.ai.genetic.termination;
+
+import com.knighten.ai.genetic.OptimizationState;
+import com.knighten.ai.genetic.interfaces.ITerminationCondition;
+
+/**
+ * Stops an optimization when the best fitness score has not improved for a number of generations. An improvement only
+ * counts when it is larger than a fraction of the last counted best fitness score, so a run creeping forward by tiny
+ * amounts is also treated as stagnant.
+ */
+public class StagnationTermination implements ITerminationCondition {
+
+    /**
+     * The number of generations without improvement allowed before stopping.
+     */
+    private int generations;
+
+    /**
+     * The smallest improvement, relative to the last counted best fitness score, that counts as an improvement.
+     */
+    private double minRelativeImprovement;
+
+    /**
+     * The best fitness score at the last counted improvement.
+     */
+    private double referenceFitness;
+
+    /**
+     * The generation of the last counted improvement, -1 before the first check.
+     */
+    private int referenceGeneration = -1;
+
+    /**
+     * Creates a StagnationTermination that counts any improvement to the best fitness score.
+     *
+     * @param generations the number of generations without improvement allowed before stopping
+     */
+    public StagnationTermination(int generations) {
+        this(generations, 0.0);
+    }
+
+    /**
+     * Creates a StagnationTermination that counts improvements larger than a fraction of the best fitness score.
+     *
+     * @param generations            the number of generations without improvement allowed before stopping
+     * @param minRelativeImprovement the smallest relative improvement that counts, 0.01 being 1%
+     */
+    public StagnationTermination(int generations, double minRelativeImprovement) {
+
+        if (generations < 1)
+            throw new IllegalArgumentException("Generations Must Be Greater Than Zero");
+
+        if (minRelativeImprovement < 0.0 || Double.isNaN(minRelativeImprovement)
+                || Double.isInfinite(minRelativeImprovement))
+            throw new IllegalArgumentException("Min Relative Improvement Must Be A Finite Value Of Zero Or More");
+
+        this.generations = generations;
+        this.minRelativeImprovement = minRelativeImprovement;
+    }
+
+    /**
+     * Checks whether the best fitness score has stopped improving. The first check and every check that improves on
+     * the reference fitness by more than the min relative improvement make the current generation the new reference.
+     *
+     * @param state the state of the optimization after the latest generation
+     * @return true if the allowed number of generations have passed since the reference generation
+     */
+    @Override
+    public boolean isTerminated(OptimizationState state) {
+        double fitness = state.getBestFitness();
+
+        if (referenceGeneration < 0) {
+            referenceFitness = fitness;
+            referenceGeneration = state.getGeneration();
+            return false;
+        }
+
+        double improvement = state.isMinimization() ? referenceFitness - fitness : fitness - referenceFitness;
+        if (improvement > minRelativeImprovement * Math.abs(referenceFitness)) {
+            referenceFitness = fitness;
+            referenceGeneration = state.getGeneration();
+            return false;
+        }
+
+        return state.getGeneration() - referenceGeneration >= generations;
+    }
+
+    /**
+     * Forgets the reference generation, so the next check starts a new one.
+     */
+    @Override
+    public void reset() {
+        referenceGeneration = -1;
+    }
+
+}
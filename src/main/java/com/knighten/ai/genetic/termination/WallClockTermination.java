@@ -0,0 +1,47 @@
+package com.knighten.ai.genetic.termination;
+
+import com.knighten.ai.genetic.OptimizationState;
+import com.knighten.ai.genetic.interfaces.ITerminationCondition;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stops an optimization once it has run for a fixed amount of time. The time is checked between generations, so a
+ * run can exceed its budget by up to one generation.
+ */
+public class WallClockTermination implements ITerminationCondition {
+
+    /**
+     * The time an optimization may run in nanoseconds.
+     */
+    private long budgetNanos;
+
+    /**
+     * Creates a WallClockTermination that allows an optimization to run for the supplied amount of time.
+     *
+     * @param duration the amount of time the optimization may run
+     * @param unit     the unit of the duration
+     */
+    public WallClockTermination(long duration, TimeUnit unit) {
+
+        if (duration < 1)
+            throw new IllegalArgumentException("Duration Must Be Greater Than Zero");
+
+        if (unit == null)
+            throw new IllegalArgumentException("Time Unit Cannot Be Null");
+
+        this.budgetNanos = unit.toNanos(duration);
+    }
+
+    /**
+     * Checks whether the optimization has run for its time budget.
+     *
+     * @param state the state of the optimization after the latest generation
+     * @return true if the elapsed time is at least the duration
+     */
+    @Override
+    public boolean isTerminated(OptimizationState state) {
+        return state.getElapsedNanos() >= budgetNanos;
+    }
+
+}
@@ -0,0 +1,195 @@
+package allocation;
+
+import com.knighten.ai.genetic.GeneticOptimization;
+import com.knighten.ai.genetic.GeneticOptimizationParams;
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.function.realvalue.MinimizeOneVar;
+import com.knighten.ai.genetic.interfaces.IGenOptimizeProblem;
+import com.knighten.ai.genetic.nqueens.NQueensProblem;
+import com.knighten.ai.genetic.stringmatch.RandomTextHelper;
+import com.knighten.ai.genetic.stringmatch.StringMatchProblem;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * Guards against allocation churn creeping back into the example problems. Each test runs fixed-seed generations of a
+ * problem, measures the bytes allocated per generation with ThreadMXBean, and fails if it is more than TOLERANCE times
+ * the baseline recorded in allocation-baselines.properties.
+ * <p>
+ * Generations are warmed up first so the JIT compiler has settled before measuring. Every thread's allocated bytes are
+ * sampled by thread id before and after the measured generations, and the differences are summed, so work done on
+ * pool threads is counted as well and a thread starting in between is counted from zero. The generations themselves
+ * run on the test's thread, which stays alive for both samples. When a change lowers allocation for good, record the
+ * new number from a failing test's message in the baselines file.
+ */
+public class AllocationRegressionTests {
+
+    private static final String BASELINES = "/allocation-baselines.properties";
+
+    private static final int POPULATION_SIZE = 1000;
+
+    private static final int WARMUP_GENERATIONS = 200;
+
+    private static final int MEASURED_GENERATIONS = 100;
+
+    private static final double TOLERANCE = 1.25;
+
+    private Properties baselines;
+
+    @Before
+    public void setup() throws IOException {
+        Assume.assumeTrue("Thread Allocation Measurement Is Not Supported", allocationMeasurementSupported());
+
+        baselines = new Properties();
+        try (InputStream in = AllocationRegressionTests.class.getResourceAsStream(BASELINES)) {
+            Assert.assertNotNull("Missing " + BASELINES, in);
+            baselines.load(in);
+        }
+    }
+
+    ///////////////////////////
+    // Actual Algorithm Runs //
+    ///////////////////////////
+
+    @Test
+    public void nQueensAllocation() {
+        checkAllocation("nqueens", new NQueensProblem(32, new Random(123)));
+    }
+
+    @Test
+    public void stringMatchAllocation() {
+        String validChars = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz ";
+        RandomTextHelper textHelper = new RandomTextHelper(new Random(123), validChars);
+
+        checkAllocation("stringmatch", new StringMatchProblem(textHelper.generateString(64), new Random(123),
+                textHelper));
+    }
+
+    @Test
+    public void minimizeOneVarAllocation() {
+        checkAllocation("minimizeonevar", new MinimizeOneVar(-10.0, 10.0, (x) -> x * x, new Random(123)));
+    }
+
+    /**
+     * Runs warm-up and measured generations of the problem and compares the allocation of the measured generations
+     * against the problem's baselines.
+     *
+     * @param name    the problem's prefix in the baselines file
+     * @param problem the problem, seeded
+     */
+    private void checkAllocation(String name, IGenOptimizeProblem problem) {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(POPULATION_SIZE,
+                WARMUP_GENERATIONS + MEASURED_GENERATIONS, .2, .01);
+        Stepper stepper = new Stepper(problem, params);
+
+        List<Individual> population = stepper.start();
+        for (int i = 0; i < WARMUP_GENERATIONS; i++)
+            population = stepper.step(population);
+
+        Map<Long, Long> before = allocatedBytes();
+        for (int i = 0; i < MEASURED_GENERATIONS; i++)
+            population = stepper.step(population);
+        long allocated = allocatedBytesSince(before);
+
+        long perGeneration = allocated / MEASURED_GENERATIONS;
+        checkBaseline(name + ".bytesPerGeneration", perGeneration);
+    }
+
+    /**
+     * Fails if a measured value is more than TOLERANCE times its baseline.
+     *
+     * @param key      the baseline's key
+     * @param measured the measured number of bytes
+     */
+    private void checkBaseline(String key, long measured) {
+        String baseline = baselines.getProperty(key);
+        Assert.assertNotNull("No Baseline For " + key, baseline);
+
+        long limit = (long) (Long.parseLong(baseline.trim()) * TOLERANCE);
+        Assert.assertTrue(key + " Allocated " + measured + " Bytes, Baseline Is " + baseline + " Bytes",
+                measured <= limit);
+    }
+
+    /**
+     * Checks that the JVM can report the bytes allocated by each thread.
+     *
+     * @return true if allocated bytes can be measured
+     */
+    private static boolean allocationMeasurementSupported() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean))
+            return false;
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported())
+            return false;
+
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return true;
+    }
+
+    /**
+     * Returns the number of bytes allocated so far by each live thread.
+     *
+     * @return the allocated bytes by thread id
+     */
+    private static Map<Long, Long> allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        long[] ids = threads.getAllThreadIds();
+        long[] allocated = threads.getThreadAllocatedBytes(ids);
+
+        Map<Long, Long> bytesById = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            if (allocated[i] >= 0)
+                bytesById.put(ids[i], allocated[i]);
+        }
+
+        return bytesById;
+    }
+
+    /**
+     * Returns the number of bytes allocated since an earlier sample, summed over each live thread. Threads missing from
+     * the earlier sample started after it and are counted from zero.
+     *
+     * @param before the earlier sample from allocatedBytes()
+     * @return the bytes allocated since the sample
+     */
+    private static long allocatedBytesSince(Map<Long, Long> before) {
+        long total = 0;
+        for (Map.Entry<Long, Long> thread : allocatedBytes().entrySet())
+            total += thread.getValue() - before.getOrDefault(thread.getKey(), 0L);
+
+        return total;
+    }
+
+    /**
+     * Exposes the single generation step of GeneticOptimization.
+     */
+    private static class Stepper extends GeneticOptimization {
+
+        Stepper(IGenOptimizeProblem problem, GeneticOptimizationParams params) {
+            super(problem, params);
+        }
+
+        List<Individual> start() {
+            prepareRun();
+            return initialPopulation();
+        }
+
+        List<Individual> step(List<Individual> population) {
+            return nextGeneration(population);
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+package baseclasses;
+
+import com.knighten.ai.genetic.FitnessCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FitnessCacheTests {
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorMaxSizeLessThanOne() {
+        new FitnessCache<String>(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getKeyIsNull() {
+        new FitnessCache<String>(10).get(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void putKeyIsNull() {
+        new FitnessCache<String>(10).put(null, 1.0);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void getCountsHitsAndMisses() {
+        FitnessCache<String> testObject = new FitnessCache<>(10);
+
+        Assert.assertNull(testObject.get("a"));
+        testObject.put("a", 2.5);
+        Assert.assertEquals(2.5, testObject.get("a"), 0.0);
+        Assert.assertEquals(2.5, testObject.get("a"), 0.0);
+
+        Assert.assertEquals(2, testObject.getHits());
+        Assert.assertEquals(1, testObject.getMisses());
+        Assert.assertEquals(2.0 / 3.0, testObject.getHitRate(), 0.000001);
+    }
+
+    @Test
+    public void getHitRateNoLookupsIsZero() {
+        Assert.assertEquals(0.0, new FitnessCache<String>(10).getHitRate(), 0.0);
+    }
+
+    @Test
+    public void putEvictsLeastRecentlyUsedEntry() {
+        FitnessCache<String> testObject = new FitnessCache<>(2);
+        testObject.put("a", 1.0);
+        testObject.put("b", 2.0);
+
+        // Using "a" Makes "b" The Least Recently Used
+        testObject.get("a");
+        testObject.put("c", 3.0);
+
+        Assert.assertEquals(2, testObject.size());
+        Assert.assertEquals(1, testObject.getEvictions());
+        Assert.assertNull(testObject.get("b"));
+        Assert.assertEquals(1.0, testObject.get("a"), 0.0);
+        Assert.assertEquals(3.0, testObject.get("c"), 0.0);
+    }
+
+    @Test
+    public void clearRemovesEntriesAndKeepsCounts() {
+        FitnessCache<String> testObject = new FitnessCache<>(10);
+        testObject.put("a", 1.0);
+        testObject.get("a");
+        testObject.clear();
+
+        Assert.assertEquals(0, testObject.size());
+        Assert.assertEquals(1, testObject.getHits());
+        Assert.assertNull(testObject.get("a"));
+    }
+
+}
@@ -0,0 +1,104 @@
+package baseclasses;
+
+import com.knighten.ai.genetic.GenerationSummary;
+import com.knighten.ai.genetic.Individual;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class GenerationSummaryTests {
+
+    private List<Individual> population;
+
+    @Before
+    public void setup() {
+        population = new ArrayList<>();
+        for (double fitness : new double[]{4.0, 1.0, 7.0, 4.0}) {
+            Individual individual = new Individual();
+            individual.setFitness(fitness);
+            population.add(individual);
+        }
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorGenerationIsNegative() {
+        new GenerationSummary(-1, population.get(0), 4, 1.0, 7.0, 4.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorBestIndividualIsNull() {
+        new GenerationSummary(0, null, 4, 1.0, 7.0, 4.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorPopulationSizeLessThanOne() {
+        new GenerationSummary(0, population.get(0), 0, 1.0, 7.0, 4.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorStatisticsIsNull() {
+        new GenerationSummary(0, population.get(0), null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ofPopulationIsEmpty() {
+        GenerationSummary.of(0, population.get(0), new ArrayList<>());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void combineSummariesIsEmpty() {
+        GenerationSummary.combine(0, population.get(0), new ArrayList<>());
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void ofCalculatesPopulationStatistics() {
+        GenerationSummary summary = GenerationSummary.of(3, population.get(1), population);
+
+        Assert.assertEquals(3, summary.getGeneration());
+        Assert.assertSame(population.get(1), summary.getBestIndividual());
+        Assert.assertEquals(1.0, summary.getBestFitness(), 0.0);
+        Assert.assertEquals(4, summary.getPopulationSize());
+        Assert.assertEquals(1.0, summary.getMinFitness(), 0.0);
+        Assert.assertEquals(7.0, summary.getMaxFitness(), 0.0);
+        Assert.assertEquals(4.0, summary.getMeanFitness(), 0.0);
+        Assert.assertEquals(4.5, summary.getStatistics().getFitnessVariance(), 0.000000001);
+        Assert.assertEquals(4.0, summary.getStatistics().getMedianFitness(), 0.0);
+    }
+
+    @Test
+    public void constructorWithoutStatisticsLeavesThemUnknown() {
+        GenerationSummary summary = new GenerationSummary(0, population.get(0), 4, 1.0, 7.0, 4.0);
+
+        Assert.assertEquals(4, summary.getStatistics().getCount());
+        Assert.assertTrue(Double.isNaN(summary.getStatistics().getFitnessVariance()));
+        Assert.assertTrue(Double.isNaN(summary.getStatistics().getMedianFitness()));
+        Assert.assertTrue(Double.isNaN(summary.getStatistics().getDiversity()));
+    }
+
+    @Test
+    public void combineWeightsMeansByPopulationSize() {
+        GenerationSummary first = GenerationSummary.of(0, population.get(1), population);
+        GenerationSummary second = new GenerationSummary(0, population.get(0), 1, 10.0, 10.0, 10.0);
+
+        GenerationSummary summary = GenerationSummary.combine(5, population.get(1), Arrays.asList(first, second));
+
+        Assert.assertEquals(5, summary.getGeneration());
+        Assert.assertEquals(5, summary.getPopulationSize());
+        Assert.assertEquals(1.0, summary.getMinFitness(), 0.0);
+        Assert.assertEquals(10.0, summary.getMaxFitness(), 0.0);
+        Assert.assertEquals(5.2, summary.getMeanFitness(), 0.000000001);
+    }
+
+}
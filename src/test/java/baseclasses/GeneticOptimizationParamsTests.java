@@ -51,4 +51,57 @@ public class GeneticOptimizationParamsTests {
         testObject.setTargetValue(Double.NaN);
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void setIslandCountLessThanOne() {
+        GeneticOptimizationParams testObject = new GeneticOptimizationParams(10, 10, .15, .10);
+        testObject.setIslandCount(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setMigrationIntervalLessThanOne() {
+        GeneticOptimizationParams testObject = new GeneticOptimizationParams(10, 10, .15, .10);
+        testObject.setMigrationInterval(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setMigrationSizeLessThanZero() {
+        GeneticOptimizationParams testObject = new GeneticOptimizationParams(10, 10, .15, .10);
+        testObject.setMigrationSize(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setMigrationSizeEqualToPopulationSize() {
+        GeneticOptimizationParams testObject = new GeneticOptimizationParams(10, 10, .15, .10);
+        testObject.setMigrationSize(10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setReplacementSizeLessThanOne() {
+        GeneticOptimizationParams testObject = new GeneticOptimizationParams(10, 10, .15, .10);
+        testObject.setReplacementSize(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setReplacementSizeGreaterThanPopulationSize() {
+        GeneticOptimizationParams testObject = new GeneticOptimizationParams(10, 10, .15, .10);
+        testObject.setReplacementSize(11);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setHistorySizeLessThanOne() {
+        GeneticOptimizationParams testObject = new GeneticOptimizationParams(10, 10, .15, .10);
+        testObject.setHistorySize(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setElitismCountNegative() {
+        GeneticOptimizationParams testObject = new GeneticOptimizationParams(10, 10, .15, .10);
+        testObject.setElitismCount(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setElitismCountLargerThanPopulation() {
+        GeneticOptimizationParams testObject = new GeneticOptimizationParams(10, 10, .15, .10);
+        testObject.setElitismCount(11);
+    }
 }
@@ -1,23 +1,40 @@
 package baseclasses;
 
+import com.knighten.ai.genetic.FitnessCache;
+import com.knighten.ai.genetic.GenerationSummary;
 import com.knighten.ai.genetic.GeneticOptimization;
 import com.knighten.ai.genetic.GeneticOptimizationParams;
 import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.OptimizationHandle;
+import com.knighten.ai.genetic.OptimizationProgress;
 import com.knighten.ai.genetic.function.realvalue.MaximizeOneVar;
 import com.knighten.ai.genetic.function.realvalue.MinimizeOneVar;
 import com.knighten.ai.genetic.interfaces.IGenOptimizeProblem;
+import com.knighten.ai.genetic.interfaces.IGenerationListener;
+import com.knighten.ai.genetic.nqueens.NQueensConflictCounter;
 import com.knighten.ai.genetic.nqueens.NQueensIndividual;
 import com.knighten.ai.genetic.nqueens.NQueensProblem;
 import com.knighten.ai.genetic.stringmatch.RandomTextHelper;
 import com.knighten.ai.genetic.stringmatch.StringIndividual;
 import com.knighten.ai.genetic.stringmatch.StringMatchProblem;
+import com.knighten.ai.genetic.termination.EvaluationBudgetTermination;
+import com.knighten.ai.genetic.termination.StagnationTermination;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.Mockito.*;
 
@@ -55,6 +72,8 @@ public class GeneticOptimizationTests {
                 .thenReturn(.25);
         Mockito.when(mockParams.getTargetValue())
                 .thenReturn(Double.MAX_VALUE);
+        Mockito.when(mockParams.getHistorySize())
+                .thenReturn(Integer.MAX_VALUE);
 
     }
 
@@ -72,6 +91,41 @@ public class GeneticOptimizationTests {
         new GeneticOptimization(mockProblem, null);
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void addGenerationListenerIsNull() {
+        new GeneticOptimization(mockProblem, mockParams).addGenerationListener(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setCheckpointingIntervalLessThanOne() throws IOException {
+        Path file = Files.createTempFile("checkpoint", ".bin");
+        try {
+            new GeneticOptimization(new NQueensProblem(8, new Random(123)), mockParams).setCheckpointing(file, 0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void setCheckpointingProblemCannotBeCheckpointed() throws IOException {
+        Path file = Files.createTempFile("checkpoint", ".bin");
+        try {
+            new GeneticOptimization(mockProblem, mockParams).setCheckpointing(file, 10);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void resumeFileIsNull() {
+        new GeneticOptimization(new NQueensProblem(8, new Random(123)), mockParams).resume(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void optimizeAsyncExecutorIsNull() {
+        new GeneticOptimization(mockProblem, mockParams).optimizeAsync(null);
+    }
+
     ////////////////////
     // Method Testing //
     ////////////////////
@@ -90,6 +144,311 @@ public class GeneticOptimizationTests {
 
     }
 
+    @Test
+    public void optimizeListenerCalledForEveryGeneration() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(100, 20, .10, .05);
+        GeneticOptimization testObject = new GeneticOptimization(new NQueensProblem(8, new Random(123)), params);
+
+        List<GenerationSummary> summaries = new ArrayList<>();
+        testObject.addGenerationListener(summaries::add);
+
+        List<Individual> optimizationGeneration = testObject.optimize();
+
+        // Initial Population Plus One Per Generation
+        Assert.assertEquals(21, summaries.size());
+        for (int i = 0; i < summaries.size(); i++) {
+            GenerationSummary summary = summaries.get(i);
+            Assert.assertEquals(i, summary.getGeneration());
+            Assert.assertEquals(100, summary.getPopulationSize());
+            Assert.assertSame(optimizationGeneration.get(i), summary.getBestIndividual());
+            Assert.assertEquals(summary.getMinFitness(), summary.getBestFitness(), 0.0);
+            Assert.assertTrue(summary.getMinFitness() <= summary.getMeanFitness());
+            Assert.assertTrue(summary.getMeanFitness() <= summary.getMaxFitness());
+        }
+    }
+
+    @Test
+    public void optimizeListenerGetsDiversityOnlyWhenTracked() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(100, 5, .10, .05);
+        GeneticOptimization untracked = new GeneticOptimization(new NQueensProblem(8, new Random(123)), params);
+        List<GenerationSummary> untrackedSummaries = new ArrayList<>();
+        untracked.addGenerationListener(untrackedSummaries::add);
+        untracked.optimize();
+
+        params.setDiversityTracked(true);
+        GeneticOptimization tracked = new GeneticOptimization(new NQueensProblem(8, new Random(123)), params);
+        List<GenerationSummary> trackedSummaries = new ArrayList<>();
+        tracked.addGenerationListener(trackedSummaries::add);
+        tracked.optimize();
+
+        for (GenerationSummary summary : untrackedSummaries)
+            Assert.assertTrue(Double.isNaN(summary.getStatistics().getDiversity()));
+        for (GenerationSummary summary : trackedSummaries) {
+            Assert.assertTrue(summary.getStatistics().getDiversity() >= 0.0);
+            Assert.assertTrue(summary.getStatistics().getDiversity() <= 1.0);
+        }
+    }
+
+    @Test
+    public void optimizeRemovedListenerIsNotCalled() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(100, 20, .10, .05);
+        GeneticOptimization testObject = new GeneticOptimization(new NQueensProblem(8, new Random(123)), params);
+
+        List<GenerationSummary> summaries = new ArrayList<>();
+        IGenerationListener listener = summaries::add;
+        testObject.addGenerationListener(listener);
+        testObject.removeGenerationListener(listener);
+
+        testObject.optimize();
+
+        Assert.assertTrue(summaries.isEmpty());
+    }
+
+    @Test
+    public void optimizeAsyncCompletesWithSameResultAsOptimize() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(100, 20, .10, .05);
+        List<Individual> expected = new GeneticOptimization(new NQueensProblem(8, new Random(123)), params).optimize();
+
+        GeneticOptimization testObject = new GeneticOptimization(new NQueensProblem(8, new Random(123)), params);
+        OptimizationHandle handle = testObject.optimizeAsync();
+        List<Individual> optimizationGeneration = handle.getResult().join();
+
+        Assert.assertTrue(handle.isDone());
+        Assert.assertFalse(handle.isCancelled());
+        Assert.assertEquals(20, handle.getGeneration());
+        Assert.assertSame(optimizationGeneration.get(20), handle.getBestIndividual());
+        Assert.assertEquals(20, handle.getProgress().getGeneration());
+        Assert.assertSame(optimizationGeneration.get(20), handle.getProgress().getBestIndividual());
+        Assert.assertEquals(expected.size(), optimizationGeneration.size());
+        for (int i = 0; i < expected.size(); i++)
+            Assert.assertEquals(expected.get(i).getFitness(), optimizationGeneration.get(i).getFitness(), 0.0);
+    }
+
+    @Test
+    public void optimizeAsyncProgressPairsEachGenerationWithItsBest() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(100, 200, .10, .05);
+        List<Individual> expected = new GeneticOptimization(new NQueensProblem(8, new Random(123)), params).optimize();
+
+        GeneticOptimization testObject = new GeneticOptimization(new NQueensProblem(8, new Random(123)), params);
+        OptimizationHandle handle = testObject.optimizeAsync();
+        Assert.assertNotNull(handle.getProgress());
+
+        while (!handle.isDone()) {
+            OptimizationProgress progress = handle.getProgress();
+            if (progress.getGeneration() >= 0)
+                Assert.assertEquals(expected.get(progress.getGeneration()).getFitness(),
+                        progress.getBestIndividual().getFitness(), 0.0);
+        }
+        handle.getResult().join();
+    }
+
+    @Test
+    public void optimizeAsyncCancelStopsAfterCurrentGeneration() throws InterruptedException {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(100, 1000000, .10, .05);
+        GeneticOptimization testObject = new GeneticOptimization(new NQueensProblem(8, new Random(123)), params);
+
+        CompletableFuture<OptimizationHandle> started = new CompletableFuture<>();
+        List<GenerationSummary> summaries = new ArrayList<>();
+        testObject.addGenerationListener((summary) -> {
+            summaries.add(summary);
+            if (summary.getGeneration() == 5)
+                started.join().cancel();
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        OptimizationHandle handle = testObject.optimizeAsync(executor);
+        started.complete(handle);
+
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        Assert.assertTrue(handle.isCancelled());
+        Assert.assertTrue(handle.getResult().isCancelled());
+        Assert.assertEquals(6, summaries.size());
+        Assert.assertEquals(5, handle.getGeneration());
+        Assert.assertSame(summaries.get(5).getBestIndividual(), handle.getBestIndividual());
+    }
+
+    @Test
+    public void optimizeStopsWhenTerminationConditionIsMet() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(100, 1000, .10, .05);
+        params.setTerminationCondition(new EvaluationBudgetTermination(1000));
+
+        GeneticOptimization testObject = new GeneticOptimization(new NQueensProblem(20, new Random(123)), params);
+
+        // Each Generation Calculates The Fitness Of 100 Individuals
+        Assert.assertEquals(10, testObject.optimize().size());
+    }
+
+    @Test
+    public void optimizeStagnationStopsRunAfterLastImprovement() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(100, 100000, .10, .05);
+        params.setTerminationCondition(new StagnationTermination(25));
+
+        GeneticOptimization testObject = new GeneticOptimization(new NQueensProblem(8, new Random(123)), params);
+        List<Individual> optimizationGeneration = testObject.optimize();
+
+        Assert.assertTrue(optimizationGeneration.size() < 100001);
+
+        // Find The Last Generation That Improved On Every Generation Before It
+        int lastImprovement = 0;
+        double best = optimizationGeneration.get(0).getFitness();
+        for (int i = 1; i < optimizationGeneration.size(); i++) {
+            if (optimizationGeneration.get(i).getFitness() < best) {
+                best = optimizationGeneration.get(i).getFitness();
+                lastImprovement = i;
+            }
+        }
+        Assert.assertEquals(lastImprovement + 25, optimizationGeneration.size() - 1);
+    }
+
+    @Test
+    public void resumeCreatesSameGenerationsAsUninterruptedRun() throws IOException {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(100, 60, .10, .05);
+        Path file = Files.createTempFile("checkpoint", ".bin");
+
+        try {
+            GeneticOptimization uninterrupted = new GeneticOptimization(new NQueensProblem(20, new Random(123)), params);
+            uninterrupted.setCheckpointing(file, 25);
+            List<Individual> expected = uninterrupted.optimize();
+
+            // The Last Checkpoint Is Generation 50, The Resumed Problem's Own Seed Is Replaced By The Checkpoint's
+            GeneticOptimization resumed = new GeneticOptimization(new NQueensProblem(20, new Random(456)), params);
+            List<Individual> optimizationGeneration = resumed.resume(file);
+
+            Assert.assertEquals(11, optimizationGeneration.size());
+            for (int i = 0; i < optimizationGeneration.size(); i++) {
+                Assert.assertArrayEquals((Integer[]) expected.get(50 + i).getGenes(),
+                        (Integer[]) optimizationGeneration.get(i).getGenes());
+                Assert.assertEquals(expected.get(50 + i).getFitness(), optimizationGeneration.get(i).getFitness(), 0.0);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void resumeStringMatchRestoresTextHelperRandom() throws IOException {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(200, 40, .20, .05);
+        String validChars = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz ";
+        Path file = Files.createTempFile("checkpoint", ".bin");
+
+        try {
+            GeneticOptimization uninterrupted = new GeneticOptimization(new StringMatchProblem("Hello String Matching",
+                    new Random(123), new RandomTextHelper(new Random(123), validChars)), params);
+            uninterrupted.setCheckpointing(file, 30);
+            List<Individual> expected = uninterrupted.optimize();
+
+            GeneticOptimization resumed = new GeneticOptimization(new StringMatchProblem("Hello String Matching",
+                    new Random(456), new RandomTextHelper(new Random(456), validChars)), params);
+            List<Individual> optimizationGeneration = resumed.resume(file);
+
+            Assert.assertEquals(11, optimizationGeneration.size());
+            for (int i = 0; i < optimizationGeneration.size(); i++)
+                Assert.assertEquals(expected.get(30 + i).getGenes(), optimizationGeneration.get(i).getGenes());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void optimizeHistorySizeKeepsMostRecentGenerations() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(100, 20, .10, .05);
+        params.setHistorySize(5);
+        GeneticOptimization testObject = new GeneticOptimization(new NQueensProblem(8, new Random(123)), params);
+
+        List<GenerationSummary> summaries = new ArrayList<>();
+        testObject.addGenerationListener(summaries::add);
+
+        List<Individual> optimizationGeneration = testObject.optimize();
+
+        Assert.assertEquals(5, optimizationGeneration.size());
+        for (int i = 0; i < 5; i++)
+            Assert.assertSame(summaries.get(16 + i).getBestIndividual(), optimizationGeneration.get(i));
+    }
+
+    @Test
+    public void optimizeElitismBestNeverGetsWorseAndElitesAreNotRescored() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(100, 60, .10, .20);
+        params.setElitismCount(3);
+
+        GeneticOptimization testObject = new GeneticOptimization(new NQueensProblem(10, new Random(123)), params);
+        List<Individual> optimizationGeneration = testObject.optimize();
+
+        for (int i = 1; i < optimizationGeneration.size(); i++)
+            Assert.assertTrue(optimizationGeneration.get(i).getFitness()
+                    <= optimizationGeneration.get(i - 1).getFitness());
+
+        Assert.assertEquals(100 + 60 * 97, testObject.getEvaluationCount());
+    }
+
+    @Test
+    public void optimizeElitismWithRecyclingKeepsEveryFitnessCurrent() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(50, 30, .20, .20);
+        params.setElitismCount(3);
+
+        for (int seed = 0; seed < 10; seed++) {
+            GeneticOptimization testObject = new GeneticOptimization(new NQueensProblem(8, new Random(seed)), params) {
+                @Override
+                protected List<Individual> nextGeneration(List<Individual> population) {
+                    List<Individual> next = super.nextGeneration(population);
+                    for (Individual individual : next)
+                        Assert.assertEquals(NQueensConflictCounter.countPairwise((Integer[]) individual.getGenes()),
+                                individual.getFitness(), 0.0);
+
+                    return next;
+                }
+            };
+
+            List<Individual> optimizationGeneration = testObject.optimize();
+            for (int i = 1; i < optimizationGeneration.size(); i++)
+                Assert.assertTrue(optimizationGeneration.get(i).getFitness()
+                        <= optimizationGeneration.get(i - 1).getFitness());
+        }
+    }
+
+    @Test
+    public void optimizeElitismWithoutRecyclingBestNeverGetsWorse() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(100, 60, .10, .20);
+        params.setElitismCount(2);
+
+        AtomicInteger evaluations = new AtomicInteger();
+        IGenOptimizeProblem problem = new NonRecyclingProblem(new MaximizeOneVar(-10.0, 10.0, (x) -> {
+            evaluations.incrementAndGet();
+            return -Math.pow(x - 1, 2);
+        }, new Random(123)));
+        GeneticOptimization testObject = new GeneticOptimization(problem, params);
+        List<Individual> optimizationGeneration = testObject.optimize();
+
+        for (int i = 1; i < optimizationGeneration.size(); i++)
+            Assert.assertTrue(optimizationGeneration.get(i).getFitness()
+                    >= optimizationGeneration.get(i - 1).getFitness());
+
+        Assert.assertEquals(100 + 60 * 98, evaluations.get());
+    }
+
+    @Test
+    public void optimizeWithFitnessCacheSameResultsAndSkipsDuplicates() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(200, 40, .10, .05);
+
+        NQueensProblem cachedProblem = new NQueensProblem(8, new Random(123));
+        FitnessCache<List<Integer>> cache = new FitnessCache<>(10000);
+        cachedProblem.setFitnessCache(cache);
+
+        List<Individual> expected = new GeneticOptimization(new NQueensProblem(8, new Random(123)), params).optimize();
+        List<Individual> optimizationGeneration = new GeneticOptimization(cachedProblem, params).optimize();
+
+        Assert.assertEquals(expected.size(), optimizationGeneration.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertArrayEquals((Integer[]) expected.get(i).getGenes(),
+                    (Integer[]) optimizationGeneration.get(i).getGenes());
+            Assert.assertEquals(expected.get(i).getFitness(), optimizationGeneration.get(i).getFitness(), 0.0);
+        }
+
+        Assert.assertEquals(200 * 41, cache.getHits() + cache.getMisses());
+        Assert.assertTrue(cache.getHits() > 0);
+    }
+
     ///////////////////////////
     // Actual Algorithm Runs //
     ///////////////////////////
@@ -164,4 +523,82 @@ public class GeneticOptimizationTests {
         Assert.assertEquals(0.0, optimized.getFitness(), 0.000001);
     }
 
+    @Test
+    public void optimizeRecyclingProblemWritesGenerationsIntoSparePopulation() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(100, 20, .10, .05);
+
+        int[] calls = new int[2];
+        NQueensProblem problem = new NQueensProblem(8, new Random(123)) {
+            @Override
+            public List<NQueensIndividual> crossover(List<NQueensIndividual> subPopulation, int populationSize) {
+                calls[0]++;
+                return super.crossover(subPopulation, populationSize);
+            }
+
+            @Override
+            public void crossoverInto(List<NQueensIndividual> subPopulation, List<NQueensIndividual> offspring) {
+                calls[1]++;
+                super.crossoverInto(subPopulation, offspring);
+            }
+        };
+
+        List<Individual> optimizationGeneration = new GeneticOptimization(problem, params).optimize();
+
+        // Only The First Generation Creates New Individuals
+        Assert.assertEquals(1, calls[0]);
+        Assert.assertEquals(19, calls[1]);
+
+        // Kept Best Individuals Are Copies That Later Generations Do Not Overwrite
+        for (Individual best : optimizationGeneration)
+            Assert.assertEquals(problem.conflictScore((NQueensIndividual) best), best.getFitness(), 0.0);
+    }
+
+    /**
+     * Wraps a problem so that it is only seen as an IGenOptimizeProblem, which makes GeneticOptimization create new
+     * individuals each generation instead of recycling them.
+     */
+    private static class NonRecyclingProblem implements IGenOptimizeProblem<Individual> {
+
+        private IGenOptimizeProblem<Individual> problem;
+
+        NonRecyclingProblem(IGenOptimizeProblem problem) {
+            this.problem = problem;
+        }
+
+        @Override
+        public List<Individual> generateInitialPopulation(int populationSize) {
+            return problem.generateInitialPopulation(populationSize);
+        }
+
+        @Override
+        public void calculateFitness(List<Individual> population) {
+            problem.calculateFitness(population);
+        }
+
+        @Override
+        public Individual getBestIndividual(List<Individual> population) {
+            return problem.getBestIndividual(population);
+        }
+
+        @Override
+        public List<Individual> selection(List<Individual> population, double selectionPercent) {
+            return problem.selection(population, selectionPercent);
+        }
+
+        @Override
+        public List<Individual> crossover(List<Individual> subPopulation, int populationSize) {
+            return problem.crossover(subPopulation, populationSize);
+        }
+
+        @Override
+        public void mutate(List<Individual> population, double mutationProb) {
+            problem.mutate(population, mutationProb);
+        }
+
+        @Override
+        public boolean isMinimization() {
+            return problem.isMinimization();
+        }
+    }
+
 }
@@ -53,5 +53,26 @@ public class IndividualTests {
         Assert.assertEquals(-1, individualFitness1.compareTo(individualFitness2));
     }
 
+    @Test
+    public void isFitnessValidAfterSetFitnessUntilGenesChange() {
+        Individual<String> testObject = new Individual<>();
+        testObject.setGenes("abc");
+        Assert.assertFalse(testObject.isFitnessValid());
+
+        testObject.setFitness(3.0);
+        Assert.assertTrue(testObject.isFitnessValid());
+
+        testObject.setGenes("abd");
+        Assert.assertFalse(testObject.isFitnessValid());
+    }
+
+    @Test
+    public void invalidateFitnessMarksFitnessOutOfDate() {
+        individualFitness1.invalidateFitness();
+
+        Assert.assertFalse(individualFitness1.isFitnessValid());
+        Assert.assertEquals(1.0, individualFitness1.getFitness(), 0.0);
+    }
+
 }
 
@@ -0,0 +1,256 @@
+package baseclasses;
+
+import com.knighten.ai.genetic.GenerationSummary;
+import com.knighten.ai.genetic.GeneticOptimizationParams;
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.IslandGeneticOptimization;
+import com.knighten.ai.genetic.MigrationTopology;
+import com.knighten.ai.genetic.OptimizationHandle;
+import com.knighten.ai.genetic.function.realvalue.MaximizeOneVar;
+import com.knighten.ai.genetic.interfaces.IGenOptimizeProblem;
+import com.knighten.ai.genetic.nqueens.NQueensProblem;
+import com.knighten.ai.genetic.stringmatch.RandomTextHelper;
+import com.knighten.ai.genetic.stringmatch.StringIndividual;
+import com.knighten.ai.genetic.stringmatch.StringMatchProblem;
+import com.knighten.ai.genetic.termination.EvaluationBudgetTermination;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+
+public class IslandGeneticOptimizationTests {
+
+    private GeneticOptimizationParams params;
+
+    @Before
+    public void setup() {
+        params = new GeneticOptimizationParams(250, 5000, .05, .01);
+        params.setTargetValue(0.0);
+        params.setIslandCount(4);
+        params.setMigrationInterval(10);
+        params.setMigrationSize(5);
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorProblemIsNull() {
+        new IslandGeneticOptimization(null, params);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorTopologyIsNull() {
+        new IslandGeneticOptimization(new NQueensProblem(6, new Random(123)), params, null, new Random(123));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorRandomIsNull() {
+        new IslandGeneticOptimization(new NQueensProblem(6, new Random(123)), params, MigrationTopology.RING, null);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void optimizeOneBestIndividualPerGenerationWhenTargetNotReached() {
+        GeneticOptimizationParams shortParams = new GeneticOptimizationParams(50, 23, .10, .01);
+        shortParams.setIslandCount(3);
+        shortParams.setMigrationInterval(5);
+
+        IGenOptimizeProblem problem = new NQueensProblem(20, new Random(123));
+        IslandGeneticOptimization optimizer = new IslandGeneticOptimization(problem, shortParams);
+
+        List<Individual> optimizationGeneration = optimizer.optimize();
+
+        // Initial Population Plus One Per Generation
+        Assert.assertEquals(24, optimizationGeneration.size());
+    }
+
+    @Test
+    public void optimizeListenerSummarizesEveryIsland() {
+        GeneticOptimizationParams shortParams = new GeneticOptimizationParams(50, 23, .10, .01);
+        shortParams.setIslandCount(3);
+        shortParams.setMigrationInterval(5);
+
+        IGenOptimizeProblem problem = new NQueensProblem(20, new Random(123));
+        IslandGeneticOptimization optimizer = new IslandGeneticOptimization(problem, shortParams);
+
+        List<GenerationSummary> summaries = new ArrayList<>();
+        optimizer.addGenerationListener(summaries::add);
+
+        List<Individual> optimizationGeneration = optimizer.optimize();
+
+        Assert.assertEquals(24, summaries.size());
+        for (int i = 0; i < summaries.size(); i++) {
+            GenerationSummary summary = summaries.get(i);
+            Assert.assertEquals(i, summary.getGeneration());
+            Assert.assertEquals(150, summary.getPopulationSize());
+            Assert.assertSame(optimizationGeneration.get(i), summary.getBestIndividual());
+            Assert.assertEquals(summary.getMinFitness(), summary.getBestFitness(), 0.0);
+        }
+    }
+
+    @Test
+    public void optimizeAsyncCancelStopsIslands() {
+        GeneticOptimizationParams longParams = new GeneticOptimizationParams(50, 1000000, .10, .01);
+        longParams.setIslandCount(3);
+        longParams.setMigrationInterval(5);
+
+        IGenOptimizeProblem problem = new NQueensProblem(20, new Random(123));
+        IslandGeneticOptimization optimizer = new IslandGeneticOptimization(problem, longParams);
+
+        OptimizationHandle handle = optimizer.optimizeAsync();
+        while (handle.getGeneration() < 10)
+            Thread.yield();
+
+        Assert.assertTrue(handle.cancel());
+        Assert.assertNotNull(handle.getBestIndividual());
+
+        try {
+            handle.getResult().join();
+            Assert.fail("Cancelled Optimization Completed Normally");
+        } catch (CancellationException e) {
+            Assert.assertTrue(handle.isDone());
+        }
+    }
+
+    @Test
+    public void optimizeStopsWhenTerminationConditionIsMet() {
+        GeneticOptimizationParams shortParams = new GeneticOptimizationParams(50, 100, .10, .01);
+        shortParams.setIslandCount(3);
+        shortParams.setMigrationInterval(5);
+        shortParams.setTerminationCondition(new EvaluationBudgetTermination(1200));
+
+        IGenOptimizeProblem problem = new NQueensProblem(20, new Random(123));
+        IslandGeneticOptimization optimizer = new IslandGeneticOptimization(problem, shortParams);
+
+        // Every Generation Calculates The Fitness Of 50 Individuals On Each Of The 3 Islands
+        Assert.assertEquals(8, optimizer.optimize().size());
+    }
+
+    @Test
+    public void optimizeSameSeedsGiveSameResults() {
+        IslandGeneticOptimization optimizer1 = new IslandGeneticOptimization(new NQueensProblem(8, new Random(123)),
+                params, MigrationTopology.RANDOM, new Random(123));
+        IslandGeneticOptimization optimizer2 = new IslandGeneticOptimization(new NQueensProblem(8, new Random(123)),
+                params, MigrationTopology.RANDOM, new Random(123));
+
+        List<Individual> results1 = optimizer1.optimize();
+        List<Individual> results2 = optimizer2.optimize();
+
+        Assert.assertEquals(results1.size(), results2.size());
+        for (int i = 0; i < results1.size(); i++)
+            Assert.assertEquals(results1.get(i).getFitness(), results2.get(i).getFitness(), 0.0);
+    }
+
+    @Test
+    public void optimizeSameProblemSeedGivesSameRandomMigrations() {
+        IslandGeneticOptimization optimizer1 = new IslandGeneticOptimization(new NQueensProblem(8, new Random(123)),
+                params, MigrationTopology.RANDOM);
+        IslandGeneticOptimization optimizer2 = new IslandGeneticOptimization(new NQueensProblem(8, new Random(123)),
+                params, MigrationTopology.RANDOM);
+
+        List<Individual> results1 = optimizer1.optimize();
+        List<Individual> results2 = optimizer2.optimize();
+
+        Assert.assertEquals(results1.size(), results2.size());
+        for (int i = 0; i < results1.size(); i++)
+            Assert.assertEquals(results1.get(i).getFitness(), results2.get(i).getFitness(), 0.0);
+    }
+
+    @Test
+    public void optimizeElitismBestNeverGetsWorse() {
+        GeneticOptimizationParams eliteParams = new GeneticOptimizationParams(60, 40, .10, .30);
+        eliteParams.setIslandCount(3);
+        eliteParams.setMigrationInterval(7);
+        eliteParams.setMigrationSize(2);
+        eliteParams.setElitismCount(2);
+
+        IslandGeneticOptimization optimizer = new IslandGeneticOptimization(new NQueensProblem(12, new Random(123)),
+                eliteParams);
+        List<Individual> optimizationGeneration = optimizer.optimize();
+
+        Assert.assertEquals(41, optimizationGeneration.size());
+        for (int i = 1; i < optimizationGeneration.size(); i++)
+            Assert.assertTrue(optimizationGeneration.get(i).getFitness()
+                    <= optimizationGeneration.get(i - 1).getFitness());
+        Assert.assertEquals(3 * 60 + 40 * 3 * 58, optimizer.getEvaluationCount());
+    }
+
+    ///////////////////////////
+    // Actual Algorithm Runs //
+    ///////////////////////////
+
+    @Test
+    public void nQueensRingRun() {
+        nQueensRun(MigrationTopology.RING);
+    }
+
+    @Test
+    public void nQueensFullyConnectedRun() {
+        nQueensRun(MigrationTopology.FULLY_CONNECTED);
+    }
+
+    @Test
+    public void nQueensRandomRun() {
+        nQueensRun(MigrationTopology.RANDOM);
+    }
+
+    @Test
+    public void realValueOneVarFunctionMaximizeRun() {
+        GeneticOptimizationParams maximizeParams = new GeneticOptimizationParams(1000, 2000, .15, .01);
+
+        IGenOptimizeProblem problem = new MaximizeOneVar(-10.0,
+                10.0,
+                (x) -> Math.pow(x, 2),
+                new Random(123));
+        IslandGeneticOptimization optimizer = new IslandGeneticOptimization(problem, maximizeParams);
+
+        List<Individual> optimizationGeneration = optimizer.optimize();
+
+        // Without Elitism The Last Generation May Not Hold The Best Individual Found
+        double bestFitness = optimizationGeneration.stream().mapToDouble(Individual::getFitness).max().getAsDouble();
+
+        Assert.assertEquals(100.0, bestFitness, 0.01);
+    }
+
+    @Test
+    public void stringMatchRun() {
+        GeneticOptimizationParams stringParams = new GeneticOptimizationParams(250, 5000, .2, .01);
+        stringParams.setTargetValue(0.0);
+
+        String validChars = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz ";
+        RandomTextHelper textHelper = new RandomTextHelper(new Random(), validChars);
+
+        IGenOptimizeProblem<StringIndividual> problem = new StringMatchProblem("Hello String Matching",
+                new Random(123), textHelper);
+        IslandGeneticOptimization optimizer = new IslandGeneticOptimization(problem, stringParams);
+
+        List<Individual> optimizationGenerations = optimizer.optimize();
+
+        Individual optimized = optimizationGenerations.get(optimizationGenerations.size() - 1);
+
+        Assert.assertEquals(0.0, optimized.getFitness(), 0.000001);
+    }
+
+    private void nQueensRun(MigrationTopology topology) {
+        IGenOptimizeProblem problem = new NQueensProblem(8, new Random(123));
+        IslandGeneticOptimization optimizer = new IslandGeneticOptimization(problem, params, topology,
+                new Random(123));
+
+        List<Individual> optimizationGeneration = optimizer.optimize();
+
+        Individual optimized = optimizationGeneration.get(optimizationGeneration.size() - 1);
+
+        Assert.assertEquals(0.0, optimized.getFitness(), 0.000000001);
+    }
+
+}
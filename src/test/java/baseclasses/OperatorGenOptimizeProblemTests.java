@@ -0,0 +1,225 @@
+package baseclasses;
+
+import com.knighten.ai.genetic.Execution;
+import com.knighten.ai.genetic.GeneticOptimization;
+import com.knighten.ai.genetic.GeneticOptimizationParams;
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.OperatorGenOptimizeProblem;
+import com.knighten.ai.genetic.ParallelGeneticOptimization;
+import com.knighten.ai.genetic.nqueens.NQueensBatchScorer;
+import com.knighten.ai.genetic.nqueens.NQueensIndividual;
+import com.knighten.ai.genetic.nqueens.NQueensOperators;
+import com.knighten.ai.genetic.selection.TournamentSelection;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class OperatorGenOptimizeProblemTests {
+
+    private static OperatorGenOptimizeProblem<NQueensIndividual> problem(long seed, Execution execution) {
+        OperatorGenOptimizeProblem<NQueensIndividual> problem = NQueensOperators.create(8, new Random(seed));
+        problem.setExecution(execution);
+
+        return problem;
+    }
+
+    private static void assertSameBoards(List<NQueensIndividual> expected, List<NQueensIndividual> actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++)
+            Assert.assertArrayEquals(expected.get(i).getGenes(), actual.get(i).getGenes());
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorInitializerIsNull() {
+        NQueensOperators operators = new NQueensOperators(8);
+        new OperatorGenOptimizeProblem<>(null, operators, operators, operators, true, new Random(123));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorFitnessFunctionIsNull() {
+        NQueensOperators operators = new NQueensOperators(8);
+        new OperatorGenOptimizeProblem<>(operators, null, operators, operators, true, new Random(123));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorCrossoverIsNull() {
+        NQueensOperators operators = new NQueensOperators(8);
+        new OperatorGenOptimizeProblem<>(operators, operators, null, operators, true, new Random(123));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorMutatorIsNull() {
+        NQueensOperators operators = new NQueensOperators(8);
+        new OperatorGenOptimizeProblem<>(operators, operators, operators, null, true, new Random(123));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorRandomIsNull() {
+        NQueensOperators operators = new NQueensOperators(8);
+        new OperatorGenOptimizeProblem<>(operators, operators, operators, operators, true, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setExecutionIsNull() {
+        problem(123, Execution.SEQUENTIAL).setFitnessExecution(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setCrossoverExecutionIsBatched() {
+        problem(123, Execution.SEQUENTIAL).setCrossoverExecution(Execution.BATCHED);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setBatchFitnessFunctionIsNull() {
+        problem(123, Execution.SEQUENTIAL).setBatchFitnessFunction(null, new NQueensOperators(8));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setBatchFitnessFunctionWriterIsNull() {
+        problem(123, Execution.SEQUENTIAL).setBatchFitnessFunction(new NQueensBatchScorer(8), null);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void calculateFitnessBatchedWithoutBatchFitnessFunction() {
+        NQueensOperators operators = new NQueensOperators(8);
+        OperatorGenOptimizeProblem<NQueensIndividual> problem = new OperatorGenOptimizeProblem<>(operators, operators,
+                operators, operators, true, new Random(123));
+        problem.setFitnessExecution(Execution.BATCHED);
+
+        problem.calculateFitness(problem.generateInitialPopulation(10));
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void sequentialAndParallelExecutionGiveTheSameGeneration() {
+        OperatorGenOptimizeProblem<NQueensIndividual> sequential = problem(123, Execution.SEQUENTIAL);
+        OperatorGenOptimizeProblem<NQueensIndividual> parallel = problem(123, Execution.PARALLEL);
+
+        List<NQueensIndividual> sequentialPopulation = sequential.generateInitialPopulation(1000);
+        List<NQueensIndividual> parallelPopulation = parallel.generateInitialPopulation(1000);
+        assertSameBoards(sequentialPopulation, parallelPopulation);
+
+        sequential.calculateFitness(sequentialPopulation);
+        parallel.calculateFitness(parallelPopulation);
+        List<NQueensIndividual> sequentialOffspring = sequential.crossover(
+                sequential.selection(sequentialPopulation, .10), 1000);
+        List<NQueensIndividual> parallelOffspring = parallel.crossover(
+                parallel.selection(parallelPopulation, .10), 1000);
+        assertSameBoards(sequentialOffspring, parallelOffspring);
+
+        sequential.mutate(sequentialOffspring, .05);
+        parallel.mutate(parallelOffspring, .05);
+        assertSameBoards(sequentialOffspring, parallelOffspring);
+    }
+
+    @Test
+    public void batchedFitnessGivesTheSameScoresAsSequential() {
+        OperatorGenOptimizeProblem<NQueensIndividual> sequential = problem(123, Execution.SEQUENTIAL);
+        OperatorGenOptimizeProblem<NQueensIndividual> batched = problem(123, Execution.BATCHED);
+
+        List<NQueensIndividual> sequentialPopulation = sequential.generateInitialPopulation(3000);
+        List<NQueensIndividual> batchedPopulation = batched.generateInitialPopulation(3000);
+        batchedPopulation.get(0).setFitness(-1.0);
+        sequential.calculateFitness(sequentialPopulation);
+        batched.calculateFitness(batchedPopulation);
+
+        Assert.assertEquals(Execution.PARALLEL, batched.getCrossoverExecution());
+        Assert.assertEquals(-1.0, batchedPopulation.get(0).getFitness(), 0.0);
+        for (int i = 1; i < sequentialPopulation.size(); i++)
+            Assert.assertEquals(sequentialPopulation.get(i).getFitness(), batchedPopulation.get(i).getFitness(), 0.0);
+    }
+
+    @Test
+    public void calculateFitnessSkipsIndividualsWithValidFitness() {
+        OperatorGenOptimizeProblem<NQueensIndividual> problem = problem(123, Execution.SEQUENTIAL);
+        NQueensIndividual scored = new NQueensIndividual(new Integer[]{0, 0, 0, 0, 0, 0, 0, 0});
+        scored.setFitness(-1.0);
+        NQueensIndividual unscored = new NQueensIndividual(new Integer[]{0, 0, 0, 0, 0, 0, 0, 0});
+
+        problem.calculateFitness(Arrays.asList(scored, unscored));
+
+        Assert.assertEquals(-1.0, scored.getFitness(), 0.0);
+        Assert.assertEquals(28.0, unscored.getFitness(), 0.0);
+    }
+
+    @Test
+    public void selectionUsesSelectorWhenSet() {
+        OperatorGenOptimizeProblem<NQueensIndividual> problem = problem(123, Execution.SEQUENTIAL);
+        List<NQueensIndividual> population = problem.generateInitialPopulation(100);
+        problem.calculateFitness(population);
+
+        double bestFitness = problem.getBestIndividual(population).getFitness();
+        List<NQueensIndividual> truncated = problem.selection(population, .01);
+        Assert.assertEquals(bestFitness, truncated.get(0).getFitness(), 0.0);
+
+        problem.setSelector(new TournamentSelection<>(2));
+        Assert.assertEquals(50, problem.selection(population, .50).size());
+    }
+
+    @Test
+    public void forkSharesOperatorsSelectorAndExecutions() {
+        OperatorGenOptimizeProblem<NQueensIndividual> problem = problem(123, Execution.PARALLEL);
+        TournamentSelection<NQueensIndividual> selector = new TournamentSelection<>(2);
+        problem.setSelector(selector);
+        problem.setFitnessExecution(Execution.SEQUENTIAL);
+
+        OperatorGenOptimizeProblem<NQueensIndividual> fork = problem.fork();
+
+        Assert.assertSame(selector, fork.getSelector());
+        Assert.assertEquals(Execution.PARALLEL, fork.getInitializerExecution());
+        Assert.assertEquals(Execution.SEQUENTIAL, fork.getFitnessExecution());
+        Assert.assertTrue(fork.isMinimization());
+    }
+
+    ///////////////////////////
+    // Actual Algorithm Runs //
+    ///////////////////////////
+
+    @Test
+    public void nQueensRun() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(1000, 5000, .05, .01);
+        params.setTargetValue(0.0);
+
+        GeneticOptimization optimizer = new GeneticOptimization(problem(123, Execution.PARALLEL), params);
+        List<Individual> optimizationGeneration = optimizer.optimize();
+        Individual optimized = optimizationGeneration.get(optimizationGeneration.size() - 1);
+
+        Assert.assertEquals(0.0, optimized.getFitness(), 0.000000001);
+    }
+
+    @Test
+    public void nQueensRunBatched() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(1000, 5000, .05, .01);
+        params.setTargetValue(0.0);
+
+        GeneticOptimization optimizer = new GeneticOptimization(problem(123, Execution.BATCHED), params);
+        List<Individual> optimizationGeneration = optimizer.optimize();
+        Individual optimized = optimizationGeneration.get(optimizationGeneration.size() - 1);
+
+        Assert.assertEquals(0.0, optimized.getFitness(), 0.000000001);
+    }
+
+    @Test
+    public void nQueensRunOnParallelOptimizer() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(1000, 5000, .05, .01);
+        params.setTargetValue(0.0);
+
+        ParallelGeneticOptimization optimizer = new ParallelGeneticOptimization(problem(123, Execution.SEQUENTIAL),
+                params);
+        List<Individual> optimizationGeneration = optimizer.optimize();
+        Individual optimized = optimizationGeneration.get(optimizationGeneration.size() - 1);
+
+        Assert.assertEquals(0.0, optimized.getFitness(), 0.000000001);
+    }
+
+}
@@ -0,0 +1,233 @@
+package baseclasses;
+
+import com.knighten.ai.genetic.GeneticOptimizationParams;
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.ParallelGeneticOptimization;
+import com.knighten.ai.genetic.function.realvalue.MinimizeOneVar;
+import com.knighten.ai.genetic.interfaces.IForkableGenOptimizeProblem;
+import com.knighten.ai.genetic.interfaces.IGenOptimizeProblem;
+import com.knighten.ai.genetic.nqueens.NQueensProblem;
+import com.knighten.ai.genetic.stringmatch.RandomTextHelper;
+import com.knighten.ai.genetic.stringmatch.StringIndividual;
+import com.knighten.ai.genetic.stringmatch.StringMatchProblem;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelGeneticOptimizationTests {
+
+    private ExecutorService executor;
+    private GeneticOptimizationParams params;
+
+    @Before
+    public void setup() {
+        executor = Executors.newFixedThreadPool(4);
+
+        params = new GeneticOptimizationParams(1000, 5000, .05, .01);
+        params.setTargetValue(0.0);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorProblemIsNull() {
+        new ParallelGeneticOptimization(null, params, executor, 4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorExecutorIsNull() {
+        new ParallelGeneticOptimization(new NQueensProblem(6, new Random(123)), params, null, 4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorPoolIsNull() {
+        new ParallelGeneticOptimization(new NQueensProblem(6, new Random(123)), params, (ForkJoinPool) null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorParallelismLessThanOne() {
+        new ParallelGeneticOptimization(new NQueensProblem(6, new Random(123)), params, executor, 0);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void optimizeEveryGenerationIsFullPopulation() {
+        GeneticOptimizationParams smallParams = new GeneticOptimizationParams(103, 5, .10, .01);
+        IGenOptimizeProblem problem = new SizeCheckingProblem(new NQueensProblem(8, new Random(123)));
+
+        ParallelGeneticOptimization optimizer = new ParallelGeneticOptimization(problem, smallParams, executor, 4);
+        List<Individual> optimizationGeneration = optimizer.optimize();
+
+        Assert.assertEquals(6, optimizationGeneration.size());
+    }
+
+    @Test
+    public void optimizeElitismBestNeverGetsWorse() {
+        GeneticOptimizationParams eliteParams = new GeneticOptimizationParams(103, 40, .10, .30);
+        eliteParams.setElitismCount(3);
+
+        ParallelGeneticOptimization optimizer = new ParallelGeneticOptimization(
+                new NQueensProblem(12, new Random(123)), eliteParams, executor, 4);
+        List<Individual> optimizationGeneration = optimizer.optimize();
+
+        for (int i = 1; i < optimizationGeneration.size(); i++)
+            Assert.assertTrue(optimizationGeneration.get(i).getFitness()
+                    <= optimizationGeneration.get(i - 1).getFitness());
+        Assert.assertEquals(103 + 40 * 100, optimizer.getEvaluationCount());
+    }
+
+    @Test
+    public void optimizeSameSeedGivesSameBestsForAnyParallelism() {
+        GeneticOptimizationParams seededParams = new GeneticOptimizationParams(1000, 15, .10, .05);
+        seededParams.setElitismCount(2);
+
+        List<Individual> expected = new ParallelGeneticOptimization(new NQueensProblem(16, new Random(123)),
+                seededParams, executor, 1).optimize();
+
+        for (int parallelism : new int[]{2, 3, 4}) {
+            List<Individual> actual = new ParallelGeneticOptimization(new NQueensProblem(16, new Random(123)),
+                    seededParams, executor, parallelism).optimize();
+
+            Assert.assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                Assert.assertArrayEquals((Object[]) expected.get(i).getGenes(), (Object[]) actual.get(i).getGenes());
+                Assert.assertEquals(expected.get(i).getFitness(), actual.get(i).getFitness(), 0.0);
+            }
+        }
+    }
+
+    ///////////////////////////
+    // Actual Algorithm Runs //
+    ///////////////////////////
+
+    @Test
+    public void nQueensRun() {
+        IGenOptimizeProblem problem = new NQueensProblem(6, new Random(123));
+        ParallelGeneticOptimization optimizer = new ParallelGeneticOptimization(problem, params, executor, 4);
+
+        List<Individual> optimizationGeneration = optimizer.optimize();
+
+        Individual optimized = optimizationGeneration.get(optimizationGeneration.size() - 1);
+
+        Assert.assertEquals(0.0, optimized.getFitness(), 0.000000001);
+    }
+
+    @Test
+    public void realValueOneVarFunctionMinimizeRunOnCommonPool() {
+        GeneticOptimizationParams minimizeParams = new GeneticOptimizationParams(1000, 10000, .15, .01);
+        minimizeParams.setTargetValue(0.0);
+
+        IGenOptimizeProblem problem = new MinimizeOneVar(-10.0,
+                10.0,
+                (x) -> Math.pow(x, 2),
+                new Random(123));
+        ParallelGeneticOptimization optimizer = new ParallelGeneticOptimization(problem, minimizeParams);
+
+        List<Individual> optimizationGeneration = optimizer.optimize();
+
+        Individual optimized = optimizationGeneration.get(optimizationGeneration.size() - 1);
+
+        Assert.assertEquals(0.0, optimized.getFitness(), 0.01);
+    }
+
+    @Test
+    public void stringMatchRun() {
+        GeneticOptimizationParams stringParams = new GeneticOptimizationParams(1000, 2000, .2, .01);
+        stringParams.setTargetValue(0.0);
+
+        String validChars = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz ";
+        RandomTextHelper textHelper = new RandomTextHelper(new Random(), validChars);
+
+        IGenOptimizeProblem<StringIndividual> problem = new StringMatchProblem("Hello String Matching",
+                new Random(123), textHelper);
+        ParallelGeneticOptimization optimizer = new ParallelGeneticOptimization(problem, stringParams, executor, 4);
+
+        List<Individual> optimizationGenerations = optimizer.optimize();
+
+        Individual optimized = optimizationGenerations.get(optimizationGenerations.size() - 1);
+
+        Assert.assertEquals(0.0, optimized.getFitness(), 0.000001);
+    }
+
+    /**
+     * Wraps a problem and checks that the populations handed to selection() and getBestIndividual() are complete. Forks
+     * are the wrapped problem's forks, so the population is split across workers.
+     */
+    private static class SizeCheckingProblem implements IForkableGenOptimizeProblem<Individual> {
+
+        private IForkableGenOptimizeProblem<Individual> problem;
+
+        SizeCheckingProblem(IForkableGenOptimizeProblem problem) {
+            this.problem = problem;
+        }
+
+        private void checkPopulation(List<Individual> population) {
+            Assert.assertEquals(103, population.size());
+        }
+
+        @Override
+        public IGenOptimizeProblem<Individual> fork() {
+            return problem.fork();
+        }
+
+        @Override
+        public IGenOptimizeProblem<Individual> fork(long seed) {
+            return problem.fork(seed);
+        }
+
+        @Override
+        public long nextSeed() {
+            return problem.nextSeed();
+        }
+
+        @Override
+        public List<Individual> generateInitialPopulation(int populationSize) {
+            return problem.generateInitialPopulation(populationSize);
+        }
+
+        @Override
+        public void calculateFitness(List<Individual> population) {
+            problem.calculateFitness(population);
+        }
+
+        @Override
+        public Individual getBestIndividual(List<Individual> population) {
+            checkPopulation(population);
+            return problem.getBestIndividual(population);
+        }
+
+        @Override
+        public List<Individual> selection(List<Individual> population, double selectionPercent) {
+            checkPopulation(population);
+            return problem.selection(population, selectionPercent);
+        }
+
+        @Override
+        public List<Individual> crossover(List<Individual> subPopulation, int populationSize) {
+            return problem.crossover(subPopulation, populationSize);
+        }
+
+        @Override
+        public void mutate(List<Individual> population, double mutationProb) {
+            problem.mutate(population, mutationProb);
+        }
+    }
+
+}
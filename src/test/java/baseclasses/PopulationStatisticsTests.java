@@ -0,0 +1,213 @@
+package baseclasses;
+
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.PopulationStatistics;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class PopulationStatisticsTests {
+
+    private List<Individual> population(Object... genesAndFitness) {
+        List<Individual> population = new ArrayList<>();
+        for (int i = 0; i < genesAndFitness.length; i += 2) {
+            Individual<Object> individual = new Individual<>();
+            individual.setGenes(genesAndFitness[i]);
+            individual.setFitness((Double) genesAndFitness[i + 1]);
+            population.add(individual);
+        }
+
+        return population;
+    }
+
+    private List<Individual> randomPopulation(int size, Random random) {
+        List<Individual> population = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Individual<Integer[]> individual = new Individual<>();
+            individual.setGenes(new Integer[]{random.nextInt(4), random.nextInt(4)});
+            individual.setFitness(random.nextGaussian() * 10.0 + 50.0);
+            population.add(individual);
+        }
+
+        return population;
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorCountLessThanOne() {
+        new PopulationStatistics(0, 1.0, 1.0, 1.0, 0.0, 1.0, 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ofPopulationIsNull() {
+        PopulationStatistics.of(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ofPopulationIsEmpty() {
+        PopulationStatistics.of(new ArrayList<>());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void combineStatisticsIsEmpty() {
+        PopulationStatistics.combine(new ArrayList<>());
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void ofCalculatesFitnessStatistics() {
+        PopulationStatistics statistics = PopulationStatistics.of(population("a", 4.0, "b", 1.0, "c", 7.0, "d", 4.0));
+
+        Assert.assertEquals(4, statistics.getCount());
+        Assert.assertEquals(1.0, statistics.getMinFitness(), 0.0);
+        Assert.assertEquals(7.0, statistics.getMaxFitness(), 0.0);
+        Assert.assertEquals(4.0, statistics.getMeanFitness(), 0.0);
+        Assert.assertEquals(4.5, statistics.getFitnessVariance(), 0.000000001);
+        Assert.assertEquals(Math.sqrt(4.5), statistics.getFitnessStandardDeviation(), 0.000000001);
+        Assert.assertEquals(4.0, statistics.getMedianFitness(), 0.0);
+    }
+
+    @Test
+    public void ofMedianOfOddPopulation() {
+        PopulationStatistics statistics = PopulationStatistics.of(population("a", 9.0, "b", 2.0, "c", 5.0));
+
+        Assert.assertEquals(5.0, statistics.getMedianFitness(), 0.0);
+    }
+
+    @Test
+    public void ofDiversityOfIdenticalGenesIsZero() {
+        PopulationStatistics statistics = PopulationStatistics.of(population(new Integer[]{1, 2, 3}, 1.0,
+                new Integer[]{1, 2, 3}, 2.0, new Integer[]{1, 2, 3}, 3.0), true);
+
+        Assert.assertEquals(0.0, statistics.getDiversity(), 0.0);
+    }
+
+    @Test
+    public void ofDiversityOfDisjointGenesIsOne() {
+        PopulationStatistics statistics = PopulationStatistics.of(population(new Integer[]{1, 2}, 1.0,
+                new Integer[]{3, 4}, 2.0, new Integer[]{5, 6}, 3.0), true);
+
+        Assert.assertEquals(1.0, statistics.getDiversity(), 0.0);
+    }
+
+    @Test
+    public void ofDiversityIsMeanPairwiseDistance() {
+        // Distances: "abcd"-"abcx" 1/4, "abcd"-"wxyz" 1, "abcx"-"wxyz" 1
+        PopulationStatistics statistics = PopulationStatistics.of(population("abcd", 1.0, "abcx", 2.0, "wxyz", 3.0), true);
+
+        Assert.assertEquals(0.75, statistics.getDiversity(), 0.000000001);
+    }
+
+    @Test
+    public void ofDiversityComparesWholeGenesThatAreNotSequences() {
+        PopulationStatistics statistics = PopulationStatistics.of(population(1.5, 1.0, 1.5, 2.0, 2.5, 3.0, 2.5, 4.0), true);
+
+        // Two Of The Six Pairs Are Equal
+        Assert.assertEquals(4.0 / 6.0, statistics.getDiversity(), 0.000000001);
+    }
+
+    @Test
+    public void ofDiversityCountsPositionsPastTheShorterGenesAsDifferent() {
+        PopulationStatistics statistics = PopulationStatistics.of(population(new Integer[]{1, 2, 3, 4}, 1.0,
+                new Integer[]{1, 5}, 2.0), true);
+
+        // One Shared Position Differs And Two Are Missing
+        Assert.assertEquals(0.75, statistics.getDiversity(), 0.0);
+    }
+
+    @Test
+    public void ofDiversityComparesStringsByPositionWithMissingPositionsDifferent() {
+        PopulationStatistics statistics = PopulationStatistics.of(population("abcd", 1.0, "ab", 2.0), true);
+
+        Assert.assertEquals(0.5, statistics.getDiversity(), 0.0);
+    }
+
+    @Test
+    public void ofWithoutDiversityLeavesItUnknown() {
+        PopulationStatistics statistics = PopulationStatistics.of(population("abcd", 1.0, "wxyz", 2.0));
+
+        Assert.assertEquals(1.5, statistics.getMeanFitness(), 0.0);
+        Assert.assertTrue(Double.isNaN(statistics.getDiversity()));
+    }
+
+    @Test
+    public void ofDiversityOfSingleIndividualIsZero() {
+        Assert.assertEquals(0.0, PopulationStatistics.of(population("abc", 1.0), true).getDiversity(), 0.0);
+    }
+
+    @Test
+    public void ofParallelMatchesTwoPassStatistics() {
+        List<Individual> population = randomPopulation(PopulationStatistics.PARALLEL_THRESHOLD * 3, new Random(123));
+
+        double sum = 0.0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (Individual individual : population) {
+            sum += individual.getFitness();
+            min = Math.min(min, individual.getFitness());
+            max = Math.max(max, individual.getFitness());
+        }
+        double mean = sum / population.size();
+        double squaredDeviations = 0.0;
+        for (Individual individual : population)
+            squaredDeviations += (individual.getFitness() - mean) * (individual.getFitness() - mean);
+
+        PopulationStatistics statistics = PopulationStatistics.of(population, true);
+
+        Assert.assertEquals(population.size(), statistics.getCount());
+        Assert.assertEquals(min, statistics.getMinFitness(), 0.0);
+        Assert.assertEquals(max, statistics.getMaxFitness(), 0.0);
+        Assert.assertEquals(mean, statistics.getMeanFitness(), 0.000001);
+        Assert.assertEquals(squaredDeviations / population.size(), statistics.getFitnessVariance(), 0.0001);
+
+        // Gaussian With Mean 50, A Sampled Median Lands Close To It
+        Assert.assertEquals(50.0, statistics.getMedianFitness(), 1.0);
+
+        // Two Genes Each Drawn From Four Values Differ With Probability 3/4
+        Assert.assertEquals(0.75, statistics.getDiversity(), 0.15);
+    }
+
+    @Test
+    public void combineMatchesStatisticsOfWholePopulation() {
+        List<Individual> first = population("a", 4.0, "b", 1.0, "c", 7.0);
+        List<Individual> second = population("d", 10.0, "e", 3.0);
+        List<Individual> whole = new ArrayList<>(first);
+        whole.addAll(second);
+
+        PopulationStatistics combined = PopulationStatistics.combine(Arrays.asList(PopulationStatistics.of(first, true),
+                PopulationStatistics.of(second, true)));
+        PopulationStatistics expected = PopulationStatistics.of(whole);
+
+        Assert.assertEquals(5, combined.getCount());
+        Assert.assertEquals(expected.getMinFitness(), combined.getMinFitness(), 0.0);
+        Assert.assertEquals(expected.getMaxFitness(), combined.getMaxFitness(), 0.0);
+        Assert.assertEquals(expected.getMeanFitness(), combined.getMeanFitness(), 0.000000001);
+        Assert.assertEquals(expected.getFitnessVariance(), combined.getFitnessVariance(), 0.000000001);
+        Assert.assertEquals(4.0, combined.getMedianFitness(), 0.0);
+        Assert.assertEquals(1.0, combined.getDiversity(), 0.0);
+    }
+
+    @Test
+    public void combineWithoutSamplesHasUnknownMedian() {
+        PopulationStatistics known = PopulationStatistics.of(population("a", 4.0, "b", 1.0));
+        PopulationStatistics unknown = new PopulationStatistics(2, 1.0, 3.0, 2.0, Double.NaN, Double.NaN, Double.NaN);
+
+        PopulationStatistics combined = PopulationStatistics.combine(Arrays.asList(known, unknown));
+
+        Assert.assertEquals(2.25, combined.getMeanFitness(), 0.000000001);
+        Assert.assertTrue(Double.isNaN(combined.getFitnessVariance()));
+        Assert.assertTrue(Double.isNaN(combined.getMedianFitness()));
+        Assert.assertTrue(Double.isNaN(combined.getDiversity()));
+    }
+
+}
@@ -0,0 +1,250 @@
+package baseclasses;
+
+import com.knighten.ai.genetic.Execution;
+import com.knighten.ai.genetic.GeneWidth;
+import com.knighten.ai.genetic.IntPopulation;
+import com.knighten.ai.genetic.PopulationStore;
+import com.knighten.ai.genetic.nqueens.NQueensBatchScorer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+public class PopulationStoreTests {
+
+    private Path path;
+
+    @Before
+    public void setup() throws IOException {
+        path = Files.createTempFile("population", ".bin");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void allocateSizeIsNegative() {
+        PopulationStore.allocateDirect(-1, 4, GeneWidth.BYTE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void allocateGenomeLengthLessThanOne() {
+        PopulationStore.allocateDirect(10, 0, GeneWidth.BYTE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void allocateGeneWidthIsNull() {
+        PopulationStore.allocateDirect(10, 4, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mapFileIsNull() throws IOException {
+        PopulationStore.map(null, 10, 4, GeneWidth.BYTE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setGeneDoesNotFitWidth() {
+        PopulationStore.allocateDirect(2, 4, GeneWidth.BYTE).setGene(0, 0, 128);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setFitnessIsNaN() {
+        PopulationStore.allocateDirect(2, 4, GeneWidth.BYTE).setFitness(0, Double.NaN);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getGeneOutsidePopulation() {
+        PopulationStore.allocateDirect(2, 4, GeneWidth.BYTE).getGene(2, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void crossoverIntoItself() {
+        PopulationStore store = PopulationStore.allocateDirect(2, 4, GeneWidth.BYTE);
+        store.crossover(new int[]{0, 1}, store, new Random(123));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void copyGenesDifferentGeneWidth() {
+        PopulationStore.allocateDirect(2, 4, GeneWidth.BYTE)
+                .copyGenes(0, 0, PopulationStore.allocateDirect(2, 4, GeneWidth.INT), 0, 4);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void recordsArePaddedToEightBytes() {
+        Assert.assertEquals(16, PopulationStore.allocateDirect(1, 5, GeneWidth.BYTE).getStride());
+        Assert.assertEquals(24, PopulationStore.allocateDirect(1, 5, GeneWidth.SHORT).getStride());
+        Assert.assertEquals(32, PopulationStore.allocateDirect(1, 6, GeneWidth.INT).getStride());
+    }
+
+    @Test
+    public void genesRoundTripAtEveryWidth() {
+        for (GeneWidth width : GeneWidth.values()) {
+            PopulationStore store = PopulationStore.allocateDirect(3, 4, width);
+            store.writeGenes(1, new int[]{-5, 3, 0, 127}, 0);
+            store.setGene(2, 3, -128);
+
+            int[] genes = new int[6];
+            store.readGenes(1, genes, 2);
+            Assert.assertArrayEquals(new int[]{0, 0, -5, 3, 0, 127}, genes);
+            Assert.assertEquals(-128, store.getGene(2, 3));
+            Assert.assertEquals(0, store.getGene(0, 0));
+        }
+    }
+
+    @Test
+    public void changingGenesInvalidatesFitness() {
+        PopulationStore store = PopulationStore.allocateDirect(2, 4, GeneWidth.BYTE);
+        Assert.assertFalse(store.isFitnessValid(0));
+
+        store.setFitness(0, 3.0);
+        Assert.assertTrue(store.isFitnessValid(0));
+        Assert.assertEquals(3.0, store.getFitness(0), 0.0);
+
+        store.setGene(0, 1, 2);
+        Assert.assertFalse(store.isFitnessValid(0));
+    }
+
+    @Test
+    public void scoreMatchesBatchScorer() {
+        Random random = new Random(123);
+        PopulationStore store = PopulationStore.allocateDirect(3000, 8, GeneWidth.BYTE);
+        IntPopulation expected = new IntPopulation(3000, 8);
+        for (int i = 0; i < store.size(); i++) {
+            for (int gene = 0; gene < 8; gene++) {
+                int value = random.nextInt(8);
+                store.setGene(i, gene, value);
+                expected.setGene(i, gene, value);
+            }
+        }
+
+        store.score(new NQueensBatchScorer(8), Execution.PARALLEL);
+        expected.score(new NQueensBatchScorer(8), Execution.SEQUENTIAL);
+
+        for (int i = 0; i < store.size(); i++)
+            Assert.assertEquals(expected.getFitness(i), store.getFitness(i), 0.0);
+    }
+
+    @Test
+    public void loadAndStoreCopyGenesAndFitness() {
+        PopulationStore store = PopulationStore.allocateDirect(5, 2, GeneWidth.SHORT);
+        store.writeGenes(2, new int[]{300, -300}, 0);
+        store.setFitness(2, 1.5);
+
+        IntPopulation chunk = new IntPopulation(2, 2);
+        store.load(2, chunk);
+        Assert.assertArrayEquals(new int[]{300, -300, 0, 0}, chunk.getGenes());
+        Assert.assertTrue(chunk.isFitnessValid(0));
+        Assert.assertFalse(chunk.isFitnessValid(1));
+
+        chunk.setGene(1, 0, 9);
+        chunk.setFitness(1, 4.0);
+        store.store(0, chunk);
+        Assert.assertEquals(300, store.getGene(0, 0));
+        Assert.assertEquals(1.5, store.getFitness(0), 0.0);
+        Assert.assertEquals(9, store.getGene(1, 0));
+        Assert.assertEquals(4.0, store.getFitness(1), 0.0);
+    }
+
+    @Test
+    public void tournamentOfWholePopulationPicksBest() {
+        PopulationStore store = PopulationStore.allocateDirect(4, 1, GeneWidth.BYTE);
+        for (int i = 0; i < 4; i++)
+            store.setFitness(i, i == 2 ? -1.0 : i);
+
+        int[] winners = store.tournament(10, 200, true, new Random(123));
+
+        for (int winner : winners)
+            Assert.assertEquals(2, winner);
+    }
+
+    @Test
+    public void tournamentSameRandomSameWinners() {
+        PopulationStore store = PopulationStore.allocateDirect(1000, 1, GeneWidth.BYTE);
+        for (int i = 0; i < store.size(); i++)
+            store.setFitness(i, i % 37);
+
+        Assert.assertArrayEquals(store.tournament(600, 3, false, new Random(7)),
+                store.tournament(600, 3, false, new Random(7)));
+    }
+
+    @Test
+    public void crossoverTakesEachGeneFromOneParent() {
+        PopulationStore parents = PopulationStore.allocateDirect(2, 9, GeneWidth.INT);
+        PopulationStore offspring = PopulationStore.allocateDirect(50, 9, GeneWidth.INT);
+        for (int gene = 0; gene < 9; gene++) {
+            parents.setGene(0, gene, 1);
+            parents.setGene(1, gene, 2);
+        }
+
+        parents.crossover(new int[]{0, 1}, offspring, new Random(123));
+
+        for (int i = 0; i < offspring.size(); i++) {
+            Assert.assertFalse(offspring.isFitnessValid(i));
+            int crossPoint = 0;
+            while (crossPoint < 9 && offspring.getGene(i, crossPoint) == 1)
+                crossPoint++;
+            for (int gene = crossPoint; gene < 9; gene++)
+                Assert.assertEquals(2, offspring.getGene(i, gene));
+        }
+    }
+
+    @Test
+    public void copyIndividualCopiesGenesAndFitness() {
+        PopulationStore store = PopulationStore.allocateDirect(2, 11, GeneWidth.BYTE);
+        PopulationStore target = PopulationStore.allocateDirect(3, 11, GeneWidth.BYTE);
+        for (int gene = 0; gene < 11; gene++)
+            store.setGene(1, gene, gene);
+        store.setFitness(1, 2.0);
+
+        store.copyIndividual(1, target, 2);
+
+        for (int gene = 0; gene < 11; gene++)
+            Assert.assertEquals(gene, target.getGene(2, gene));
+        Assert.assertEquals(2.0, target.getFitness(2), 0.0);
+    }
+
+    @Test
+    public void bestIndexSkipsInvalidFitness() {
+        PopulationStore store = PopulationStore.allocateDirect(4, 1, GeneWidth.BYTE);
+        store.setFitness(1, 5.0);
+        store.setFitness(2, 3.0);
+        store.setFitness(3, 3.0);
+
+        Assert.assertEquals(2, store.bestIndex(true));
+        Assert.assertEquals(1, store.bestIndex(false));
+    }
+
+    @Test
+    public void mappedStoreKeepsRecordsWhenReopened() throws IOException {
+        try (PopulationStore store = PopulationStore.map(path, 100, 6, GeneWidth.SHORT)) {
+            Assert.assertTrue(store.isMapped());
+            Assert.assertFalse(store.isFitnessValid(99));
+            store.writeGenes(42, new int[]{1, 2, 3, 4, 5, 6}, 0);
+            store.setFitness(42, 7.0);
+        }
+
+        try (PopulationStore store = PopulationStore.map(path, 200, 6, GeneWidth.SHORT)) {
+            int[] genes = new int[6];
+            store.readGenes(42, genes, 0);
+            Assert.assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6}, genes);
+            Assert.assertEquals(7.0, store.getFitness(42), 0.0);
+            Assert.assertFalse(store.isFitnessValid(150));
+        }
+    }
+
+}
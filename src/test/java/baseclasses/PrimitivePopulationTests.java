@@ -0,0 +1,147 @@
+package baseclasses;
+
+import com.knighten.ai.genetic.BytePopulation;
+import com.knighten.ai.genetic.DoublePopulation;
+import com.knighten.ai.genetic.Execution;
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.IntPopulation;
+import com.knighten.ai.genetic.function.realvalue.OneVarBatchFunction;
+import com.knighten.ai.genetic.nqueens.NQueensBatchScorer;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PrimitivePopulationTests {
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorSizeIsNegative() {
+        new IntPopulation(-1, 4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorGenomeLengthLessThanOne() {
+        new DoublePopulation(10, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorTooLargeForOneArray() {
+        new BytePopulation(Integer.MAX_VALUE / 2, 4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setFitnessIsNaN() {
+        new IntPopulation(2, 4).setFitness(0, Double.NaN);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setGenesWrongLength() {
+        new IntPopulation(2, 4).setGenes(0, new int[]{1, 2, 3});
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getGeneOutsideGenome() {
+        new IntPopulation(2, 4).getGene(0, 4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getGenesOutsidePopulation() {
+        new IntPopulation(2, 4).getGenes(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void scoreGenomeLengthDoesNotMatch() {
+        new IntPopulation(2, 5).score(new NQueensBatchScorer(4), Execution.SEQUENTIAL);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void genesAreStoredBackToBack() {
+        IntPopulation population = new IntPopulation(3, 4);
+        population.setGenes(1, new int[]{1, 3, 0, 2});
+        population.setGene(2, 3, 7);
+
+        Assert.assertArrayEquals(new int[]{0, 0, 0, 0, 1, 3, 0, 2, 0, 0, 0, 7}, population.getGenes());
+        Assert.assertArrayEquals(new int[]{1, 3, 0, 2}, population.getGenes(1));
+        Assert.assertEquals(7, population.getGene(2, 3));
+    }
+
+    @Test
+    public void changingGenesInvalidatesFitness() {
+        DoublePopulation population = new DoublePopulation(2, 1);
+        Assert.assertFalse(population.isFitnessValid(0));
+
+        population.setFitness(0, 3.0);
+        Assert.assertTrue(population.isFitnessValid(0));
+        Assert.assertEquals(3.0, population.getFitness(0), 0.0);
+
+        population.setGene(0, 0, 1.5);
+        Assert.assertFalse(population.isFitnessValid(0));
+    }
+
+    @Test
+    public void scoreUsesBatchFunctionOnGeneArray() {
+        IntPopulation population = new IntPopulation(3, 4);
+        population.setGenes(0, new int[]{1, 3, 0, 2});
+        population.setGenes(2, new int[]{0, 1, 2, 3});
+
+        population.score(new NQueensBatchScorer(4), Execution.PARALLEL);
+
+        Assert.assertArrayEquals(new double[]{0.0, 6.0, 6.0}, population.getFitnessColumn(), 0.0);
+        Assert.assertTrue(population.isFitnessValid(1));
+        Assert.assertEquals(0, population.bestIndex(true));
+        Assert.assertEquals(1, population.bestIndex(false));
+    }
+
+    @Test
+    public void copyGenesBuildsOffspringFromTwoParents() {
+        BytePopulation parents = new BytePopulation(2, 4);
+        parents.setGenes(0, new byte[]{1, 1, 1, 1});
+        parents.setGenes(1, new byte[]{2, 2, 2, 2});
+        BytePopulation offspring = new BytePopulation(1, 4);
+        offspring.setFitness(0, 1.0);
+
+        parents.copyGenes(0, 0, offspring, 0, 3);
+        parents.copyGenes(1, 3, offspring, 0, 1);
+
+        Assert.assertArrayEquals(new byte[]{1, 1, 1, 2}, offspring.getGenes(0));
+        Assert.assertFalse(offspring.isFitnessValid(0));
+    }
+
+    @Test
+    public void copyIndividualKeepsFitness() {
+        DoublePopulation current = new DoublePopulation(2, 1);
+        current.setGenes(1, new double[]{2.0});
+        current.score(new OneVarBatchFunction((x) -> x * x), Execution.SEQUENTIAL);
+        DoublePopulation next = new DoublePopulation(2, 1);
+
+        current.copyIndividual(1, next, 0);
+
+        Assert.assertArrayEquals(new double[]{2.0}, next.getGenes(0), 0.0);
+        Assert.assertEquals(4.0, next.getFitness(0), 0.0);
+        Assert.assertTrue(next.isFitnessValid(0));
+    }
+
+    @Test
+    public void toIndividualIsACopy() {
+        IntPopulation population = new IntPopulation(1, 4);
+        population.setGenes(0, new int[]{1, 3, 0, 2});
+
+        Individual<int[]> unscored = population.toIndividual(0);
+        Assert.assertFalse(unscored.isFitnessValid());
+
+        population.setFitness(0, 0.0);
+        Individual<int[]> scored = population.toIndividual(0);
+        scored.getGenes()[0] = 9;
+
+        Assert.assertTrue(scored.isFitnessValid());
+        Assert.assertEquals(0.0, scored.getFitness(), 0.0);
+        Assert.assertEquals(1, population.getGene(0, 0));
+    }
+
+}
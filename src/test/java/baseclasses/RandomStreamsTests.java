@@ -0,0 +1,120 @@
+package baseclasses;
+
+import com.knighten.ai.genetic.RandomStreams;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class RandomStreamsTests {
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fromRandomIsNull() {
+        RandomStreams.from(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void forEachChunkSizeIsNegative() {
+        new RandomStreams(1).forEachChunk(-1, (from, to, random) -> { });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void forEachChunkTaskIsNull() {
+        new RandomStreams(1).forEachChunk(10, null);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void streamSameSeedAndIndexGiveSameNumbers() {
+        RandomStreams first = new RandomStreams(42);
+        RandomStreams second = new RandomStreams(42);
+
+        for (int index = 0; index < 10; index++)
+            Assert.assertArrayEquals(first.stream(index).longs(5).toArray(), second.stream(index).longs(5).toArray());
+    }
+
+    @Test
+    public void streamDifferentIndexesGiveDifferentNumbers() {
+        RandomStreams testObject = new RandomStreams(42);
+
+        Assert.assertNotEquals(testObject.stream(0).nextLong(), testObject.stream(1).nextLong());
+        Assert.assertNotEquals(new RandomStreams(1).stream(0).nextLong(), new RandomStreams(2).stream(0).nextLong());
+    }
+
+    @Test
+    public void fromDrawsOneLongFromRandom() {
+        Random random = new Random(7);
+        Random expected = new Random(7);
+        RandomStreams testObject = RandomStreams.from(random);
+
+        Assert.assertEquals(new RandomStreams(expected.nextLong()).stream(3).nextLong(), testObject.stream(3).nextLong());
+        Assert.assertEquals(expected.nextInt(), random.nextInt());
+    }
+
+    @Test
+    public void forEachChunkCoversEveryIndexOnce() {
+        int size = 5 * RandomStreams.CHUNK_SIZE + 17;
+        AtomicIntegerArray visits = new AtomicIntegerArray(size);
+
+        new RandomStreams(1).forEachChunk(size, (from, to, random) -> {
+            Assert.assertEquals(0, from % RandomStreams.CHUNK_SIZE);
+            for (int i = from; i < to; i++)
+                visits.incrementAndGet(i);
+        });
+
+        for (int i = 0; i < size; i++)
+            Assert.assertEquals(1, visits.get(i));
+    }
+
+    @Test
+    public void forEachChunkSameNumbersOnAnyNumberOfThreads() throws Exception {
+        int size = 10 * RandomStreams.CHUNK_SIZE + 3;
+        long[] sequential = new long[size];
+        long[] parallel = new long[size];
+
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        ForkJoinPool fourThreads = new ForkJoinPool(4);
+        try {
+            singleThread.submit(() -> new RandomStreams(9).forEachChunk(size, (from, to, random) -> {
+                for (int i = from; i < to; i++)
+                    sequential[i] = random.nextLong();
+            })).get();
+            fourThreads.submit(() -> new RandomStreams(9).forEachChunk(size, (from, to, random) -> {
+                for (int i = from; i < to; i++)
+                    parallel[i] = random.nextLong();
+            })).get();
+        } finally {
+            singleThread.shutdown();
+            fourThreads.shutdown();
+        }
+
+        Assert.assertArrayEquals(sequential, parallel);
+    }
+
+    @Test
+    public void forEachChunkSequentialGivesSameNumbersAsParallel() {
+        long[] sequential = new long[1000];
+        long[] parallel = new long[1000];
+
+        new RandomStreams(42).forEachChunk(1000, false, (from, to, random) -> {
+            for (int i = from; i < to; i++)
+                sequential[i] = random.nextLong();
+        });
+        new RandomStreams(42).forEachChunk(1000, true, (from, to, random) -> {
+            for (int i = from; i < to; i++)
+                parallel[i] = random.nextLong();
+        });
+
+        Assert.assertArrayEquals(sequential, parallel);
+    }
+
+}
@@ -0,0 +1,160 @@
+package baseclasses;
+
+import com.knighten.ai.genetic.GenerationSummary;
+import com.knighten.ai.genetic.GeneticOptimizationParams;
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.SteadyStateGeneticOptimization;
+import com.knighten.ai.genetic.function.realvalue.MaximizeOneVar;
+import com.knighten.ai.genetic.interfaces.IGenOptimizeProblem;
+import com.knighten.ai.genetic.nqueens.NQueensIndividual;
+import com.knighten.ai.genetic.nqueens.NQueensProblem;
+import com.knighten.ai.genetic.termination.EvaluationBudgetTermination;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class SteadyStateGeneticOptimizationTests {
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorProblemIsNull() {
+        new SteadyStateGeneticOptimization(null, new GeneticOptimizationParams(10, 10, .15, .05));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorOptimizationParamsIsNull() {
+        new SteadyStateGeneticOptimization(new NQueensProblem(6, new Random(123)), null);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void resumeIsNotSupported() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(10, 10, .15, .05);
+        new SteadyStateGeneticOptimization(new NQueensProblem(6, new Random(123)), params)
+                .resume(Paths.get("checkpoint.bin"));
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void optimizeOnlyOffspringHaveFitnessCalculated() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(100, 50, .15, .05);
+        params.setReplacementSize(3);
+
+        List<Integer> evaluated = new ArrayList<>();
+        NQueensProblem problem = new NQueensProblem(8, new Random(123)) {
+            @Override
+            public void calculateFitness(List<NQueensIndividual> population) {
+                evaluated.add(population.size());
+                super.calculateFitness(population);
+            }
+        };
+
+        List<Individual> results = new SteadyStateGeneticOptimization(problem, params).optimize();
+
+        // Initial Population Followed By One Batch Of Offspring Per Step
+        Assert.assertEquals(51, results.size());
+        Assert.assertEquals(51, evaluated.size());
+        Assert.assertEquals(Integer.valueOf(100), evaluated.get(0));
+        for (int i = 1; i < evaluated.size(); i++)
+            Assert.assertEquals(Integer.valueOf(3), evaluated.get(i));
+    }
+
+    @Test
+    public void optimizeListenerStatisticsMatchPopulation() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(50, 200, .15, .05);
+        params.setHistorySize(1);
+
+        // Only The Steps' Offspring Are Passed To calculateFitness So Track Every Individual Ever Scored
+        List<NQueensIndividual> scored = new ArrayList<>();
+        NQueensProblem problem = new NQueensProblem(8, new Random(123)) {
+            @Override
+            public void calculateFitness(List<NQueensIndividual> population) {
+                super.calculateFitness(population);
+                scored.addAll(population);
+            }
+        };
+
+        SteadyStateGeneticOptimization testObject = new SteadyStateGeneticOptimization(problem, params);
+        List<GenerationSummary> summaries = new ArrayList<>();
+        testObject.addGenerationListener(summaries::add);
+
+        List<Individual> results = testObject.optimize();
+
+        Assert.assertEquals(1, results.size());
+        Assert.assertEquals(201, summaries.size());
+        for (int i = 0; i < summaries.size(); i++) {
+            GenerationSummary summary = summaries.get(i);
+            Assert.assertEquals(i, summary.getGeneration());
+            Assert.assertEquals(50, summary.getPopulationSize());
+            Assert.assertEquals(summary.getMinFitness(), summary.getBestFitness(), 0.0);
+            Assert.assertTrue(summary.getMinFitness() <= summary.getMeanFitness());
+            Assert.assertTrue(summary.getMeanFitness() <= summary.getMaxFitness());
+        }
+        Assert.assertSame(summaries.get(200).getBestIndividual(), results.get(0));
+    }
+
+    @Test
+    public void optimizeStopsWhenTerminationConditionIsMet() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(100, 1000, .15, .05);
+        params.setReplacementSize(2);
+        params.setTerminationCondition(new EvaluationBudgetTermination(120));
+
+        List<Individual> results = new SteadyStateGeneticOptimization(new NQueensProblem(20, new Random(123)), params)
+                .optimize();
+
+        // Initial Population Of 100 Followed By 10 Steps Of 2 Offspring
+        Assert.assertEquals(11, results.size());
+    }
+
+    @Test
+    public void optimizeBestIndividualNeverGetsWorseWhenMinimizing() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(100, 2000, .15, .05);
+
+        List<Individual> results = new SteadyStateGeneticOptimization(new NQueensProblem(20, new Random(123)), params)
+                .optimize();
+
+        for (int i = 1; i < results.size(); i++)
+            Assert.assertTrue(results.get(i).getFitness() <= results.get(i - 1).getFitness());
+    }
+
+    @Test
+    public void optimizeBestIndividualNeverGetsWorseWhenMaximizing() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(100, 2000, .15, .05);
+        IGenOptimizeProblem problem = new MaximizeOneVar(-10.0, 10.0, (x) -> Math.pow(x, 2), new Random(123));
+
+        List<Individual> results = new SteadyStateGeneticOptimization(problem, params).optimize();
+
+        for (int i = 1; i < results.size(); i++)
+            Assert.assertTrue(results.get(i).getFitness() >= results.get(i - 1).getFitness());
+    }
+
+    ///////////////////////////
+    // Actual Algorithm Runs //
+    ///////////////////////////
+
+    @Test
+    public void nQueensRun() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(200, 200000, .05, .05);
+        params.setTargetValue(0.0);
+        params.setReplacementSize(4);
+
+        IGenOptimizeProblem problem = new NQueensProblem(8, new Random(123));
+        SteadyStateGeneticOptimization optimizer = new SteadyStateGeneticOptimization(problem, params);
+
+        List<Individual> optimizationGeneration = optimizer.optimize();
+
+        Individual optimized = optimizationGeneration.get(optimizationGeneration.size() - 1);
+
+        Assert.assertEquals(0.0, optimized.getFitness(), 0.000000001);
+    }
+
+}
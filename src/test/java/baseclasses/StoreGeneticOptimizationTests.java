@@ -0,0 +1,138 @@
+package baseclasses;
+
+import com.knighten.ai.genetic.GeneWidth;
+import com.knighten.ai.genetic.GeneticOptimizationParams;
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.PopulationStore;
+import com.knighten.ai.genetic.StoreGeneticOptimization;
+import com.knighten.ai.genetic.nqueens.NQueensBatchScorer;
+import com.knighten.ai.genetic.nqueens.NQueensConflictCounter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+public class StoreGeneticOptimizationTests {
+
+    private static StoreGeneticOptimization optimizer(GeneticOptimizationParams params, long seed) {
+        return new StoreGeneticOptimization(new NQueensBatchScorer(8), 8, true, params, new Random(seed));
+    }
+
+    private static PopulationStore store(int size, int genomeLength) {
+        return PopulationStore.allocateDirect(size, genomeLength, GeneWidth.BYTE);
+    }
+
+    private static GeneticOptimizationParams params() {
+        return new GeneticOptimizationParams(10, 10, .15, .10);
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorFitnessFunctionIsNull() {
+        new StoreGeneticOptimization(null, 8, true, params(), new Random(123));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorGeneBoundLessThanOne() {
+        new StoreGeneticOptimization(new NQueensBatchScorer(8), 0, true, params(), new Random(123));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorParamsIsNull() {
+        new StoreGeneticOptimization(new NQueensBatchScorer(8), 8, true, null, new Random(123));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorRandomIsNull() {
+        new StoreGeneticOptimization(new NQueensBatchScorer(8), 8, true, params(), null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setTournamentSizeLessThanOne() {
+        optimizer(params(), 123).setTournamentSize(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void optimizeSameStoreTwice() {
+        PopulationStore store = store(10, 8);
+        optimizer(params(), 123).optimize(store, store);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void optimizeStoreSizeDoesNotMatchPopulationSize() {
+        optimizer(params(), 123).optimize(store(10, 8), store(9, 8));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void optimizeGenomeLengthDoesNotMatchFitnessFunction() {
+        optimizer(params(), 123).optimize(store(10, 7), store(10, 7));
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void optimizeSameSeedGivesSameBests() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(500, 20, .15, .05);
+
+        List<Individual> first = optimizer(params, 123).optimize(store(500, 8), store(500, 8));
+        List<Individual> second = optimizer(params, 123).optimize(store(500, 8), store(500, 8));
+
+        Assert.assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            Assert.assertArrayEquals((int[]) first.get(i).getGenes(), (int[]) second.get(i).getGenes());
+            Assert.assertEquals(first.get(i).getFitness(), second.get(i).getFitness(), 0.0);
+        }
+    }
+
+    @Test
+    public void optimizeKeepsHistorySizeAndLastPopulation() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(100, 7, .15, .05);
+        params.setHistorySize(3);
+        PopulationStore population = store(100, 8);
+        PopulationStore offspring = store(100, 8);
+        StoreGeneticOptimization testObject = optimizer(params, 123);
+
+        List<Individual> bests = testObject.optimize(population, offspring);
+
+        // Seven Generations After The Initial Population End In The Offspring Store
+        Assert.assertEquals(3, bests.size());
+        Assert.assertSame(offspring, testObject.getLastPopulation());
+        int best = offspring.bestIndex(true);
+        Assert.assertEquals(offspring.getFitness(best), bests.get(2).getFitness(), 0.0);
+        for (int i = 0; i < offspring.size(); i++) {
+            int[] board = new int[8];
+            offspring.readGenes(i, board, 0);
+            Integer[] boxed = new Integer[8];
+            for (int column = 0; column < 8; column++)
+                boxed[column] = board[column];
+
+            Assert.assertEquals(NQueensConflictCounter.countPairwise(boxed), offspring.getFitness(i), 0.0);
+        }
+    }
+
+    ///////////////////////////
+    // Actual Algorithm Runs //
+    ///////////////////////////
+
+    @Test
+    public void nQueensRun() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(2000, 500, .15, .02);
+        params.setTargetValue(0.0);
+
+        List<Individual> bests = optimizer(params, 123).optimize(store(2000, 8), store(2000, 8));
+        Individual optimized = bests.get(bests.size() - 1);
+
+        Assert.assertEquals(0.0, optimized.getFitness(), 0.0);
+        Integer[] boxed = new Integer[8];
+        for (int column = 0; column < 8; column++)
+            boxed[column] = ((int[]) optimized.getGenes())[column];
+        Assert.assertEquals(0, NQueensConflictCounter.countPairwise(boxed));
+    }
+
+}
@@ -0,0 +1,178 @@
+package batch;
+
+import com.knighten.ai.genetic.GeneticOptimization;
+import com.knighten.ai.genetic.GeneticOptimizationParams;
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.batch.BatchResult;
+import com.knighten.ai.genetic.batch.BatchRun;
+import com.knighten.ai.genetic.batch.BatchRunner;
+import com.knighten.ai.genetic.batch.BatchSummary;
+import com.knighten.ai.genetic.batch.CsvResultSink;
+import com.knighten.ai.genetic.batch.JsonLinesResultSink;
+import com.knighten.ai.genetic.interfaces.IOptimizerFactory;
+import com.knighten.ai.genetic.nqueens.NQueensProblem;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class BatchRunnerTests {
+
+    private BatchRunner runner;
+    private IOptimizerFactory factory;
+
+    @Before
+    public void setup() {
+        runner = new BatchRunner(4);
+        factory = (params, seed) -> new GeneticOptimization(new NQueensProblem(6, new Random(seed)), params);
+    }
+
+    @After
+    public void tearDown() {
+        runner.close();
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorThreadsLessThanOne() {
+        new BatchRunner(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorExecutorIsNull() {
+        new BatchRunner(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void runRunsIsNull() {
+        runner.run(null, factory, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void runFactoryIsNull() {
+        runner.run(Collections.emptyList(), null, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void batchRunIdIsNull() {
+        new BatchRun(null, new GeneticOptimizationParams(10, 10, .1, .1), 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sweepValuesAreNull() {
+        BatchRun.sweep(10, null, new double[]{.1}, new double[]{.1}, new long[]{1});
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void sweepCreatesEveryCombination() {
+        List<BatchRun> runs = BatchRun.sweep(10, new int[]{10, 20}, new double[]{.1, .2, .3}, new double[]{.01},
+                new long[]{1, 2});
+
+        Assert.assertEquals(12, runs.size());
+        Assert.assertEquals("run-0", runs.get(0).getRunId());
+        Assert.assertEquals("run-11", runs.get(11).getRunId());
+        Assert.assertEquals(20, runs.get(11).getParams().getPopulationSize());
+        Assert.assertEquals(.3, runs.get(11).getParams().getSelectionPercent(), 0.0);
+        Assert.assertEquals(2, runs.get(11).getSeed());
+    }
+
+    @Test
+    public void runMatchesSequentialRunsWithSameSeeds() {
+        List<BatchRun> runs = BatchRun.sweep(50, new int[]{50, 100}, new double[]{.2}, new double[]{.05},
+                new long[]{1, 2, 3, 4});
+
+        Map<String, BatchResult> byId = new HashMap<>();
+        List<BatchResult> sunk = Collections.synchronizedList(new ArrayList<>());
+        BatchSummary summary = runner.run(runs, factory, sunk::add);
+        for (BatchResult result : summary.getResults())
+            byId.put(result.getRun().getRunId(), result);
+
+        Assert.assertEquals(runs.size(), summary.getRunCount());
+        Assert.assertEquals(runs.size(), sunk.size());
+        Assert.assertEquals(0, summary.getFailedRunCount());
+
+        for (BatchRun run : runs) {
+            GeneticOptimization optimizer = factory.create(run.getParams(), run.getSeed());
+            List<Individual> bestInGenerations = optimizer.optimize();
+            BatchResult result = byId.get(run.getRunId());
+
+            Assert.assertEquals(bestInGenerations.get(bestInGenerations.size() - 1).getFitness(),
+                    result.getBestFitness(), 0.0);
+            Assert.assertEquals(optimizer.getGenerationCount(), result.getGenerations());
+            Assert.assertEquals(optimizer.getEvaluationCount(), result.getEvaluations());
+        }
+    }
+
+    @Test
+    public void runRecordsFailedRunsAndContinues() {
+        List<BatchRun> runs = BatchRun.sweep(20, new int[]{50}, new double[]{.2}, new double[]{.05},
+                new long[]{1, 2, 3});
+        IOptimizerFactory failing = (params, seed) -> {
+            if (seed == 2)
+                throw new IllegalStateException("Seed Two");
+            return factory.create(params, seed);
+        };
+
+        BatchSummary summary = runner.run(runs, failing, null);
+
+        Assert.assertEquals(3, summary.getRunCount());
+        Assert.assertEquals(1, summary.getFailedRunCount());
+        for (BatchResult result : summary.getResults()) {
+            Assert.assertEquals(result.getRun().getSeed() == 2, result.isFailed());
+            Assert.assertEquals(result.isFailed(), Double.isNaN(result.getBestFitness()));
+        }
+    }
+
+    @Test
+    public void csvSinkWritesHeaderAndQuotedFields() throws Exception {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(10, 20, .1, .01);
+        StringWriter out = new StringWriter();
+        CsvResultSink sink = new CsvResultSink(out);
+
+        sink.accept(new BatchResult(new BatchRun("a,b", params, 7), 20, 210, 1.5, 3000000, null));
+        sink.accept(new BatchResult(new BatchRun("c", params, 8), 0, 0, Double.NaN, 0,
+                new IllegalStateException("Bad \"Run\"")));
+
+        String[] lines = out.toString().split("\n");
+        Assert.assertEquals(3, lines.length);
+        Assert.assertTrue(lines[0].startsWith("run_id,seed,"));
+        Assert.assertEquals("\"a,b\",7,10,20,0.1,0.01,20,210,1.5,3,", lines[1]);
+        Assert.assertEquals("c,8,10,20,0.1,0.01,0,0,,0,"
+                + "\"java.lang.IllegalStateException: Bad \"\"Run\"\"\"", lines[2]);
+    }
+
+    @Test
+    public void jsonLinesSinkWritesOneObjectPerRun() throws Exception {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(10, 20, .1, .01);
+        StringWriter out = new StringWriter();
+        JsonLinesResultSink sink = new JsonLinesResultSink(out);
+
+        sink.accept(new BatchResult(new BatchRun("a\"b", params, 7), 20, 210, 1.5, 3000000, null));
+        sink.accept(new BatchResult(new BatchRun("c", params, 8), 0, 0, Double.NaN, 0,
+                new IllegalStateException("Bad")));
+
+        String[] lines = out.toString().split("\n");
+        Assert.assertEquals(2, lines.length);
+        Assert.assertEquals("{\"runId\":\"a\\\"b\",\"seed\":7,\"populationSize\":10,\"maxGenerations\":20,"
+                + "\"selectionPercent\":0.1,\"mutationProb\":0.01,\"generations\":20,\"evaluations\":210,"
+                + "\"bestFitness\":1.5,\"elapsedMs\":3,\"error\":null}", lines[0]);
+        Assert.assertTrue(lines[1].contains("\"bestFitness\":null"));
+        Assert.assertTrue(lines[1].endsWith("\"error\":\"java.lang.IllegalStateException: Bad\"}"));
+    }
+
+}
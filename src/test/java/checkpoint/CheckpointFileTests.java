@@ -0,0 +1,143 @@
+package checkpoint;
+
+import com.knighten.ai.genetic.checkpoint.Checkpoint;
+import com.knighten.ai.genetic.checkpoint.CheckpointFile;
+import com.knighten.ai.genetic.function.realvalue.OneVarIndividual;
+import com.knighten.ai.genetic.function.realvalue.OneVarIndividualCodec;
+import com.knighten.ai.genetic.nqueens.NQueensIndividual;
+import com.knighten.ai.genetic.nqueens.NQueensIndividualCodec;
+import com.knighten.ai.genetic.stringmatch.StringIndividual;
+import com.knighten.ai.genetic.stringmatch.StringIndividualCodec;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class CheckpointFileTests {
+
+    private Path path;
+
+    @Before
+    public void setup() throws IOException {
+        path = Files.createTempFile("checkpoint", ".bin");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorPathIsNull() {
+        new CheckpointFile(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void saveCheckpointIsNull() throws IOException {
+        new CheckpointFile(path).save(null, new OneVarIndividualCodec());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void saveCodecIsNull() throws IOException {
+        List<OneVarIndividual> population = Arrays.asList(new OneVarIndividual(1.0));
+        new CheckpointFile(path).save(new Checkpoint<>(0, 1, new Random(), population), null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void loadCodecIsNull() throws IOException {
+        new CheckpointFile(path).load(null);
+    }
+
+    @Test(expected = IOException.class)
+    public void loadFileIsNotACheckpoint() throws IOException {
+        Files.write(path, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        new CheckpointFile(path).load(new OneVarIndividualCodec());
+    }
+
+    @Test(expected = IOException.class)
+    public void loadFileIsTruncated() throws IOException {
+        List<OneVarIndividual> population = Arrays.asList(new OneVarIndividual(1.0), new OneVarIndividual(2.0));
+        CheckpointFile testObject = new CheckpointFile(path);
+        testObject.save(new Checkpoint<>(0, 2, new Random(), population), new OneVarIndividualCodec());
+
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 4));
+
+        testObject.load(new OneVarIndividualCodec());
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void saveThenLoadNQueensCheckpoint() throws IOException {
+        Random random = new Random(123);
+        List<NQueensIndividual> population = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            NQueensIndividual individual = new NQueensIndividual(random.ints(300, 0, 300).boxed()
+                    .toArray(Integer[]::new));
+            individual.setFitness(i);
+            population.add(individual);
+        }
+
+        CheckpointFile testObject = new CheckpointFile(path);
+        testObject.save(new Checkpoint<>(42, 43000, random, population), new NQueensIndividualCodec(300));
+        Checkpoint<NQueensIndividual> loaded = testObject.load(new NQueensIndividualCodec(300));
+
+        Assert.assertEquals(42, loaded.getGeneration());
+        Assert.assertEquals(43000, loaded.getEvaluations());
+        Assert.assertEquals(random.nextLong(), ((Random) loaded.getRandomState()).nextLong());
+        Assert.assertEquals(population.size(), loaded.getPopulation().size());
+        for (int i = 0; i < population.size(); i++) {
+            Assert.assertArrayEquals(population.get(i).getGenes(), loaded.getPopulation().get(i).getGenes());
+            Assert.assertEquals(population.get(i).getFitness(), loaded.getPopulation().get(i).getFitness(), 0.0);
+        }
+    }
+
+    @Test
+    public void saveThenLoadStringCheckpoint() throws IOException {
+        List<StringIndividual> population = Arrays.asList(new StringIndividual("Hello"),
+                new StringIndividual("String Matching"));
+        population.get(0).setFitness(3.0);
+        population.get(1).setFitness(7.0);
+
+        CheckpointFile testObject = new CheckpointFile(path);
+        testObject.save(new Checkpoint<>(1, 4, new Random[]{new Random(1), new Random(2)}, population),
+                new StringIndividualCodec());
+        Checkpoint<StringIndividual> loaded = testObject.load(new StringIndividualCodec());
+
+        Assert.assertEquals("Hello", loaded.getPopulation().get(0).getGenes());
+        Assert.assertEquals("String Matching", loaded.getPopulation().get(1).getGenes());
+        Assert.assertEquals(7.0, loaded.getPopulation().get(1).getFitness(), 0.0);
+        Assert.assertEquals(2, ((Random[]) loaded.getRandomState()).length);
+    }
+
+    @Test
+    public void saveReplacesPreviousCheckpoint() throws IOException {
+        CheckpointFile testObject = new CheckpointFile(path);
+        testObject.save(new Checkpoint<>(1, 1, new Random(), Arrays.asList(new OneVarIndividual(1.0))),
+                new OneVarIndividualCodec());
+        testObject.save(new Checkpoint<>(2, 2, new Random(), Arrays.asList(new OneVarIndividual(2.0))),
+                new OneVarIndividualCodec());
+
+        Checkpoint<OneVarIndividual> loaded = testObject.load(new OneVarIndividualCodec());
+
+        Assert.assertEquals(2, loaded.getGeneration());
+        Assert.assertEquals(2.0, loaded.getPopulation().get(0).getGenes(), 0.0);
+        Assert.assertFalse(Files.exists(path.resolveSibling(path.getFileName() + ".tmp")));
+    }
+
+}
@@ -0,0 +1,144 @@
+package metrics;
+
+import com.knighten.ai.genetic.GeneticOptimization;
+import com.knighten.ai.genetic.GeneticOptimizationParams;
+import com.knighten.ai.genetic.metrics.FlightRecorderEvents;
+import com.knighten.ai.genetic.metrics.Phase;
+import com.knighten.ai.genetic.metrics.PhaseTiming;
+import com.knighten.ai.genetic.nqueens.NQueensProblem;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * The JFR API is not part of Java 8, so recordings are started and read back through reflection.
+ */
+public class FlightRecorderEventsTests {
+
+    /**
+     * Exposes phaseStart() and phaseEnd() to run nested phases.
+     */
+    private static class NestedPhases extends GeneticOptimization {
+
+        private NestedPhases() {
+            super(new NQueensProblem(6, new Random(123)), new GeneticOptimizationParams(20, 3, .5, .1));
+        }
+
+        private void run() {
+            PhaseTiming outer = phaseStart();
+            PhaseTiming inner = phaseStart();
+            phaseEnd(Phase.FITNESS, inner);
+            phaseEnd(Phase.SELECTION, outer);
+        }
+    }
+
+    /**
+     * Runs an action during a recording with the named events enabled, and counts the recorded events of this
+     * framework by name. Phase events are counted by name and phase.
+     */
+    private Map<String, Integer> record(Runnable action, String... enabledEvents) throws Exception {
+        Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+        Path file = Files.createTempFile("optimization", ".jfr");
+        Object recording = recordingClass.getConstructor().newInstance();
+        try {
+            for (String name : enabledEvents)
+                recordingClass.getMethod("enable", String.class).invoke(recording, name);
+            recordingClass.getMethod("start").invoke(recording);
+            Assert.assertTrue(FlightRecorderEvents.isRecording());
+
+            action.run();
+
+            recordingClass.getMethod("stop").invoke(recording);
+            recordingClass.getMethod("dump", Path.class).invoke(recording, file);
+        } finally {
+            recordingClass.getMethod("close").invoke(recording);
+        }
+        Assert.assertFalse(FlightRecorderEvents.isRecording());
+
+        Map<String, Integer> counts = new HashMap<>();
+        List<?> events = (List<?>) Class.forName("jdk.jfr.consumer.RecordingFile")
+                .getMethod("readAllEvents", Path.class).invoke(null, file);
+        for (Object event : events) {
+            Object type = event.getClass().getMethod("getEventType").invoke(event);
+            String name = (String) type.getClass().getMethod("getName").invoke(type);
+            if (name.equals(FlightRecorderEvents.PHASE_EVENT))
+                name += ":" + event.getClass().getMethod("getString", String.class).invoke(event, "phase");
+            counts.merge(name, 1, Integer::sum);
+        }
+        Files.deleteIfExists(file);
+
+        return counts;
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void noEventsWithoutRecording() {
+        Assert.assertFalse(FlightRecorderEvents.isRecording());
+        Assert.assertFalse(FlightRecorderEvents.isGenerationEnabled());
+        Assert.assertNull(FlightRecorderEvents.beginPhase());
+
+        // Must Not Fail Or Emit Anything
+        new GeneticOptimization(new NQueensProblem(6, new Random(123)),
+                new GeneticOptimizationParams(20, 3, .5, .1)).optimize();
+    }
+
+    @Test
+    public void noEventsWhileRecordingWithEventsDisabled() throws Exception {
+        Assume.assumeTrue("Flight Recorder Is Not Available", FlightRecorderEvents.isAvailable());
+
+        Map<String, Integer> counts = record(() -> {
+            Assert.assertFalse(FlightRecorderEvents.isGenerationEnabled());
+            Assert.assertNull(FlightRecorderEvents.beginPhase());
+
+            new GeneticOptimization(new NQueensProblem(8, new Random(123)),
+                    new GeneticOptimizationParams(50, 4, .5, .1)).optimize();
+        });
+
+        Assert.assertNull(counts.get(FlightRecorderEvents.GENERATION_EVENT));
+        Assert.assertNull(counts.get(FlightRecorderEvents.PHASE_EVENT + ":FITNESS"));
+    }
+
+    @Test
+    public void nestedPhasesEachCommitTheirOwnEvent() throws Exception {
+        Assume.assumeTrue("Flight Recorder Is Not Available", FlightRecorderEvents.isAvailable());
+
+        Map<String, Integer> counts = record(() -> new NestedPhases().run(), FlightRecorderEvents.PHASE_EVENT);
+
+        Assert.assertEquals(Integer.valueOf(1), counts.get(FlightRecorderEvents.PHASE_EVENT + ":SELECTION"));
+        Assert.assertEquals(Integer.valueOf(1), counts.get(FlightRecorderEvents.PHASE_EVENT + ":FITNESS"));
+    }
+
+    ///////////////////////////
+    // Actual Algorithm Runs //
+    ///////////////////////////
+
+    @Test
+    public void recordingHoldsGenerationAndPhaseEvents() throws Exception {
+        Assume.assumeTrue("Flight Recorder Is Not Available", FlightRecorderEvents.isAvailable());
+
+        Map<String, Integer> counts = record(() -> {
+            Assert.assertTrue(FlightRecorderEvents.isGenerationEnabled());
+
+            new GeneticOptimization(new NQueensProblem(8, new Random(123)),
+                    new GeneticOptimizationParams(50, 4, .5, .1)).optimize();
+        }, FlightRecorderEvents.GENERATION_EVENT, FlightRecorderEvents.PHASE_EVENT);
+
+        Assert.assertEquals(Integer.valueOf(5), counts.get(FlightRecorderEvents.GENERATION_EVENT));
+        Assert.assertEquals(Integer.valueOf(4), counts.get(FlightRecorderEvents.PHASE_EVENT + ":SELECTION"));
+        Assert.assertEquals(Integer.valueOf(4), counts.get(FlightRecorderEvents.PHASE_EVENT + ":CROSSOVER"));
+        Assert.assertEquals(Integer.valueOf(4), counts.get(FlightRecorderEvents.PHASE_EVENT + ":MUTATION"));
+        Assert.assertEquals(Integer.valueOf(5), counts.get(FlightRecorderEvents.PHASE_EVENT + ":FITNESS"));
+        Assert.assertEquals(Integer.valueOf(5), counts.get(FlightRecorderEvents.PHASE_EVENT + ":BEST_INDIVIDUAL"));
+    }
+
+}
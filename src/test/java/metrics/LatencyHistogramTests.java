@@ -0,0 +1,104 @@
+package metrics;
+
+import com.knighten.ai.genetic.metrics.LatencyHistogram;
+import com.knighten.ai.genetic.metrics.LatencySnapshot;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+public class LatencyHistogramTests {
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void percentileFractionAboveOne() {
+        new LatencyHistogram().getPercentileNanos(1.5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void percentileFractionIsNaN() {
+        new LatencyHistogram().getPercentileNanos(Double.NaN);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void emptyHistogramIsAllZero() {
+        LatencySnapshot snapshot = new LatencyHistogram().snapshot();
+
+        Assert.assertEquals(0, snapshot.getCount());
+        Assert.assertEquals(0.0, snapshot.getMeanMillis(), 0.0);
+        Assert.assertEquals(0.0, snapshot.getP99Millis(), 0.0);
+        Assert.assertEquals(0.0, snapshot.getMaxMillis(), 0.0);
+    }
+
+    @Test
+    public void smallLatenciesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 0; nanos < 8; nanos++)
+            histogram.record(nanos);
+
+        Assert.assertEquals(8, histogram.getCount());
+        Assert.assertEquals(28, histogram.getTotalNanos());
+        Assert.assertEquals(3, histogram.getPercentileNanos(0.5));
+        Assert.assertEquals(7, histogram.getPercentileNanos(1.0));
+    }
+
+    @Test
+    public void percentilesAreWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100000; nanos++)
+            histogram.record(nanos * 1000);
+
+        long p50 = histogram.getPercentileNanos(0.5);
+        long p99 = histogram.getPercentileNanos(0.99);
+
+        Assert.assertTrue(p50 >= 50000000L && p50 <= 50000000L * 1.125);
+        Assert.assertTrue(p99 >= 99000000L && p99 <= 99000000L * 1.125);
+        Assert.assertEquals(100000000L, histogram.getMaxNanos());
+        Assert.assertEquals(100000000L, histogram.getPercentileNanos(1.0));
+    }
+
+    @Test
+    public void largestLatencyHasABucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+
+        Assert.assertEquals(Long.MAX_VALUE, histogram.getPercentileNanos(0.5));
+    }
+
+    @Test
+    public void negativeLatencyIsRecordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+
+        Assert.assertEquals(1, histogram.getCount());
+        Assert.assertEquals(0, histogram.getTotalNanos());
+    }
+
+    @Test
+    public void recordsFromManyThreadsAreAllCounted() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.range(0, 100000).parallel().forEach(histogram::record);
+
+        Assert.assertEquals(100000, histogram.getCount());
+        Assert.assertEquals(99999L * 100000 / 2, histogram.getTotalNanos());
+    }
+
+    @Test
+    public void resetRemovesLatencies() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1000);
+        histogram.reset();
+
+        Assert.assertEquals(0, histogram.getCount());
+        Assert.assertEquals(0, histogram.getMaxNanos());
+        Assert.assertEquals(0, histogram.getPercentileNanos(0.5));
+    }
+
+}
@@ -0,0 +1,130 @@
+package metrics;
+
+import com.knighten.ai.genetic.GeneticOptimization;
+import com.knighten.ai.genetic.GeneticOptimizationParams;
+import com.knighten.ai.genetic.ParallelGeneticOptimization;
+import com.knighten.ai.genetic.metrics.OptimizationMetrics;
+import com.knighten.ai.genetic.metrics.Phase;
+import com.knighten.ai.genetic.nqueens.NQueensProblem;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+public class OptimizationMetricsTests {
+
+    private OptimizationMetrics metrics = new OptimizationMetrics();
+
+    @After
+    public void tearDown() {
+        metrics.unregister();
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void registerNameIsEmpty() {
+        metrics.register("");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void registerTwice() {
+        metrics.register("twice");
+        metrics.register("twice-again");
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void optimizeRecordsEveryPhase() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(50, 10, .5, .1);
+        GeneticOptimization optimizer = new GeneticOptimization(new NQueensProblem(12, new Random(123)), params);
+        optimizer.setMetrics(metrics);
+
+        optimizer.optimize();
+
+        Assert.assertEquals(10, metrics.getGenerationCount());
+        Assert.assertEquals(50 * 11, metrics.getEvaluationCount());
+        Assert.assertEquals(50, metrics.getPopulationSize());
+        Assert.assertEquals(10, metrics.getHistogram(Phase.SELECTION).getCount());
+        Assert.assertEquals(10, metrics.getHistogram(Phase.CROSSOVER).getCount());
+        Assert.assertEquals(10, metrics.getHistogram(Phase.MUTATION).getCount());
+        Assert.assertEquals(11, metrics.getHistogram(Phase.FITNESS).getCount());
+        Assert.assertEquals(11, metrics.getHistogram(Phase.BEST_INDIVIDUAL).getCount());
+        Assert.assertTrue(metrics.getGenerationsPerSecond() > 0.0);
+        Assert.assertTrue(metrics.getEvaluationsPerSecond() > 0.0);
+    }
+
+    @Test
+    public void parallelOptimizeRecordsEachPhaseOncePerGeneration() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(1000, 10, .5, .1);
+        ParallelGeneticOptimization optimizer = new ParallelGeneticOptimization(
+                new NQueensProblem(12, new Random(123)), params);
+        optimizer.setMetrics(metrics);
+
+        optimizer.optimize();
+
+        Assert.assertEquals(10, metrics.getHistogram(Phase.SELECTION).getCount());
+        Assert.assertEquals(10, metrics.getHistogram(Phase.CROSSOVER).getCount());
+        Assert.assertEquals(10, metrics.getHistogram(Phase.MUTATION).getCount());
+        Assert.assertEquals(11, metrics.getHistogram(Phase.FITNESS).getCount());
+        Assert.assertEquals(1000 * 11, metrics.getEvaluationCount());
+    }
+
+    @Test
+    public void optimizeWithoutMetricsRecordsNothing() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(50, 10, .5, .1);
+        GeneticOptimization optimizer = new GeneticOptimization(new NQueensProblem(12, new Random(123)), params);
+        optimizer.setMetrics(metrics);
+        optimizer.setMetrics(null);
+
+        optimizer.optimize();
+
+        Assert.assertNull(optimizer.getMetrics());
+        Assert.assertEquals(0, metrics.getHistogram(Phase.FITNESS).getCount());
+    }
+
+    @Test
+    public void resetClearsLatenciesAndCounts() {
+        metrics.runStarted(10);
+        metrics.recordPhase(Phase.MUTATION, 1000);
+        metrics.addEvaluations(10);
+        metrics.generationCompleted(1);
+
+        metrics.reset();
+
+        Assert.assertEquals(0, metrics.getMutationLatency().getCount());
+        Assert.assertEquals(0, metrics.getEvaluationCount());
+        Assert.assertEquals(0, metrics.getGenerationCount());
+        Assert.assertEquals(0.0, metrics.getEvaluationsPerSecond(), 0.0);
+    }
+
+    @Test
+    public void registeredMetricsAreReadableThroughJmx() throws Exception {
+        metrics.runStarted(10);
+        metrics.recordPhase(Phase.FITNESS, 2000000);
+        metrics.addEvaluations(10);
+
+        ObjectName name = metrics.register("jmx-test");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        Assert.assertEquals(10L, server.getAttribute(name, "EvaluationCount"));
+        CompositeData fitness = (CompositeData) server.getAttribute(name, "FitnessLatency");
+        Assert.assertEquals(1L, fitness.get("count"));
+        Assert.assertEquals(2.0, (Double) fitness.get("maxMillis"), 0.0);
+
+        metrics.unregister();
+        Assert.assertFalse(server.isRegistered(name));
+        Assert.assertNull(metrics.getObjectName());
+    }
+
+}
@@ -55,4 +55,16 @@ public class AbstractNQueensProblemTests {
         Assert.assertEquals(6, score3);
     }
 
+    @Test
+    public void copyCreatesIndividualWithCopyOfBoardAndFitness() {
+        NQueensIndividual individual = new NQueensIndividual(new Integer[]{1, 3, 0, 2});
+        individual.setFitness(2.0);
+
+        NQueensIndividual copy = testAbstractNQueensProblem.copy(individual);
+
+        Assert.assertNotSame(individual, copy);
+        Assert.assertNotSame(individual.getGenes(), copy.getGenes());
+        Assert.assertArrayEquals(individual.getGenes(), copy.getGenes());
+        Assert.assertEquals(2.0, copy.getFitness(), 0.0);
+    }
 }
@@ -0,0 +1,75 @@
+package nqueens;
+
+import com.knighten.ai.genetic.Execution;
+import com.knighten.ai.genetic.nqueens.NQueensBatchScorer;
+import com.knighten.ai.genetic.nqueens.NQueensIndividual;
+import com.knighten.ai.genetic.nqueens.NQueensProblem;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class NQueensBatchScorerTests {
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNLessThan4() {
+        new NQueensBatchScorer(3);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void scoreCountsConflictsOfEachBoard() {
+        int[] boards = {1, 3, 0, 2, 0, 0, 0, 0, 0, 1, 2, 3};
+        double[] fitness = new double[3];
+
+        new NQueensBatchScorer(4).score(boards, 0, 3, fitness);
+
+        Assert.assertArrayEquals(new double[]{0.0, 6.0, 6.0}, fitness, 0.0);
+    }
+
+    @Test
+    public void scoreOnlyWritesTheRange() {
+        int[] boards = {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+        double[] fitness = {-1.0, -1.0, -1.0};
+
+        new NQueensBatchScorer(4).score(boards, 1, 2, fitness);
+
+        Assert.assertArrayEquals(new double[]{-1.0, 6.0, -1.0}, fitness, 0.0);
+    }
+
+    @Test
+    public void scoreAllMatchesConflictScoreSequentiallyAndInParallel() {
+        int n = 12;
+        int count = 5000;
+        Random random = new Random(123);
+        NQueensProblem problem = new NQueensProblem(n, new Random(123));
+
+        int[] boards = new int[count * n];
+        double[] expected = new double[count];
+        for (int board = 0; board < count; board++) {
+            Integer[] genes = new Integer[n];
+            for (int column = 0; column < n; column++) {
+                genes[column] = random.nextInt(n);
+                boards[board * n + column] = genes[column];
+            }
+            expected[board] = problem.conflictScore(new NQueensIndividual(genes));
+        }
+
+        NQueensBatchScorer scorer = new NQueensBatchScorer(n);
+        double[] sequential = new double[count];
+        double[] parallel = new double[count];
+        scorer.scoreAll(boards, count, sequential, Execution.SEQUENTIAL);
+        scorer.scoreAll(boards, count, parallel, Execution.PARALLEL);
+
+        Assert.assertArrayEquals(expected, sequential, 0.0);
+        Assert.assertArrayEquals(expected, parallel, 0.0);
+    }
+
+}
@@ -0,0 +1,78 @@
+package nqueens;
+
+import com.knighten.ai.genetic.nqueens.NQueensConflictCounter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class NQueensConflictCounterTests {
+
+    private Integer[] randomBoard(int n, Random random) {
+        Integer[] board = new Integer[n];
+        for (int column = 0; column < n; column++)
+            board[column] = random.nextInt(n);
+
+        return board;
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void countScoresKnownBoards() {
+        NQueensConflictCounter counter = new NQueensConflictCounter();
+
+        Assert.assertEquals(0, counter.count(new Integer[]{1, 3, 0, 2}));
+        Assert.assertEquals(6, counter.count(new Integer[]{0, 0, 0, 0}));
+        Assert.assertEquals(6, counter.count(new Integer[]{0, 1, 2, 3}));
+        Assert.assertEquals(6, counter.count(new Integer[]{3, 2, 1, 0}));
+        Assert.assertEquals(2, counter.count(new Integer[]{0, 2, 0, 2}));
+    }
+
+    @Test
+    public void countMatchesPairwiseAcrossBoardSizes() {
+        NQueensConflictCounter counter = new NQueensConflictCounter();
+        Random random = new Random(123);
+
+        // One Counter Reused For Growing And Shrinking Boards
+        for (int n : new int[]{4, 8, 100, 5, 512, 13, 2000, 4}) {
+            for (int trial = 0; trial < 20; trial++) {
+                Integer[] board = randomBoard(n, random);
+                Assert.assertEquals(NQueensConflictCounter.countPairwise(board), counter.count(board));
+            }
+        }
+    }
+
+    @Test
+    public void countPrimitiveBoardsMatchesBoxedBoards() {
+        NQueensConflictCounter counter = new NQueensConflictCounter();
+        Random random = new Random(123);
+        int n = 50;
+
+        int[] boards = new int[3 * n];
+        for (int board = 0; board < 3; board++) {
+            Integer[] genes = randomBoard(n, random);
+            for (int column = 0; column < n; column++)
+                boards[board * n + column] = genes[column];
+
+            Assert.assertEquals(counter.count(genes), counter.count(boards, board * n, n));
+            Assert.assertEquals(NQueensConflictCounter.countPairwise(boards, board * n, n),
+                    counter.count(boards, board * n, n));
+        }
+    }
+
+    @Test
+    public void countBoardsWithRowsOutsideTheBoard() {
+        NQueensConflictCounter counter = new NQueensConflictCounter();
+        Integer[] board = {0, 2, -1, 7, 1, 1};
+
+        Assert.assertEquals(NQueensConflictCounter.countPairwise(board), counter.count(board));
+
+        // Tallies Are Cleared After Giving Up On A Board
+        Assert.assertEquals(0, counter.count(new Integer[]{1, 3, 0, 2}));
+        Assert.assertEquals(6, counter.count(new Integer[]{0, 0, 0, 0}));
+    }
+
+}
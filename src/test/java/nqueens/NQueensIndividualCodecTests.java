@@ -0,0 +1,54 @@
+package nqueens;
+
+import com.knighten.ai.genetic.nqueens.NQueensIndividual;
+import com.knighten.ai.genetic.nqueens.NQueensIndividualCodec;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.stream.IntStream;
+
+public class NQueensIndividualCodecTests {
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNLessThanFour() {
+        new NQueensIndividualCodec(3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void encodeBoardOfWrongSize() {
+        NQueensIndividualCodec testObject = new NQueensIndividualCodec(5);
+        testObject.encode(new NQueensIndividual(new Integer[]{0, 1, 2, 3}), ByteBuffer.allocate(16));
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void encodedSizeUsesSmallestWidth() {
+        Assert.assertEquals(256, new NQueensIndividualCodec(256).getEncodedSize(null));
+        Assert.assertEquals(514, new NQueensIndividualCodec(257).getEncodedSize(null));
+        Assert.assertEquals(262148, new NQueensIndividualCodec(65537).getEncodedSize(null));
+    }
+
+    @Test
+    public void encodeThenDecodeKeepsLargestPositions() {
+        for (int n : new int[]{256, 257, 65537}) {
+            Integer[] board = IntStream.range(0, n).map((i) -> n - 1 - i).boxed().toArray(Integer[]::new);
+            NQueensIndividualCodec testObject = new NQueensIndividualCodec(n);
+
+            ByteBuffer buffer = ByteBuffer.allocate(testObject.getEncodedSize(null));
+            testObject.encode(new NQueensIndividual(board), buffer);
+            buffer.flip();
+
+            Assert.assertArrayEquals(board, testObject.decode(buffer).getGenes());
+            Assert.assertFalse(buffer.hasRemaining());
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package nqueens;
+
+import com.knighten.ai.genetic.nqueens.NQueensIndividual;
+import com.knighten.ai.genetic.nqueens.NQueensOperators;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+public class NQueensOperatorsTests {
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorNLessThan4() {
+        new NQueensOperators(3);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void createMakesBoardsOfSizeNWithQueensOnTheBoard() {
+        NQueensIndividual individual = new NQueensOperators(6).create(new SplittableRandom(123));
+
+        Assert.assertEquals(6, individual.getGenes().length);
+        for (Integer row : individual.getGenes())
+            Assert.assertTrue(row >= 0 && row < 6);
+    }
+
+    @Test
+    public void fitnessCountsConflicts() {
+        NQueensOperators operators = new NQueensOperators(4);
+
+        Assert.assertEquals(0.0, operators.fitness(new NQueensIndividual(new Integer[]{1, 3, 0, 2})), 0.0);
+        Assert.assertEquals(6.0, operators.fitness(new NQueensIndividual(new Integer[]{0, 0, 0, 0})), 0.0);
+        Assert.assertEquals(6.0, operators.fitness(new NQueensIndividual(new Integer[]{0, 1, 2, 3})), 0.0);
+    }
+
+    @Test
+    public void crossTakesColumnsFromEachParentAroundACrossingPoint() {
+        NQueensIndividual first = new NQueensIndividual(new Integer[]{0, 0, 0, 0, 0});
+        NQueensIndividual second = new NQueensIndividual(new Integer[]{1, 1, 1, 1, 1});
+
+        Integer[] child = new NQueensOperators(5).cross(first, second, new SplittableRandom(123)).getGenes();
+
+        int crossPoint = 0;
+        while (crossPoint < child.length && child[crossPoint] == 0)
+            crossPoint++;
+        for (int column = crossPoint; column < child.length; column++)
+            Assert.assertEquals(1, (int) child[column]);
+        Assert.assertArrayEquals(new Integer[]{0, 0, 0, 0, 0}, first.getGenes());
+    }
+
+    @Test
+    public void mutateWithZeroProbabilityKeepsBoardAndInvalidatesFitness() {
+        NQueensIndividual individual = new NQueensIndividual(new Integer[]{1, 3, 0, 2});
+        individual.setFitness(0.0);
+
+        new NQueensOperators(4).mutate(individual, 0.0, new SplittableRandom(123));
+
+        Assert.assertArrayEquals(new Integer[]{1, 3, 0, 2}, individual.getGenes());
+        Assert.assertFalse(individual.isFitnessValid());
+    }
+
+}
@@ -1,5 +1,6 @@
 package nqueens;
 
+import com.knighten.ai.genetic.nqueens.NQueensConflictCounter;
 import com.knighten.ai.genetic.nqueens.NQueensIndividual;
 import com.knighten.ai.genetic.nqueens.NQueensProblem;
 import org.junit.Assert;
@@ -73,6 +74,11 @@ public class NQueensProblemTests {
         new NQueensProblem(3, mockRandom);
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void setRandomStateNotARandom() {
+        new NQueensProblem(4, mockRandom).setRandomState("Not A Random");
+    }
+
     ////////////////////
     // Method Testing //
     ////////////////////
@@ -96,6 +102,20 @@ public class NQueensProblemTests {
         verify(mockIndividual1302, times(1)).setFitness(0);
     }
 
+    @Test
+    public void calculateFitnessBatchScoresMatchPairwiseCountsAndSkipValidFitness() {
+        NQueensProblem testObject = new NQueensProblem(10, new Random(123));
+        List<NQueensIndividual> population = testObject.generateInitialPopulation(500);
+        population.get(0).setFitness(-1.0);
+
+        testObject.calculateFitness(population);
+
+        Assert.assertEquals(-1.0, population.get(0).getFitness(), 0.0);
+        for (int i = 1; i < population.size(); i++)
+            Assert.assertEquals(NQueensConflictCounter.countPairwise(population.get(i).getGenes()),
+                    population.get(i).getFitness(), 0.0);
+    }
+
     @Test
     public void getBestIndividualCorrectIndividualRetrieved() {
         NQueensProblem testObject = new NQueensProblem(4, mockRandom);
@@ -170,4 +190,44 @@ public class NQueensProblemTests {
         verify(mockIndividual0000, times(1)).setGenes(new Integer[]{0, 0, 0, 0});
     }
 
+    @Test
+    public void forkCreatesNewProblemSeededFromRandom() {
+        NQueensProblem testObject = new NQueensProblem(4, mockRandom);
+        NQueensProblem result = testObject.fork();
+
+        Assert.assertNotSame(testObject, result);
+        verify(mockRandom, times(1)).nextLong();
+    }
+
+    @Test
+    public void forkWithSeedGivesSameCopyForSameSeed() {
+        NQueensProblem testObject = new NQueensProblem(8, mockRandom);
+
+        List<NQueensIndividual> first = testObject.fork(42).generateInitialPopulation(5);
+        List<NQueensIndividual> second = testObject.fork(42).generateInitialPopulation(5);
+
+        for (int i = 0; i < 5; i++)
+            Assert.assertArrayEquals(first.get(i).getGenes(), second.get(i).getGenes());
+        verify(mockRandom, never()).nextLong();
+    }
+
+    @Test
+    public void crossoverIntoWritesCrossedBoardsIntoOffspring() {
+        Mockito.when(mockRandom.nextInt(2)).thenReturn(0, 0, 1, 0);
+        Mockito.when(mockRandom.nextInt(4)).thenReturn(1, 2);
+
+        NQueensIndividual offspring1 = new NQueensIndividual(new Integer[]{3, 3, 3, 3});
+        NQueensIndividual offspring2 = new NQueensIndividual(new Integer[]{3, 3, 3, 3});
+        Integer[] offspring1Board = offspring1.getGenes();
+
+        NQueensProblem testObject = new NQueensProblem(4, mockRandom);
+        testObject.crossoverInto(listOfMockIndividuals, Arrays.asList(offspring1, offspring2));
+
+        // Same Results As crossover() Using The Same Random Numbers
+        Assert.assertArrayEquals(new Integer[]{1, 0, 0, 0}, offspring1.getGenes());
+        Assert.assertArrayEquals(new Integer[]{1, 3, 0, 2}, offspring2.getGenes());
+
+        // The Offspring's Existing Board Is Reused
+        Assert.assertSame(offspring1Board, offspring1.getGenes());
+    }
 }
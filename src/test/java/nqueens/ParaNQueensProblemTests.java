@@ -1,6 +1,8 @@
 package nqueens;
 
+import com.knighten.ai.genetic.nqueens.NQueensConflictCounter;
 import com.knighten.ai.genetic.nqueens.NQueensIndividual;
+import com.knighten.ai.genetic.nqueens.NQueensProblem;
 import com.knighten.ai.genetic.nqueens.ParaNQueensProblem;
 import org.junit.Assert;
 import org.junit.Before;
@@ -11,6 +13,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.IntStream;
 
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -98,6 +101,20 @@ public class ParaNQueensProblemTests {
         verify(mockIndividual1302, times(1)).setFitness(0);
     }
 
+    @Test
+    public void calculateFitnessBatchScoresMatchPairwiseCountsAndSkipValidFitness() {
+        ParaNQueensProblem testObject = new ParaNQueensProblem(10, new Random(123));
+        List<NQueensIndividual> population = testObject.generateInitialPopulation(3000);
+        population.get(0).setFitness(-1.0);
+
+        testObject.calculateFitness(population);
+
+        Assert.assertEquals(-1.0, population.get(0).getFitness(), 0.0);
+        for (int i = 1; i < population.size(); i++)
+            Assert.assertEquals(NQueensConflictCounter.countPairwise(population.get(i).getGenes()),
+                    population.get(i).getFitness(), 0.0);
+    }
+
     @Test
     public void getBestIndividualCorrectIndividualRetrieved() {
         ParaNQueensProblem testObject = new ParaNQueensProblem(4, mockRandom);
@@ -165,11 +182,74 @@ public class ParaNQueensProblemTests {
         ParaNQueensProblem testObject = new ParaNQueensProblem(4, mockRandom);
         testObject.mutate(listOfMockIndividuals, .05);
 
-        // Results Dependent On mockRandom And listOfMockIndividuals
+        // Random Numbers Come From Streams Seeded By One Draw From mockRandom
+        verify(mockRandom, times(1)).nextLong();
         verify(mockIndividual1302, times(1)).getGenes();
-        verify(mockIndividual1302, times(1)).setGenes(new Integer[]{0, 3, 0, 2});
+        verify(mockIndividual1302, times(1)).setGenes(any());
         verify(mockIndividual0000, times(1)).getGenes();
-        verify(mockIndividual0000, times(1)).setGenes(new Integer[]{0, 0, 0, 0});
+        verify(mockIndividual0000, times(1)).setGenes(any());
+    }
+
+    @Test
+    public void mutateSameResultsOnAnyNumberOfThreads() throws Exception {
+        List<NQueensIndividual> sequential = new ParaNQueensProblem(8, new Random(1)).generateInitialPopulation(1000);
+        List<NQueensIndividual> parallel = new ParaNQueensProblem(8, new Random(1)).generateInitialPopulation(1000);
+
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        ForkJoinPool fourThreads = new ForkJoinPool(4);
+        try {
+            singleThread.submit(() -> new ParaNQueensProblem(8, new Random(2)).mutate(sequential, .1)).get();
+            fourThreads.submit(() -> new ParaNQueensProblem(8, new Random(2)).mutate(parallel, .1)).get();
+        } finally {
+            singleThread.shutdown();
+            fourThreads.shutdown();
+        }
+
+        for (int i = 0; i < sequential.size(); i++)
+            Assert.assertArrayEquals(sequential.get(i).getGenes(), parallel.get(i).getGenes());
+    }
+
+    @Test
+    public void generateInitialPopulationSameResultsOnAnyNumberOfThreads() throws Exception {
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        ForkJoinPool fourThreads = new ForkJoinPool(4);
+        try {
+            List<NQueensIndividual> sequential = singleThread.submit(() ->
+                    new ParaNQueensProblem(8, new Random(1)).generateInitialPopulation(1000)).get();
+            List<NQueensIndividual> parallel = fourThreads.submit(() ->
+                    new ParaNQueensProblem(8, new Random(1)).generateInitialPopulation(1000)).get();
+
+            Assert.assertEquals(1000, parallel.size());
+            for (int i = 0; i < sequential.size(); i++)
+                Assert.assertArrayEquals(sequential.get(i).getGenes(), parallel.get(i).getGenes());
+        } finally {
+            singleThread.shutdown();
+            fourThreads.shutdown();
+        }
     }
 
+    @Test
+    public void forkCreatesNewProblemSeededFromRandom() {
+        ParaNQueensProblem testObject = new ParaNQueensProblem(4, mockRandom);
+        NQueensProblem result = testObject.fork();
+
+        Assert.assertNotNull(result);
+        verify(mockRandom, times(1)).nextLong();
+    }
+
+    @Test
+    public void crossoverIntoWritesCrossedBoardsIntoOffspring() {
+        Mockito.when(mockRandom.nextInt(2)).thenReturn(0, 0, 1, 0);
+        Mockito.when(mockRandom.nextInt(4)).thenReturn(1, 2);
+
+        NQueensIndividual offspring1 = new NQueensIndividual(new Integer[]{3, 3, 3, 3});
+        NQueensIndividual offspring2 = new NQueensIndividual(new Integer[]{3, 3, 3, 3});
+
+        ParaNQueensProblem testObject = new ParaNQueensProblem(4, mockRandom);
+        testObject.crossoverInto(listOfMockIndividuals, Arrays.asList(offspring1, offspring2));
+
+        // Same Results As crossover() Using The Same Random Numbers
+        Assert.assertArrayEquals(new Integer[]{1, 0, 0, 0}, offspring1.getGenes());
+        Assert.assertArrayEquals(new Integer[]{1, 3, 0, 2}, offspring2.getGenes());
+    }
 }
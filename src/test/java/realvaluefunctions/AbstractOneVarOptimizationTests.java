@@ -217,4 +217,32 @@ public class AbstractOneVarOptimizationTests {
         verify(mockListOfIndividuals, times(1)).get(anyInt());
     }
 
+    @Test
+    public void crossoverIntoWritesCrossedValuesIntoOffspring() {
+        Mockito.when(mockRandomForCrossover.nextInt(2)).thenReturn(0, 0, 1, 0);
+        testAbstractOneVarOptimization.setRandom(mockRandomForCrossover);
+
+        List<OneVarIndividual> listOfIndividuals = new ArrayList<>();
+        listOfIndividuals.add(new OneVarIndividual(1.0));
+        listOfIndividuals.add(new OneVarIndividual(2.0));
+        OneVarIndividual offspring1 = new OneVarIndividual(5.0);
+        OneVarIndividual offspring2 = new OneVarIndividual(5.0);
+        testAbstractOneVarOptimization.crossoverInto(listOfIndividuals, Arrays.asList(offspring1, offspring2));
+
+        // Same Results As crossover() Using The Same Random Numbers
+        Assert.assertEquals(new Double(1.5), offspring1.getGenes());
+        Assert.assertEquals(new Double(1.0), offspring2.getGenes());
+    }
+
+    @Test
+    public void copyCreatesIndividualWithSameValueAndFitness() {
+        OneVarIndividual individual = new OneVarIndividual(2.0);
+        individual.setFitness(4.0);
+
+        OneVarIndividual copy = testAbstractOneVarOptimization.copy(individual);
+
+        Assert.assertNotSame(individual, copy);
+        Assert.assertEquals(new Double(2.0), copy.getGenes());
+        Assert.assertEquals(4.0, copy.getFitness(), 0.0);
+    }
 }
@@ -45,6 +45,10 @@ public class MaximizeOneVarTests {
         mockListOfIndividuals = Mockito.mock(ArrayList.class);
         Mockito.when(mockListOfIndividuals.size())
                 .thenReturn(2);
+        Mockito.when(mockListOfIndividuals.get(0))
+                .thenReturn(mockIndividualGenes1);
+        Mockito.when(mockListOfIndividuals.get(1))
+                .thenReturn(mockIndividualGenes2);
     }
 
     ////////////////////
@@ -90,4 +94,10 @@ public class MaximizeOneVarTests {
         verify(mockListOfIndividuals, atLeast(1)).get(anyInt());
     }
 
+    @Test
+    public void isMinimizationIsFalse() {
+        MaximizeOneVar testObject = new MaximizeOneVar(-10,10, mockFunction, mockRandom);
+
+        Assert.assertFalse(testObject.isMinimization());
+    }
 }
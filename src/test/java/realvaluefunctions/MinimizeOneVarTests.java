@@ -43,6 +43,10 @@ public class MinimizeOneVarTests {
         mockListOfIndividuals = Mockito.mock(ArrayList.class);
         Mockito.when(mockListOfIndividuals.size())
                 .thenReturn(2);
+        Mockito.when(mockListOfIndividuals.get(0))
+                .thenReturn(mockIndividualGenes1);
+        Mockito.when(mockListOfIndividuals.get(1))
+                .thenReturn(mockIndividualGenes2);
     }
 
     ////////////////////
@@ -88,4 +92,12 @@ public class MinimizeOneVarTests {
         verify(mockListOfIndividuals, atLeast(1)).get(anyInt());
     }
 
+    @Test
+    public void forkCreatesNewProblemSeededFromRandom() {
+        MinimizeOneVar testObject = new MinimizeOneVar(-10,10, mockFunction, mockRandom);
+        MinimizeOneVar result = testObject.fork();
+
+        Assert.assertNotSame(testObject, result);
+        verify(mockRandom, times(1)).nextLong();
+    }
 }
@@ -0,0 +1,90 @@
+package realvaluefunctions;
+
+import com.knighten.ai.genetic.Execution;
+import com.knighten.ai.genetic.function.realvalue.IBatchOneVariableFunction;
+import com.knighten.ai.genetic.function.realvalue.MinimizeOneVar;
+import com.knighten.ai.genetic.function.realvalue.OneVarBatchFunction;
+import com.knighten.ai.genetic.function.realvalue.OneVarIndividual;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+public class OneVarBatchFunctionTests {
+
+    /**
+     * f(x)=x^2 that counts how many times it is evaluated one x value at a time.
+     */
+    private static class Square implements IBatchOneVariableFunction {
+
+        int singleCalls;
+
+        @Override
+        public double getFuncValue(double xValue) {
+            singleCalls++;
+            return xValue * xValue;
+        }
+
+        @Override
+        public void getFuncValues(double[] xValues, int from, int to, double[] values) {
+            for (int i = from; i < to; i++)
+                values[i] = xValues[i] * xValues[i];
+        }
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorFunctionIsNull() {
+        new OneVarBatchFunction(null);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void scoreEvaluatesPlainFunctionAtEachXValue() {
+        double[] fitness = new double[3];
+        OneVarBatchFunction scorer = new OneVarBatchFunction((x) -> x + 1);
+
+        scorer.score(new double[]{1.0, 2.0, 3.0}, 0, 3, fitness);
+
+        Assert.assertEquals(1, scorer.getGenomeLength());
+        Assert.assertArrayEquals(new double[]{2.0, 3.0, 4.0}, fitness, 0.0);
+    }
+
+    @Test
+    public void scoreUsesBatchFunctionInOneCall() {
+        Square square = new Square();
+        double[] xValues = new double[5000];
+        for (int i = 0; i < xValues.length; i++)
+            xValues[i] = i;
+        double[] fitness = new double[xValues.length];
+
+        new OneVarBatchFunction(square).scoreAll(xValues, xValues.length, fitness, Execution.PARALLEL);
+
+        Assert.assertEquals(0, square.singleCalls);
+        for (int i = 0; i < xValues.length; i++)
+            Assert.assertEquals((double) i * i, fitness[i], 0.0);
+    }
+
+    @Test
+    public void problemCalculateFitnessScoresOnlyInvalidIndividualsWithBatchFunction() {
+        Square square = new Square();
+        MinimizeOneVar problem = new MinimizeOneVar(-10.0, 10.0, square, new Random(123));
+        List<OneVarIndividual> population = problem.generateInitialPopulation(100);
+        population.get(0).setFitness(-1.0);
+
+        problem.calculateFitness(population);
+
+        Assert.assertEquals(0, square.singleCalls);
+        Assert.assertEquals(-1.0, population.get(0).getFitness(), 0.0);
+        for (int i = 1; i < population.size(); i++)
+            Assert.assertEquals(Math.pow(population.get(i).getGenes(), 2), population.get(i).getFitness(), 1e-12);
+    }
+
+}
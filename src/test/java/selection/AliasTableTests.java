@@ -0,0 +1,94 @@
+package selection;
+
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.selection.AliasTable;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class AliasTableTests {
+
+    private static List<Individual> population(double... fitnesses) {
+        List<Individual> population = new ArrayList<>();
+        for (double fitness : fitnesses) {
+            Individual individual = new Individual();
+            individual.setFitness(fitness);
+            population.add(individual);
+        }
+
+        return population;
+    }
+
+    private static double[] frequencies(AliasTable table, int draws) {
+        SplittableRandom random = new SplittableRandom(123);
+        double[] frequencies = new double[table.size()];
+        for (int i = 0; i < draws; i++)
+            frequencies[table.next(random)] += 1.0 / draws;
+
+        return frequencies;
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorWeightsAreEmpty() {
+        new AliasTable(new double[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorWeightIsNegative() {
+        new AliasTable(new double[]{1.0, -1.0});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorWeightIsNaN() {
+        new AliasTable(new double[]{1.0, Double.NaN});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fitnessWeightsFitnessIsInfinite() {
+        AliasTable.fitnessWeights(population(1.0, Double.POSITIVE_INFINITY), true);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void nextDrawsProportionallyToWeights() {
+        double[] weights = {1.0, 2.0, 3.0, 0.0, 4.0};
+        double[] frequencies = frequencies(new AliasTable(weights), 200000);
+
+        for (int i = 0; i < weights.length; i++)
+            Assert.assertEquals(weights[i] / 10.0, frequencies[i], 0.01);
+    }
+
+    @Test
+    public void nextNeverDrawsZeroWeights() {
+        double[] frequencies = frequencies(new AliasTable(new double[]{0.0, 5.0, 0.0}), 10000);
+
+        Assert.assertEquals(1.0, frequencies[1], 0.000001);
+    }
+
+    @Test
+    public void nextIsUniformWhenAllWeightsAreZero() {
+        double[] frequencies = frequencies(new AliasTable(new double[4]), 100000);
+
+        for (double frequency : frequencies)
+            Assert.assertEquals(.25, frequency, 0.01);
+    }
+
+    @Test
+    public void fitnessWeightsMeasureDistanceFromTheWorst() {
+        List<Individual> population = population(-2.0, 0.0, 3.0);
+
+        Assert.assertArrayEquals(new double[]{5.0, 3.0, 0.0}, AliasTable.fitnessWeights(population, true), 0.0);
+        Assert.assertArrayEquals(new double[]{0.0, 2.0, 5.0}, AliasTable.fitnessWeights(population, false), 0.0);
+    }
+
+}
@@ -0,0 +1,94 @@
+package selection;
+
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.selection.FitnessProportionateSelection;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class FitnessProportionateSelectionTests {
+
+    private static List<Individual> population(double... fitnesses) {
+        List<Individual> population = new ArrayList<>();
+        for (double fitness : fitnesses) {
+            Individual individual = new Individual();
+            individual.setFitness(fitness);
+            population.add(individual);
+        }
+
+        return population;
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void selectPopulationIsEmpty() {
+        new FitnessProportionateSelection<Individual>().select(new ArrayList<>(), 1, true, new Random(123));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void selectCountIsNegative() {
+        new FitnessProportionateSelection<Individual>().select(population(1, 2), -1, true, new Random(123));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void selectRandomIsNull() {
+        new FitnessProportionateSelection<Individual>().select(population(1, 2), 1, true, null);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void selectPicksProportionallyWhenMaximizing() {
+        List<Individual> population = population(0, 1, 3);
+        List<Individual> selected = new FitnessProportionateSelection<Individual>().select(population, 40000, false,
+                new Random(123));
+
+        Assert.assertEquals(0, Collections.frequency(selected, population.get(0)));
+        Assert.assertEquals(.25, Collections.frequency(selected, population.get(1)) / 40000.0, 0.01);
+        Assert.assertEquals(.75, Collections.frequency(selected, population.get(2)) / 40000.0, 0.01);
+    }
+
+    @Test
+    public void selectPicksProportionallyWhenMinimizing() {
+        List<Individual> population = population(0, 1, 3);
+        List<Individual> selected = new FitnessProportionateSelection<Individual>().select(population, 40000, true,
+                new Random(123));
+
+        Assert.assertEquals(.60, Collections.frequency(selected, population.get(0)) / 40000.0, 0.01);
+        Assert.assertEquals(.40, Collections.frequency(selected, population.get(1)) / 40000.0, 0.01);
+        Assert.assertEquals(0, Collections.frequency(selected, population.get(2)));
+    }
+
+    @Test
+    public void selectIsReproducibleOnAnyNumberOfThreads() throws Exception {
+        Random fitnessRandom = new Random(123);
+        List<Individual> population = population(fitnessRandom.doubles(1000).toArray());
+        FitnessProportionateSelection<Individual> selector = new FitnessProportionateSelection<>();
+
+        ForkJoinPool onePool = new ForkJoinPool(1);
+        ForkJoinPool fourPool = new ForkJoinPool(4);
+        try {
+            List<Individual> sequential = onePool.submit(
+                    () -> selector.select(population, 5000, true, new Random(123))).get();
+            List<Individual> parallel = fourPool.submit(
+                    () -> selector.select(population, 5000, true, new Random(123))).get();
+
+            for (int i = 0; i < sequential.size(); i++)
+                Assert.assertSame(sequential.get(i), parallel.get(i));
+        } finally {
+            onePool.shutdown();
+            fourPool.shutdown();
+        }
+    }
+
+}
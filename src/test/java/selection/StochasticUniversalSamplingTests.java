@@ -0,0 +1,112 @@
+package selection;
+
+import com.knighten.ai.genetic.GeneticOptimization;
+import com.knighten.ai.genetic.GeneticOptimizationParams;
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.function.realvalue.MaximizeOneVar;
+import com.knighten.ai.genetic.selection.StochasticUniversalSampling;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class StochasticUniversalSamplingTests {
+
+    private static List<Individual> population(double... fitnesses) {
+        List<Individual> population = new ArrayList<>();
+        for (double fitness : fitnesses) {
+            Individual individual = new Individual();
+            individual.setFitness(fitness);
+            population.add(individual);
+        }
+
+        return population;
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void selectPopulationIsEmpty() {
+        new StochasticUniversalSampling<Individual>().select(new ArrayList<>(), 1, true, new Random(123));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void selectCountIsNegative() {
+        new StochasticUniversalSampling<Individual>().select(population(1, 2), -1, true, new Random(123));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void selectRandomIsNull() {
+        new StochasticUniversalSampling<Individual>().select(population(1, 2), 1, true, null);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void selectPicksEveryIndividualItsExpectedNumberOfTimes() {
+        // Weights When Maximizing Are 0, 1, 2, 3 and 4, So 20 Picks Give Each Individual Exactly Twice Its Weight
+        List<Individual> population = population(0, 1, 2, 3, 4);
+        StochasticUniversalSampling<Individual> selector = new StochasticUniversalSampling<>();
+
+        Random random = new Random(123);
+        for (int run = 0; run < 100; run++) {
+            List<Individual> selected = selector.select(population, 20, false, random);
+
+            Assert.assertEquals(20, selected.size());
+            for (int i = 0; i < population.size(); i++)
+                Assert.assertEquals(2 * i, Collections.frequency(selected, population.get(i)));
+        }
+    }
+
+    @Test
+    public void selectPicksWithinOneOfExpectedWhenMinimizing() {
+        List<Individual> population = population(0, 1, 2, 7);
+        StochasticUniversalSampling<Individual> selector = new StochasticUniversalSampling<>();
+
+        // Weights When Minimizing Are 7, 6, 5 and 0 Out Of 18
+        double[] expected = {7.0 / 18 * 10, 6.0 / 18 * 10, 5.0 / 18 * 10, 0.0};
+        Random random = new Random(123);
+        for (int run = 0; run < 100; run++) {
+            List<Individual> selected = selector.select(population, 10, true, random);
+
+            for (int i = 0; i < population.size(); i++)
+                Assert.assertEquals(expected[i], Collections.frequency(selected, population.get(i)), 1.0);
+        }
+    }
+
+    @Test
+    public void selectIsUniformWhenAllFitnessScoresAreEqual() {
+        List<Individual> population = population(3, 3, 3, 3);
+        List<Individual> selected = new StochasticUniversalSampling<Individual>().select(population, 8, true,
+                new Random(123));
+
+        for (Individual individual : population)
+            Assert.assertEquals(2, Collections.frequency(selected, individual));
+    }
+
+    ///////////////////////////
+    // Actual Algorithm Runs //
+    ///////////////////////////
+
+    @Test
+    public void realValueOneVarFunctionMaximizeRunWithSUS() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(1000, 200, .50, .01);
+
+        MaximizeOneVar problem = new MaximizeOneVar(-10.0, 10.0, (x) -> -Math.pow(x - 2.0, 2), new Random(123));
+        problem.setSelector(new StochasticUniversalSampling<>());
+        GeneticOptimization optimizer = new GeneticOptimization(problem, params);
+
+        List<Individual> optimizationGeneration = optimizer.optimize();
+        Individual optimized = optimizationGeneration.get(optimizationGeneration.size() - 1);
+
+        Assert.assertEquals(0.0, optimized.getFitness(), 0.01);
+    }
+
+}
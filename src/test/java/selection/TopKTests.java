@@ -0,0 +1,117 @@
+package selection;
+
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.selection.TopK;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class TopKTests {
+
+    private static List<Individual> population(double... fitnesses) {
+        List<Individual> population = new ArrayList<>();
+        for (double fitness : fitnesses) {
+            Individual individual = new Individual();
+            individual.setFitness(fitness);
+            population.add(individual);
+        }
+
+        return population;
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bestPopulationIsEmpty() {
+        TopK.best(new ArrayList<Individual>(), true);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void selectKLargerThanPopulation() {
+        TopK.select(population(1, 2), 3, true);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void partitionKIsNegative() {
+        TopK.partition(population(1, 2), -1, true);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void selectionSizeMatchesPercentOfPopulation() {
+        Assert.assertEquals(5, TopK.selectionSize(100, .05));
+        Assert.assertEquals(1, TopK.selectionSize(2, .50));
+        Assert.assertEquals(100, TopK.selectionSize(100, 1.0));
+    }
+
+    @Test
+    public void bestFindsLowestOrHighestFitness() {
+        List<Individual> population = population(3, 1, 4, 1, 5, 9, 2, 6);
+
+        Assert.assertSame(population.get(1), TopK.best(population, true));
+        Assert.assertSame(population.get(5), TopK.best(population, false));
+    }
+
+    @Test
+    public void selectReturnsBestSortedAndLeavesPopulationUnchanged() {
+        List<Individual> population = population(3, 1, 4, 1, 5, 9, 2, 6);
+        List<Individual> before = new ArrayList<>(population);
+
+        List<Individual> selected = TopK.select(population, 3, true);
+
+        Assert.assertEquals(before, population);
+        Assert.assertEquals(3, selected.size());
+        Assert.assertEquals(1.0, selected.get(0).getFitness(), 0.0);
+        Assert.assertEquals(1.0, selected.get(1).getFitness(), 0.0);
+        Assert.assertEquals(2.0, selected.get(2).getFitness(), 0.0);
+
+        List<Individual> highest = TopK.select(population, 2, false);
+        Assert.assertEquals(9.0, highest.get(0).getFitness(), 0.0);
+        Assert.assertEquals(6.0, highest.get(1).getFitness(), 0.0);
+    }
+
+    @Test
+    public void selectMatchesFullSortOnRandomPopulations() {
+        Random random = new Random(123);
+
+        for (int trial = 0; trial < 200; trial++) {
+            double[] fitnesses = new double[1 + random.nextInt(300)];
+            for (int i = 0; i < fitnesses.length; i++)
+                fitnesses[i] = random.nextInt(10); // Many Ties
+            List<Individual> population = population(fitnesses);
+            int k = random.nextInt(fitnesses.length + 1);
+
+            List<Individual> sorted = new ArrayList<>(population);
+            sorted.sort(null);
+            List<Individual> selected = TopK.select(population, k, true);
+
+            Assert.assertEquals(k, selected.size());
+            for (int i = 0; i < k; i++)
+                Assert.assertEquals(sorted.get(i).getFitness(), selected.get(i).getFitness(), 0.0);
+        }
+    }
+
+    @Test
+    public void partitionMovesBestToFront() {
+        List<Individual> population = population(3, 1, 4, 1, 5, 9, 2, 6);
+        Collections.reverse(population);
+
+        TopK.partition(population, 4, true);
+
+        Assert.assertEquals(8, population.size());
+        for (int front = 0; front < 4; front++) {
+            for (int back = 4; back < 8; back++)
+                Assert.assertTrue(population.get(front).getFitness() <= population.get(back).getFitness());
+        }
+    }
+
+}
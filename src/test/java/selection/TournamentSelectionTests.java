@@ -0,0 +1,155 @@
+package selection;
+
+import com.knighten.ai.genetic.GeneticOptimization;
+import com.knighten.ai.genetic.GeneticOptimizationParams;
+import com.knighten.ai.genetic.Individual;
+import com.knighten.ai.genetic.nqueens.NQueensIndividual;
+import com.knighten.ai.genetic.nqueens.NQueensProblem;
+import com.knighten.ai.genetic.selection.TournamentSelection;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class TournamentSelectionTests {
+
+    private static List<Individual> population(int size) {
+        List<Individual> population = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Individual individual = new Individual();
+            individual.setFitness(i);
+            population.add(individual);
+        }
+
+        return population;
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorTournamentSizeLessThanOne() {
+        new TournamentSelection<Individual>(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void selectPopulationIsEmpty() {
+        new TournamentSelection<Individual>(2).select(new ArrayList<>(), 1, true, new Random(123));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void selectCountIsNegative() {
+        new TournamentSelection<Individual>(2).select(population(10), -1, true, new Random(123));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void selectRandomIsNull() {
+        new TournamentSelection<Individual>(2).select(population(10), 1, true, null);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void selectReturnsCountIndividualsFromThePopulation() {
+        List<Individual> population = population(100);
+        List<Individual> selected = new TournamentSelection<Individual>(3).select(population, 1000, true,
+                new Random(123));
+
+        Assert.assertEquals(1000, selected.size());
+        for (Individual individual : selected)
+            Assert.assertTrue(population.contains(individual));
+    }
+
+    @Test
+    public void selectTournamentOfOneIsUniform() {
+        List<Individual> selected = new TournamentSelection<Individual>(1).select(population(100), 10000, true,
+                new Random(123));
+
+        double mean = selected.stream().mapToDouble(Individual::getFitness).average().getAsDouble();
+        Assert.assertEquals(49.5, mean, 2.0);
+    }
+
+    @Test
+    public void selectFavorsBetterIndividualsInBothDirections() {
+        List<Individual> population = population(100);
+        TournamentSelection<Individual> selector = new TournamentSelection<>(4);
+
+        double minimizedMean = selector.select(population, 10000, true, new Random(123)).stream()
+                .mapToDouble(Individual::getFitness).average().getAsDouble();
+        double maximizedMean = selector.select(population, 10000, false, new Random(123)).stream()
+                .mapToDouble(Individual::getFitness).average().getAsDouble();
+
+        // The Expected Minimum Of 4 Uniform Draws From 0-99 Is About 19.4
+        Assert.assertEquals(19.4, minimizedMean, 2.0);
+        Assert.assertEquals(99 - 19.4, maximizedMean, 2.0);
+    }
+
+    @Test
+    public void selectLargeTournamentPicksTheBest() {
+        List<Individual> selected = new TournamentSelection<Individual>(1000).select(population(10), 100, true,
+                new Random(123));
+
+        for (Individual individual : selected)
+            Assert.assertEquals(0.0, individual.getFitness(), 0.0);
+    }
+
+    @Test
+    public void selectIsReproducibleOnAnyNumberOfThreads() throws Exception {
+        List<Individual> population = population(1000);
+        TournamentSelection<Individual> selector = new TournamentSelection<>(3);
+
+        ForkJoinPool onePool = new ForkJoinPool(1);
+        ForkJoinPool fourPool = new ForkJoinPool(4);
+        try {
+            List<Individual> sequential = onePool.submit(
+                    () -> selector.select(population, 5000, true, new Random(123))).get();
+            List<Individual> parallel = fourPool.submit(
+                    () -> selector.select(population, 5000, true, new Random(123))).get();
+
+            for (int i = 0; i < sequential.size(); i++)
+                Assert.assertSame(sequential.get(i), parallel.get(i));
+        } finally {
+            onePool.shutdown();
+            fourPool.shutdown();
+        }
+    }
+
+    @Test
+    public void problemSelectionUsesSelectorAndForksShareIt() {
+        NQueensProblem problem = new NQueensProblem(8, new Random(123));
+        TournamentSelection<NQueensIndividual> selector = new TournamentSelection<>(2);
+        problem.setSelector(selector);
+
+        List<NQueensIndividual> population = problem.generateInitialPopulation(100);
+        problem.calculateFitness(population);
+
+        Assert.assertEquals(50, problem.selection(population, .50).size());
+        Assert.assertSame(selector, problem.fork().getSelector());
+    }
+
+    ///////////////////////////
+    // Actual Algorithm Runs //
+    ///////////////////////////
+
+    @Test
+    public void nQueensRunWithTournamentSelection() {
+        GeneticOptimizationParams params = new GeneticOptimizationParams(1000, 5000, .50, .01);
+        params.setTargetValue(0.0);
+
+        NQueensProblem problem = new NQueensProblem(8, new Random(123));
+        problem.setSelector(new TournamentSelection<>(3));
+        GeneticOptimization optimizer = new GeneticOptimization(problem, params);
+
+        List<Individual> optimizationGeneration = optimizer.optimize();
+        Individual optimized = optimizationGeneration.get(optimizationGeneration.size() - 1);
+
+        Assert.assertEquals(0.0, optimized.getFitness(), 0.000000001);
+    }
+
+}
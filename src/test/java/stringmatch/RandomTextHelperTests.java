@@ -90,4 +90,16 @@ public class RandomTextHelperTests {
         Assert.assertEquals(50000, testObject.generateString(50000).length());
     }
 
+    @Test
+    public void forkUsesNewRandomAndSameValidCharacters() {
+        Random forkRandom = Mockito.mock(Random.class);
+        Mockito.when(forkRandom.nextInt(validCharacters.length())).thenReturn(10);
+
+        RandomTextHelper fork = new RandomTextHelper(mockRandom, validCharacters).fork(forkRandom);
+
+        Assert.assertEquals('A', fork.generateChar());
+        verify(forkRandom, times(1)).nextInt(validCharacters.length());
+        verify(mockRandom, times(0)).nextInt(validCharacters.length());
+    }
+
 }
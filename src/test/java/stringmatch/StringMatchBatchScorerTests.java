@@ -0,0 +1,49 @@
+package stringmatch;
+
+import com.knighten.ai.genetic.stringmatch.StringMatchBatchScorer;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StringMatchBatchScorerTests {
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorTargetIsNull() {
+        new StringMatchBatchScorer(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorTargetIsEmpty() {
+        new StringMatchBatchScorer("");
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void scoreSumsCharacterDistancesOfEachString() {
+        char[] strings = "testsdrsTESS".toCharArray();
+        double[] fitness = new double[3];
+
+        StringMatchBatchScorer scorer = new StringMatchBatchScorer("test");
+        scorer.score(strings, 0, 3, fitness);
+
+        Assert.assertEquals(4, scorer.getGenomeLength());
+        Assert.assertArrayEquals(new double[]{0.0, 4.0, 129.0}, fitness, 0.0);
+    }
+
+    @Test
+    public void scoreOfSingleStringMatchesBatchScore() {
+        StringMatchBatchScorer scorer = new StringMatchBatchScorer("Hello");
+        double[] fitness = new double[1];
+        scorer.score("Jello".toCharArray(), 0, 1, fitness);
+
+        Assert.assertEquals(fitness[0], scorer.score("Jello"), 0.0);
+        Assert.assertEquals(2.0, scorer.score("Jello"), 0.0);
+    }
+
+}
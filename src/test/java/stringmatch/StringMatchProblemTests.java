@@ -87,6 +87,11 @@ public class StringMatchProblemTests {
         new StringMatchProblem("test", mockRandom, null);
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void setRandomStateNotTwoRandoms() {
+        new StringMatchProblem("test", mockRandom, mockTextHelper).setRandomState(new Random[]{mockRandom});
+    }
+
     ////////////////////
     // Method Testing //
     ////////////////////
@@ -184,4 +189,47 @@ public class StringMatchProblemTests {
         verify(mockIndividualGenesSDRS, times(1)).setGenes("adrs");
     }
 
+    @Test
+    public void forkCreatesNewProblemSeededFromRandom() {
+        RandomTextHelper forkedTextHelper = Mockito.mock(RandomTextHelper.class);
+        Mockito.when(mockTextHelper.fork(Mockito.any(Random.class))).thenReturn(forkedTextHelper);
+
+        StringMatchProblem testObject = new StringMatchProblem("test", mockRandom, mockTextHelper);
+        StringMatchProblem result = testObject.fork();
+
+        Assert.assertNotSame(testObject, result);
+
+        // One Seed For The Fork's Random Object And One For Its RandomTextHelper
+        verify(mockRandom, times(2)).nextLong();
+        verify(mockTextHelper, times(1)).fork(Mockito.any(Random.class));
+    }
+
+    @Test
+    public void crossoverIntoWritesCrossedStringsIntoOffspring() {
+        Mockito.when(mockRandom.nextInt(2)).thenReturn(0, 0, 1, 0);
+        Mockito.when(mockRandom.nextInt(4)).thenReturn(1, 2);
+
+        StringIndividual offspring1 = new StringIndividual("zzzz");
+        StringIndividual offspring2 = new StringIndividual("zzzz");
+
+        StringMatchProblem testObject = new StringMatchProblem("test", mockRandom, mockTextHelper);
+        testObject.crossoverInto(listOfMockIndividuals, Arrays.asList(offspring1, offspring2));
+
+        // Same Results As crossover() Using The Same Random Numbers
+        Assert.assertEquals("tdrs", offspring1.getGenes());
+        Assert.assertEquals("tess", offspring2.getGenes());
+    }
+
+    @Test
+    public void copyCreatesIndividualWithSameStringAndFitness() {
+        StringIndividual individual = new StringIndividual("test");
+        individual.setFitness(3.0);
+
+        StringMatchProblem testObject = new StringMatchProblem("test", mockRandom, mockTextHelper);
+        StringIndividual copy = testObject.copy(individual);
+
+        Assert.assertNotSame(individual, copy);
+        Assert.assertEquals("test", copy.getGenes());
+        Assert.assertEquals(3.0, copy.getFitness(), 0.0);
+    }
 }
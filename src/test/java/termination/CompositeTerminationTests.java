@@ -0,0 +1,66 @@
+package termination;
+
+import com.knighten.ai.genetic.OptimizationState;
+import com.knighten.ai.genetic.interfaces.ITerminationCondition;
+import com.knighten.ai.genetic.termination.CompositeTermination;
+import com.knighten.ai.genetic.termination.EvaluationBudgetTermination;
+import com.knighten.ai.genetic.termination.FitnessToleranceTermination;
+import com.knighten.ai.genetic.termination.StagnationTermination;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CompositeTerminationTests {
+
+    private ITerminationCondition budget = new EvaluationBudgetTermination(100);
+    private ITerminationCondition tolerance = new FitnessToleranceTermination(0.0, 0.5);
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void anyOfNoConditions() {
+        CompositeTermination.anyOf();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void allOfContainsNull() {
+        CompositeTermination.allOf(budget, null);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void anyOfTerminatedWhenOneConditionIsMet() {
+        ITerminationCondition testObject = CompositeTermination.anyOf(budget, tolerance);
+
+        Assert.assertFalse(testObject.isTerminated(new OptimizationState(0, 1.0, 50, 0, true)));
+        Assert.assertTrue(testObject.isTerminated(new OptimizationState(0, 1.0, 100, 0, true)));
+        Assert.assertTrue(testObject.isTerminated(new OptimizationState(0, 0.0, 50, 0, true)));
+    }
+
+    @Test
+    public void allOfTerminatedOnlyWhenEveryConditionIsMet() {
+        ITerminationCondition testObject = CompositeTermination.allOf(budget, tolerance);
+
+        Assert.assertFalse(testObject.isTerminated(new OptimizationState(0, 1.0, 100, 0, true)));
+        Assert.assertFalse(testObject.isTerminated(new OptimizationState(0, 0.0, 50, 0, true)));
+        Assert.assertTrue(testObject.isTerminated(new OptimizationState(0, 0.0, 100, 0, true)));
+    }
+
+    @Test
+    public void resetResetsEveryCondition() {
+        StagnationTermination stagnation = new StagnationTermination(1);
+        ITerminationCondition testObject = CompositeTermination.anyOf(budget, stagnation);
+
+        testObject.isTerminated(new OptimizationState(0, 1.0, 0, 0, true));
+        testObject.reset();
+
+        // The Stagnation Condition Starts Over So The First Check Only Records The Fitness
+        Assert.assertFalse(testObject.isTerminated(new OptimizationState(5, 1.0, 0, 0, true)));
+        Assert.assertTrue(testObject.isTerminated(new OptimizationState(6, 1.0, 0, 0, true)));
+    }
+
+}
@@ -0,0 +1,31 @@
+package termination;
+
+import com.knighten.ai.genetic.OptimizationState;
+import com.knighten.ai.genetic.termination.EvaluationBudgetTermination;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EvaluationBudgetTerminationTests {
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorMaxEvaluationsLessThanOne() {
+        new EvaluationBudgetTermination(0);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void isTerminatedOnceBudgetIsUsed() {
+        EvaluationBudgetTermination testObject = new EvaluationBudgetTermination(500);
+
+        Assert.assertFalse(testObject.isTerminated(new OptimizationState(4, 1.0, 499, 0, true)));
+        Assert.assertTrue(testObject.isTerminated(new OptimizationState(5, 1.0, 500, 0, true)));
+    }
+
+}
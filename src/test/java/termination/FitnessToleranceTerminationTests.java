@@ -0,0 +1,38 @@
+package termination;
+
+import com.knighten.ai.genetic.OptimizationState;
+import com.knighten.ai.genetic.termination.FitnessToleranceTermination;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FitnessToleranceTerminationTests {
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorTargetValueIsInfinite() {
+        new FitnessToleranceTermination(Double.POSITIVE_INFINITY, 0.1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorToleranceIsNegative() {
+        new FitnessToleranceTermination(0.0, -0.1);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void isTerminatedWithinToleranceOnEitherSide() {
+        FitnessToleranceTermination testObject = new FitnessToleranceTermination(1.0, 0.25);
+
+        Assert.assertFalse(testObject.isTerminated(new OptimizationState(0, 0.5, 0, 0, true)));
+        Assert.assertTrue(testObject.isTerminated(new OptimizationState(0, 0.75, 0, 0, true)));
+        Assert.assertTrue(testObject.isTerminated(new OptimizationState(0, 1.25, 0, 0, true)));
+        Assert.assertFalse(testObject.isTerminated(new OptimizationState(0, 1.5, 0, 0, true)));
+    }
+
+}
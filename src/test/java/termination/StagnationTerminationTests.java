@@ -0,0 +1,88 @@
+package termination;
+
+import com.knighten.ai.genetic.OptimizationState;
+import com.knighten.ai.genetic.termination.StagnationTermination;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StagnationTerminationTests {
+
+    private static OptimizationState state(int generation, double bestFitness, boolean minimization) {
+        return new OptimizationState(generation, bestFitness, 0, 0, minimization);
+    }
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorGenerationsLessThanOne() {
+        new StagnationTermination(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorMinRelativeImprovementIsNegative() {
+        new StagnationTermination(5, -0.1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorMinRelativeImprovementIsNaN() {
+        new StagnationTermination(5, Double.NaN);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void isTerminatedAfterGenerationsWithoutImprovement() {
+        StagnationTermination testObject = new StagnationTermination(3);
+
+        Assert.assertFalse(testObject.isTerminated(state(0, 10.0, true)));
+        Assert.assertFalse(testObject.isTerminated(state(1, 10.0, true)));
+        Assert.assertFalse(testObject.isTerminated(state(2, 10.0, true)));
+        Assert.assertTrue(testObject.isTerminated(state(3, 10.0, true)));
+    }
+
+    @Test
+    public void isTerminatedImprovementRestartsCount() {
+        StagnationTermination testObject = new StagnationTermination(3);
+
+        Assert.assertFalse(testObject.isTerminated(state(0, 10.0, true)));
+        Assert.assertFalse(testObject.isTerminated(state(2, 10.0, true)));
+        Assert.assertFalse(testObject.isTerminated(state(3, 9.0, true)));
+        Assert.assertFalse(testObject.isTerminated(state(5, 9.0, true)));
+        Assert.assertTrue(testObject.isTerminated(state(6, 9.0, true)));
+    }
+
+    @Test
+    public void isTerminatedWorseFitnessIsNotImprovementWhenMaximizing() {
+        StagnationTermination testObject = new StagnationTermination(2);
+
+        Assert.assertFalse(testObject.isTerminated(state(0, 10.0, false)));
+        Assert.assertFalse(testObject.isTerminated(state(1, 9.0, false)));
+        Assert.assertTrue(testObject.isTerminated(state(2, 9.5, false)));
+    }
+
+    @Test
+    public void isTerminatedSmallImprovementsDoNotCount() {
+        StagnationTermination testObject = new StagnationTermination(2, 0.1);
+
+        Assert.assertFalse(testObject.isTerminated(state(0, 100.0, true)));
+        Assert.assertFalse(testObject.isTerminated(state(1, 95.0, true)));
+        Assert.assertTrue(testObject.isTerminated(state(2, 91.0, true)));
+    }
+
+    @Test
+    public void resetForgetsPreviousRun() {
+        StagnationTermination testObject = new StagnationTermination(2);
+
+        testObject.isTerminated(state(0, 10.0, true));
+        testObject.reset();
+
+        Assert.assertFalse(testObject.isTerminated(state(5, 50.0, true)));
+        Assert.assertFalse(testObject.isTerminated(state(6, 50.0, true)));
+        Assert.assertTrue(testObject.isTerminated(state(7, 50.0, true)));
+    }
+
+}
@@ -0,0 +1,38 @@
+package termination;
+
+import com.knighten.ai.genetic.OptimizationState;
+import com.knighten.ai.genetic.termination.WallClockTermination;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class WallClockTerminationTests {
+
+    ////////////////////////
+    // Parameter Checking //
+    ////////////////////////
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorDurationLessThanOne() {
+        new WallClockTermination(0, TimeUnit.SECONDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorUnitIsNull() {
+        new WallClockTermination(1, null);
+    }
+
+    ////////////////////
+    // Method Testing //
+    ////////////////////
+
+    @Test
+    public void isTerminatedOnceBudgetIsUsed() {
+        WallClockTermination testObject = new WallClockTermination(2, TimeUnit.MILLISECONDS);
+
+        Assert.assertFalse(testObject.isTerminated(new OptimizationState(10, 1.0, 0, 1999999, true)));
+        Assert.assertTrue(testObject.isTerminated(new OptimizationState(10, 1.0, 0, 2000000, true)));
+    }
+
+}